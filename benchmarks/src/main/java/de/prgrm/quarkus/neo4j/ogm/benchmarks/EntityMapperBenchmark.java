@@ -0,0 +1,119 @@
+package de.prgrm.quarkus.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalRecord;
+import org.openjdk.jmh.annotations.*;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.*;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapper;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapperRegistry;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityWithRelations;
+
+/**
+ * Record-to-entity and entity-to-parameter conversion of the generated mappers, without a database.
+ * Records and values are built in memory the way the driver materializes a {@code RETURN n} row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityMapperBenchmark {
+
+    private EntityMapper<Person> personMapper;
+    private EntityMapper<Book> bookMapper;
+    private EntityMapper<Author> authorMapper;
+    private EntityMapper<UserApplication> userApplicationMapper;
+
+    private Record personRecord;
+    private Record bookRecord;
+    private Record authorRecord;
+    private Record userApplicationRecord;
+    private Value personValue;
+
+    private Person person;
+    private Book book;
+
+    @Setup
+    public void setup() {
+        EntityMapperRegistry registry = Mappers.registry();
+        personMapper = registry.get(Person.class);
+        bookMapper = registry.get(Book.class);
+        authorMapper = registry.get(Author.class);
+        userApplicationMapper = registry.get(UserApplication.class);
+
+        personValue = Values.value(Map.of("id", UUID.randomUUID().toString(), "name", "Ada Lovelace"));
+        personRecord = record(personValue);
+        bookRecord = record(Values.value(Map.of("id", UUID.randomUUID().toString(), "title", "Notes", "active", true)));
+        authorRecord = record(Values.value(Map.of("id", UUID.randomUUID().toString(), "name", "Ada Lovelace")));
+        userApplicationRecord = record(Values.value(Map.of("id", UUID.randomUUID().toString(), "role", "EDITOR")));
+
+        Address address = new Address();
+        address.setId(UUID.randomUUID());
+        address.setStreet("Main Street");
+        address.setHousenumber("1");
+        person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName("Ada Lovelace");
+        person.setAddress(address);
+
+        Author author = new Author();
+        author.setId(UUID.randomUUID());
+        author.setName("Ada Lovelace");
+        book = new Book();
+        book.setId(UUID.randomUUID());
+        book.setTitle("Notes");
+        book.setActive(true);
+        book.setAuthor(author);
+    }
+
+    @Benchmark
+    public Person mapPerson() {
+        return personMapper.map(personRecord, "n");
+    }
+
+    @Benchmark
+    public Person mapPersonFromValue() {
+        return personMapper.mapFromValue(personValue);
+    }
+
+    @Benchmark
+    public Book mapBook() {
+        return bookMapper.map(bookRecord, "n");
+    }
+
+    @Benchmark
+    public Author mapAuthor() {
+        return authorMapper.map(authorRecord, "n");
+    }
+
+    @Benchmark
+    public UserApplication mapUserApplication() {
+        // Context-aware converters stage raw values until the post-load step releases them
+        UserApplication entity = userApplicationMapper.map(userApplicationRecord, "n");
+        userApplicationMapper.applyPostLoadConverters(entity);
+        return entity;
+    }
+
+    @Benchmark
+    public EntityWithRelations personToDb() {
+        return personMapper.toDb(person);
+    }
+
+    @Benchmark
+    public EntityWithRelations bookToDb() {
+        return bookMapper.toDb(book);
+    }
+
+    private static Record record(Value node) {
+        return new InternalRecord(List.of("n"), new Value[] { node });
+    }
+}
@@ -0,0 +1,63 @@
+package de.prgrm.quarkus.neo4j.ogm.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Filter;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Sort;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Sortable;
+
+/**
+ * Cypher rendering of filters and sort orders, executed for every paged or filtered query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+    private Filter single;
+    private Filter composite;
+    private Filter nested;
+    private Sortable sortable;
+
+    @Setup
+    public void setup() {
+        single = Filter.by("name", Filter.Operator.EQ, "Ada");
+        composite = Filter.and()
+                .add("name", Filter.Operator.STARTS_WITH, "A")
+                .add("age", Filter.Operator.BETWEEN, 18, 65)
+                .add("city", Filter.Operator.IN, List.of("Hamburg", "Berlin", "Munich"))
+                .add("deletedAt", Filter.Operator.IS_NULL);
+        nested = Filter.by("score", Filter.Operator.GTE, 10)
+                .or(Filter.by("role", Filter.Operator.EQ, "ADMIN"))
+                .or(Filter.and()
+                        .add("role", Filter.Operator.EQ, "EDITOR")
+                        .add("name", Filter.Operator.CONTAINS, "a"));
+        sortable = Sortable.by(Sort.asc("name"), Sort.desc("createdAt"), Sort.asc("id"));
+    }
+
+    @Benchmark
+    public Filter.CypherFragment singleCondition() {
+        return single.toCypher("n");
+    }
+
+    @Benchmark
+    public Filter.CypherFragment compositeConditions() {
+        return composite.toCypher("n");
+    }
+
+    @Benchmark
+    public Filter.CypherFragment nestedGroups() {
+        return nested.toCypher("n");
+    }
+
+    @Benchmark
+    public String sortOrder() {
+        return sortable.toCypher("n");
+    }
+}
@@ -0,0 +1,58 @@
+package de.prgrm.quarkus.neo4j.ogm.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.AddressMapper;
+import de.prgrm.quarkus.neo4j.ogm.it.model.ApplicationMapper;
+import de.prgrm.quarkus.neo4j.ogm.it.model.AuthorMapper;
+import de.prgrm.quarkus.neo4j.ogm.it.model.BookMapper;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonMapper;
+import de.prgrm.quarkus.neo4j.ogm.it.model.UserApplicationMapper;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapper;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapperRegistry;
+
+/**
+ * Wires the generated mappers of the integration-test model without a CDI container, the way ArC
+ * does: inject the registry, then run the {@code @PostConstruct} self-registration.
+ */
+final class Mappers {
+
+    private Mappers() {
+    }
+
+    static EntityMapperRegistry registry() {
+        EntityMapperRegistry registry = new EntityMapperRegistry();
+        wire(registry, new PersonMapper());
+        wire(registry, new AddressMapper());
+        wire(registry, new BookMapper());
+        wire(registry, new AuthorMapper());
+        wire(registry, new UserApplicationMapper());
+        wire(registry, new ApplicationMapper());
+        return registry;
+    }
+
+    /**
+     * Sets a package-private or private {@code @Inject} field of a bean created outside CDI.
+     */
+    static void inject(Object bean, String fieldName, Object value) {
+        try {
+            Field field = bean.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(bean, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot inject " + fieldName + " into " + bean.getClass(), e);
+        }
+    }
+
+    private static void wire(EntityMapperRegistry registry, EntityMapper<?> mapper) {
+        inject(mapper, "registry", registry);
+        try {
+            Method registerSelf = mapper.getClass().getDeclaredMethod("registerSelf");
+            registerSelf.setAccessible(true);
+            registerSelf.invoke(mapper);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot register " + mapper.getClass(), e);
+        }
+    }
+}
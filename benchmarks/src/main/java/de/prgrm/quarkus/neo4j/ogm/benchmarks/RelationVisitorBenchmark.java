@@ -0,0 +1,64 @@
+package de.prgrm.quarkus.neo4j.ogm.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.RelationVisitor;
+
+/**
+ * Cycle detection of relation loading: one traversal visits a follower graph in which every person
+ * is reached twice, so half of the {@code shouldVisit} calls hit an already visited id.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RelationVisitorBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int entities;
+
+    private RelationVisitor visitor;
+    private List<Person> traversal;
+
+    @Setup
+    public void setup() {
+        visitor = new RelationVisitor();
+        Mappers.inject(visitor, "mapperRegistry", Mappers.registry());
+
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            Person person = new Person();
+            person.setId(UUID.randomUUID());
+            person.setName("Person " + i);
+            people.add(person);
+        }
+        traversal = new ArrayList<>(people);
+        traversal.addAll(people);
+    }
+
+    @TearDown
+    public void tearDown() {
+        visitor.clearContext();
+    }
+
+    @Benchmark
+    public int traverse() {
+        visitor.reset();
+        int visited = 0;
+        for (Person person : traversal) {
+            if (visitor.shouldVisit(person, 1)) {
+                visitor.markVisited(person);
+                visited++;
+            }
+        }
+        return visited;
+    }
+}
@@ -1,13 +1,20 @@
 package de.prgrm.quarkus.neo4j.ogm.deployment;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.EntityCacheManager;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapperRegistry;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.ReactiveRelationVisitor;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.ReactiveRepositoryRegistry;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.RelationVisitor;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.RepositoryRegistry;
+import de.prgrm.quarkus.neo4j.ogm.runtime.schema.EntitySchema;
+import de.prgrm.quarkus.neo4j.ogm.runtime.schema.SchemaSynchronizer;
 import de.prgrm.quarkus.neo4j.ogm.runtime.tx.ReactiveTransactionManager;
 import de.prgrm.quarkus.neo4j.ogm.runtime.tx.TransactionManager;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
@@ -16,6 +23,10 @@ class Neo4jOgmProcessor {
 
     private static final String FEATURE = "neo4j-ogm";
 
+    // Referenced by name, the classes link against Micrometer and OpenTelemetry
+    private static final String MICROMETER_METRICS = "de.prgrm.quarkus.neo4j.ogm.runtime.metrics.MicrometerOgmMetrics";
+    private static final String OPENTELEMETRY_TRACING = "de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OpenTelemetryOgmTracing";
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
@@ -30,5 +41,37 @@ class Neo4jOgmProcessor {
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(EntityMapperRegistry.class));
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RepositoryRegistry.class));
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(ReactiveRepositoryRegistry.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(EntityCacheManager.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(SchemaSynchronizer.class));
+    }
+
+    /**
+     * The generated {@code <Entity>Schema} beans are only looked up dynamically by {@link SchemaSynchronizer}.
+     */
+    @BuildStep
+    UnremovableBeanBuildItem keepEntitySchemas() {
+        return UnremovableBeanBuildItem.beanTypes(EntitySchema.class);
+    }
+
+    @BuildStep
+    void registerMetrics(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.MICROMETER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(MICROMETER_METRICS)
+                    .setDefaultScope(BuiltinScope.SINGLETON.getName())
+                    .setUnremovable()
+                    .build());
+        }
+    }
+
+    @BuildStep
+    void registerTracing(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.OPENTELEMETRY_TRACER)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                    .addBeanClass(OPENTELEMETRY_TRACING)
+                    .setDefaultScope(BuiltinScope.SINGLETON.getName())
+                    .setUnremovable()
+                    .build());
+        }
     }
 }
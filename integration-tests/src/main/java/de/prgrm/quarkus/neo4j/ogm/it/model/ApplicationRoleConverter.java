@@ -1,5 +1,9 @@
 package de.prgrm.quarkus.neo4j.ogm.it.model;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.exceptions.TransientException;
+
 import de.prgrm.quarkus.neo4j.ogm.runtime.converter.ContextAwareAttributeConverter;
 
 /**
@@ -12,6 +16,12 @@ import de.prgrm.quarkus.neo4j.ogm.runtime.converter.ContextAwareAttributeConvert
  */
 public class ApplicationRoleConverter implements ContextAwareAttributeConverter<ApplicationRole, String, UserApplication> {
 
+    /**
+     * Number of upcoming conversions that fail with a transient error, so that tests can make the driver
+     * replay a read after the relationships of the entity were loaded.
+     */
+    public static final AtomicInteger TRANSIENT_FAILURES = new AtomicInteger();
+
     @Override
     public String toGraphProperty(ApplicationRole value, UserApplication entity) {
         // Store only the base role value in the database
@@ -21,6 +31,9 @@ public class ApplicationRoleConverter implements ContextAwareAttributeConverter<
 
     @Override
     public ApplicationRole toEntityAttribute(String value, UserApplication entity) {
+        if (TRANSIENT_FAILURES.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new TransientException("Neo.TransientError.Transaction.Outdated", "Simulated transient failure");
+        }
         // Access the discriminator from the related Application entity
         if (value == null) {
             return null;
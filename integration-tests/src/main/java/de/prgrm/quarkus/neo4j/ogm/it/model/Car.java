@@ -13,6 +13,8 @@ public class Car {
     @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
     private UUID id;
 
+    @Indexed
+    @Property(normalized = true)
     private String name;
 
     public UUID getId() {
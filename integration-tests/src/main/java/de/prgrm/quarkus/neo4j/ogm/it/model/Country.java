@@ -0,0 +1,40 @@
+package de.prgrm.quarkus.neo4j.ogm.it.model;
+
+import java.util.UUID;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.ReturnType;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
+
+@NodeEntity(label = "Country")
+@GenerateRepository(GenerateRepository.RepositoryType.BOTH)
+@Cacheable(maxEntries = 100, ttlSeconds = 60)
+@Queries({
+        @Query(name = "findByName", cypher = "MATCH (c:Country {name: $name}) RETURN c", cacheable = true),
+        @Query(name = "countAll", cypher = "MATCH (c:Country) RETURN count(c)", returnType = ReturnType.LONG, cacheable = true),
+        @Query(name = "getSummaries", cypher = "MATCH (c:Country) RETURN c.name AS name ORDER BY name", returnType = ReturnType.LIST, resultClass = CountrySummary.class, cacheable = true, maxEntries = 10, ttlSeconds = 30)
+})
+public class Country {
+
+    @NodeId
+    @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
+    private UUID id;
+
+    @Property(name = "name")
+    private String name;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,4 @@
+package de.prgrm.quarkus.neo4j.ogm.it.model;
+
+public record CountrySummary(String name) {
+}
@@ -0,0 +1,58 @@
+package de.prgrm.quarkus.neo4j.ogm.it.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.GenerateRepository.RepositoryType;
+
+@NodeEntity
+@GenerateRepository(RepositoryType.BLOCKING)
+public class Employee {
+
+    @NodeId
+    @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
+    private UUID id;
+
+    private String name;
+
+    @Relationship(type = "REPORTS_TO", direction = Direction.OUTGOING, mode = RelationshipMode.FETCH_ONLY, maxDepth = 1)
+    private Employee manager;
+
+    @Relationship(type = "REPORTS_TO", direction = Direction.INCOMING, mode = RelationshipMode.FETCH_ONLY, maxDepth = 1)
+    private List<Employee> reports;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Employee getManager() {
+        return manager;
+    }
+
+    public void setManager(Employee manager) {
+        this.manager = manager;
+    }
+
+    public List<Employee> getReports() {
+        return reports;
+    }
+
+    public void setReports(List<Employee> reports) {
+        this.reports = reports;
+    }
+}
@@ -0,0 +1,62 @@
+package de.prgrm.quarkus.neo4j.ogm.it.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.FetchType;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.GenerateRepository.RepositoryType;
+
+/**
+ * Entity with lazy relationships only: its repository loads a {@code LazyList} for the books and a
+ * generated {@code HouseLazyProxy} for the building, which query them on first access.
+ */
+@NodeEntity
+@GenerateRepository(RepositoryType.BLOCKING)
+public class Library {
+
+    @NodeId
+    @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
+    private UUID id;
+
+    private String name;
+
+    @Relationship(type = "LENDS", direction = Direction.OUTGOING, fetch = FetchType.LAZY)
+    private List<Book> books;
+
+    @Relationship(type = "HOUSED_IN", direction = Direction.OUTGOING, fetch = FetchType.LAZY)
+    private House building;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Book> getBooks() {
+        return books;
+    }
+
+    public void setBooks(List<Book> books) {
+        this.books = books;
+    }
+
+    public House getBuilding() {
+        return building;
+    }
+
+    public void setBuilding(House building) {
+        this.building = building;
+    }
+}
@@ -18,6 +18,7 @@ public class Person {
     @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
     private UUID id;
 
+    @Indexed
     @Property(name = "name")
     private String name;
 
@@ -0,0 +1,62 @@
+package de.prgrm.quarkus.neo4j.ogm.it.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.GenerateRepository.RepositoryType;
+
+/**
+ * Entity with shallow relationships only ({@code maxDepth <= 2}), so its repository fetches the
+ * whole graph with a single projection query instead of the relation loader.
+ */
+@NodeEntity
+@GenerateRepository(RepositoryType.BLOCKING)
+public class Shelf {
+
+    @NodeId
+    @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
+    private UUID id;
+
+    private String name;
+
+    @Relationship(type = "HOLDS", direction = Direction.OUTGOING, mode = RelationshipMode.FETCH_AND_PERSIST, maxDepth = 2)
+    private List<Book> books;
+
+    @Relationship(type = "STANDS_IN", direction = Direction.OUTGOING, mode = RelationshipMode.FETCH_AND_PERSIST, maxDepth = 1)
+    private House house;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Book> getBooks() {
+        return books;
+    }
+
+    public void setBooks(List<Book> books) {
+        this.books = books;
+    }
+
+    public House getHouse() {
+        return house;
+    }
+
+    public void setHouse(House house) {
+        this.house = house;
+    }
+}
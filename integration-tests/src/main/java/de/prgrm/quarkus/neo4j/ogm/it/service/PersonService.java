@@ -1,5 +1,8 @@
 package de.prgrm.quarkus.neo4j.ogm.it.service;
 
+import java.util.List;
+import java.util.UUID;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -28,4 +31,32 @@ public class PersonService {
         personRepository.create(d);
         throw new RuntimeException("Simulated failure to trigger rollback");
     }
+
+    @Transactional(readOnly = true)
+    public long countReadOnly() {
+        return personRepository.count();
+    }
+
+    @Transactional(readOnly = true)
+    public void createReadOnly(Person e) {
+        personRepository.create(e);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Person> findByIdTwice(UUID id) {
+        return List.of(personRepository.findById(id), personRepository.findById(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Person> findByIdThenFollower(UUID id, UUID followerId) {
+        return List.of(personRepository.findById(id), personRepository.findById(followerId));
+    }
+
+    @Transactional
+    public List<Person> findUpdateAndFindAgain(UUID id, String name) {
+        Person before = personRepository.findById(id);
+        before.setName(name);
+        personRepository.update(before);
+        return List.of(before, personRepository.findById(id));
+    }
 }
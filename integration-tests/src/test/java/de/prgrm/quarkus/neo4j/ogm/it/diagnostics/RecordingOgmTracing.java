@@ -0,0 +1,83 @@
+package de.prgrm.quarkus.neo4j.ogm.it.diagnostics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.inject.Singleton;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing;
+
+/**
+ * Records the spans of the repositories instead of exporting them.
+ */
+@Singleton
+public class RecordingOgmTracing implements OgmTracing {
+
+    private final List<RecordedSpan> spans = new CopyOnWriteArrayList<>();
+
+    public record RecordedEvent(String name, Map<String, String> attributes) {
+    }
+
+    public static final class RecordedSpan implements TraceSpan {
+        final RecordedSpan parent;
+        final boolean statement;
+        final String label;
+        final String operation;
+        final boolean reactive;
+        final List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+        volatile long rows = -1;
+        volatile boolean failed;
+        volatile boolean ended;
+
+        RecordedSpan(TraceSpan parent, boolean statement, String label, String operation, boolean reactive) {
+            this.parent = parent instanceof RecordedSpan recorded ? recorded : null;
+            this.statement = statement;
+            this.label = label;
+            this.operation = operation;
+            this.reactive = reactive;
+        }
+
+        @Override
+        public void rows(long rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void event(String name, Map<String, String> attributes) {
+            events.add(new RecordedEvent(name, attributes));
+        }
+
+        @Override
+        public void failed(Throwable failure) {
+            failed = true;
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+
+    @Override
+    public TraceSpan operationSpan(TraceSpan parent, String label, String operation, boolean reactive) {
+        RecordedSpan span = new RecordedSpan(parent, false, label, operation, reactive);
+        spans.add(span);
+        return span;
+    }
+
+    @Override
+    public TraceSpan statementSpan(TraceSpan parent, String label, String operation, String statementHash) {
+        RecordedSpan span = new RecordedSpan(parent, true, label, operation, false);
+        spans.add(span);
+        return span;
+    }
+
+    public List<RecordedSpan> spans() {
+        return List.copyOf(spans);
+    }
+
+    public void clear() {
+        spans.clear();
+    }
+}
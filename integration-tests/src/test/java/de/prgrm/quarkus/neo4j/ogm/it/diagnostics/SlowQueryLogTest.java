@@ -0,0 +1,172 @@
+package de.prgrm.quarkus.neo4j.ogm.it.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(SlowQueryLogTest.EverythingSlowProfile.class)
+class SlowQueryLogTest {
+
+    public static class EverythingSlowProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.neo4j-ogm.diagnostics.slow-query-threshold", "0s",
+                    "quarkus.neo4j-ogm.diagnostics.profile-slow-queries", "true");
+        }
+    }
+
+    private static final Logger LOGGER = Logger.getLogger("de.prgrm.quarkus.neo4j.ogm.runtime.repository.SlowQueryLog");
+
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            // JBoss Logging formats printf-style messages lazily
+            messages.add(record instanceof ExtLogRecord ext ? ext.getFormattedMessage() : record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+        LOGGER.addHandler(handler);
+    }
+
+    @AfterEach
+    void removeHandler() {
+        LOGGER.removeHandler(handler);
+    }
+
+    @Test
+    void testSlowStatementIsLoggedWithoutParameterValues() {
+        // Given
+        UUID id = createPerson("Secret Name");
+        messages.clear();
+
+        // When
+        personRepository.findById(id);
+
+        // Then
+        String logged = messages.stream().filter(m -> m.startsWith("Slow query in Person.findById"))
+                .findFirst().orElseThrow();
+        assertTrue(logged.contains("result available after"));
+        assertTrue(logged.contains("[id]"));
+        assertFalse(logged.contains(id.toString()));
+    }
+
+    @Test
+    void testSlowReadIsProfiled() throws InterruptedException {
+        // Given
+        createPerson("Alice");
+        messages.clear();
+
+        // When
+        personRepository.findAll();
+
+        // Then: the profile is logged in the background
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (messages.stream().noneMatch(m -> m.startsWith("Profile of slow query in Person.findAll"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        String profile = messages.stream().filter(m -> m.startsWith("Profile of slow query in Person.findAll"))
+                .findFirst().orElseThrow();
+        assertTrue(profile.contains("db hits"));
+    }
+
+    @Test
+    void testStatementIsProfiledOncePerInterval() throws InterruptedException {
+        // Given
+        createPerson("Dave");
+        messages.clear();
+        personRepository.count();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (messages.stream().noneMatch(m -> m.startsWith("Profile of slow query in Person.count"))
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // When
+        personRepository.count();
+        Thread.sleep(500);
+
+        // Then
+        assertEquals(1, messages.stream().filter(m -> m.startsWith("Profile of slow query in Person.count")).count());
+    }
+
+    @Test
+    void testSlowWriteIsNotProfiled() throws InterruptedException {
+        // When
+        createPerson("Bob");
+        Thread.sleep(500);
+
+        // Then
+        assertTrue(messages.stream().anyMatch(m -> m.startsWith("Slow query in Person.create")));
+        assertTrue(messages.stream().noneMatch(m -> m.startsWith("Profile of slow query in Person.create")));
+    }
+
+    @Test
+    void testSlowReactiveStatementIsLogged() {
+        // Given
+        UUID id = createPerson("Carol");
+        messages.clear();
+
+        // When
+        reactivePersonRepository.findById(id).await().indefinitely();
+
+        // Then
+        assertTrue(messages.stream().anyMatch(m -> m.startsWith("Slow query in Person.findById")));
+    }
+
+    private UUID createPerson(String name) {
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName(name);
+        personRepository.create(person);
+        return person.getId();
+    }
+}
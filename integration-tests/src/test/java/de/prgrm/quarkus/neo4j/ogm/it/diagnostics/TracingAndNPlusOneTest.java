@@ -0,0 +1,165 @@
+package de.prgrm.quarkus.neo4j.ogm.it.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.diagnostics.RecordingOgmTracing.RecordedEvent;
+import de.prgrm.quarkus.neo4j.ogm.it.diagnostics.RecordingOgmTracing.RecordedSpan;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Address;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(TracingAndNPlusOneTest.NPlusOneProfile.class)
+class TracingAndNPlusOneTest {
+
+    public static class NPlusOneProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.neo4j-ogm.diagnostics.n-plus-one-threshold", "10");
+        }
+    }
+
+    private static final String N_PLUS_ONE = "neo4j.ogm.n_plus_one";
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    RecordingOgmTracing tracing;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testStatementsAreTracedBelowTheirOperation() {
+        // Given
+        UUID id = createPersonsWithAddress(1).get(0);
+        tracing.clear();
+
+        // When
+        Person person = personRepository.findById(id);
+
+        // Then
+        assertNotNull(person.getAddress());
+        RecordedSpan root = rootSpan("findById");
+        assertEquals("Person", root.label);
+        assertFalse(root.reactive);
+        assertTrue(tracing.spans().stream().anyMatch(s -> s.statement && s.parent == root && s.rows == 1));
+
+        // The relation loader's call is a child span with its own statement
+        RecordedSpan nested = tracing.spans().stream()
+                .filter(s -> !s.statement && s.parent == root && "Address".equals(s.label))
+                .findFirst().orElseThrow();
+        assertTrue(tracing.spans().stream().anyMatch(s -> s.statement && s.parent == nested));
+        assertTrue(tracing.spans().stream().allMatch(s -> s.ended));
+        assertTrue(root.events.isEmpty());
+    }
+
+    @Test
+    void testRepeatedRelationQueriesAreReportedAsNPlusOne() {
+        // Given: more persons than the threshold of 10, each address loaded by its own query
+        createPersonsWithAddress(12);
+        tracing.clear();
+
+        // When
+        List<Person> persons = personRepository.findAll();
+
+        // Then
+        assertEquals(12, persons.size());
+        RecordedSpan root = rootSpan("findAll");
+        List<RecordedEvent> events = root.events.stream().filter(e -> N_PLUS_ONE.equals(e.name())).toList();
+        assertFalse(events.isEmpty());
+        assertTrue(events.stream()
+                .allMatch(e -> Integer.parseInt(e.attributes().get("neo4j.ogm.statement.count")) > 10));
+        assertTrue(events.stream().allMatch(e -> e.attributes().containsKey("neo4j.ogm.statement.hash")));
+    }
+
+    @Test
+    void testFewRelationQueriesAreNotReported() {
+        // Given
+        createPersonsWithAddress(3);
+        tracing.clear();
+
+        // When
+        personRepository.findAll();
+
+        // Then
+        assertTrue(rootSpan("findAll").events.isEmpty());
+    }
+
+    @Test
+    void testReactiveStatementsAreTracedBelowTheirOperation() {
+        // Given
+        UUID id = createPersonsWithAddress(1).get(0);
+        tracing.clear();
+
+        // When
+        Person person = reactivePersonRepository.findById(id).await().indefinitely();
+
+        // Then
+        assertEquals(id, person.getId());
+        RecordedSpan root = rootSpan("findById");
+        assertTrue(root.reactive);
+        assertTrue(root.ended);
+        assertTrue(tracing.spans().stream().anyMatch(s -> s.statement && s.parent == root && s.ended));
+    }
+
+    @Test
+    void testFailedStatementIsMarked() {
+        // When
+        assertThrows(RuntimeException.class, () -> personRepository.execute("INVALID CYPHER", Map.of()));
+
+        // Then
+        RecordedSpan root = rootSpan("execute");
+        assertTrue(root.failed);
+        assertTrue(root.ended);
+    }
+
+    private RecordedSpan rootSpan(String operation) {
+        return tracing.spans().stream()
+                .filter(s -> !s.statement && s.parent == null && operation.equals(s.operation))
+                .findFirst().orElseThrow();
+    }
+
+    private List<UUID> createPersonsWithAddress(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Address address = new Address();
+            address.setId(UUID.randomUUID());
+            address.setStreet("Street " + i);
+            Person person = new Person();
+            person.setId(UUID.randomUUID());
+            person.setName("Person " + i);
+            person.setAddress(address);
+            personRepository.create(person);
+            persons.add(person);
+        }
+        return persons.stream().map(Person::getId).toList();
+    }
+}
@@ -0,0 +1,137 @@
+package de.prgrm.quarkus.neo4j.ogm.it.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Address;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.RepositoryException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class RepositoryMetricsTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testBlockingOperationIsTimedWithItsStatements() {
+        // Given
+        UUID id = createPersonWithAddress();
+        long calls = timerCount("findById", "blocking", "success");
+        double statements = summaryTotal("neo4j.ogm.operation.statements", "findById", "blocking");
+        double records = summaryTotal("neo4j.ogm.operation.records", "findById", "blocking");
+        double relationQueries = summaryTotal("neo4j.ogm.operation.relation.queries", "findById", "blocking");
+
+        // When
+        Person person = personRepository.findById(id);
+
+        // Then
+        assertNotNull(person.getAddress());
+        assertEquals(calls + 1, timerCount("findById", "blocking", "success"));
+        assertTrue(summaryTotal("neo4j.ogm.operation.statements", "findById", "blocking") > statements);
+        assertTrue(summaryTotal("neo4j.ogm.operation.records", "findById", "blocking") > records);
+        // The address is loaded by the relation loader within the same operation
+        assertTrue(summaryTotal("neo4j.ogm.operation.relation.queries", "findById", "blocking") > relationQueries);
+    }
+
+    @Test
+    void testRelationLoaderQueriesAreNotTimedSeparately() {
+        // Given
+        UUID id = createPersonWithAddress();
+        long addressQueries = registry.find("neo4j.ogm.operations").tag("label", "Address").timers().stream()
+                .mapToLong(Timer::count).sum();
+
+        // When
+        personRepository.findById(id);
+
+        // Then
+        long after = registry.find("neo4j.ogm.operations").tag("label", "Address").timers().stream()
+                .mapToLong(Timer::count).sum();
+        assertEquals(addressQueries, after);
+    }
+
+    @Test
+    void testReactiveOperationIsTaggedReactive() {
+        // Given
+        UUID id = createPersonWithAddress();
+        long calls = timerCount("findById", "reactive", "success");
+        double statements = summaryTotal("neo4j.ogm.operation.statements", "findById", "reactive");
+
+        // When
+        Person person = reactivePersonRepository.findById(id).await().indefinitely();
+
+        // Then
+        assertEquals(id, person.getId());
+        assertEquals(calls + 1, timerCount("findById", "reactive", "success"));
+        assertTrue(summaryTotal("neo4j.ogm.operation.statements", "findById", "reactive") > statements);
+    }
+
+    @Test
+    void testFailedOperationIsTaggedFailure() {
+        // Given
+        long failures = timerCount("execute", "blocking", "failure");
+
+        // When
+        assertThrows(RepositoryException.class, () -> personRepository.execute("INVALID CYPHER", Map.of()));
+
+        // Then
+        assertEquals(failures + 1, timerCount("execute", "blocking", "failure"));
+    }
+
+    private UUID createPersonWithAddress() {
+        Address address = new Address();
+        address.setId(UUID.randomUUID());
+        address.setStreet("Main Street");
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName("Alice");
+        person.setAddress(address);
+        personRepository.create(person);
+        return person.getId();
+    }
+
+    private long timerCount(String operation, String repository, String outcome) {
+        Timer timer = registry.find("neo4j.ogm.operations")
+                .tags("label", "Person", "operation", operation, "repository", repository, "outcome", outcome)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private double summaryTotal(String name, String operation, String repository) {
+        DistributionSummary summary = registry.find(name)
+                .tags("label", "Person", "operation", operation, "repository", repository)
+                .summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+}
@@ -0,0 +1,132 @@
+package de.prgrm.quarkus.neo4j.ogm.it.query;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Country;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CountryBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CountryBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CountrySummary;
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.EntityCacheManager;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class QueryCacheTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    CountryBaseRepository countryRepository;
+
+    @Inject
+    CountryBaseReactiveRepository reactiveCountryRepository;
+
+    @Inject
+    EntityCacheManager cacheManager;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+        cacheManager.invalidateAll();
+    }
+
+    @Test
+    void testScalarResultIsCached() {
+        // Given
+        countryRepository.create(country("Germany"));
+        assertEquals(1, countryRepository.countAll());
+        createBehindTheRepository("France");
+
+        // When
+        long count = countryRepository.countAll();
+
+        // Then
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testEntityResultIsCachedPerParameters() {
+        // Given
+        countryRepository.create(country("Germany"));
+        countryRepository.findByName("Germany");
+        createBehindTheRepository("France");
+
+        // When
+        Country germany = countryRepository.findByName("Germany");
+        Country france = countryRepository.findByName("France");
+
+        // Then
+        assertEquals("Germany", germany.getName());
+        assertEquals("France", france.getName());
+    }
+
+    @Test
+    void testCachedEntityResultIsNotShared() {
+        // Given
+        countryRepository.create(country("Germany"));
+        Country first = countryRepository.findByName("Germany");
+        first.setName("Deutschland");
+
+        // When
+        Country second = countryRepository.findByName("Germany");
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("Germany", second.getName());
+    }
+
+    @Test
+    void testProjectionResultIsInvalidatedByWrite() {
+        // Given
+        countryRepository.create(country("Germany"));
+        assertEquals(List.of(new CountrySummary("Germany")), countryRepository.getSummaries());
+
+        // When
+        countryRepository.create(country("France"));
+
+        // Then
+        assertEquals(List.of(new CountrySummary("France"), new CountrySummary("Germany")),
+                countryRepository.getSummaries());
+    }
+
+    @Test
+    void testReactiveResultIsCachedAndInvalidated() {
+        // Given
+        countryRepository.create(country("Germany"));
+        assertEquals(1, reactiveCountryRepository.countAll().await().indefinitely());
+        createBehindTheRepository("France");
+
+        // When
+        long cached = reactiveCountryRepository.countAll().await().indefinitely();
+        reactiveCountryRepository.create(country("Spain")).await().indefinitely();
+        long reloaded = reactiveCountryRepository.countAll().await().indefinitely();
+
+        // Then
+        assertEquals(1, cached);
+        assertEquals(3, reloaded);
+    }
+
+    private void createBehindTheRepository(String name) {
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Country {id: randomUUID(), name: $name})", Map.of("name", name)).consume();
+        }
+    }
+
+    private static Country country(String name) {
+        Country country = new Country();
+        country.setName(name);
+        return country;
+    }
+}
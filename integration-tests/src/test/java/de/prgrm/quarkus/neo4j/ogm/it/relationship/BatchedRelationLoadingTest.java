@@ -0,0 +1,168 @@
+package de.prgrm.quarkus.neo4j.ogm.it.relationship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Author;
+import de.prgrm.quarkus.neo4j.ogm.it.model.AuthorBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Book;
+import de.prgrm.quarkus.neo4j.ogm.it.model.BookBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Employee;
+import de.prgrm.quarkus.neo4j.ogm.it.model.EmployeeBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(BatchedRelationLoadingTest.BatchedProfile.class)
+public class BatchedRelationLoadingTest {
+
+    public static class BatchedProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.neo4j-ogm.relation-loading.mode", "batched");
+        }
+    }
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    AuthorBaseRepository authorRepository;
+
+    @Inject
+    BookBaseRepository bookRepository;
+
+    @Inject
+    EmployeeBaseRepository employeeRepository;
+
+    @BeforeEach
+    public void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    public void testFindAllLoadsRelationsOfEveryOwner() {
+        // Given
+        String first = createAuthorWithBooks("First", 2);
+        String second = createAuthorWithBooks("Second", 3);
+        createAuthorWithBooks("Third", 0);
+
+        // When
+        List<Author> authors = authorRepository.findAll();
+
+        // Then
+        assertEquals(3, authors.size());
+        Author firstAuthor = authors.stream().filter(a -> first.equals(a.getId().toString())).findFirst().orElseThrow();
+        Author secondAuthor = authors.stream().filter(a -> second.equals(a.getId().toString())).findFirst().orElseThrow();
+        Author thirdAuthor = authors.stream().filter(a -> "Third".equals(a.getName())).findFirst().orElseThrow();
+
+        assertEquals(2, firstAuthor.getBooks().size());
+        assertEquals(3, secondAuthor.getBooks().size());
+        assertNotNull(thirdAuthor.getBooks());
+        assertTrue(thirdAuthor.getBooks().isEmpty());
+    }
+
+    @Test
+    public void testNextLevelIsLoadedForAllRelatedEntities() {
+        // Given
+        String authorId = createAuthorWithBooks("Nested", 2);
+
+        // When
+        List<Author> authors = authorRepository.findAll();
+
+        // Then
+        assertEquals(1, authors.size());
+        for (Book book : authors.getFirst().getBooks()) {
+            assertNotNull(book.getAuthor());
+            assertEquals(UUID.fromString(authorId), book.getAuthor().getId());
+        }
+    }
+
+    @Test
+    public void testSingleValuedRelationInBatchMode() {
+        // Given
+        createAuthorWithBooks("Single", 2);
+
+        // When
+        List<Book> books = bookRepository.findAll();
+
+        // Then
+        assertEquals(2, books.size());
+        books.forEach(book -> {
+            assertNotNull(book.getAuthor());
+            assertEquals("Single", book.getAuthor().getName());
+        });
+    }
+
+    @Test
+    public void testFetchPlanLimitsBatchedLevels() {
+        // Given
+        createAuthorWithBooks("Planned", 2);
+
+        // When
+        List<Book> books = bookRepository.findAll(FetchPlan.of("author"));
+
+        // Then
+        assertEquals(2, books.size());
+        books.forEach(book -> {
+            assertEquals("Planned", book.getAuthor().getName());
+            assertNull(book.getAuthor().getBooks(), "The author's books are not in the plan");
+        });
+    }
+
+    @Test
+    public void testFieldsOfTheSameTypeAreToldApartByDirection() {
+        // Given
+        try (Session session = driver.session()) {
+            session.run("""
+                    CREATE (m:Employee {id: $m, name: 'Alice'})
+                    CREATE (:Employee {id: $a, name: 'Bob'})-[:REPORTS_TO]->(m)
+                    CREATE (:Employee {id: $b, name: 'Carol'})-[:REPORTS_TO]->(m)
+                    """,
+                    Map.of("m", UUID.randomUUID().toString(), "a", UUID.randomUUID().toString(),
+                            "b", UUID.randomUUID().toString()));
+        }
+
+        // When
+        List<Employee> employees = employeeRepository.findAll();
+
+        // Then
+        assertEquals(3, employees.size());
+        Employee alice = employees.stream().filter(e -> "Alice".equals(e.getName())).findFirst().orElseThrow();
+        assertNull(alice.getManager(), "Incoming reports must not end up in the outgoing field");
+        assertEquals(2, alice.getReports().size());
+        employees.stream().filter(e -> !"Alice".equals(e.getName())).forEach(e -> {
+            assertEquals("Alice", e.getManager().getName());
+            assertTrue(e.getReports().isEmpty());
+        });
+    }
+
+    private String createAuthorWithBooks(String name, int bookCount) {
+        try (Session session = driver.session()) {
+            String authorId = UUID.randomUUID().toString();
+            session.run("CREATE (a:Author {id: $id, name: $name})", Map.of("id", authorId, "name", name));
+            for (int i = 0; i < bookCount; i++) {
+                session.run("""
+                        MATCH (a:Author {id: $authorId})
+                        CREATE (a)-[:WROTE]->(:Book {id: $id, title: $title})
+                        """,
+                        Map.of("authorId", authorId, "id", UUID.randomUUID().toString(), "title", name + " " + i));
+            }
+            return authorId;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package de.prgrm.quarkus.neo4j.ogm.it.relationship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Book;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Car;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CarBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Library;
+import de.prgrm.quarkus.neo4j.ogm.it.model.LibraryBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.ElementIds;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class ElementIdRelationLoadingTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository personReactiveRepository;
+
+    @Inject
+    LibraryBaseRepository libraryRepository;
+
+    @Inject
+    CarBaseRepository carRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testLoadedEntitiesCarryTheElementIdOfTheirNode() {
+        // Given
+        String alice = UUID.randomUUID().toString();
+        String bob = UUID.randomUUID().toString();
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Person {id: $alice, name: 'Alice'})-[:follows]->(:Person {id: $bob, name: 'Bob'})",
+                    Map.of("alice", alice, "bob", bob)).consume();
+        }
+
+        // When
+        Person person = personRepository.findById(UUID.fromString(alice));
+
+        // Then
+        assertEquals(elementId(alice), ElementIds.of(person));
+        assertEquals(elementId(bob), ElementIds.of(person.getFollowing().getFirst()));
+        assertEquals(Map.of(ElementIds.PARAMETER, elementId(alice), "id", alice),
+                ElementIds.ownerParameters(person, person.getId()));
+    }
+
+    @Test
+    void testRelationsAreLoadedByElementId() {
+        // Given
+        String alice = UUID.randomUUID().toString();
+        try (Session session = driver.session()) {
+            session.run("""
+                    CREATE (p:Person {id: $alice, name: 'Alice'})
+                    CREATE (p)-[:follows]->(:Person {id: randomUUID(), name: 'Bob'})
+                    CREATE (p)-[:follows]->(:Person {id: randomUUID(), name: 'Carol'})
+                    """, Map.of("alice", alice)).consume();
+        }
+
+        // When
+        Person blocking = personRepository.findById(UUID.fromString(alice));
+        Person reactive = personReactiveRepository.findById(UUID.fromString(alice)).await().indefinitely();
+
+        // Then
+        assertEquals(List.of("Bob", "Carol"), blocking.getFollowing().stream().map(Person::getName).sorted().toList());
+        assertEquals(List.of("Bob", "Carol"), reactive.getFollowing().stream().map(Person::getName).sorted().toList());
+    }
+
+    @Test
+    void testLazyRelationIsLoadedByElementId() {
+        // Given
+        Book book = new Book();
+        book.setTitle("Dune");
+        Library library = new Library();
+        library.setName("City Library");
+        library.setBooks(List.of(book));
+        UUID id = libraryRepository.create(library).getId();
+
+        // When
+        Library loaded = libraryRepository.findById(id);
+
+        // Then
+        assertNotNull(ElementIds.of(loaded));
+        assertEquals("Dune", loaded.getBooks().getFirst().getTitle());
+    }
+
+    @Test
+    void testEntitiesNotReadFromANodeHaveNoElementId() {
+        // Given
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+
+        // When
+        Map<String, Object> parameters = ElementIds.ownerParameters(person, person.getId());
+
+        // Then
+        assertNull(ElementIds.of(person));
+        assertEquals(Map.of("id", person.getId().toString()), parameters);
+    }
+
+    @Test
+    void testEntitiesWithoutRelationshipsHaveNoElementId() {
+        // Given
+        Car car = new Car();
+        car.setName("Golf");
+        UUID id = carRepository.create(car).getId();
+
+        // When
+        Car loaded = carRepository.findById(id);
+
+        // Then
+        assertNull(ElementIds.of(loaded));
+    }
+
+    private String elementId(String id) {
+        try (Session session = driver.session()) {
+            return session.run("MATCH (p:Person {id: $id}) RETURN elementId(p) AS eid", Map.of("id", id))
+                    .single().get("eid").asString();
+        }
+    }
+}
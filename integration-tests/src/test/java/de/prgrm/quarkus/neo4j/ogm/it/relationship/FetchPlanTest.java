@@ -0,0 +1,191 @@
+package de.prgrm.quarkus.neo4j.ogm.it.relationship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Book;
+import de.prgrm.quarkus.neo4j.ogm.it.model.House;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Library;
+import de.prgrm.quarkus.neo4j.ogm.it.model.LibraryBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.LazyRelation;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class FetchPlanTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository personReactiveRepository;
+
+    @Inject
+    LibraryBaseRepository libraryRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testPlanLoadsOnlyTheNamedRelationships() {
+        // Given
+        UUID alice = createChain("Alice", "Bob", "Carol");
+
+        // When
+        Person person = personRepository.findById(alice, FetchPlan.of("following"));
+
+        // Then
+        assertEquals(1, person.getFollowing().size());
+        assertEquals("Bob", person.getFollowing().getFirst().getName());
+        assertNull(person.getAddress());
+        assertNull(person.getFollowing().getFirst().getFollowing(), "Bob's relationships are not in the plan");
+    }
+
+    @Test
+    void testNestedPathsLoadDeeperLevels() {
+        // Given
+        UUID alice = createChain("Alice", "Bob", "Carol");
+
+        // When
+        Person person = personRepository.findById(alice, FetchPlan.of("following.following", "address"));
+
+        // Then
+        Person bob = person.getFollowing().getFirst();
+        Person carol = bob.getFollowing().getFirst();
+        assertEquals("Carol", carol.getName());
+        assertEquals("Main Street", person.getAddress().getStreet());
+        assertNull(bob.getAddress());
+        assertNull(carol.getFollowing());
+    }
+
+    @Test
+    void testEmptyPlanLoadsNoRelationships() {
+        // Given
+        UUID alice = createChain("Alice", "Bob");
+
+        // When
+        List<Person> persons = personRepository.findAll(FetchPlan.none());
+
+        // Then
+        assertEquals(2, persons.size());
+        persons.forEach(p -> {
+            assertNull(p.getFollowing());
+            assertNull(p.getAddress());
+        });
+        assertTrue(personRepository.findByIdOptional(alice, FetchPlan.none()).isPresent());
+    }
+
+    @Test
+    void testPlannedLazyRelationshipIsLoadedRightAway() {
+        // Given
+        Book book = new Book();
+        book.setTitle("Dune");
+        House house = new House();
+        house.setName("Main Building");
+        Library library = new Library();
+        library.setName("City Library");
+        library.setBooks(List.of(book));
+        library.setBuilding(house);
+        UUID id = libraryRepository.create(library).getId();
+
+        // When
+        Library loaded = libraryRepository.findById(id, FetchPlan.of("books"));
+
+        // Then
+        assertFalse(LazyRelation.isPending(loaded.getBooks()));
+        assertEquals("Dune", loaded.getBooks().getFirst().getTitle());
+        assertNull(loaded.getBuilding());
+    }
+
+    @Test
+    void testSavingLeavesUnplannedRelationshipsUntouched() {
+        // Given
+        UUID alice = createChain("Alice", "Bob");
+        Person person = personRepository.findById(alice, FetchPlan.of("following"));
+
+        // When
+        person.setName("Alicia");
+        personRepository.update(person);
+
+        // Then
+        Person reloaded = personRepository.findById(alice);
+        assertEquals("Alicia", reloaded.getName());
+        assertEquals("Main Street", reloaded.getAddress().getStreet());
+        assertEquals(1, reloaded.getFollowing().size());
+    }
+
+    @Test
+    void testUnknownRelationshipIsRejected() {
+        // Given
+        UUID alice = createChain("Alice");
+
+        // When / Then
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> personRepository.findById(alice, FetchPlan.of("friends")));
+        assertTrue(error.getMessage().contains("friends"));
+        assertThrows(IllegalArgumentException.class, () -> FetchPlan.of("following..address"));
+    }
+
+    @Test
+    void testReactiveFindByIdWithPlan() {
+        // Given
+        UUID alice = createChain("Alice", "Bob");
+
+        // When
+        Person person = personReactiveRepository.findById(alice, FetchPlan.of("address"))
+                .await().indefinitely();
+
+        // Then
+        assertEquals("Main Street", person.getAddress().getStreet());
+        assertNull(person.getFollowing());
+    }
+
+    /**
+     * Creates persons following each other in the given order, each located at the same address.
+     *
+     * @return the id of the first person
+     */
+    private UUID createChain(String... names) {
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Address {id: $id, street: 'Main Street', housenumber: '1'})",
+                    Map.of("id", UUID.randomUUID().toString())).consume();
+            String previous = null;
+            String first = null;
+            for (String name : names) {
+                String id = UUID.randomUUID().toString();
+                session.run("""
+                        MATCH (a:Address)
+                        CREATE (p:Person {id: $id, name: $name})-[:located_in]->(a)
+                        """, Map.of("id", id, "name", name)).consume();
+                if (previous != null) {
+                    session.run("MATCH (p:Person {id: $from}), (q:Person {id: $to}) CREATE (p)-[:follows]->(q)",
+                            Map.of("from", previous, "to", id)).consume();
+                } else {
+                    first = id;
+                }
+                previous = id;
+            }
+            return UUID.fromString(first);
+        }
+    }
+}
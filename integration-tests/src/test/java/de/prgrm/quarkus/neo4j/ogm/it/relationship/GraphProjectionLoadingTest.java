@@ -0,0 +1,112 @@
+package de.prgrm.quarkus.neo4j.ogm.it.relationship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Book;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Shelf;
+import de.prgrm.quarkus.neo4j.ogm.it.model.ShelfBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Pageable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Paged;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+public class GraphProjectionLoadingTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    ShelfBaseRepository shelfRepository;
+
+    @BeforeEach
+    public void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    public void testFindByIdFetchesShallowGraphInOneQuery() {
+        // Given
+        String shelfId = createShelf("Fiction", 2, true);
+
+        // When
+        Shelf shelf = shelfRepository.findById(UUID.fromString(shelfId));
+
+        // Then
+        assertEquals("Fiction", shelf.getName());
+        assertEquals(2, shelf.getBooks().size());
+        assertNotNull(shelf.getHouse());
+        assertEquals("Library", shelf.getHouse().getName());
+        for (Book book : shelf.getBooks()) {
+            assertNotNull(book.getTitle());
+            assertNotNull(book.getAuthor());
+            assertEquals("Writer", book.getAuthor().getName());
+        }
+    }
+
+    @Test
+    public void testMissingRelationsAreEmptyOrNull() {
+        // Given
+        String shelfId = createShelf("Empty", 0, false);
+
+        // When
+        Shelf shelf = shelfRepository.findById(UUID.fromString(shelfId));
+
+        // Then
+        assertNotNull(shelf.getBooks());
+        assertTrue(shelf.getBooks().isEmpty());
+        assertNull(shelf.getHouse());
+    }
+
+    @Test
+    public void testFindAllAndPagedUseProjection() {
+        // Given
+        createShelf("A", 1, true);
+        createShelf("B", 3, false);
+
+        // When
+        List<Shelf> shelves = shelfRepository.findAll();
+        Paged<Shelf> page = shelfRepository.findAllPaged(new Pageable(0, 10), null);
+
+        // Then
+        assertEquals(2, shelves.size());
+        assertEquals(4, shelves.stream().mapToInt(s -> s.getBooks().size()).sum());
+        assertEquals(2, page.totalElements());
+        assertEquals(4, page.content().stream().mapToInt(s -> s.getBooks().size()).sum());
+    }
+
+    private String createShelf(String name, int bookCount, boolean withHouse) {
+        try (Session session = driver.session()) {
+            String shelfId = UUID.randomUUID().toString();
+            session.run("CREATE (:Shelf {id: $id, name: $name})", Map.of("id", shelfId, "name", name));
+            if (withHouse) {
+                session.run("""
+                        MATCH (s:Shelf {id: $shelfId})
+                        CREATE (s)-[:STANDS_IN]->(:House {id: $id, name: 'Library'})
+                        """, Map.of("shelfId", shelfId, "id", UUID.randomUUID().toString()));
+            }
+            for (int i = 0; i < bookCount; i++) {
+                session.run("""
+                        MATCH (s:Shelf {id: $shelfId})
+                        CREATE (s)-[:HOLDS]->(b:Book {id: $id, title: $title})
+                        CREATE (:Author {id: $authorId, name: 'Writer'})-[:WROTE]->(b)
+                        """,
+                        Map.of("shelfId", shelfId, "id", UUID.randomUUID().toString(), "title", name + " " + i,
+                                "authorId", UUID.randomUUID().toString()));
+            }
+            return shelfId;
+        }
+    }
+}
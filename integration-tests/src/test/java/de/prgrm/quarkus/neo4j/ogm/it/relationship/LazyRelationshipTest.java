@@ -0,0 +1,134 @@
+package de.prgrm.quarkus.neo4j.ogm.it.relationship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Book;
+import de.prgrm.quarkus.neo4j.ogm.it.model.House;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Library;
+import de.prgrm.quarkus.neo4j.ogm.it.model.LibraryBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.LazyRelation;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class LazyRelationshipTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    LibraryBaseRepository libraryRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testLazyRelationshipsAreLoadedOnFirstAccess() {
+        // Given
+        UUID id = createLibrary("City Library", "Main Building", "Dune", "Emma");
+
+        // When
+        Library library = libraryRepository.findById(id);
+
+        // Then
+        assertTrue(LazyRelation.isPending(library.getBooks()));
+        assertTrue(LazyRelation.isPending(library.getBuilding()));
+        assertEquals(List.of("Dune", "Emma"), library.getBooks().stream().map(Book::getTitle).sorted().toList());
+        assertEquals("Main Building", library.getBuilding().getName());
+        assertFalse(LazyRelation.isPending(library.getBooks()));
+        assertFalse(LazyRelation.isPending(library.getBuilding()));
+    }
+
+    @Test
+    void testAbsentSingleRelationshipResolvesToNull() {
+        // Given
+        UUID id = createLibrary("Reading Room", null);
+
+        // When
+        Library library = libraryRepository.findById(id);
+
+        // Then
+        assertNull(LazyRelation.resolve(library.getBuilding()));
+        assertThrows(IllegalStateException.class, () -> library.getBuilding().getName());
+        assertTrue(library.getBooks().isEmpty());
+
+        // Saving skips the loaded proxy of the absent node
+        library.setName("Quiet Room");
+        libraryRepository.update(library);
+        assertEquals("Quiet Room", libraryRepository.findById(id).getName());
+        assertEquals(0, countRelationships(id, "HOUSED_IN"));
+    }
+
+    @Test
+    void testUpdateLeavesUnaccessedLazyRelationshipsUntouched() {
+        // Given
+        UUID id = createLibrary("City Library", "Main Building", "Dune", "Emma");
+        Library library = libraryRepository.findById(id);
+
+        // When
+        library.setName("Central Library");
+        libraryRepository.update(library);
+
+        // Then
+        assertEquals(2, countRelationships(id, "LENDS"));
+        assertEquals(1, countRelationships(id, "HOUSED_IN"));
+        assertTrue(LazyRelation.isPending(library.getBooks()), "Saving must not load lazy relationships");
+    }
+
+    @Test
+    void testChangesToALoadedLazyListArePersisted() {
+        // Given
+        UUID id = createLibrary("City Library", null, "Dune");
+        Library library = libraryRepository.findById(id);
+        Book added = new Book();
+        added.setTitle("Ulysses");
+
+        // When
+        library.getBooks().add(added);
+        libraryRepository.update(library);
+
+        // Then
+        assertEquals(2, countRelationships(id, "LENDS"));
+        assertEquals(2, libraryRepository.findById(id).getBooks().size());
+    }
+
+    private UUID createLibrary(String name, String building, String... titles) {
+        List<Book> books = new ArrayList<>();
+        for (String title : titles) {
+            Book book = new Book();
+            book.setTitle(title);
+            books.add(book);
+        }
+        Library library = new Library();
+        library.setName(name);
+        library.setBooks(books);
+        if (building != null) {
+            House house = new House();
+            house.setName(building);
+            library.setBuilding(house);
+        }
+        return libraryRepository.create(library).getId();
+    }
+
+    private long countRelationships(UUID id, String type) {
+        try (Session session = driver.session()) {
+            return session.run("MATCH (:Library {id: $id})-[r]->() WHERE type(r) = $type RETURN count(r) AS count",
+                    Map.of("id", id.toString(), "type", type)).single().get("count").asLong();
+        }
+    }
+}
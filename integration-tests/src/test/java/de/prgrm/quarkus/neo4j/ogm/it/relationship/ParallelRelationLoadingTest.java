@@ -0,0 +1,134 @@
+package de.prgrm.quarkus.neo4j.ogm.it.relationship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Author;
+import de.prgrm.quarkus.neo4j.ogm.it.model.AuthorBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Book;
+import de.prgrm.quarkus.neo4j.ogm.it.model.BookBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(ParallelRelationLoadingTest.ParallelProfile.class)
+public class ParallelRelationLoadingTest {
+
+    public static class ParallelProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.neo4j-ogm.relation-loading.mode", "parallel",
+                    "quarkus.neo4j-ogm.relation-loading.parallelism", "4");
+        }
+    }
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    AuthorBaseRepository authorRepository;
+
+    @Inject
+    BookBaseRepository bookRepository;
+
+    @BeforeEach
+    public void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    public void testFindAllLoadsRelationsOfEveryOwner() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            createAuthorWithBooks("Author " + i, i % 4);
+        }
+
+        // When
+        List<Author> authors = authorRepository.findAll();
+
+        // Then
+        assertEquals(20, authors.size());
+        for (Author author : authors) {
+            int index = Integer.parseInt(author.getName().substring("Author ".length()));
+            assertEquals(index % 4, author.getBooks().size(), author.getName());
+            author.getBooks().forEach(book -> assertTrue(book.getTitle().startsWith(author.getName() + " ")));
+        }
+    }
+
+    @Test
+    public void testNextLevelIsLoadedForAllRelatedEntities() {
+        // Given
+        String first = createAuthorWithBooks("First", 2);
+        String second = createAuthorWithBooks("Second", 3);
+
+        // When
+        List<Book> books = bookRepository.findAll();
+
+        // Then
+        assertEquals(5, books.size());
+        books.forEach(book -> {
+            String expected = book.getTitle().startsWith("First") ? first : second;
+            assertEquals(UUID.fromString(expected), book.getAuthor().getId());
+        });
+    }
+
+    @Test
+    public void testFetchPlanIsFollowedByEveryTask() {
+        // Given
+        createAuthorWithBooks("First", 2);
+        createAuthorWithBooks("Second", 1);
+
+        // When
+        List<Book> books = bookRepository.findAll(FetchPlan.of("author"));
+
+        // Then
+        assertEquals(3, books.size());
+        books.forEach(book -> {
+            assertNotNull(book.getAuthor());
+            assertNull(book.getAuthor().getBooks(), "The author's books are not in the plan");
+        });
+    }
+
+    @Test
+    public void testFailedRelationQueryFailsTheOperation() {
+        // Given
+        createAuthorWithBooks("First", 1);
+        createAuthorWithBooks("Second", 1);
+        try (Session session = driver.session()) {
+            session.run("MATCH (b:Book) SET b.active = 'not a boolean'").consume();
+        }
+
+        // When / Then
+        assertThrows(RuntimeException.class, () -> authorRepository.findAll());
+    }
+
+    private String createAuthorWithBooks(String name, int bookCount) {
+        try (Session session = driver.session()) {
+            String authorId = UUID.randomUUID().toString();
+            session.run("CREATE (a:Author {id: $id, name: $name})", Map.of("id", authorId, "name", name));
+            for (int i = 0; i < bookCount; i++) {
+                session.run("""
+                        MATCH (a:Author {id: $authorId})
+                        CREATE (a)-[:WROTE]->(:Book {id: $id, title: $title})
+                        """,
+                        Map.of("authorId", authorId, "id", UUID.randomUUID().toString(), "title", name + " " + i));
+            }
+            return authorId;
+        }
+    }
+}
@@ -97,6 +97,58 @@ class BatchOperationsTest {
         assertEquals("Updated", updated.getName());
     }
 
+    @Test
+    void testCreateAllPersistsRelationshipsInBulk() {
+        Person shared = new Person();
+        shared.setName("Shared");
+
+        List<Person> people = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Person p = new Person();
+            p.setName("Follower " + i);
+            p.setFollowing(List.of(shared));
+            people.add(p);
+        }
+
+        List<Person> created = personRepository.createAll(people);
+
+        assertEquals(20, created.size());
+        // The shared target is written once, not once per follower
+        assertEquals(21, personRepository.count());
+        Person loaded = personRepository.findById(created.getFirst().getId());
+        assertEquals(1, loaded.getFollowing().size());
+        assertEquals("Shared", loaded.getFollowing().getFirst().getName());
+    }
+
+    @Test
+    void testMergeAllUpdatesPropertiesAndRelationships() {
+        Person target = new Person();
+        target.setName("Target");
+        Person existing = new Person();
+        existing.setName("Original");
+        existing.setFollowing(List.of(target));
+        existing = personRepository.create(existing);
+
+        Person update = new Person();
+        update.setId(existing.getId());
+        update.setName("Updated");
+        update.setFollowing(List.of());
+
+        Person newPerson = new Person();
+        newPerson.setName("New Person");
+        newPerson.setFollowing(List.of(target));
+
+        List<Person> result = personRepository.mergeAll(List.of(update, newPerson));
+
+        assertEquals(2, result.size());
+        assertEquals(3, personRepository.count());
+
+        Person updated = personRepository.findById(existing.getId());
+        assertEquals("Updated", updated.getName());
+        assertTrue(updated.getFollowing() == null || updated.getFollowing().isEmpty());
+        assertEquals(1, personRepository.findById(newPerson.getId()).getFollowing().size());
+    }
+
     @Test
     void testDeleteAllByIdsWithEmptyList() {
         personRepository.deleteAllByIds(List.of());
@@ -0,0 +1,202 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Address;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.BulkWriteMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tx.TransactionManager;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+
+@QuarkusTest
+class BulkWriterTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @Inject
+    TransactionManager txManager;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testWritesStreamInChunks() {
+        // Given
+        Stream<Person> people = IntStream.range(0, 2_500).mapToObj(i -> person("Person " + i));
+
+        // When
+        long written = personRepository.bulkWriter()
+                .chunkSize(1_000)
+                .write(people);
+
+        // Then
+        assertEquals(2_500, written);
+        assertEquals(2_500, personRepository.count());
+    }
+
+    @Test
+    void testWritesInInnerTransactions() {
+        // Given
+        Stream<Person> people = IntStream.range(0, 2_500).mapToObj(i -> person("Person " + i));
+
+        // When
+        long written = personRepository.bulkWriter()
+                .chunkSize(1_000)
+                .rowsPerTransaction(250)
+                .mode(BulkWriteMode.IN_TRANSACTIONS)
+                .write(people);
+
+        // Then
+        assertEquals(2_500, written);
+        assertEquals(2_500, personRepository.count());
+    }
+
+    @Test
+    void testMergeUpdatesExistingNodes() {
+        // Given
+        List<Person> people = IntStream.range(0, 10).mapToObj(i -> person("Person " + i)).toList();
+        personRepository.bulkWriter().write(people);
+        people.forEach(p -> p.setName(p.getName() + " updated"));
+
+        // When
+        personRepository.bulkWriter()
+                .chunkSize(3)
+                .merge()
+                .write(people);
+
+        // Then
+        assertEquals(10, personRepository.count());
+        assertTrue(personRepository.findAll().stream().allMatch(p -> p.getName().endsWith(" updated")));
+    }
+
+    @Test
+    void testWritesRelationshipsPerChunk() {
+        // Given
+        List<Person> people = IntStream.range(0, 5).mapToObj(i -> {
+            Person p = person("Person " + i);
+            Address address = new Address();
+            address.setId(UUID.randomUUID());
+            address.setStreet("Street " + i);
+            p.setAddress(address);
+            return p;
+        }).toList();
+
+        // When
+        personRepository.bulkWriter()
+                .chunkSize(2)
+                .withRelationships()
+                .write(people);
+
+        // Then
+        try (Session session = driver.session()) {
+            long edges = session.run("MATCH (:Person)-[r:located_in]->(:Address) RETURN count(r) AS c")
+                    .single().get("c").asLong();
+            assertEquals(5, edges);
+        }
+    }
+
+    @Test
+    void testRelationshipsRequireTransactionPerChunk() {
+        // Given
+        var writer = personRepository.bulkWriter()
+                .mode(BulkWriteMode.IN_TRANSACTIONS)
+                .withRelationships();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> writer.write(List.of(person("Person"))));
+        assertEquals(0, personRepository.count());
+    }
+
+    @Test
+    void testInnerTransactionsCannotJoinManagedTransaction() {
+        // Given
+        var writer = personRepository.bulkWriter().mode(BulkWriteMode.IN_TRANSACTIONS);
+        txManager.getOrCreateTransaction();
+
+        // When / Then
+        try {
+            assertThrows(IllegalStateException.class, () -> writer.write(List.of(person("Person"))));
+        } finally {
+            txManager.rollbackAndClose();
+        }
+        assertEquals(0, personRepository.count());
+    }
+
+    @Test
+    void testReactiveWriterWritesRelationshipsPerChunk() {
+        // Given
+        Multi<Person> people = Multi.createFrom().range(0, 5).map(i -> {
+            Person p = person("Person " + i);
+            Address address = new Address();
+            address.setId(UUID.randomUUID());
+            address.setStreet("Street " + i);
+            p.setAddress(address);
+            return p;
+        });
+
+        // When
+        long written = reactivePersonRepository.bulkWriter()
+                .chunkSize(2)
+                .withRelationships()
+                .write(people)
+                .await().indefinitely();
+
+        // Then
+        assertEquals(5, written);
+        try (Session session = driver.session()) {
+            long edges = session.run("MATCH (:Person)-[r:located_in]->(:Address) RETURN count(r) AS c")
+                    .single().get("c").asLong();
+            assertEquals(5, edges);
+        }
+    }
+
+    @Test
+    void testReactiveWriterConsumesMulti() {
+        // Given
+        Multi<Person> people = Multi.createFrom().range(0, 2_500).map(i -> person("Person " + i));
+
+        // When
+        long written = reactivePersonRepository.bulkWriter()
+                .chunkSize(1_000)
+                .concurrency(2)
+                .write(people)
+                .await().indefinitely();
+
+        // Then
+        assertEquals(2_500, written);
+        assertEquals(2_500, personRepository.count());
+    }
+
+    private static Person person(String name) {
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName(name);
+        return person;
+    }
+}
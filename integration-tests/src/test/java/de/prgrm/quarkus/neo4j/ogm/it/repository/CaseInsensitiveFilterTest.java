@@ -0,0 +1,116 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Car;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CarBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Filter;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Pageable;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class CaseInsensitiveFilterTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    CarBaseRepository carRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testCaseSensitiveOperatorsCompareThePropertyAsIs() {
+        // Given
+        createPerson("Alice");
+        createPerson("alice");
+
+        // When
+        List<Person> exact = personRepository.queryPaged("MATCH (n:Person)",
+                Filter.by("name", Filter.Operator.EQ_CASE_SENSITIVE, "Alice"), Pageable.of(0, 10), null).content();
+        List<Person> ignoringCase = personRepository.queryPaged("MATCH (n:Person)",
+                Filter.by("name", Filter.Operator.EQ, "ALICE"), Pageable.of(0, 10), null).content();
+
+        // Then
+        assertEquals(1, exact.size());
+        assertEquals("Alice", exact.get(0).getName());
+        assertEquals(2, ignoringCase.size());
+    }
+
+    @Test
+    void testCaseSensitiveOperatorsAvoidToLower() {
+        // When
+        Filter.CypherFragment fragment = Filter.by("name", Filter.Operator.STARTS_WITH_CASE_SENSITIVE, "Al")
+                .toCypher("n");
+
+        // Then
+        assertEquals("WHERE n.name STARTS WITH $name_0", fragment.clause());
+        assertEquals(Map.of("name_0", "Al"), fragment.params());
+    }
+
+    @Test
+    void testNormalizedPropertyIsComparedWithoutToLower() {
+        // When
+        Filter.CypherFragment fragment = Filter.by("name", Filter.Operator.CONTAINS, "TESLA")
+                .toCypher("n", Set.of("name"));
+
+        // Then
+        assertEquals("WHERE n.name_normalized CONTAINS $name_0", fragment.clause());
+        assertEquals(Map.of("name_0", "tesla"), fragment.params());
+    }
+
+    @Test
+    void testNormalizedPropertyIsStoredAndFiltered() {
+        // Given
+        Car car = new Car();
+        car.setId(UUID.randomUUID());
+        car.setName("Tesla Model S");
+        carRepository.create(car);
+        Car other = new Car();
+        other.setId(UUID.randomUUID());
+        other.setName("Volvo");
+        carRepository.create(other);
+
+        // When
+        List<Car> found = carRepository.queryPaged("MATCH (n:Car)",
+                Filter.by("name", Filter.Operator.STARTS_WITH, "TESLA"), Pageable.of(0, 10), null).content();
+
+        // Then
+        assertEquals(1, found.size());
+        assertEquals("Tesla Model S", found.get(0).getName());
+        try (Session session = driver.session()) {
+            String normalized = session.run("MATCH (c:Car {id: $id}) RETURN c.name_normalized AS name",
+                    Map.of("id", car.getId().toString())).single().get("name").asString();
+            assertEquals("tesla model s", normalized);
+        }
+    }
+
+    private void createPerson(String name) {
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName(name);
+        personRepository.create(person);
+    }
+}
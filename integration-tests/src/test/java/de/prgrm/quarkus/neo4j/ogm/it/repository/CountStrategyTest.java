@@ -0,0 +1,128 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.EntityCacheManager;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.CountStrategy;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Filter;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Pageable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Paged;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class CountStrategyTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @Inject
+    EntityCacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+        cacheManager.invalidateAll();
+        for (int i = 1; i <= 25; i++) {
+            Person p = new Person();
+            p.setName("Person " + String.format("%02d", i));
+            personRepository.create(p);
+        }
+    }
+
+    @Test
+    void testExactCountIsDefault() {
+        // When
+        Paged<Person> page = personRepository.findAllPaged(Pageable.of(0, 10), null);
+
+        // Then
+        assertEquals(25, page.totalElements());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void testCachedCountIsReusedAcrossPages() {
+        // Given
+        Pageable pageable = Pageable.of(0, 10).withCountStrategy(CountStrategy.CACHED);
+        personRepository.findAllPaged(pageable, null);
+        createBehindTheRepository();
+
+        // When
+        Paged<Person> page = personRepository.findAllPaged(Pageable.of(1, 10).withCountStrategy(CountStrategy.CACHED),
+                null);
+
+        // Then
+        assertEquals(25, page.totalElements());
+    }
+
+    @Test
+    void testCachedCountIsInvalidatedByWrite() {
+        // Given
+        Pageable pageable = Pageable.of(0, 10).withCountStrategy(CountStrategy.CACHED);
+        personRepository.findAllPaged(pageable, null);
+
+        // When
+        Person p = new Person();
+        p.setName("Person 26");
+        personRepository.create(p);
+
+        // Then
+        assertEquals(26, personRepository.findAllPaged(pageable, null).totalElements());
+    }
+
+    @Test
+    void testEstimatedCountFetchesOneExtraRow() {
+        // Given
+        Filter filter = Filter.by("name", Filter.Operator.STARTS_WITH, "Person 0");
+        Pageable first = Pageable.of(0, 5).withCountStrategy(CountStrategy.ESTIMATED);
+        Pageable last = Pageable.of(1, 5).withCountStrategy(CountStrategy.ESTIMATED);
+
+        // When
+        Paged<Person> firstPage = personRepository.queryPaged("MATCH (n:Person)", filter, first, null);
+        Paged<Person> lastPage = personRepository.queryPaged("MATCH (n:Person)", filter, last, null);
+
+        // Then
+        assertEquals(5, firstPage.content().size());
+        assertTrue(firstPage.hasNext());
+        assertEquals(4, lastPage.content().size());
+        assertEquals(9, lastPage.totalElements());
+        assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    void testReactiveEstimatedCount() {
+        // Given
+        Pageable pageable = Pageable.of(0, 10).withCountStrategy(CountStrategy.ESTIMATED);
+
+        // When
+        Paged<Person> page = reactivePersonRepository.findAllPaged(pageable, null).await().indefinitely();
+
+        // Then
+        assertEquals(10, page.content().size());
+        assertEquals(25, page.totalElements());
+        assertTrue(page.hasNext());
+    }
+
+    private void createBehindTheRepository() {
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Person {id: randomUUID(), name: 'Hidden'})").consume();
+        }
+    }
+}
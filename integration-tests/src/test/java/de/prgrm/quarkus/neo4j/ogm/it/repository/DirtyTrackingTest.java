@@ -0,0 +1,219 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Car;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CarBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(DirtyTrackingTest.DirtyTrackingProfile.class)
+class DirtyTrackingTest {
+
+    public static class DirtyTrackingProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.neo4j-ogm.dirty-tracking.enabled", "true");
+        }
+    }
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    CarBaseRepository carRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testUpdatingAPropertyKeepsUnchangedEdges() {
+        // Given
+        UUID id = createFollowing("Alice", 20);
+        Person alice = personRepository.findById(id);
+        markFollowEdges(id);
+
+        // When
+        alice.setName("Alicia");
+        personRepository.update(alice);
+
+        // Then
+        assertEquals("Alicia", personRepository.findById(id).getName());
+        Map<String, Boolean> edges = followEdges(id);
+        assertEquals(20, edges.size());
+        assertTrue(edges.values().stream().allMatch(marked -> marked), "Unchanged edges must not be re-created");
+    }
+
+    @Test
+    void testRelationshipChangesAreWrittenAsDiff() {
+        // Given
+        UUID id = createFollowing("Alice", 3);
+        Person alice = personRepository.findById(id);
+        markFollowEdges(id);
+        Person removed = alice.getFollowing().get(0);
+        Person kept = alice.getFollowing().get(1);
+        Person added = new Person();
+        added.setId(UUID.randomUUID());
+        added.setName("Dave");
+
+        // When
+        List<Person> following = new ArrayList<>(alice.getFollowing());
+        following.remove(removed);
+        following.add(added);
+        alice.setFollowing(following);
+        personRepository.update(alice);
+
+        // Then
+        Map<String, Boolean> edges = followEdges(id);
+        assertEquals(3, edges.size());
+        assertFalse(edges.containsKey(removed.getId().toString()));
+        assertFalse(edges.get(added.getId().toString()));
+        assertTrue(edges.get(kept.getId().toString()), "A kept edge must not be re-created");
+    }
+
+    @Test
+    void testOnlyChangedPropertiesAreSent() {
+        // Given
+        UUID id = createFollowing("Alice", 1);
+        Person alice = personRepository.findById(id);
+        try (Session session = driver.session()) {
+            session.run("MATCH (p:Person {id: $id}) SET p.name = 'Changed elsewhere'",
+                    Map.of("id", id.toString())).consume();
+        }
+
+        // When
+        personRepository.update(alice);
+
+        // Then
+        assertEquals("Changed elsewhere", personRepository.findById(id).getName(),
+                "An unchanged property must not overwrite a concurrent write");
+    }
+
+    @Test
+    void testChangedNestedEntityIsWritten() {
+        // Given
+        UUID id = createFollowing("Alice", 2);
+        Person alice = personRepository.findById(id);
+        Person followed = alice.getFollowing().get(0);
+
+        // When
+        followed.setName("Renamed");
+        personRepository.update(alice);
+
+        // Then
+        assertEquals("Renamed", personRepository.findById(followed.getId()).getName());
+    }
+
+    @Test
+    void testMergeOfADeletedEntityCreatesItAgain() {
+        // Given
+        UUID id = createFollowing("Alice", 1);
+        Person alice = personRepository.findById(id);
+        try (Session session = driver.session()) {
+            session.run("MATCH (p:Person {id: $id}) DETACH DELETE p", Map.of("id", id.toString())).consume();
+        }
+
+        // When
+        personRepository.merge(alice);
+
+        // Then
+        assertEquals("Alice", personRepository.findById(id).getName());
+    }
+
+    @Test
+    void testMissingShadowPropertyIsWritten() {
+        // Given
+        UUID id = UUID.randomUUID();
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Car {id: $id, name: 'Golf'})", Map.of("id", id.toString())).consume();
+        }
+        Car car = carRepository.findById(id);
+
+        // When
+        carRepository.update(car);
+
+        // Then
+        try (Session session = driver.session()) {
+            assertEquals("golf", session.run("MATCH (c:Car {id: $id}) RETURN c.name_normalized AS name",
+                    Map.of("id", id.toString())).single().get("name").asString());
+        }
+    }
+
+    @Test
+    void testUpdatedInstanceIsTracked() {
+        // Given
+        UUID id = createFollowing("Alice", 1);
+        Person updated = personRepository.update(personRepository.findById(id));
+        try (Session session = driver.session()) {
+            session.run("MATCH (p:Person {id: $id}) SET p.name = 'Changed elsewhere'",
+                    Map.of("id", id.toString())).consume();
+        }
+
+        // When
+        personRepository.update(updated);
+
+        // Then
+        assertEquals("Changed elsewhere", personRepository.findById(id).getName(),
+                "The instance update returned must only send changed properties");
+        assertEquals(1, followEdges(id).size());
+    }
+
+    private UUID createFollowing(String name, int count) {
+        List<Person> following = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Person followed = new Person();
+            followed.setId(UUID.randomUUID());
+            followed.setName("Followed " + i);
+            following.add(followed);
+        }
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName(name);
+        person.setFollowing(following);
+        personRepository.create(person);
+        return person.getId();
+    }
+
+    private void markFollowEdges(UUID id) {
+        try (Session session = driver.session()) {
+            session.run("MATCH (:Person {id: $id})-[r:follows]->(:Person) SET r.marked = true",
+                    Map.of("id", id.toString())).consume();
+        }
+    }
+
+    /**
+     * @return per id of a followed person whether the edge still carries the marker
+     */
+    private Map<String, Boolean> followEdges(UUID id) {
+        try (Session session = driver.session()) {
+            return session.run("MATCH (:Person {id: $id})-[r:follows]->(p:Person) "
+                    + "RETURN p.id AS id, r.marked IS NOT NULL AS marked", Map.of("id", id.toString()))
+                    .list().stream()
+                    .collect(Collectors.toMap(r -> r.get("id").asString(), r -> r.get("marked").asBoolean()));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Country;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CountryBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.CountryBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.EntityCacheManager;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tx.TransactionManager;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class EntityCacheTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    CountryBaseRepository countryRepository;
+
+    @Inject
+    CountryBaseReactiveRepository reactiveCountryRepository;
+
+    @Inject
+    EntityCacheManager cacheManager;
+
+    @Inject
+    TransactionManager txManager;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+        cacheManager.invalidateAll();
+    }
+
+    @Test
+    void testFindByIdIsServedFromCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+        renameBehindTheRepository(country.getId(), "Deutschland");
+
+        // When
+        Country found = countryRepository.findById(country.getId());
+
+        // Then
+        assertEquals("Germany", found.getName());
+    }
+
+    @Test
+    void testCachedEntityIsNotShared() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        Country first = countryRepository.findById(country.getId());
+        first.setName("Changed without saving");
+
+        // When
+        Country second = countryRepository.findById(country.getId());
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("Germany", second.getName());
+    }
+
+    @Test
+    void testTransactionBypassesCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+        renameBehindTheRepository(country.getId(), "Deutschland");
+
+        // When
+        txManager.getOrCreateTransaction();
+        Country found;
+        try {
+            found = countryRepository.findById(country.getId());
+        } finally {
+            txManager.rollbackAndClose();
+        }
+
+        // Then
+        assertEquals("Deutschland", found.getName());
+    }
+
+    @Test
+    void testTransactionalWriteInvalidatesCacheOnCommit() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+        country.setName("Deutschland");
+
+        // When
+        txManager.getOrCreateTransaction();
+        try {
+            countryRepository.update(country);
+            txManager.commitAndClose();
+        } catch (RuntimeException e) {
+            txManager.rollbackAndClose();
+            throw e;
+        }
+
+        // Then
+        assertEquals("Deutschland", countryRepository.findById(country.getId()).getName());
+    }
+
+    @Test
+    void testUpdateInvalidatesCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+        country.setName("Deutschland");
+
+        // When
+        countryRepository.update(country);
+
+        // Then
+        assertEquals("Deutschland", countryRepository.findById(country.getId()).getName());
+    }
+
+    @Test
+    void testDeleteInvalidatesCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+
+        // When
+        countryRepository.deleteById(country.getId());
+
+        // Then
+        assertTrue(countryRepository.findByIdOptional(country.getId()).isEmpty());
+    }
+
+    @Test
+    void testRawWriteInvalidatesCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+
+        // When
+        countryRepository.execute("MATCH (c:Country {id: $id}) SET c.name = 'Deutschland'",
+                Map.of("id", country.getId().toString()));
+
+        // Then
+        assertEquals("Deutschland", countryRepository.findById(country.getId()).getName());
+    }
+
+    @Test
+    void testBulkMergeInvalidatesCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        countryRepository.findById(country.getId());
+        country.setName("Deutschland");
+
+        // When
+        countryRepository.bulkWriter().merge().write(List.of(country));
+
+        // Then
+        assertEquals("Deutschland", countryRepository.findById(country.getId()).getName());
+    }
+
+    @Test
+    void testReactiveFindByIdIsServedFromCache() {
+        // Given
+        Country country = countryRepository.create(country("Germany"));
+        reactiveCountryRepository.findById(country.getId()).await().indefinitely();
+        renameBehindTheRepository(country.getId(), "Deutschland");
+
+        // When
+        Country found = reactiveCountryRepository.findById(country.getId()).await().indefinitely();
+
+        // Then
+        assertEquals("Germany", found.getName());
+    }
+
+    private void renameBehindTheRepository(UUID id, String name) {
+        try (Session session = driver.session()) {
+            session.run("MATCH (c:Country {id: $id}) SET c.name = $name",
+                    Map.of("id", id.toString(), "name", name)).consume();
+        }
+    }
+
+    private static Country country(String name) {
+        Country country = new Country();
+        country.setName(name);
+        return country;
+    }
+}
@@ -0,0 +1,132 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Filter;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetPageable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetPaged;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Sort;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Sortable;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class KeysetPaginationTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @BeforeEach
+    void setup() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+            // Duplicate names force the id tie-breaker to keep the order total
+            session.run("""
+                    UNWIND range(1, 25) AS i
+                    CREATE (:Person {id: randomUUID(), name: 'Person ' + right('0' + toString((i + 1) / 2), 2)})
+                    """);
+        }
+    }
+
+    @Test
+    void testWalkAllPagesAscending() {
+        // Given
+        Sortable sortable = Sortable.by(Sort.asc("name"));
+
+        // When
+        List<Person> seen = new ArrayList<>();
+        KeysetPaged<Person> page = personRepository.findAllKeyset(KeysetPageable.first(10), sortable);
+        seen.addAll(page.content());
+        while (page.hasNext()) {
+            page = personRepository.findAllKeyset(KeysetPageable.after(page.nextCursor(), 10), sortable);
+            seen.addAll(page.content());
+        }
+
+        // Then
+        assertEquals(25, seen.size());
+        assertEquals(25, seen.stream().map(Person::getId).distinct().count());
+        assertNull(page.nextCursor());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getName().compareTo(seen.get(i).getName()) <= 0);
+        }
+    }
+
+    @Test
+    void testDescendingOrderAndLastPage() {
+        // Given
+        Sortable sortable = Sortable.by(Sort.desc("name"));
+
+        // When
+        KeysetPaged<Person> first = personRepository.findAllKeyset(KeysetPageable.first(20), sortable);
+        KeysetPaged<Person> second = personRepository.findAllKeyset(
+                KeysetPageable.after(first.nextCursor(), 20), sortable);
+
+        // Then
+        assertEquals(20, first.content().size());
+        assertTrue(first.hasNext());
+        assertEquals("Person 13", first.content().getFirst().getName());
+        assertEquals(5, second.content().size());
+        assertFalse(second.hasNext());
+        assertEquals("Person 01", second.content().getLast().getName());
+    }
+
+    @Test
+    void testQueryKeysetWithFilter() {
+        // Given
+        Filter filter = Filter.by("name", Filter.Operator.STARTS_WITH, "Person 0");
+
+        // When
+        KeysetPaged<Person> page = personRepository.queryKeyset("MATCH (n:Person)", filter,
+                KeysetPageable.first(100), Sortable.by(Sort.asc("name")));
+
+        // Then
+        assertEquals(18, page.content().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> personRepository.findAllKeyset(KeysetPageable.after("not-a-cursor", 10), null));
+    }
+
+    @Test
+    void testReactiveKeysetMatchesBlocking() {
+        // Given
+        Sortable sortable = Sortable.by(Sort.asc("name"));
+        KeysetPaged<Person> blocking = personRepository.findAllKeyset(KeysetPageable.first(10), sortable);
+
+        // When
+        KeysetPaged<Person> reactive = reactivePersonRepository.findAllKeyset(KeysetPageable.first(10), sortable)
+                .await().indefinitely();
+        KeysetPaged<Person> reactiveNext = reactivePersonRepository.queryKeyset("MATCH (n:Person)", null, Map.of(),
+                KeysetPageable.after(reactive.nextCursor(), 10), sortable)
+                .await().indefinitely();
+
+        // Then
+        assertEquals(blocking.content().stream().map(Person::getId).toList(),
+                reactive.content().stream().map(Person::getId).toList());
+        assertEquals(blocking.nextCursor(), reactive.nextCursor());
+        assertEquals(10, reactiveNext.content().size());
+        assertTrue(reactiveNext.content().getFirst().getName().compareTo(reactive.content().getLast().getName()) >= 0);
+    }
+}
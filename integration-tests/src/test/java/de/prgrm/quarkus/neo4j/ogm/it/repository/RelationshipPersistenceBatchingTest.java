@@ -0,0 +1,104 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class RelationshipPersistenceBatchingTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonBaseReactiveRepository reactivePersonRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testCreatePersistsManyNestedTargets() {
+        // Given
+        Person root = person("Root");
+        List<Person> following = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            following.add(person("Followed " + i));
+        }
+        root.setFollowing(following);
+
+        // When
+        Person saved = personRepository.create(root);
+
+        // Then
+        assertEquals(201, personRepository.count());
+        assertEquals(200, countFollows(saved.getId().toString()));
+    }
+
+    @Test
+    void testUpdateReplacesEdgesAndKeepsSharedTargetsOnce() {
+        // Given
+        Person shared = person("Shared");
+        Person alice = person("Alice");
+        Person bob = person("Bob");
+        bob.setFollowing(List.of(shared));
+        alice.setFollowing(List.of(bob, shared));
+        alice = personRepository.create(alice);
+
+        // When
+        alice.setFollowing(List.of(shared));
+        personRepository.update(alice);
+
+        // Then
+        assertEquals(3, personRepository.count());
+        assertEquals(1, countFollows(alice.getId().toString()));
+        assertEquals(1, countFollows(bob.getId().toString()));
+    }
+
+    @Test
+    void testReactiveCreatePersistsNestedTargets() {
+        // Given
+        Person root = person("Reactive Root");
+        root.setFollowing(List.of(person("A"), person("B"), person("C")));
+
+        // When
+        Person saved = reactivePersonRepository.create(root).await().indefinitely();
+
+        // Then
+        assertEquals(4, personRepository.count());
+        assertEquals(3, countFollows(saved.getId().toString()));
+    }
+
+    private Person person(String name) {
+        Person person = new Person();
+        person.setName(name);
+        return person;
+    }
+
+    private long countFollows(String personId) {
+        try (Session session = driver.session()) {
+            return session.run("MATCH (:Person {id: $id})-[r:follows]->(:Person) RETURN count(r) AS c",
+                    Map.of("id", personId)).single().get("c").asLong();
+        }
+    }
+}
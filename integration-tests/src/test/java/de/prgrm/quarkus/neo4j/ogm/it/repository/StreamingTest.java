@@ -0,0 +1,105 @@
+package de.prgrm.quarkus.neo4j.ogm.it.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Author;
+import de.prgrm.quarkus.neo4j.ogm.it.model.AuthorBaseRepository;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class StreamingTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    AuthorBaseRepository authorRepository;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    void testStreamAllMapsEveryEntityWithRelations() {
+        // Given: more authors than fit into a single chunk
+        try (Session session = driver.session()) {
+            session.run("""
+                    UNWIND range(1, 250) AS i
+                    CREATE (a:Author {id: randomUUID(), name: 'Author ' + i})
+                    CREATE (a)-[:WROTE]->(:Book {id: randomUUID(), title: 'Book ' + i})
+                    """);
+        }
+
+        // When
+        List<Author> authors;
+        try (Stream<Author> stream = authorRepository.streamAll()) {
+            authors = stream.toList();
+        }
+
+        // Then
+        assertEquals(250, authors.size());
+        authors.forEach(a -> assertEquals(1, a.getBooks().size()));
+    }
+
+    @Test
+    void testStreamQueryIsLazyAndCanBeClosedEarly() {
+        // Given
+        try (Session session = driver.session()) {
+            session.run("UNWIND range(1, 50) AS i CREATE (:Author {id: randomUUID(), name: 'Author ' + i})");
+        }
+
+        // When
+        List<Author> firstThree;
+        try (Stream<Author> stream = authorRepository.streamQuery(
+                "MATCH (n:Author) RETURN n AS node ORDER BY n.name", Map.of())) {
+            firstThree = stream.limit(3).toList();
+        }
+
+        // Then: the session was released and the repository is still usable
+        assertEquals(3, firstThree.size());
+        assertEquals("Author 1", firstThree.getFirst().getName());
+        assertEquals(50, authorRepository.count());
+    }
+
+    @Test
+    void testStreamAllOnEmptyDatabase() {
+        // When
+        try (Stream<Author> stream = authorRepository.streamAll()) {
+            // Then
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    void testStreamQueryWithParameters() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        try (Session session = driver.session()) {
+            session.run("CREATE (:Author {id: $id, name: 'Streamed'})", Map.of("id", id));
+        }
+
+        // When
+        try (Stream<Author> stream = authorRepository.streamQuery(
+                "MATCH (n:Author {id: $id}) RETURN n AS node", Map.of("id", id))) {
+            // Then
+            List<Author> authors = stream.toList();
+            assertEquals(1, authors.size());
+            assertEquals("Streamed", authors.getFirst().getName());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package de.prgrm.quarkus.neo4j.ogm.it.schema;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.schema.SchemaIndex;
+import de.prgrm.quarkus.neo4j.ogm.runtime.schema.SchemaSynchronizer;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(SchemaSynchronizationTest.UpdateProfile.class)
+class SchemaSynchronizationTest {
+
+    public static class UpdateProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.neo4j-ogm.schema.action", "update");
+        }
+    }
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    SchemaSynchronizer synchronizer;
+
+    @BeforeEach
+    void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @AfterEach
+    void dropSchema() {
+        // Other test classes share the database
+        try (Session session = driver.session()) {
+            for (SchemaIndex index : synchronizer.required()) {
+                session.run((index.unique() ? "DROP CONSTRAINT " : "DROP INDEX ") + index.name() + " IF EXISTS")
+                        .consume();
+            }
+        }
+    }
+
+    @Test
+    void testRequiredSchemaCoversIdsAndAnnotatedProperties() {
+        // When
+        var required = synchronizer.required();
+
+        // Then
+        assertTrue(required.contains(SchemaIndex.unique("Person", "id")));
+        assertTrue(required.contains(SchemaIndex.index("Person", "name")));
+        assertTrue(required.contains(SchemaIndex.unique("Address", "id")));
+    }
+
+    @Test
+    void testUpdateCreatesMissingConstraintsAndIndexes() {
+        // Given
+        synchronizer.synchronize();
+
+        // When
+        List<SchemaIndex> missing = synchronizer.missing();
+
+        // Then
+        assertTrue(missing.isEmpty(), () -> "Still missing: " + missing);
+        try (Session session = driver.session()) {
+            assertEquals(1, session.run("SHOW CONSTRAINTS YIELD name WHERE name = 'Person_id_unique' RETURN name")
+                    .list().size());
+            assertEquals(1, session.run("SHOW INDEXES YIELD name WHERE name = 'Person_name_index' RETURN name")
+                    .list().size());
+        }
+    }
+
+    @Test
+    void testDroppedIndexIsReportedMissing() {
+        // Given
+        synchronizer.synchronize();
+        try (Session session = driver.session()) {
+            session.run("DROP INDEX Person_name_index IF EXISTS").consume();
+        }
+
+        // When
+        List<SchemaIndex> missing = synchronizer.missing();
+
+        // Then
+        assertEquals(List.of(SchemaIndex.index("Person", "name")), missing);
+    }
+
+    @Test
+    void testSynchronizeIsIdempotent() {
+        // Given
+        synchronizer.synchronize();
+
+        // When
+        List<SchemaIndex> created = synchronizer.synchronize();
+
+        // Then
+        assertTrue(created.isEmpty());
+    }
+}
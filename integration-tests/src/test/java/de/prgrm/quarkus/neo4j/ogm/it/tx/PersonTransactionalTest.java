@@ -76,4 +76,24 @@ public class PersonTransactionalTest {
 
         assertTrue(personRepository.existsById(saved.getId().toString()));
     }
+
+    @Test
+    @Order(4)
+    void testReadOnlyTransactionAllowsReads() {
+        long expected = personRepository.count();
+
+        assertEquals(expected, txService.countReadOnly());
+    }
+
+    @Test
+    @Order(5)
+    void testReadOnlyTransactionRejectsWrites() {
+        long beforeCount = personRepository.count();
+
+        Person f = new Person();
+        f.setName("TxFrank");
+
+        assertThrows(RuntimeException.class, () -> txService.createReadOnly(f));
+        assertEquals(beforeCount, personRepository.count(), "Writes must not run in a read-only transaction");
+    }
 }
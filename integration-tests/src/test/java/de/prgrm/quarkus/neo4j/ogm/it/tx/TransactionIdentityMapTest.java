@@ -0,0 +1,101 @@
+package de.prgrm.quarkus.neo4j.ogm.it.tx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Person;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.service.PersonService;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+public class TransactionIdentityMapTest {
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    PersonService txService;
+
+    @BeforeEach
+    public void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    public void testRepeatedFindByIdReturnsSameInstance() {
+        // Given
+        Person alice = personRepository.create(person("Alice"));
+
+        // When
+        List<Person> found = txService.findByIdTwice(alice.getId());
+
+        // Then
+        assertSame(found.get(0), found.get(1));
+    }
+
+    @Test
+    public void testRelationLoadReusesLoadedInstance() {
+        // Given
+        Person bob = personRepository.create(person("Bob"));
+        Person alice = person("Alice");
+        alice.setFollowing(List.of(bob));
+        alice = personRepository.create(alice);
+
+        // When
+        List<Person> found = txService.findByIdThenFollower(bob.getId(), alice.getId());
+
+        // Then
+        Person loadedBob = found.get(0);
+        Person loadedAlice = found.get(1);
+        assertEquals(1, loadedAlice.getFollowing().size());
+        assertSame(loadedBob, loadedAlice.getFollowing().getFirst());
+    }
+
+    @Test
+    public void testWriteClearsIdentityMap() {
+        // Given
+        Person alice = personRepository.create(person("Alice"));
+
+        // When
+        List<Person> found = txService.findUpdateAndFindAgain(alice.getId(), "Alice Updated");
+
+        // Then
+        assertNotSame(found.get(0), found.get(1));
+        assertEquals("Alice Updated", found.get(1).getName());
+    }
+
+    @Test
+    public void testNoIdentityOutsideTransaction() {
+        // Given
+        Person alice = personRepository.create(person("Alice"));
+
+        // When
+        Person first = personRepository.findById(alice.getId());
+        Person second = personRepository.findById(alice.getId());
+
+        // Then
+        assertNotSame(first, second);
+    }
+
+    private static Person person(String name) {
+        Person person = new Person();
+        person.setId(UUID.randomUUID());
+        person.setName(name);
+        return person;
+    }
+}
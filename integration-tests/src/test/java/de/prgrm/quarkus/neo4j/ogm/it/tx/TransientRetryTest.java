@@ -0,0 +1,134 @@
+package de.prgrm.quarkus.neo4j.ogm.it.tx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.it.model.Application;
+import de.prgrm.quarkus.neo4j.ogm.it.model.ApplicationBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.ApplicationRole;
+import de.prgrm.quarkus.neo4j.ogm.it.model.ApplicationRoleConverter;
+import de.prgrm.quarkus.neo4j.ogm.it.model.PersonBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.it.model.UserApplication;
+import de.prgrm.quarkus.neo4j.ogm.it.model.UserApplicationBaseRepository;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.RepositoryException;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(TransientRetryTest.RetryProfile.class)
+public class TransientRetryTest {
+
+    public static class RetryProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    "quarkus.neo4j-ogm.retry.enabled", "true",
+                    "quarkus.neo4j-ogm.retry.max-attempts", "5",
+                    "quarkus.neo4j-ogm.retry.initial-backoff", "2s",
+                    "quarkus.neo4j-ogm.retry.max-backoff", "2s");
+        }
+    }
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    PersonBaseRepository personRepository;
+
+    @Inject
+    ApplicationBaseRepository applicationRepository;
+
+    @Inject
+    UserApplicationBaseRepository userApplicationRepository;
+
+    @BeforeEach
+    public void clearDatabase() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n");
+        }
+    }
+
+    @Test
+    public void testConcurrentWritesOnSameNodesSucceed() throws Exception {
+        // Given
+        personRepository.execute("CREATE (:Counter {id: 'a', value: 0}), (:Counter {id: 'b', value: 0})", Map.of());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 40; i++) {
+                // Alternating lock order provokes deadlocks, which are transient and replayed
+                String first = i % 2 == 0 ? "a" : "b";
+                String second = i % 2 == 0 ? "b" : "a";
+                futures.add(executor.submit(() -> personRepository.execute("""
+                        MATCH (x:Counter {id: $first}) SET x.value = x.value + 1
+                        WITH x MATCH (y:Counter {id: $second}) SET y.value = y.value + 1
+                        """, Map.of("first", first, "second", second))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        try (Session session = driver.session()) {
+            long total = session.run("MATCH (c:Counter) RETURN sum(c.value) AS total").single().get("total").asLong();
+            assertEquals(80, total);
+        }
+    }
+
+    @Test
+    public void testReplayedReadLoadsTheWholeGraph() {
+        // Given
+        Application app = new Application();
+        app.setName("App");
+        app.setDiscriminator("WEB");
+        UserApplication userApp = new UserApplication();
+        userApp.setApplication(applicationRepository.create(app));
+        userApp.setRole(new ApplicationRole("ADMIN", "WEB"));
+        userApp = userApplicationRepository.create(userApp);
+
+        // When: the first attempt fails after the relationships were loaded, the driver replays it
+        ApplicationRoleConverter.TRANSIENT_FAILURES.set(1);
+        UserApplication loaded;
+        try {
+            loaded = userApplicationRepository.findById(userApp.getId());
+        } finally {
+            ApplicationRoleConverter.TRANSIENT_FAILURES.set(0);
+        }
+
+        // Then
+        assertNotNull(loaded.getApplication(), "The replay must load the relationships again");
+        assertEquals("ADMIN_WEB", loaded.getRole().getFullRole());
+    }
+
+    @Test
+    public void testNonTransientFailureIsNotRetried() {
+        // Given
+        long start = System.nanoTime();
+
+        // When
+        assertThrows(RepositoryException.class, () -> personRepository.execute("INVALID CYPHER", Map.of()));
+
+        // Then
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 2_000, "A syntax error must fail without waiting for a backoff");
+    }
+}
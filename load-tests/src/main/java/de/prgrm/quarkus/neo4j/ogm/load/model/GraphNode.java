@@ -0,0 +1,50 @@
+package de.prgrm.quarkus.neo4j.ogm.load.model;
+
+import java.util.List;
+import java.util.UUID;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
+
+/**
+ * Node of the seeded load-test graphs: fan-outs, chains and cycles are all built from {@code LINKS}
+ * relationships between graph nodes.
+ */
+@NodeEntity(label = "GraphNode")
+@GenerateRepository(GenerateRepository.RepositoryType.BOTH)
+public class GraphNode {
+
+    @NodeId
+    @GeneratedValue(strategy = GeneratedValue.Strategy.UUID)
+    private UUID id;
+
+    @Property(name = "name")
+    private String name;
+
+    @Relationship(type = "LINKS", direction = Direction.OUTGOING)
+    private List<GraphNode> links;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<GraphNode> getLinks() {
+        return links;
+    }
+
+    public void setLinks(List<GraphNode> links) {
+        this.links = links;
+    }
+}
@@ -0,0 +1,31 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+
+/**
+ * Replaces the driver of the application with one that counts round-trips, see {@link RoundTrips}.
+ */
+@Singleton
+public class CountingDriverProducer {
+
+    @Produces
+    @Singleton
+    @Alternative
+    @Priority(1)
+    Driver countingDriver(@ConfigProperty(name = "quarkus.neo4j.uri") String uri) {
+        return RoundTrips.counting(GraphDatabase.driver(uri, AuthTokens.none()));
+    }
+
+    void close(@Disposes Driver driver) {
+        driver.close();
+    }
+}
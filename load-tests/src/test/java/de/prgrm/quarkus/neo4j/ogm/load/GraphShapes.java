@@ -0,0 +1,91 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+
+/**
+ * Seeds the graph shapes the load scenarios run against, all made of {@code GraphNode} nodes linked
+ * by outgoing {@code LINKS} relationships:
+ * <ul>
+ * <li>fan-out: one root linked to {@code width} leaves</li>
+ * <li>chain: {@code depth} nodes, each linked to the next one</li>
+ * <li>cycle: a chain of {@code size} nodes whose last node links back to the first one</li>
+ * </ul>
+ */
+final class GraphShapes {
+
+    private final Driver driver;
+
+    GraphShapes(Driver driver) {
+        this.driver = driver;
+    }
+
+    void clear() {
+        try (Session session = driver.session()) {
+            session.run("MATCH (n) DETACH DELETE n").consume();
+            session.run("CREATE INDEX graph_node_id IF NOT EXISTS FOR (n:GraphNode) ON (n.id)").consume();
+        }
+    }
+
+    /**
+     * @return the id of the root
+     */
+    UUID fanOut(int width) {
+        List<String> ids = ids(width + 1);
+        try (Session session = driver.session()) {
+            session.executeWriteWithoutResult(tx -> tx.run("""
+                    CREATE (root:GraphNode {id: $ids[0], name: 'fan-out-root'})
+                    WITH root
+                    UNWIND range(1, size($ids) - 1) AS i
+                    CREATE (root)-[:LINKS]->(:GraphNode {id: $ids[i], name: 'fan-out-' + i})
+                    """, Map.of("ids", ids)).consume());
+        }
+        return UUID.fromString(ids.get(0));
+    }
+
+    /**
+     * @return the id of the first node
+     */
+    UUID chain(int depth) {
+        return linked("chain", ids(depth), false);
+    }
+
+    /**
+     * @return the id of the first node
+     */
+    UUID cycle(int size) {
+        return linked("cycle", ids(size), true);
+    }
+
+    private UUID linked(String name, List<String> ids, boolean closed) {
+        try (Session session = driver.session()) {
+            session.executeWriteWithoutResult(tx -> {
+                tx.run("""
+                        UNWIND range(0, size($ids) - 1) AS i
+                        CREATE (:GraphNode {id: $ids[i], name: $name + '-' + i})
+                        """, Map.of("ids", ids, "name", name)).consume();
+                tx.run("""
+                        UNWIND range(0, size($ids) - 2) AS i
+                        MATCH (a:GraphNode {id: $ids[i]}), (b:GraphNode {id: $ids[i + 1]})
+                        CREATE (a)-[:LINKS]->(b)
+                        """, Map.of("ids", ids)).consume();
+                if (closed) {
+                    tx.run("""
+                            MATCH (a:GraphNode {id: $ids[size($ids) - 1]}), (b:GraphNode {id: $ids[0]})
+                            CREATE (a)-[:LINKS]->(b)
+                            """, Map.of("ids", ids)).consume();
+                }
+            });
+        }
+        return UUID.fromString(ids.get(0));
+    }
+
+    private static List<String> ids(int count) {
+        return Stream.generate(() -> UUID.randomUUID().toString()).limit(count).toList();
+    }
+}
@@ -0,0 +1,34 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import java.util.Map;
+
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+
+import io.quarkus.test.common.QuarkusTestResourceLifecycleManager;
+
+/**
+ * Starts Neo4j inside the test JVM via neo4j-harness: no container and no HTTP server, only Bolt on the
+ * loopback interface, so results do not depend on Docker or network conditions.
+ */
+public class InProcessNeo4jResource implements QuarkusTestResourceLifecycleManager {
+
+    private Neo4j neo4j;
+
+    @Override
+    public Map<String, String> start() {
+        neo4j = Neo4jBuilders.newInProcessBuilder()
+                .withDisabledServer()
+                .build();
+        return Map.of(
+                "quarkus.neo4j.uri", neo4j.boltURI().toString(),
+                "quarkus.neo4j.authentication.disabled", "true");
+    }
+
+    @Override
+    public void stop() {
+        if (neo4j != null) {
+            neo4j.close();
+        }
+    }
+}
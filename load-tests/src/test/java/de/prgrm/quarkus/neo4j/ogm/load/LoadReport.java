@@ -0,0 +1,64 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects scenario results and writes them as JSON, one object per scenario.
+ */
+final class LoadReport {
+
+    private final Map<String, Object> settings = new LinkedHashMap<>();
+    private final List<LoadRunner.Result> results = new ArrayList<>();
+
+    LoadReport setting(String name, Object value) {
+        settings.put(name, value);
+        return this;
+    }
+
+    synchronized void add(LoadRunner.Result result) {
+        results.add(result);
+    }
+
+    synchronized void write(Path path) {
+        StringBuilder json = new StringBuilder("{\n  \"settings\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Object> setting : settings.entrySet()) {
+            Object value = setting.getValue();
+            json.append(separator).append("    ").append(quote(setting.getKey())).append(": ")
+                    .append(value instanceof Number ? value : quote(String.valueOf(value)));
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"scenarios\": [");
+        separator = "\n";
+        for (LoadRunner.Result result : results) {
+            json.append(separator).append(String.format(Locale.ROOT,
+                    "    {\"scenario\": %s, \"threads\": %d, \"operations\": %d, \"throughputPerSecond\": %.2f, "
+                            + "\"p50Millis\": %.3f, \"p99Millis\": %.3f, \"roundTripsPerOperation\": %.2f}",
+                    quote(result.scenario()), result.threads(), result.operations(), result.throughput(),
+                    result.p50Millis(), result.p99Millis(), result.roundTrips()));
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load report to " + path, e);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
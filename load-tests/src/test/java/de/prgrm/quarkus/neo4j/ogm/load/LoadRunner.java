@@ -0,0 +1,90 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs an operation a fixed number of times from concurrent virtual threads and measures latency,
+ * throughput and round-trips per operation.
+ */
+final class LoadRunner {
+
+    /**
+     * Measurements of a single scenario.
+     *
+     * @param throughput operations per second
+     * @param p50Millis median latency in milliseconds
+     * @param p99Millis 99th percentile latency in milliseconds
+     * @param roundTrips statements sent to the database per operation
+     */
+    record Result(String scenario, int threads, int operations, double throughput, double p50Millis,
+            double p99Millis, double roundTrips) {
+    }
+
+    private final int threads;
+    private final int operations;
+
+    LoadRunner(int threads, int operations) {
+        this.threads = threads;
+        this.operations = operations;
+    }
+
+    Result run(String scenario, Callable<?> operation) {
+        // Warm up JIT, connection pool and page cache before measuring
+        execute(scenario, Math.max(1, operations / 10), operation);
+
+        long roundTripsBefore = RoundTrips.count();
+        long start = System.nanoTime();
+        long[] latencies = execute(scenario, operations, operation);
+        long elapsed = System.nanoTime() - start;
+        long roundTrips = RoundTrips.count() - roundTripsBefore;
+
+        Arrays.sort(latencies);
+        return new Result(scenario, threads, operations,
+                operations / (elapsed / 1_000_000_000d),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                (double) roundTrips / operations);
+    }
+
+    private long[] execute(String scenario, int count, Callable<?> operation) {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    int i;
+                    while (failure.get() == null && (i = next.getAndIncrement()) < count) {
+                        long opStart = System.nanoTime();
+                        try {
+                            operation.call();
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                            return;
+                        }
+                        latencies[i] = System.nanoTime() - opStart;
+                    }
+                });
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("Scenario " + scenario + " failed", failure.get());
+        }
+        return latencies;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted latencies, in milliseconds.
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000d;
+    }
+}
@@ -0,0 +1,208 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.neo4j.driver.Driver;
+
+import de.prgrm.quarkus.neo4j.ogm.load.model.GraphNode;
+import de.prgrm.quarkus.neo4j.ogm.load.model.GraphNodeBaseReactiveRepository;
+import de.prgrm.quarkus.neo4j.ogm.load.model.GraphNodeBaseRepository;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Drives repository operations against seeded graph shapes and writes a JSON report with p50/p99
+ * latency, throughput and round-trips per operation. Sizes are taken from the {@code load.*} system
+ * properties configured in the pom.
+ */
+@QuarkusTest
+@QuarkusTestResource(InProcessNeo4jResource.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class RepositoryLoadTest {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+    private static final int OPERATIONS = Integer.getInteger("load.operations", 2_000);
+    private static final int FAN_OUT = Integer.getInteger("load.fan-out", 200);
+    private static final int DEPTH = Integer.getInteger("load.depth", 50);
+    private static final int CYCLE = Integer.getInteger("load.cycle", 100);
+    private static final int BATCH = 100;
+
+    @Inject
+    Driver driver;
+
+    @Inject
+    GraphNodeBaseRepository repository;
+
+    @Inject
+    GraphNodeBaseReactiveRepository reactiveRepository;
+
+    private final LoadRunner runner = new LoadRunner(THREADS, OPERATIONS);
+    private final LoadReport report = new LoadReport()
+            .setting("threads", THREADS)
+            .setting("operations", OPERATIONS)
+            .setting("fanOut", FAN_OUT)
+            .setting("depth", DEPTH)
+            .setting("cycle", CYCLE)
+            .setting("batchSize", BATCH);
+
+    private UUID fanOutRoot;
+    private UUID chainHead;
+    private UUID cycleStart;
+
+    @BeforeAll
+    void seed() {
+        GraphShapes shapes = new GraphShapes(driver);
+        shapes.clear();
+        fanOutRoot = shapes.fanOut(FAN_OUT);
+        chainHead = shapes.chain(DEPTH);
+        cycleStart = shapes.cycle(CYCLE);
+    }
+
+    @AfterAll
+    void writeReport() {
+        report.write(Path.of(System.getProperty("load.report", "target/load-report.json")));
+    }
+
+    @Test
+    @Order(1)
+    void findByIdFanOut() {
+        // Given
+        assertEquals(FAN_OUT, repository.findById(fanOutRoot).getLinks().size());
+
+        // When / Then
+        report.add(runner.run("findById fan-out", () -> repository.findById(fanOutRoot)));
+    }
+
+    @Test
+    @Order(2)
+    void findByIdFanOutReactive() {
+        // Given
+        assertNotNull(reactiveRepository.findById(fanOutRoot).await().indefinitely());
+
+        // When / Then
+        report.add(runner.run("findById fan-out (reactive)",
+                () -> reactiveRepository.findById(fanOutRoot).await().indefinitely()));
+    }
+
+    @Test
+    @Order(3)
+    void findByIdChain() {
+        // Given
+        assertNotNull(repository.findById(chainHead));
+
+        // When / Then
+        report.add(runner.run("findById chain", () -> repository.findById(chainHead)));
+    }
+
+    @Test
+    @Order(4)
+    void findByIdChainReactive() {
+        // Given
+        assertNotNull(reactiveRepository.findById(chainHead).await().indefinitely());
+
+        // When / Then
+        report.add(runner.run("findById chain (reactive)",
+                () -> reactiveRepository.findById(chainHead).await().indefinitely()));
+    }
+
+    @Test
+    @Order(5)
+    void findByIdCycle() {
+        // Given
+        assertNotNull(repository.findById(cycleStart));
+
+        // When / Then
+        report.add(runner.run("findById cycle", () -> repository.findById(cycleStart)));
+    }
+
+    @Test
+    @Order(6)
+    void findByIdCycleReactive() {
+        // Given
+        assertNotNull(reactiveRepository.findById(cycleStart).await().indefinitely());
+
+        // When / Then
+        report.add(runner.run("findById cycle (reactive)",
+                () -> reactiveRepository.findById(cycleStart).await().indefinitely()));
+    }
+
+    @Test
+    @Order(7)
+    void create() {
+        // Given
+        long before = repository.count();
+
+        // When
+        report.add(runner.run("create", () -> repository.create(node("created"))));
+
+        // Then
+        assertTrue(repository.count() > before);
+    }
+
+    @Test
+    @Order(8)
+    void createReactive() {
+        // Given
+        long before = repository.count();
+
+        // When
+        report.add(runner.run("create (reactive)",
+                () -> reactiveRepository.create(node("created")).await().indefinitely()));
+
+        // Then
+        assertTrue(repository.count() > before);
+    }
+
+    @Test
+    @Order(9)
+    void createAllBatch() {
+        // Given
+        long before = repository.count();
+
+        // When
+        report.add(runner.run("createAllBatch x" + BATCH, () -> repository.createAllBatch(batch())));
+
+        // Then
+        assertTrue(repository.count() > before);
+    }
+
+    @Test
+    @Order(10)
+    void createAllBatchReactive() {
+        // Given
+        long before = repository.count();
+
+        // When
+        report.add(runner.run("createAllBatch x" + BATCH + " (reactive)",
+                () -> reactiveRepository.createAllBatch(batch()).await().indefinitely()));
+
+        // Then
+        assertTrue(repository.count() > before);
+    }
+
+    private static List<GraphNode> batch() {
+        return IntStream.range(0, BATCH).mapToObj(i -> node("batch-" + i)).toList();
+    }
+
+    private static GraphNode node(String name) {
+        GraphNode node = new GraphNode();
+        node.setId(UUID.randomUUID());
+        node.setName(name);
+        return node;
+    }
+}
@@ -0,0 +1,111 @@
+package de.prgrm.quarkus.neo4j.ogm.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.Driver;
+
+/**
+ * Counts the Cypher statements sent through a driver. The driver, its sessions, transactions and the
+ * transaction contexts handed to {@code executeRead}/{@code executeWrite} callbacks are wrapped in
+ * dynamic proxies that count every {@code run} call, for blocking and reactive sessions alike.
+ */
+final class RoundTrips {
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    private static final Set<String> WRAPPED_TYPES = Set.of(
+            "BaseSession", "Session", "Transaction", "TransactionContext", "QueryRunner", "SimpleQueryRunner",
+            "ReactiveSession", "ReactiveTransaction", "ReactiveTransactionContext", "ReactiveQueryRunner",
+            "AsyncSession", "AsyncTransaction", "AsyncTransactionContext", "AsyncQueryRunner");
+
+    private RoundTrips() {
+    }
+
+    /**
+     * @return the number of statements run since the JVM started
+     */
+    static long count() {
+        return STATEMENTS.get();
+    }
+
+    static Driver counting(Driver driver) {
+        return (Driver) wrap(driver);
+    }
+
+    private static Object wrap(Object target) {
+        Class<?>[] interfaces = driverInterfaces(target.getClass());
+        if (interfaces.length == 0) {
+            return target;
+        }
+        return Proxy.newProxyInstance(RoundTrips.class.getClassLoader(), interfaces, (proxy, method, args) -> {
+            if ("run".equals(method.getName())) {
+                STATEMENTS.incrementAndGet();
+            }
+            Object result = invoke(target, method, wrapCallbacks(method, args));
+            return result != null && isWrapped(method.getReturnType()) ? wrap(result) : result;
+        });
+    }
+
+    /**
+     * Wraps transaction callbacks so the transaction context they receive counts its statements.
+     */
+    private static Object[] wrapCallbacks(Method method, Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Class<?>[] types = method.getParameterTypes();
+        Object[] wrapped = args.clone();
+        for (int i = 0; i < args.length; i++) {
+            Class<?> type = types[i];
+            if (args[i] != null && type.isInterface() && type.getSimpleName().endsWith("TransactionCallback")) {
+                Object callback = args[i];
+                wrapped[i] = Proxy.newProxyInstance(RoundTrips.class.getClassLoader(), new Class<?>[] { type },
+                        (proxy, m, callbackArgs) -> {
+                            if (callbackArgs != null) {
+                                callbackArgs = callbackArgs.clone();
+                                for (int j = 0; j < callbackArgs.length; j++) {
+                                    if (callbackArgs[j] != null && isWrapped(m.getParameterTypes()[j])) {
+                                        callbackArgs[j] = wrap(callbackArgs[j]);
+                                    }
+                                }
+                            }
+                            return invoke(callback, m, callbackArgs);
+                        });
+            }
+        }
+        return wrapped;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isWrapped(Class<?> type) {
+        return type.isInterface() && type.getName().startsWith("org.neo4j.driver.")
+                && WRAPPED_TYPES.contains(type.getSimpleName());
+    }
+
+    private static Class<?>[] driverInterfaces(Class<?> type) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Class<?> candidate : c.getInterfaces()) {
+                if (Modifier.isPublic(candidate.getModifiers())
+                        && candidate.getName().startsWith("org.neo4j.driver.")
+                        && !candidate.getName().contains(".internal.")) {
+                    interfaces.add(candidate);
+                }
+            }
+        }
+        return interfaces.toArray(Class<?>[]::new);
+    }
+}
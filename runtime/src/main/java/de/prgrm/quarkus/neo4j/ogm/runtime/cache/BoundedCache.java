@@ -0,0 +1,131 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache with least-recently-used eviction and a time-to-live per entry.
+ * All operations are synchronized; entries are small and lookups short, so a single lock suffices.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class BoundedCache<K, V> {
+
+    /**
+     * Size bound and time-to-live of a cache.
+     */
+    public record Settings(int maxEntries, Duration ttl) {
+        public Settings {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries must be positive");
+            }
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive");
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final Settings settings;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long hits;
+    private long misses;
+    private long generation;
+
+    public BoundedCache(Settings settings) {
+        this.settings = settings;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > settings.maxEntries();
+            }
+        };
+    }
+
+    /**
+     * @return the cached value, or {@code null} if absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(key);
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, System.nanoTime() + settings.ttl().toNanos()));
+    }
+
+    /**
+     * Stores a value only if the cache was not cleared since {@link #generation()} returned the given
+     * value, so a load racing an invalidation cannot put back a stale result.
+     */
+    public synchronized void putIfGeneration(K key, V value, long expectedGeneration) {
+        if (generation == expectedGeneration) {
+            put(key, value);
+        }
+    }
+
+    /**
+     * @return a counter incremented by every {@link #clear()}
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        generation++;
+    }
+
+    /**
+     * @return the number of entries, including expired ones not yet evicted
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes all expired entries.
+     */
+    public synchronized void purgeExpired() {
+        long now = System.nanoTime();
+        for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext();) {
+            if (it.next().expiresAt() - now <= 0) {
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+}
@@ -0,0 +1,78 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Holds the application-wide second-level caches of {@link de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Cacheable}
+ * entities, one per label, and the result caches of cacheable {@link de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Query}
+ * methods, one per label and query name. Both are shared by the blocking and the reactive repository of an entity.
+ *
+ * <p>
+ * Repositories invalidate a label whenever they write nodes of it, including nodes written as
+ * relationship targets, so a cached entity or query result is at most {@code ttl} old when written
+ * outside the repositories (or by a concurrent reader racing a commit).
+ */
+@ApplicationScoped
+public class EntityCacheManager {
+
+    private static final Logger LOG = Logger.getLogger(EntityCacheManager.class);
+
+    private final Map<String, BoundedCache<String, Object>> caches = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, BoundedCache<Object, Object>>> queryCaches = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache of a label, creating it with the given settings on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BoundedCache<String, T> entityCache(String label, BoundedCache.Settings settings) {
+        return (BoundedCache<String, T>) (BoundedCache<String, ?>) caches.computeIfAbsent(label, l -> {
+            LOG.debugf("Created entity cache for %s (maxEntries=%d, ttl=%s)", l, settings.maxEntries(), settings.ttl());
+            return new BoundedCache<>(settings);
+        });
+    }
+
+    /**
+     * Returns the result cache of a query of a label, creating it with the given settings on first use.
+     * Keys are the query parameters.
+     */
+    public BoundedCache<Object, Object> queryCache(String label, String queryName, BoundedCache.Settings settings) {
+        return queryCaches.computeIfAbsent(label, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(queryName, q -> {
+                    LOG.debugf("Created query cache for %s.%s (maxEntries=%d, ttl=%s)", label, q,
+                            settings.maxEntries(), settings.ttl());
+                    return new BoundedCache<>(settings);
+                });
+    }
+
+    /**
+     * Drops all cached entities and query results of a label.
+     */
+    public void invalidate(String label) {
+        BoundedCache<String, Object> cache = caches.get(label);
+        if (cache != null) {
+            cache.clear();
+        }
+        Map<String, BoundedCache<Object, Object>> queries = queryCaches.get(label);
+        if (queries != null) {
+            queries.values().forEach(BoundedCache::clear);
+        }
+    }
+
+    public void invalidate(Collection<String> labels) {
+        labels.forEach(this::invalidate);
+    }
+
+    /**
+     * Drops all cached entities and query results.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(BoundedCache::clear);
+        queryCaches.values().forEach(queries -> queries.values().forEach(BoundedCache::clear));
+    }
+}
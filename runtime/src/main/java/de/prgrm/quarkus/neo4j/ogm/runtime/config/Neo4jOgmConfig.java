@@ -0,0 +1,238 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.CountStrategy;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Runtime configuration of the Neo4j OGM extension.
+ */
+@ConfigMapping(prefix = "quarkus.neo4j-ogm")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface Neo4jOgmConfig {
+
+    /**
+     * Relationship loading.
+     */
+    RelationLoadingConfig relationLoading();
+
+    interface RelationLoadingConfig {
+
+        /**
+         * How relationships of list results ({@code findAll}, {@code query}, paged queries) are loaded.
+         * {@code per-entity} issues one query per entity and relationship field, {@code batched} issues
+         * one {@code UNWIND} query per relationship field and traversal level, and {@code parallel} issues
+         * the queries of {@code per-entity} for several entities at once on virtual threads. Inside a
+         * managed transaction {@code parallel} loads like {@code per-entity}, since the transaction is
+         * bound to one thread.
+         */
+        @WithDefault("per-entity")
+        RelationLoadingMode mode();
+
+        /**
+         * Maximum number of entities whose relationships are loaded at the same time in {@code parallel}
+         * mode. Each of them holds a connection of the driver's pool while it runs a query.
+         */
+        @WithDefault("8")
+        int parallelism();
+    }
+
+    /**
+     * Streaming reads ({@code streamAll}, {@code streamQuery}).
+     */
+    StreamConfig stream();
+
+    interface StreamConfig {
+
+        /**
+         * Number of records mapped and relation-loaded together while a stream is consumed.
+         * Only one chunk of entities is held on the heap at a time.
+         */
+        @WithDefault("100")
+        int chunkSize();
+    }
+
+    /**
+     * Bulk ingestion through {@code bulkWriter()}.
+     */
+    BulkConfig bulk();
+
+    interface BulkConfig {
+
+        /**
+         * Number of entities converted and sent to the database per statement.
+         */
+        @WithDefault("1000")
+        int chunkSize();
+
+        /**
+         * Rows committed per inner transaction in {@code IN_TRANSACTIONS} mode
+         * ({@code CALL { ... } IN TRANSACTIONS OF n ROWS}).
+         */
+        @WithDefault("500")
+        int rowsPerTransaction();
+    }
+
+    /**
+     * Change tracking of loaded entities for {@code update} and {@code merge}.
+     */
+    DirtyTrackingConfig dirtyTracking();
+
+    interface DirtyTrackingConfig {
+
+        /**
+         * Whether entities loaded outside a managed transaction remember their persisted state, so that
+         * saving them writes only changed properties and the difference of their relationships. Off by
+         * default, since every load then converts the entity once more to take its snapshot.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    /**
+     * Offset pagination ({@code findAllPaged}, {@code queryPaged}).
+     */
+    PagingConfig paging();
+
+    interface PagingConfig {
+
+        /**
+         * How the total of a page is determined unless the {@code Pageable} requests a strategy.
+         */
+        @WithDefault("exact")
+        CountStrategy countStrategy();
+
+        /**
+         * Time-to-live of a memoized total with the {@code cached} strategy.
+         */
+        @WithDefault("30s")
+        Duration countCacheTtl();
+
+        /**
+         * Maximum number of memoized totals per label with the {@code cached} strategy.
+         */
+        @WithDefault("1000")
+        int countCacheMaxEntries();
+    }
+
+    /**
+     * Retry of repository operations that fail with a transient error (deadlock, leader switch).
+     */
+    RetryConfig retry();
+
+    interface RetryConfig {
+
+        /**
+         * Whether blocking repository operations that own their transaction are replayed on transient
+         * errors. Operations joining a transaction managed by {@code @Transactional} are never retried.
+         * Reactive operations are retried by the driver.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Maximum number of attempts, including the first one.
+         */
+        @WithDefault("3")
+        int maxAttempts();
+
+        /**
+         * Backoff before the first retry; doubled for every further retry and randomized by up to 50%.
+         */
+        @WithDefault("50ms")
+        Duration initialBackoff();
+
+        /**
+         * Upper bound of the backoff between two attempts.
+         */
+        @WithDefault("1s")
+        Duration maxBackoff();
+
+        /**
+         * No retry is started once this much time has passed since the first attempt.
+         */
+        @WithDefault("10s")
+        Duration timeout();
+    }
+
+    /**
+     * Repository metrics, published through Quarkus Micrometer when it is present.
+     */
+    MetricsConfig metrics();
+
+    interface MetricsConfig {
+
+        /**
+         * Whether repository operations are measured.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    /**
+     * Spans of repository operations and their statements, created through Quarkus OpenTelemetry when it
+     * is present.
+     */
+    TracingConfig tracing();
+
+    interface TracingConfig {
+
+        /**
+         * Whether repository operations are traced.
+         */
+        @WithDefault("true")
+        boolean enabled();
+    }
+
+    /**
+     * Warnings about inefficient use of repositories.
+     */
+    DiagnosticsConfig diagnostics();
+
+    interface DiagnosticsConfig {
+
+        /**
+         * A repository call sending more structurally identical statements than this, for example one
+         * relation query per loaded entity, is logged as a likely N+1 query and marked on its span.
+         * {@code 0}, the default, disables the check.
+         */
+        @WithDefault("0")
+        int nPlusOneThreshold();
+
+        /**
+         * Statements running longer than this, from sending them until their result is consumed, are
+         * logged with label, operation, parameter names and the server timings. Not set by default.
+         */
+        Optional<Duration> slowQueryThreshold();
+
+        /**
+         * Whether a slow read-only statement is run once more with {@code PROFILE}, in a read
+         * transaction that is rolled back, to log its plan and database hits. The profile runs in the
+         * background and does not delay the slow call further. A statement is profiled at most once
+         * every five minutes, and at most two profiles run at a time.
+         */
+        @WithDefault("false")
+        boolean profileSlowQueries();
+    }
+
+    /**
+     * Indexes and constraints required by the entities: a uniqueness constraint on every
+     * {@code @NodeId} property plus those requested with {@code @Unique} and {@code @Indexed}.
+     */
+    SchemaConfig schema();
+
+    interface SchemaConfig {
+
+        /**
+         * What happens at startup to missing indexes and constraints. {@code update} suits development,
+         * {@code validate} production deployments whose schema is managed by migrations.
+         */
+        @WithDefault("warn")
+        SchemaAction action();
+    }
+}
@@ -0,0 +1,20 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.config;
+
+/**
+ * Strategy used by repositories to resolve relationships of list results.
+ */
+public enum RelationLoadingMode {
+    /**
+     * One relationship query per entity and relationship field (classic behaviour).
+     */
+    PER_ENTITY,
+    /**
+     * One {@code UNWIND}-batched relationship query per relationship field and traversal level.
+     */
+    BATCHED,
+    /**
+     * Like {@link #PER_ENTITY}, but the entities of a list result are completed concurrently on virtual
+     * threads, each relation query in a read session of its own.
+     */
+    PARALLEL
+}
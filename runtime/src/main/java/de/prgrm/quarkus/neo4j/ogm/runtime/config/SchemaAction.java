@@ -0,0 +1,23 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.config;
+
+/**
+ * What happens at startup to the indexes and constraints the entities require.
+ */
+public enum SchemaAction {
+    /**
+     * The schema is not looked at.
+     */
+    NONE,
+    /**
+     * Missing indexes and constraints are logged as warnings.
+     */
+    WARN,
+    /**
+     * Startup fails if an index or constraint is missing.
+     */
+    VALIDATE,
+    /**
+     * Missing indexes and constraints are created.
+     */
+    UPDATE
+}
@@ -0,0 +1,17 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.enums;
+
+/**
+ * Defines how a bulk writer commits its chunks
+ */
+public enum BulkWriteMode {
+    /**
+     * Every chunk is written in its own transaction (default)
+     */
+    TRANSACTION_PER_CHUNK,
+
+    /**
+     * Every chunk is sent as one auto-commit statement that the server splits into inner
+     * transactions using {@code CALL { ... } IN TRANSACTIONS OF n ROWS}
+     */
+    IN_TRANSACTIONS
+}
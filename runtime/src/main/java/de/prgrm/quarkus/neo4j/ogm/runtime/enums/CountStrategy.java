@@ -0,0 +1,24 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.enums;
+
+/**
+ * Defines how paged queries determine the total number of elements
+ */
+public enum CountStrategy {
+    /**
+     * Every page request runs a {@code count} query over the full result (default)
+     */
+    EXACT,
+
+    /**
+     * The total is memoized per count query and parameters until the time-to-live expires or the
+     * repository writes nodes of its label
+     */
+    CACHED,
+
+    /**
+     * No count query over the result: the page fetches one extra row to detect further pages, and the
+     * total is the number of rows seen so far or, if there are more, at least the node count of the
+     * label taken from the count store
+     */
+    ESTIMATED
+}
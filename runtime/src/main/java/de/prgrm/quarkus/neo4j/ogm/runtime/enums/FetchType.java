@@ -0,0 +1,17 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.enums;
+
+/**
+ * Defines when a fetched relationship is loaded
+ */
+public enum FetchType {
+    /**
+     * The relation loader queries the relationship together with its owner, up to {@code maxDepth}
+     * (default)
+     */
+    EAGER,
+
+    /**
+     * The relation loader sets a proxy that queries the relationship on first access
+     */
+    LAZY
+}
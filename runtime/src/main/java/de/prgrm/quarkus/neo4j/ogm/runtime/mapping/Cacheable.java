@@ -0,0 +1,31 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the application-wide second-level cache for a {@link NodeEntity}. {@code findById} and
+ * {@code findByIdOptional} of the generated repositories then serve entities from the cache; any
+ * write of the entity's label through a repository invalidates it.
+ *
+ * <p>
+ * The cache holds the loaded node, and every caller gets an instance of its own mapped from it.
+ * Relationships outside the single-query graph projection are loaded again on each hit. Intended for
+ * reference data that is read often and changes rarely.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Cacheable {
+
+    /**
+     * Maximum number of cached entities; the least recently used entity is evicted first.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * Time-to-live of a cached entity in seconds.
+     */
+    long ttlSeconds() default 300;
+}
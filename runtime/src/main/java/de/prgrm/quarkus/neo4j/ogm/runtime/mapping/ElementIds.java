@@ -0,0 +1,56 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.types.TypeSystem;
+
+/**
+ * Element ids of the nodes loaded entity instances were mapped from, held as long as the application
+ * references the instance. Generated relation loaders use them to find the owner of a relationship by a
+ * direct node lookup instead of matching its label and id property again.
+ * <p>
+ * Instances are told apart by identity, independent of their {@code equals}. Generated mappers only
+ * record them for entities with relationships to load. Entities without, entities mapped from a graph
+ * projection and entities created by the application have no element id.
+ */
+public final class ElementIds {
+
+    /**
+     * The query parameter holding the element id of the owner.
+     */
+    public static final String PARAMETER = "eid";
+
+    private static final WeakIdentityMap<String> ELEMENT_IDS = new WeakIdentityMap<>();
+
+    private ElementIds() {
+    }
+
+    /**
+     * Records the element id of the node an instance was mapped from, if the value is a node.
+     */
+    public static void remember(Object entity, Value nodeValue) {
+        if (entity == null || nodeValue == null || !nodeValue.hasType(TypeSystem.getDefault().NODE())) {
+            return;
+        }
+        ELEMENT_IDS.put(entity, nodeValue.asNode().elementId());
+    }
+
+    /**
+     * @return the element id of the node the instance was mapped from, {@code null} if it is unknown
+     */
+    public static String of(Object entity) {
+        return ELEMENT_IDS.get(entity);
+    }
+
+    /**
+     * The parameters of a relation query for an owner: its {@code id} and, if known, its element id as
+     * {@link #PARAMETER}.
+     */
+    public static Map<String, Object> ownerParameters(Object entity, Object id) {
+        String elementId = of(entity);
+        return elementId != null
+                ? Map.of(PARAMETER, elementId, "id", id.toString())
+                : Map.of("id", id.toString());
+    }
+}
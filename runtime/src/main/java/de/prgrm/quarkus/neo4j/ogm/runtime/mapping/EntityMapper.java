@@ -28,8 +28,24 @@ public interface EntityMapper<T> {
 
     String getNodeIdPropertyName();
 
+    /**
+     * @return the properties declared with {@code @Property(normalized = true)}
+     */
+    default java.util.Set<String> getNormalizedProperties() {
+        return java.util.Set.of();
+    }
+
     void setRelation(T entity, String relationType, Object relatedEntity);
 
+    /**
+     * Sets a related entity like {@link #setRelation(Object, String, Object)}, on the field of the given
+     * direction when several fields share the relationship type and target.
+     */
+    default void setRelation(T entity, String relationType, de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction direction,
+            Object relatedEntity) {
+        setRelation(entity, relationType, relatedEntity);
+    }
+
     /**
      * Maps an entity from a raw Neo4j Value (node).
      * Used for mapping relationship data returned as additional columns in custom queries.
@@ -41,6 +57,18 @@ public interface EntityMapper<T> {
         throw new UnsupportedOperationException("mapFromValue not implemented for " + getClass().getName());
     }
 
+    /**
+     * Maps an entity together with its relationships from a nested map produced by a generated
+     * graph projection ({@code n{.*, books: [(n)-[:WROTE]->(m1:Book) | m1{.*}]}}).
+     * Mappers of entities without fetchable relationships fall back to {@link #mapFromValue}.
+     *
+     * @param graph The Neo4j Value holding the projected map.
+     * @return The mapped entity of type T with its projected relationships set.
+     */
+    default T mapFromGraph(org.neo4j.driver.Value graph) {
+        return mapFromValue(graph);
+    }
+
     /**
      * Applies context-aware converters after relationships have been loaded.
      * This method should be called after all relationships are set on the entity.
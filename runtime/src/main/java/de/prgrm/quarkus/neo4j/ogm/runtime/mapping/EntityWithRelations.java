@@ -18,6 +18,11 @@ public class EntityWithRelations {
      */
     private final Set<String> persistableRelationshipKeys;
 
+    /**
+     * The converted instance, which lets the repository compare it with the state it was loaded in.
+     */
+    private final Object entity;
+
     public EntityWithRelations(Class<?> entityType,
             Map<String, Object> properties,
             List<RelationshipData> relationships) {
@@ -28,10 +33,19 @@ public class EntityWithRelations {
             Map<String, Object> properties,
             List<RelationshipData> relationships,
             Set<String> persistableRelationshipKeys) {
+        this(entityType, properties, relationships, persistableRelationshipKeys, null);
+    }
+
+    public EntityWithRelations(Class<?> entityType,
+            Map<String, Object> properties,
+            List<RelationshipData> relationships,
+            Set<String> persistableRelationshipKeys,
+            Object entity) {
         this.entityType = entityType;
         this.properties = properties;
         this.relationships = relationships;
         this.persistableRelationshipKeys = (persistableRelationshipKeys != null) ? persistableRelationshipKeys : Set.of();
+        this.entity = entity;
     }
 
     public Class<?> getEntityType() {
@@ -49,4 +63,11 @@ public class EntityWithRelations {
     public Set<String> getPersistableRelationshipKeys() {
         return persistableRelationshipKeys;
     }
+
+    /**
+     * @return the converted instance, {@code null} if it is not known
+     */
+    public Object getEntity() {
+        return entity;
+    }
 }
@@ -0,0 +1,16 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a range index on the property of a {@link NodeEntity} field, for properties used in
+ * lookups such as {@code @Query} conditions or filters. Created or validated at startup depending on
+ * {@code quarkus.neo4j-ogm.schema.action}.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Indexed {
+}
@@ -0,0 +1,75 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * A mutable list of related entities that runs its query on first access. Once loaded it behaves like
+ * an {@link ArrayList}, so saving the owner persists the relationship as usual; while it is not loaded,
+ * the generated mapper leaves the relationship untouched.
+ *
+ * @param <E> the related entity type
+ */
+public final class LazyList<E> extends AbstractList<E> implements LazyRelation, RandomAccess {
+
+    private final Supplier<? extends List<E>> loader;
+    private List<E> elements;
+
+    public LazyList(Supplier<? extends List<E>> loader) {
+        this.loader = loader;
+    }
+
+    private synchronized List<E> elements() {
+        if (elements == null) {
+            List<E> loaded = loader.get();
+            elements = loaded != null ? new ArrayList<>(loaded) : new ArrayList<>();
+        }
+        return elements;
+    }
+
+    @Override
+    public synchronized boolean initialized() {
+        return elements != null;
+    }
+
+    @Override
+    public Object unwrap() {
+        return elements();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return elements().set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements().remove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public String toString() {
+        return initialized() ? elements().toString() : "LazyList[not loaded]";
+    }
+}
@@ -0,0 +1,43 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+/**
+ * A relationship value that is loaded on first access, set by the relation loaders for
+ * {@code @Relationship(fetch = FetchType.LAZY)} fields: a {@link LazyList} for collections and a
+ * generated {@code <Target>LazyProxy} subclass for single-valued relationships.
+ * <p>
+ * The method names are no bean accessors, so serializers only see the proxied value.
+ */
+public interface LazyRelation {
+
+    /**
+     * @return whether the relationship was loaded
+     */
+    boolean initialized();
+
+    /**
+     * Loads the relationship if needed.
+     *
+     * @return the loaded list or entity; {@code null} for a single-valued relationship without a
+     *         related node
+     */
+    Object unwrap();
+
+    /**
+     * @return whether the value is a lazy relationship that was not loaded yet
+     */
+    static boolean isPending(Object value) {
+        return value instanceof LazyRelation lazy && !lazy.initialized();
+    }
+
+    /**
+     * Loads a lazy relationship and returns the loaded value instead of the proxy. Single-valued proxies
+     * cannot represent an absent node, calling one of its methods then fails; resolving yields
+     * {@code null} instead.
+     *
+     * @return the loaded value, or the value itself if it is no lazy relationship
+     */
+    @SuppressWarnings("unchecked")
+    static <E> E resolve(E value) {
+        return value instanceof LazyRelation lazy ? (E) lazy.unwrap() : value;
+    }
+}
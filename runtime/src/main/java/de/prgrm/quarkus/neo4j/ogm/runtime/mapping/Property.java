@@ -8,5 +8,18 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface Property {
+
+    /**
+     * Suffix of the shadow property holding the lower-cased copy of a {@link #normalized()} property.
+     */
+    String NORMALIZED_SUFFIX = "_normalized";
+
     String name() default "";
-}
\ No newline at end of file
+
+    /**
+     * Additionally stores a lower-cased copy of a {@code String} property as {@code <name>_normalized}.
+     * Case-insensitive {@code Filter} operators then compare against the copy instead of wrapping the
+     * property in {@code toLower(...)}, so they can use an index on it.
+     */
+    boolean normalized() default false;
+}
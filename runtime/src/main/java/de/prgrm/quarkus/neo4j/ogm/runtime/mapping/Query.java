@@ -20,6 +20,22 @@ public @interface Query {
 
     Class<?> resultClass() default void.class;
 
+    /**
+     * Caches the mapped result per parameter values. Only read queries can be cached; the cache of an
+     * entity is cleared whenever its repository writes nodes of its label.
+     */
+    boolean cacheable() default false;
+
+    /**
+     * Maximum number of cached results, if {@link #cacheable()}.
+     */
+    int maxEntries() default 1000;
+
+    /**
+     * Time-to-live of a cached result in seconds, if {@link #cacheable()}.
+     */
+    long ttlSeconds() default 60;
+
     @interface Param {
         String name();
 
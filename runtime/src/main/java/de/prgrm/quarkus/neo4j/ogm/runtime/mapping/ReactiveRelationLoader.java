@@ -1,6 +1,7 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
 
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.ReactiveRelationVisitor;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -31,5 +32,19 @@ public interface ReactiveRelationLoader<T> {
      * @param ctx Shared traversal context (must be the same for the whole operation)
      * @return A Uni that completes when all relationships are loaded
      */
-    Uni<T> loadRelations(T entity, int currentDepth, ReactiveRelationVisitor.VisitorContext ctx);
+    default Uni<T> loadRelations(T entity, int currentDepth, ReactiveRelationVisitor.VisitorContext ctx) {
+        return loadRelations(entity, currentDepth, ctx, null);
+    }
+
+    /**
+     * Load the relationships of the given entity named by a fetch plan,
+     * using the provided traversal context.
+     *
+     * @param entity The entity to load relationships for
+     * @param currentDepth The current traversal depth
+     * @param ctx Shared traversal context (must be the same for the whole operation)
+     * @param plan The relationships to load, {@code null} to load them up to their declared max depth
+     * @return A Uni that completes when the relationships are loaded
+     */
+    Uni<T> loadRelations(T entity, int currentDepth, ReactiveRelationVisitor.VisitorContext ctx, FetchPlan plan);
 }
\ No newline at end of file
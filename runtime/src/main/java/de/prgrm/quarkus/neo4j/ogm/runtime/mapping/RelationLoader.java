@@ -1,5 +1,9 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
 
+import java.util.List;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
+
 public interface RelationLoader<T> {
     /**
      * Load all relationships for the given entity
@@ -16,5 +20,40 @@ public interface RelationLoader<T> {
      * @param entity The entity to load relationships for
      * @param currentDepth The current traversal depth
      */
-    void loadRelations(T entity, int currentDepth);
+    default void loadRelations(T entity, int currentDepth) {
+        loadRelations(entity, currentDepth, null);
+    }
+
+    /**
+     * Load the relationships of the given entity named by a fetch plan
+     *
+     * @param entity The entity to load relationships for
+     * @param currentDepth The current traversal depth
+     * @param plan The relationships to load, {@code null} to load them up to their declared max depth
+     */
+    void loadRelations(T entity, int currentDepth, FetchPlan plan);
+
+    /**
+     * Load relationships for all given entities of one traversal level. Generated loaders override
+     * this with one batched query per relationship field; the default falls back to per-entity loading.
+     *
+     * @param entities The entities to load relationships for
+     * @param currentDepth The current traversal depth
+     */
+    default void loadRelationsBatch(List<T> entities, int currentDepth) {
+        loadRelationsBatch(entities, currentDepth, null);
+    }
+
+    /**
+     * Load the relationships named by a fetch plan for all given entities of one traversal level
+     *
+     * @param entities The entities to load relationships for
+     * @param currentDepth The current traversal depth
+     * @param plan The relationships to load, {@code null} to load them up to their declared max depth
+     */
+    default void loadRelationsBatch(List<T> entities, int currentDepth, FetchPlan plan) {
+        for (T entity : entities) {
+            loadRelations(entity, currentDepth, plan);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.FetchType;
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
 
 @Retention(RetentionPolicy.RUNTIME)
@@ -27,4 +28,11 @@ public @interface Relationship {
      * 1+ means load up to that depth
      */
     int maxDepth() default 3;
+
+    /**
+     * Controls when a fetched relationship is loaded. A {@link FetchType#LAZY} relationship is set to a
+     * {@link LazyList} or a generated {@code <Target>LazyProxy} that loads it on first access; its
+     * {@code maxDepth} does not apply.
+     */
+    FetchType fetch() default FetchType.EAGER;
 }
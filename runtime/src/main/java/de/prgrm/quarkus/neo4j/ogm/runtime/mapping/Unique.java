@@ -0,0 +1,16 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a uniqueness constraint, and with it an index, on the property of a {@link NodeEntity}
+ * field. The {@link NodeId} property is always unique and needs no annotation. Created or validated at
+ * startup depending on {@code quarkus.neo4j-ogm.schema.action}.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Unique {
+}
@@ -0,0 +1,72 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.mapping;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe map from object instances to values, holding an entry as long as the application
+ * references its key. Keys are told apart by identity, independent of their {@code equals}.
+ *
+ * @param <V> the value type
+ */
+public final class WeakIdentityMap<V> {
+
+    private final Map<Key, V> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * @return the value of the instance, {@code null} if it has none
+     */
+    public V get(Object key) {
+        return key != null ? entries.get(new Key(key, null)) : null;
+    }
+
+    public void put(Object key, V value) {
+        expunge();
+        entries.put(new Key(key, collected), value);
+    }
+
+    /**
+     * @return the removed value, {@code null} if the instance had none
+     */
+    public V remove(Object key) {
+        return key != null ? entries.remove(new Key(key, null)) : null;
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            entries.remove(reference);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+
+        private final int hash;
+
+        Key(Object key, ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key key)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == key.get();
+        }
+    }
+}
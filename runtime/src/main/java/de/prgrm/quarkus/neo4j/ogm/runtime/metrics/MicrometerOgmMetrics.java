@@ -0,0 +1,62 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * Publishes repository measurements to Micrometer, tagged by {@code label}, {@code operation} and
+ * {@code repository} ({@code blocking} or {@code reactive}):
+ * <ul>
+ * <li>{@code neo4j.ogm.operations}: timer, additionally tagged by {@code outcome}</li>
+ * <li>{@code neo4j.ogm.operation.statements}: Cypher statements per operation</li>
+ * <li>{@code neo4j.ogm.operation.records}: records mapped per operation</li>
+ * <li>{@code neo4j.ogm.operation.relation.queries}: relation-loader queries per operation</li>
+ * <li>{@code neo4j.ogm.relation.depth.limit.hits} and {@code neo4j.ogm.relation.circular.references}:
+ * counters of skipped traversals</li>
+ * </ul>
+ * Registered by the extension only if Quarkus Micrometer is present, so no bean-defining annotation.
+ * An application bean implementing {@link OgmMetrics} replaces it.
+ */
+@DefaultBean
+public class MicrometerOgmMetrics implements OgmMetrics {
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+
+    @Inject
+    public MicrometerOgmMetrics(MeterRegistry registry, Neo4jOgmConfig config) {
+        this.registry = registry;
+        this.enabled = config.metrics().enabled();
+    }
+
+    @Override
+    public boolean enabled() {
+        return enabled;
+    }
+
+    @Override
+    public void record(OperationStats stats) {
+        Tags tags = Tags.of(
+                "label", stats.label(),
+                "operation", stats.operation(),
+                "repository", stats.reactive() ? "reactive" : "blocking");
+
+        registry.timer("neo4j.ogm.operations", tags.and("outcome", stats.failed() ? "failure" : "success"))
+                .record(stats.durationNanos(), TimeUnit.NANOSECONDS);
+        registry.summary("neo4j.ogm.operation.statements", tags).record(stats.statements());
+        registry.summary("neo4j.ogm.operation.records", tags).record(stats.recordsMapped());
+        registry.summary("neo4j.ogm.operation.relation.queries", tags).record(stats.relationQueries());
+        if (stats.depthLimitHits() > 0) {
+            registry.counter("neo4j.ogm.relation.depth.limit.hits", tags).increment(stats.depthLimitHits());
+        }
+        if (stats.circularReferences() > 0) {
+            registry.counter("neo4j.ogm.relation.circular.references", tags).increment(stats.circularReferences());
+        }
+    }
+}
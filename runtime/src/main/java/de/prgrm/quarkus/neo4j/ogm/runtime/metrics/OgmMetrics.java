@@ -0,0 +1,51 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.metrics;
+
+/**
+ * Receives the measurements of every repository operation. With Quarkus Micrometer on the classpath
+ * {@link MicrometerOgmMetrics} is registered; applications may provide their own bean instead.
+ * Without any bean, repositories skip the measurement entirely.
+ */
+public interface OgmMetrics {
+
+    /**
+     * Discards all measurements.
+     */
+    OgmMetrics NOOP = new OgmMetrics() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public void record(OperationStats stats) {
+        }
+    };
+
+    /**
+     * Measurements of one repository operation. Repository calls made while the operation runs, such
+     * as the queries of relation loaders, are part of it and counted as {@code relationQueries}.
+     *
+     * @param label the label of the repository the operation was called on
+     * @param operation the repository method, e.g. {@code findById} or {@code create}
+     * @param reactive whether the operation was called on a reactive repository
+     * @param durationNanos wall-clock time of the operation
+     * @param failed whether the operation failed
+     * @param statements Cypher statements sent to the database
+     * @param recordsMapped records mapped to entities
+     * @param relationQueries repository calls issued by relation loaders
+     * @param depthLimitHits relationships not traversed because of a depth limit
+     * @param circularReferences relationships not traversed because their target was already visited
+     */
+    record OperationStats(String label, String operation, boolean reactive, long durationNanos, boolean failed,
+            int statements, int recordsMapped, int relationQueries, int depthLimitHits, int circularReferences) {
+    }
+
+    /**
+     * @return {@code false} to skip measuring, checked once when a repository is created
+     */
+    default boolean enabled() {
+        return true;
+    }
+
+    void record(OperationStats stats);
+}
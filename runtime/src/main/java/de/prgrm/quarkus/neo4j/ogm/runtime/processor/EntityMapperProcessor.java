@@ -8,11 +8,16 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
 
 import com.google.auto.service.AutoService;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.FetchType;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.GenerateRepository;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.NodeEntity;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Relationship;
+import de.prgrm.quarkus.neo4j.ogm.runtime.processor.util.MapperUtil;
 
 @AutoService(Processor.class)
 @SupportedAnnotationTypes("de.prgrm.quarkus.neo4j.ogm.runtime.mapping.NodeEntity")
@@ -23,6 +28,8 @@ public class EntityMapperProcessor extends AbstractProcessor {
     private final RepositoryGenerator repositoryGenerator = new RepositoryGenerator();
     private final ReactiveRepositoryGenerator reactiveRepositoryGenerator = new ReactiveRepositoryGenerator();
     private final RelationLoaderGenerator relationLoaderGenerator = new RelationLoaderGenerator();
+    private final SchemaGenerator schemaGenerator = new SchemaGenerator();
+    private final LazyProxyGenerator lazyProxyGenerator = new LazyProxyGenerator();
 
     private final Set<String> generatedClasses = new HashSet<>();
 
@@ -57,6 +64,29 @@ public class EntityMapperProcessor extends AbstractProcessor {
                 mapperGenerator.generateMapper(packageName, entityType, mapperClassName, processingEnv);
             }
 
+            // Indexes and constraints
+            String schemaClassName = entityName + "Schema";
+            if (generatedClasses.add(packageName + "." + schemaClassName)) {
+                schemaGenerator.generateSchema(packageName, entityType, schemaClassName, label, processingEnv);
+            }
+
+            // Proxies for the targets of single-valued lazy relationships
+            for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
+                Relationship rel = field.getAnnotation(Relationship.class);
+                if (rel == null || rel.fetch() != FetchType.LAZY
+                        || MapperUtil.stripAnnotations(field.asType().toString()).startsWith("java.util.List")) {
+                    continue;
+                }
+                TypeElement target = processingEnv.getElementUtils().getTypeElement(MapperUtil.getFieldType(field));
+                if (target == null) {
+                    continue;
+                }
+                String targetPackage = processingEnv.getElementUtils().getPackageOf(target).getQualifiedName().toString();
+                if (generatedClasses.add(target.getQualifiedName() + LazyProxyGenerator.SUFFIX)) {
+                    lazyProxyGenerator.generateProxy(targetPackage, target, processingEnv);
+                }
+            }
+
             // Repositories
             GenerateRepository genRepo = entityType.getAnnotation(GenerateRepository.class);
             GenerateRepository.RepositoryType repoType = (genRepo == null)
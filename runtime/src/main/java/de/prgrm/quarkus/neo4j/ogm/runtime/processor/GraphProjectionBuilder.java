@@ -0,0 +1,114 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.processor;
+
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.FetchType;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.NodeEntity;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Relationship;
+import de.prgrm.quarkus.neo4j.ogm.runtime.processor.util.MapperUtil;
+
+/**
+ * Builds the nested pattern-comprehension projection used to fetch an entity together with its
+ * relationships in a single record, e.g.
+ * {@code n{.*, books: [(n)-[:WROTE]->(m1:Book) | m1{.*}]}}.
+ * <p>
+ * Only entities whose fetchable relationships all declare a {@code maxDepth} of at most
+ * {@link #MAX_DEPTH} are eligible; deeper graphs keep using the generated relation loaders. So do graphs
+ * with a {@code fetch = LAZY} relationship, which only the relation loaders set up.
+ */
+final class GraphProjectionBuilder {
+
+    static final int MAX_DEPTH = 2;
+
+    private GraphProjectionBuilder() {
+    }
+
+    /**
+     * @return the projection expression for alias {@code n}, or {@code null} if the entity is not eligible
+     */
+    static String build(TypeElement entityType, ProcessingEnvironment env) {
+        List<VariableElement> fields = fetchableFields(entityType);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        int budget = 0;
+        for (VariableElement field : fields) {
+            int maxDepth = field.getAnnotation(Relationship.class).maxDepth();
+            if (maxDepth > MAX_DEPTH) {
+                return null;
+            }
+            budget = Math.max(budget, maxDepth);
+        }
+        if (budget == 0) {
+            return null;
+        }
+
+        return project(entityType, "n", 0, budget, env);
+    }
+
+    /**
+     * Fields the generated relation loaders would fetch: FETCH_ONLY and FETCH_AND_PERSIST relationships.
+     */
+    static List<VariableElement> fetchableFields(TypeElement entityType) {
+        return ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
+                .filter(f -> {
+                    Relationship rel = f.getAnnotation(Relationship.class);
+                    return rel != null && (rel.mode() == RelationshipMode.FETCH_ONLY
+                            || rel.mode() == RelationshipMode.FETCH_AND_PERSIST);
+                })
+                .toList();
+    }
+
+    /**
+     * @return the projection, or {@code null} if it reaches a lazy relationship
+     */
+    private static String project(TypeElement entityType, String var, int level, int budget, ProcessingEnvironment env) {
+        StringBuilder sb = new StringBuilder(var).append("{.*");
+
+        for (VariableElement field : fetchableFields(entityType)) {
+            Relationship rel = field.getAnnotation(Relationship.class);
+            if (rel.fetch() == FetchType.LAZY) {
+                return null;
+            }
+            if (level >= rel.maxDepth() || level >= budget) {
+                continue;
+            }
+
+            TypeElement target = env.getElementUtils().getTypeElement(MapperUtil.getFieldType(field));
+            if (target == null || target.getAnnotation(NodeEntity.class) == null) {
+                continue;
+            }
+
+            String child = "m" + (level + 1);
+            String nested = project(target, child, level + 1, budget, env);
+            if (nested == null) {
+                return null;
+            }
+            String left = rel.direction() == Direction.INCOMING ? "<-" : "-";
+            String right = rel.direction() == Direction.OUTGOING ? "->" : "-";
+            String comprehension = "[(" + var + ")" + left + "[:" + rel.type() + "]" + right
+                    + "(" + child + ":" + resolveLabel(target) + ") | " + nested + "]";
+
+            boolean isCollection = MapperUtil.stripAnnotations(field.asType().toString()).startsWith("java.util.List");
+            sb.append(", ").append(field.getSimpleName()).append(": ")
+                    .append(isCollection ? comprehension : "head(" + comprehension + ")");
+        }
+
+        return sb.append("}").toString();
+    }
+
+    private static String resolveLabel(TypeElement type) {
+        NodeEntity nodeEntity = type.getAnnotation(NodeEntity.class);
+        return (nodeEntity != null && !nodeEntity.label().isEmpty())
+                ? nodeEntity.label()
+                : type.getSimpleName().toString();
+    }
+}
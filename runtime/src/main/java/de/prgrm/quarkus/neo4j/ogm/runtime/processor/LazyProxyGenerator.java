@@ -0,0 +1,164 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.JavaFile;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.LazyRelation;
+
+/**
+ * Generates {@code <Target>LazyProxy}, the value of single-valued {@code fetch = LAZY} relationships:
+ * a subclass of the target entity that resolves the related entity through a {@link Supplier} on the
+ * first method call and delegates every overridable method to it. Being plain generated code, it needs
+ * no reflection or runtime bytecode generation.
+ */
+public class LazyProxyGenerator {
+
+    public static final String SUFFIX = "LazyProxy";
+
+    public void generateProxy(String packageName, TypeElement targetType, ProcessingEnvironment processingEnv) {
+        String proxyClassName = targetType.getSimpleName() + SUFFIX;
+        if (targetType.getModifiers().contains(Modifier.FINAL) || !hasAccessibleNoArgConstructor(targetType)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Lazy relationships to " + targetType.getQualifiedName()
+                            + " need a non-final class with a non-private no-arg constructor",
+                    targetType);
+            return;
+        }
+
+        TypeName target = TypeName.get(targetType.asType());
+        TypeSpec.Builder proxy = TypeSpec.classBuilder(proxyClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .superclass(target)
+                .addSuperinterface(LazyRelation.class)
+                .addField(ParameterizedTypeName.get(ClassName.get(Supplier.class), target), "_loader",
+                        Modifier.PRIVATE, Modifier.FINAL)
+                .addField(target, "_target", Modifier.PRIVATE)
+                .addField(boolean.class, "_loaded", Modifier.PRIVATE)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Supplier.class), target), "loader")
+                        .addStatement("this._loader = loader")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("initialized")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                        .returns(boolean.class)
+                        .addStatement("return _loaded")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("unwrap")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                        .returns(Object.class)
+                        .beginControlFlow("if (!_loaded)")
+                        .addStatement("_target = _loader.get()")
+                        .addStatement("_loaded = true")
+                        .endControlFlow()
+                        .addStatement("return _target")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("_target")
+                        .addModifiers(Modifier.PRIVATE)
+                        .returns(target)
+                        .addStatement("$T loaded = ($T) unwrap()", target, target)
+                        .beginControlFlow("if (loaded == null)")
+                        .addStatement("throw new $T($S)", IllegalStateException.class,
+                                "Lazy relationship has no related " + targetType.getSimpleName()
+                                        + ", use LazyRelation.resolve() to check for it")
+                        .endControlFlow()
+                        .addStatement("return loaded")
+                        .build());
+
+        DeclaredType declaredType = (DeclaredType) targetType.asType();
+        for (ExecutableElement method : overridableMethods(targetType, packageName, processingEnv)) {
+            String arguments = method.getParameters().stream()
+                    .map(p -> p.getSimpleName().toString())
+                    .collect(Collectors.joining(", "));
+            MethodSpec.Builder delegate = MethodSpec.overriding(method, declaredType, processingEnv.getTypeUtils());
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                delegate.addStatement("_target().$L($L)", method.getSimpleName(), arguments);
+            } else {
+                delegate.addStatement("return _target().$L($L)", method.getSimpleName(), arguments);
+            }
+            proxy.addMethod(delegate.build());
+        }
+
+        try {
+            JavaFile.builder(packageName, proxy.build())
+                    .build()
+                    .writeTo(processingEnv.getFiler());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Generated lazy proxy: " + packageName + "." + proxyClassName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate lazy proxy: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Instance methods of the target and its superclasses the proxy can override, the most specific
+     * declaration first. Methods of {@code Object} are only included if the entity overrides them.
+     */
+    private List<ExecutableElement> overridableMethods(TypeElement targetType, String packageName,
+            ProcessingEnvironment env) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        TypeElement type = targetType;
+        while (type != null && !type.getQualifiedName().contentEquals(Object.class.getName())) {
+            String typePackage = env.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) {
+                    continue;
+                }
+                boolean packagePrivate = !modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.PROTECTED);
+                if (packagePrivate && !typePackage.equals(packageName)) {
+                    continue;
+                }
+                // Final methods are skipped as well, but still hide the declarations they override
+                if (signatures.add(signature(method, env)) && !modifiers.contains(Modifier.FINAL)) {
+                    methods.add(method);
+                }
+            }
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) env.getTypeUtils().asElement(superclass)
+                    : null;
+        }
+        return methods;
+    }
+
+    private static String signature(ExecutableElement method, ProcessingEnvironment env) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(env.getTypeUtils().erasure(parameter.asType())).append(';');
+        }
+        return signature.append(')').toString();
+    }
+
+    private static boolean hasAccessibleNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+}
@@ -1,7 +1,9 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.processor;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -18,6 +20,7 @@ import com.palantir.javapoet.*;
 import de.prgrm.quarkus.neo4j.ogm.runtime.config.FieldMappingStrategy;
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Convert;
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.FetchType;
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
 import de.prgrm.quarkus.neo4j.ogm.runtime.processor.util.MapperUtil;
@@ -49,9 +52,12 @@ public class MapperGenerator {
         MethodSpec toDbMethod = generateToDbMethod(entityType, processingEnv);
         MethodSpec getNodeIdMethod = generateGetNodeIdMethod(entityType);
         MethodSpec getNodeIdPropertyNameMethod = generateGetNodeIdPropertyName(entityType);
-        MethodSpec setRelationMethod = generateSetRelationMethod(entityType);
+        MethodSpec setRelationMethod = generateSetRelationMethod(entityType, false);
+        MethodSpec setDirectedRelationMethod = generateSetRelationMethod(entityType, true);
         MethodSpec registerSelfMethod = generateRegisterSelfMethod(entityType);
         MethodSpec applyPostLoadConvertersMethod = generateApplyPostLoadConvertersMethod(entityType, processingEnv);
+        MethodSpec mapFromGraphMethod = generateMapFromGraphMethod(entityType);
+        MethodSpec getNormalizedPropertiesMethod = generateGetNormalizedPropertiesMethod(entityType, processingEnv);
 
         TypeSpec.Builder mapperBuilder = TypeSpec.classBuilder(mapperClassName)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
@@ -91,8 +97,18 @@ public class MapperGenerator {
                 .addMethod(getNodeIdMethod)
                 .addMethod(getNodeIdPropertyNameMethod)
                 .addMethod(setRelationMethod)
+                .addMethod(setDirectedRelationMethod)
                 .addMethod(registerSelfMethod);
 
+        // Only entities with fetchable relationships need a dedicated graph mapping
+        if (mapFromGraphMethod != null) {
+            mapperBuilder.addMethod(mapFromGraphMethod);
+        }
+
+        if (getNormalizedPropertiesMethod != null) {
+            mapperBuilder.addMethod(getNormalizedPropertiesMethod);
+        }
+
         // Only add applyPostLoadConverters if it's not empty
         if (applyPostLoadConvertersMethod != null) {
             mapperBuilder.addMethod(applyPostLoadConvertersMethod);
@@ -129,6 +145,14 @@ public class MapperGenerator {
         b.addStatement("$T instance = new $T()",
                 TypeName.get(entityType.asType()),
                 TypeName.get(entityType.asType()));
+        // Only owners of relationships are looked up by element id, see ElementIds
+        boolean hasFetchedRelationships = ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
+                .map(f -> f.getAnnotation(Relationship.class))
+                .anyMatch(r -> r != null && (r.mode() == RelationshipMode.FETCH_ONLY
+                        || r.mode() == RelationshipMode.FETCH_AND_PERSIST));
+        if (hasFetchedRelationships) {
+            b.addStatement("$T.remember(instance, nodeValue)", ElementIds.class);
+        }
 
         for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
             if (!shouldIncludeField(field, env))
@@ -150,6 +174,60 @@ public class MapperGenerator {
         return b.build();
     }
 
+    // ======================================================================
+    // mapFromGraph()
+    // ======================================================================
+
+    private MethodSpec generateMapFromGraphMethod(TypeElement entityType) {
+        List<VariableElement> fields = GraphProjectionBuilder.fetchableFields(entityType);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        ClassName valueClass = ClassName.get("org.neo4j.driver", "Value");
+        MethodSpec.Builder b = MethodSpec.methodBuilder("mapFromGraph")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.get(entityType.asType()))
+                .addParameter(valueClass, "graph");
+
+        b.addStatement("$T instance = mapFromValue(graph)", TypeName.get(entityType.asType()));
+
+        // Keys are only present up to the projected depth; absent keys leave the field untouched.
+        for (VariableElement field : fields) {
+            String fieldName = field.getSimpleName().toString();
+            String setter = MapperUtil.resolveSetterName(field);
+            ClassName targetClass = ClassName.bestGuess(MapperUtil.getFieldType(field));
+            boolean isCollection = MapperUtil.stripAnnotations(field.asType().toString()).startsWith("java.util.List");
+            String mapperVar = "_" + fieldName + "Mapper";
+
+            b.beginControlFlow("if (graph.containsKey($S))", fieldName);
+            b.addStatement("$T<$T> $L = registry.get($T.class)", EntityMapper.class, targetClass, mapperVar, targetClass);
+            if (isCollection) {
+                b.addStatement("$T<$T> _related = new $T<>()", List.class, targetClass, ArrayList.class);
+                b.beginControlFlow("for ($T _item : graph.get($S).values())", valueClass, fieldName);
+                b.addStatement("$T _child = $L.mapFromGraph(_item)", targetClass, mapperVar);
+                b.addStatement("$L.applyPostLoadConverters(_child)", mapperVar);
+                b.addStatement("_related.add(_child)");
+                b.endControlFlow();
+                b.addStatement("instance.$L(_related)", setter);
+            } else {
+                b.addStatement("$T _item = graph.get($S)", valueClass, fieldName);
+                b.beginControlFlow("if (_item.isNull())");
+                b.addStatement("instance.$L(null)", setter);
+                b.nextControlFlow("else");
+                b.addStatement("$T _child = $L.mapFromGraph(_item)", targetClass, mapperVar);
+                b.addStatement("$L.applyPostLoadConverters(_child)", mapperVar);
+                b.addStatement("instance.$L(_child)", setter);
+                b.endControlFlow();
+            }
+            b.endControlFlow();
+        }
+
+        b.addStatement("return instance");
+        return b.build();
+    }
+
     // ======================================================================
     // map()
     // ======================================================================
@@ -184,7 +262,7 @@ public class MapperGenerator {
                 b.addStatement("$T<$T> _relMapper = registry.get($T.class)",
                         EntityMapper.class, targetClass, targetClass);
                 b.addStatement("$T<$T> _relList = new $T<>()",
-                        List.class, targetClass, java.util.ArrayList.class);
+                        List.class, targetClass, ArrayList.class);
                 b.beginControlFlow("for ($T _item : record.get($S).values())",
                         ClassName.get("org.neo4j.driver", "Value"), fieldName);
                 b.beginControlFlow("if (!_item.isNull())");
@@ -218,7 +296,7 @@ public class MapperGenerator {
                 .addStatement("$T<String,Object> properties = new $T<>()",
                         Map.class, java.util.HashMap.class)
                 .addStatement("$T<$T> relationships = new $T<>()",
-                        List.class, RelationshipData.class, java.util.ArrayList.class);
+                        List.class, RelationshipData.class, ArrayList.class);
 
         // Properties
         for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
@@ -230,6 +308,13 @@ public class MapperGenerator {
             handler.ifPresent(h -> b.addCode(h.generateToDbCode(field, "entity", "properties")));
         }
 
+        // Lower-cased shadow properties of @Property(normalized = true) fields
+        for (VariableElement field : normalizedFields(entityType)) {
+            String getter = MapperUtil.resolveGetterName(field);
+            b.addStatement("properties.put($S, entity.$L() != null ? entity.$L().toLowerCase($T.ROOT) : null)",
+                    MapperUtil.getPropertyName(field) + Property.NORMALIZED_SUFFIX, getter, getter, Locale.class);
+        }
+
         // Relationships
         boolean hasPersistableRelationships = ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
                 .map(f -> f.getAnnotation(Relationship.class))
@@ -255,23 +340,39 @@ public class MapperGenerator {
             // pointing to different node types (issue #60) are cleared independently. The '|'
             // delimiter is safe because Cypher identifiers only contain [A-Za-z0-9_].
             String relKey = rel.type() + "|" + rel.direction().name() + "|" + resolveTargetLabel(targetType, env);
+            // A lazy relationship that was never accessed is left untouched like a null one, without loading it
+            CodeBlock present = rel.fetch() == FetchType.LAZY
+                    ? CodeBlock.of("entity.$L() != null && !$T.isPending(entity.$L())", getter, LazyRelation.class, getter)
+                    : CodeBlock.of("entity.$L() != null", getter);
 
             if (isCollection) {
-                b.beginControlFlow("if (entity.$L() != null)", getter)
+                b.beginControlFlow("if ($L)", present)
                         .addStatement("_persistableKeys.add($S)", relKey)
                         .beginControlFlow("for (var related : entity.$L())", getter)
                         .addCode(buildRelationshipAddCode(rel, targetType, "related"))
                         .endControlFlow()
                         .endControlFlow();
+            } else if (rel.fetch() == FetchType.LAZY) {
+                // A loaded proxy of an absent node is not null itself but fails on every call, so the
+                // resolved value is persisted instead
+                String resolved = "_" + field.getSimpleName();
+                b.beginControlFlow("if ($L)", present)
+                        .addStatement("$T $L = $T.resolve(entity.$L())", ClassName.bestGuess(targetType), resolved,
+                                LazyRelation.class, getter)
+                        .beginControlFlow("if ($L != null)", resolved)
+                        .addStatement("_persistableKeys.add($S)", relKey)
+                        .addCode(buildRelationshipAddCode(rel, targetType, resolved))
+                        .endControlFlow()
+                        .endControlFlow();
             } else {
-                b.beginControlFlow("if (entity.$L() != null)", getter)
+                b.beginControlFlow("if ($L)", present)
                         .addStatement("_persistableKeys.add($S)", relKey)
                         .addCode(buildRelationshipAddCode(rel, targetType, "entity." + getter + "()"))
                         .endControlFlow();
             }
         }
 
-        b.addStatement("return new $T($T.class, properties, relationships, $L)",
+        b.addStatement("return new $T($T.class, properties, relationships, $L, entity)",
                 EntityWithRelations.class,
                 TypeName.get(entityType.asType()),
                 hasPersistableRelationships ? CodeBlock.of("_persistableKeys") : CodeBlock.of("$T.of()", Set.class));
@@ -383,11 +484,58 @@ public class MapperGenerator {
         throw new IllegalStateException("No @NodeId field in " + entityType.getSimpleName());
     }
 
+    // ======================================================================
+    // Normalized properties
+    // ======================================================================
+
+    private MethodSpec generateGetNormalizedPropertiesMethod(TypeElement entityType, ProcessingEnvironment env) {
+        for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
+            Property property = field.getAnnotation(Property.class);
+            if (property != null && property.normalized() && !isString(field)) {
+                env.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@Property(normalized = true) requires a String field", field);
+            }
+        }
+        List<VariableElement> fields = normalizedFields(entityType);
+        if (fields.isEmpty()) {
+            return null;
+        }
+        CodeBlock names = fields.stream()
+                .map(field -> CodeBlock.of("$S", MapperUtil.getPropertyName(field)))
+                .collect(CodeBlock.joining(", "));
+        return MethodSpec.methodBuilder("getNormalizedProperties")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(Set.class, String.class))
+                .addStatement("return $T.of($L)", Set.class, names)
+                .build();
+    }
+
+    /**
+     * {@code String} fields declared with {@code @Property(normalized = true)}.
+     */
+    static List<VariableElement> normalizedFields(TypeElement entityType) {
+        return ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
+                .filter(field -> {
+                    Property property = field.getAnnotation(Property.class);
+                    return property != null && property.normalized() && isString(field);
+                })
+                .toList();
+    }
+
+    private static boolean isString(VariableElement field) {
+        return "java.lang.String".equals(MapperUtil.stripAnnotations(field.asType().toString()));
+    }
+
     // ======================================================================
     // setRelation (fetch side)
     // ======================================================================
 
-    private MethodSpec generateSetRelationMethod(TypeElement entityType) {
+    /**
+     * @param byDirection whether to generate the overload that also takes the direction, which tells
+     *        apart fields sharing type and target
+     */
+    private MethodSpec generateSetRelationMethod(TypeElement entityType, boolean byDirection) {
         List<VariableElement> relFields = ElementFilter.fieldsIn(entityType.getEnclosedElements())
                 .stream()
                 .filter(f -> f.getAnnotation(Relationship.class) != null)
@@ -397,8 +545,11 @@ public class MapperGenerator {
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(TypeName.get(entityType.asType()), "entity")
-                .addParameter(String.class, "relationType")
-                .addParameter(Object.class, "relatedEntity");
+                .addParameter(String.class, "relationType");
+        if (byDirection) {
+            b.addParameter(Direction.class, "direction");
+        }
+        b.addParameter(Object.class, "relatedEntity");
 
         if (relFields.isEmpty()) {
             b.addStatement("// no relations");
@@ -419,21 +570,23 @@ public class MapperGenerator {
             List<VariableElement> fields = entry.getValue();
             b.beginControlFlow("case $S ->", entry.getKey());
 
-            if (fields.size() == 1) {
-                VariableElement field = fields.get(0);
-                ClassName targetClass = ClassName.bestGuess(MapperUtil.getFieldType(field));
-                emitRelationAssignment(b, field, CodeBlock.of("($T) relatedEntity", targetClass));
+            Map<Direction, List<VariableElement>> byDir = new java.util.EnumMap<>(Direction.class);
+            for (VariableElement field : fields) {
+                byDir.computeIfAbsent(field.getAnnotation(Relationship.class).direction(),
+                        k -> new java.util.ArrayList<>()).add(field);
+            }
+            if (!byDirection || byDir.size() == 1) {
+                emitTargetDispatch(b, fields);
             } else {
                 boolean firstBranch = true;
-                for (VariableElement field : fields) {
-                    ClassName targetClass = ClassName.bestGuess(MapperUtil.getFieldType(field));
+                for (Map.Entry<Direction, List<VariableElement>> dir : byDir.entrySet()) {
                     if (firstBranch) {
-                        b.beginControlFlow("if (relatedEntity instanceof $T related)", targetClass);
+                        b.beginControlFlow("if (direction == $T.$L)", Direction.class, dir.getKey().name());
                         firstBranch = false;
                     } else {
-                        b.nextControlFlow("else if (relatedEntity instanceof $T related)", targetClass);
+                        b.nextControlFlow("else if (direction == $T.$L)", Direction.class, dir.getKey().name());
                     }
-                    emitRelationAssignment(b, field, CodeBlock.of("related"));
+                    emitTargetDispatch(b, dir.getValue());
                 }
                 b.endControlFlow();
             }
@@ -447,6 +600,31 @@ public class MapperGenerator {
         return b.build();
     }
 
+    /**
+     * Emits the assignment of a related entity to one of the given fields sharing a relationship type,
+     * chosen by the runtime type of the related entity.
+     */
+    private void emitTargetDispatch(MethodSpec.Builder b, List<VariableElement> fields) {
+        if (fields.size() == 1) {
+            VariableElement field = fields.get(0);
+            ClassName targetClass = ClassName.bestGuess(MapperUtil.getFieldType(field));
+            emitRelationAssignment(b, field, CodeBlock.of("($T) relatedEntity", targetClass));
+            return;
+        }
+        boolean firstBranch = true;
+        for (VariableElement field : fields) {
+            ClassName targetClass = ClassName.bestGuess(MapperUtil.getFieldType(field));
+            if (firstBranch) {
+                b.beginControlFlow("if (relatedEntity instanceof $T related)", targetClass);
+                firstBranch = false;
+            } else {
+                b.nextControlFlow("else if (relatedEntity instanceof $T related)", targetClass);
+            }
+            emitRelationAssignment(b, field, CodeBlock.of("related"));
+        }
+        b.endControlFlow();
+    }
+
     /**
      * Emits the assignment of a related entity to its field, handling both collection and
      * single-valued relationships. {@code relatedExpr} already evaluates to the correct target type.
@@ -458,7 +636,7 @@ public class MapperGenerator {
 
         if (isCollection) {
             b.beginControlFlow("if (entity.$L() == null)", getter)
-                    .addStatement("entity.$L(new $T<>())", setter, java.util.ArrayList.class)
+                    .addStatement("entity.$L(new $T<>())", setter, ArrayList.class)
                     .endControlFlow()
                     .addStatement("entity.$L().add($L)", getter, relatedExpr);
         } else {
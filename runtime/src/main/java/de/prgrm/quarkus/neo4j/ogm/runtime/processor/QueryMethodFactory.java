@@ -1,5 +1,6 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.processor;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,6 +11,7 @@ import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
 
 import com.palantir.javapoet.*;
 
@@ -77,6 +79,7 @@ final class QueryMethodFactory {
         }
 
         CodeBlock mapArgs = buildMapArgs(paramNames, explicitTypes, entityType, env);
+        CodeBlock cacheSettings = buildCacheSettings(entityType, q, hasWrite || transactional, env);
 
         // --- Projection support: check for resultClass ---
         TypeMirror resultClassMirror = getResultClassMirror(q);
@@ -84,8 +87,8 @@ final class QueryMethodFactory {
                 && resultClassMirror.getKind() != TypeKind.VOID;
 
         if (isProjection) {
-            return buildProjectionMethod(reactive, mb, returnType, resultClassMirror,
-                    hasWrite, hasRet, transactional, paramNames, mapArgs, env);
+            return buildProjectionMethod(reactive, mb, q.name(), returnType, resultClassMirror,
+                    hasWrite, hasRet, transactional, paramNames, mapArgs, cacheSettings, env);
         }
 
         // --- Existing entity/scalar paths ---
@@ -113,7 +116,7 @@ final class QueryMethodFactory {
                 || returnType == ReturnType.SCALAR) {
 
             repoCall = "queryScalar";
-            return buildScalarMethod(reactive, mb, repoCall, returnType, paramNames, mapArgs);
+            return buildScalarMethod(reactive, mb, q.name(), repoCall, returnType, paramNames, mapArgs, cacheSettings);
         }
 
         if (returnType == ReturnType.LIST) {
@@ -134,21 +137,77 @@ final class QueryMethodFactory {
             }
         }
 
-        ClassName mapClass = ClassName.get("java.util", "Map");
-        if (paramNames.isEmpty()) {
-            mb.addStatement("return $L(query, $T.of())", repoCall, mapClass);
-        } else {
-            mb.addStatement("return $L(query, $T.of(" + mapArgs + "))", repoCall, mapClass);
-        }
+        addReturn(mb, q.name(), repoCall, paramNames, mapArgs, null, cacheSettings);
 
         return mb.build();
     }
 
+    // ========================= Result Cache =========================
+
+    /**
+     * @return the cache settings of a cacheable query, or {@code null} if its result is not cached
+     */
+    private static CodeBlock buildCacheSettings(TypeElement entityType, Query q, boolean writes,
+            ProcessingEnvironment env) {
+        if (!q.cacheable()) {
+            return null;
+        }
+        if (writes) {
+            env.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@Query " + q.name() + " writes data and cannot be cacheable", entityType);
+            return null;
+        }
+        if (q.maxEntries() <= 0 || q.ttlSeconds() <= 0) {
+            env.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "@Query " + q.name() + " needs a positive maxEntries and ttlSeconds", entityType);
+            return null;
+        }
+        return CodeBlock.of("new $T($L, $T.ofSeconds($LL))",
+                ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.cache", "BoundedCache", "Settings"),
+                q.maxEntries(), Duration.class, q.ttlSeconds());
+    }
+
+    /**
+     * Adds the statement returning {@code repoCall(query, params[, mapper])}. If {@code cacheSettings} is
+     * set, the query goes through the repository's result cache instead, which keeps the records and maps
+     * them again on every call.
+     */
+    private static void addReturn(
+            MethodSpec.Builder mb,
+            String queryName,
+            String repoCall,
+            List<String> paramNames,
+            CodeBlock mapArgs,
+            CodeBlock mapper,
+            CodeBlock cacheSettings) {
+
+        ClassName mapClass = ClassName.get("java.util", "Map");
+        CodeBlock params = paramNames.isEmpty()
+                ? CodeBlock.of("$T.of()", mapClass)
+                : CodeBlock.of("$T.of($L)", mapClass, mapArgs);
+        CodeBlock mapperArg = mapper == null ? CodeBlock.of("") : CodeBlock.of(", $L", mapper);
+
+        if (cacheSettings == null) {
+            mb.addStatement("return $L(query, $L$L)", repoCall, params, mapperArg);
+            return;
+        }
+        mb.addStatement("$T<String, Object> _params = $L", mapClass, params);
+        String recordsMapper = switch (repoCall) {
+            case "query" -> "mapEntities";
+            case "querySingle" -> "mapEntity";
+            case "queryScalarList" -> "mapAll";
+            default -> "mapFirst";
+        };
+        mb.addStatement("return cachedQuery($S, _params, $L, query, records -> $L(records$L))",
+                queryName, cacheSettings, recordsMapper, mapperArg);
+    }
+
     // ========================= Projection Methods =========================
 
     private static MethodSpec buildProjectionMethod(
             boolean reactive,
             MethodSpec.Builder mb,
+            String queryName,
             ReturnType returnType,
             TypeMirror resultClassMirror,
             boolean hasWrite,
@@ -156,6 +215,7 @@ final class QueryMethodFactory {
             boolean transactional,
             List<String> paramNames,
             CodeBlock mapArgs,
+            CodeBlock cacheSettings,
             ProcessingEnvironment env) {
 
         TypeElement resultType = (TypeElement) env.getTypeUtils().asElement(resultClassMirror);
@@ -194,13 +254,7 @@ final class QueryMethodFactory {
             mapperLambda = buildDtoMapperLambda(resultType, resultClassName, env);
         }
 
-        // Build the return statement
-        ClassName mapClass = ClassName.get("java.util", "Map");
-        if (paramNames.isEmpty()) {
-            mb.addStatement("return $L(query, $T.of(), $L)", repoCall, mapClass, mapperLambda);
-        } else {
-            mb.addStatement("return $L(query, $T.of(" + mapArgs + "), $L)", repoCall, mapClass, mapperLambda);
-        }
+        addReturn(mb, queryName, repoCall, paramNames, mapArgs, mapperLambda, cacheSettings);
 
         return mb.build();
     }
@@ -356,10 +410,12 @@ final class QueryMethodFactory {
     private static MethodSpec buildScalarMethod(
             boolean reactive,
             MethodSpec.Builder mb,
+            String queryName,
             String repoCall,
             ReturnType returnType,
             List<String> paramNames,
-            CodeBlock mapArgs) {
+            CodeBlock mapArgs,
+            CodeBlock cacheSettings) {
 
         TypeName scalarType;
 
@@ -378,8 +434,6 @@ final class QueryMethodFactory {
             mb.returns(scalarType);
         }
 
-        ClassName mapClass = ClassName.get("java.util", "Map");
-
         String mapperLambda = switch (returnType) {
             case BOOLEAN -> "r -> r.get(0).asBoolean()";
             case LONG -> "r -> r.get(0).asLong()";
@@ -387,11 +441,7 @@ final class QueryMethodFactory {
             default -> "r -> r.get(0).asObject()";
         };
 
-        if (paramNames.isEmpty()) {
-            mb.addStatement("return $L(query, $T.of(), $L)", repoCall, mapClass, mapperLambda);
-        } else {
-            mb.addStatement("return $L(query, $T.of(" + mapArgs + "), $L)", repoCall, mapClass, mapperLambda);
-        }
+        addReturn(mb, queryName, repoCall, paramNames, mapArgs, CodeBlock.of(mapperLambda), cacheSettings);
 
         return mb.build();
     }
@@ -1,6 +1,7 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.processor;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -17,6 +18,7 @@ import com.palantir.javapoet.ParameterizedTypeName;
 import com.palantir.javapoet.TypeName;
 import com.palantir.javapoet.TypeSpec;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Cacheable;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Relationship;
 
 public class RepositoryGenerator {
@@ -95,6 +97,30 @@ public class RepositoryGenerator {
 
         repositoryClassBuilder.addMethod(getEntityTypeMethod);
 
+        // Shallow relationship graphs are fetched with a single projection query
+        String graphProjection = GraphProjectionBuilder.build(entityType, processingEnv);
+        if (graphProjection != null) {
+            repositoryClassBuilder.addMethod(MethodSpec.methodBuilder("graphProjection")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(String.class)
+                    .addStatement("return $S", graphProjection)
+                    .build());
+        }
+
+        // Entities opted into the second-level cache
+        Cacheable cacheable = entityType.getAnnotation(Cacheable.class);
+        if (cacheable != null) {
+            ClassName settings = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.cache", "BoundedCache", "Settings");
+            repositoryClassBuilder.addMethod(MethodSpec.methodBuilder("cacheSettings")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(settings)
+                    .addStatement("return new $T($L, $T.ofSeconds($LL))", settings, cacheable.maxEntries(),
+                            Duration.class, cacheable.ttlSeconds())
+                    .build());
+        }
+
         TypeSpec repositoryClass = repositoryClassBuilder.build();
         JavaFile javaFile = JavaFile.builder(packageName, repositoryClass).build();
 
@@ -0,0 +1,101 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.processor;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.JavaFile;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeSpec;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Indexed;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.NodeId;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Property;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Unique;
+import de.prgrm.quarkus.neo4j.ogm.runtime.processor.util.MapperUtil;
+
+/**
+ * Generates the {@code EntitySchema} of an entity: a uniqueness constraint on its {@code @NodeId}
+ * property, which every generated lookup matches on, plus the {@code @Unique} and {@code @Indexed}
+ * properties. An {@code @Indexed} normalized property also gets an index on its shadow property.
+ */
+public class SchemaGenerator {
+
+    private static final ClassName ENTITY_SCHEMA = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.schema",
+            "EntitySchema");
+    private static final ClassName SCHEMA_INDEX = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.schema",
+            "SchemaIndex");
+
+    public void generateSchema(
+            String packageName,
+            TypeElement entityType,
+            String schemaClassName,
+            String label,
+            ProcessingEnvironment processingEnv) {
+
+        // Property -> unique; a unique property needs no additional index
+        Map<String, Boolean> properties = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
+            String property = MapperUtil.getPropertyName(field);
+            if (field.getAnnotation(NodeId.class) != null || field.getAnnotation(Unique.class) != null) {
+                properties.put(property, true);
+            } else if (field.getAnnotation(Indexed.class) != null) {
+                properties.putIfAbsent(property, false);
+            }
+            // Case-insensitive filters compare the shadow property of normalized fields
+            Property mapped = field.getAnnotation(Property.class);
+            if (mapped != null && mapped.normalized() && field.getAnnotation(Indexed.class) != null) {
+                properties.putIfAbsent(property + Property.NORMALIZED_SUFFIX, false);
+            }
+        }
+
+        CodeBlock.Builder indexes = CodeBlock.builder().add("return $T.of(", List.class);
+        boolean first = true;
+        for (Map.Entry<String, Boolean> entry : properties.entrySet()) {
+            indexes.add(first ? "\n$T.$L($S, $S)" : ",\n$T.$L($S, $S)", SCHEMA_INDEX,
+                    entry.getValue() ? "unique" : "index", label, entry.getKey());
+            first = false;
+        }
+        indexes.add(")");
+
+        TypeSpec schemaClass = TypeSpec.classBuilder(schemaClassName)
+                .addAnnotation(ApplicationScoped.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addSuperinterface(ENTITY_SCHEMA)
+                .addMethod(MethodSpec.methodBuilder("label")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addStatement("return $S", label)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("indexes")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ParameterizedTypeName.get(ClassName.get(List.class), SCHEMA_INDEX))
+                        .addStatement(indexes.build())
+                        .build())
+                .build();
+
+        JavaFile javaFile = JavaFile.builder(packageName, schemaClass).build();
+        try {
+            javaFile.writeTo(processingEnv.getFiler());
+            processingEnv.getMessager().printMessage(javax.tools.Diagnostic.Kind.NOTE,
+                    "Generated schema: " + packageName + "." + schemaClassName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(javax.tools.Diagnostic.Kind.ERROR,
+                    "Failed to generate schema: " + e.getMessage());
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.processor.relations;
 
+import java.util.List;
+import java.util.Set;
+
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+
+import com.palantir.javapoet.CodeBlock;
 
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.FetchType;
 import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.ElementIds;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Relationship;
 
 abstract class AbstractRelationLoaderGenerator {
 
+    protected static final String FETCHABLE_FIELDS = "FETCHABLE_RELATIONSHIPS";
+
     protected boolean shouldFetchRelationship(Relationship rel) {
         return rel.mode() == RelationshipMode.FETCH_ONLY
                 || rel.mode() == RelationshipMode.FETCH_AND_PERSIST;
     }
 
+    protected boolean isLazy(Relationship rel) {
+        return rel.fetch() == FetchType.LAZY;
+    }
+
     protected String buildQuery(String sourceLabel, Direction direction, String relationType, String targetLabel) {
         String left = direction == Direction.INCOMING ? "<-" : "-";
         String right = direction == Direction.OUTGOING ? "->" : "-";
@@ -21,6 +35,38 @@ abstract class AbstractRelationLoaderGenerator {
                 sourceLabel, left, relationType, right, targetLabel);
     }
 
+    /**
+     * Builds the variant of {@link #buildQuery} that finds the owner by the element id captured when it was
+     * mapped, a direct node lookup instead of an index seek. The id is compared as well, since Neo4j may
+     * reuse the element id of a deleted node.
+     */
+    protected String buildElementIdQuery(String sourceLabel, Direction direction, String relationType,
+            String targetLabel) {
+        String left = direction == Direction.INCOMING ? "<-" : "-";
+        String right = direction == Direction.OUTGOING ? "->" : "-";
+        return String.format("MATCH (n:%s)%s[:%s]%s(m:%s) WHERE elementId(n) = $%s AND n.id = $id RETURN m as node",
+                sourceLabel, left, relationType, right, targetLabel, ElementIds.PARAMETER);
+    }
+
+    /**
+     * The relation query of an owner, chosen in the generated code by the {@code byElementId} flag of its
+     * {@code ownerParams}.
+     */
+    protected CodeBlock relationQuery(String byId, String byElementId) {
+        return CodeBlock.of("(byElementId ? $S : $S)", byElementId, byId);
+    }
+
+    /**
+     * Builds the batched variant of {@link #buildQuery}: one row per owner id with all related nodes
+     * collected, so a whole traversal level is resolved in a single round-trip.
+     */
+    protected String buildBatchQuery(String sourceLabel, Direction direction, String relationType, String targetLabel) {
+        String left = direction == Direction.INCOMING ? "<-" : "-";
+        String right = direction == Direction.OUTGOING ? "->" : "-";
+        return String.format("UNWIND $ids AS id MATCH (n:%s {id: id})%s[:%s]%s(m:%s) RETURN id, collect(m) AS nodes",
+                sourceLabel, left, relationType, right, targetLabel);
+    }
+
     protected String resolveSetterName(VariableElement field) {
         String name = field.getSimpleName().toString();
         return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
@@ -31,6 +77,18 @@ abstract class AbstractRelationLoaderGenerator {
         return "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
     }
 
+    /**
+     * The names of the relationship fields a fetch plan may name, checked by the generated loaders.
+     */
+    protected CodeBlock fetchableFieldNames(TypeElement entityType) {
+        List<CodeBlock> names = ElementFilter.fieldsIn(entityType.getEnclosedElements()).stream()
+                .filter(f -> f.getAnnotation(Relationship.class) != null
+                        && shouldFetchRelationship(f.getAnnotation(Relationship.class)))
+                .map(f -> CodeBlock.of("$S", f.getSimpleName().toString()))
+                .toList();
+        return CodeBlock.of("$T.of($L)", Set.class, CodeBlock.join(names, ", "));
+    }
+
     abstract void generateRelationLoader(
             String packageName,
             TypeElement entityType,
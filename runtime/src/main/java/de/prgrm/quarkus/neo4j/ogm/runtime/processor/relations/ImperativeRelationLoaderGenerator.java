@@ -2,7 +2,12 @@ package de.prgrm.quarkus.neo4j.ogm.runtime.processor.relations;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
@@ -15,10 +20,15 @@ import javax.tools.Diagnostic;
 
 import com.palantir.javapoet.*;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.ElementIds;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.LazyList;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.NodeEntity;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationLoader;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Relationship;
+import de.prgrm.quarkus.neo4j.ogm.runtime.processor.LazyProxyGenerator;
 import de.prgrm.quarkus.neo4j.ogm.runtime.processor.util.MapperUtil;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
 
 public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGenerator {
 
@@ -37,7 +47,8 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
         TypeMirror listType = processingEnv.getElementUtils()
                 .getTypeElement("java.util.List").asType();
 
-        TypeSpec.Builder classBuilder = buildImperativeClassBase(loaderClassName, entityType.getQualifiedName().toString());
+        TypeSpec.Builder classBuilder = buildImperativeClassBase(loaderClassName, entityType.getQualifiedName().toString(),
+                fetchableFieldNames(entityType));
 
         classBuilder.addMethod(buildImperativeLoaderWithDepth(
                 entityType,
@@ -47,6 +58,14 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
 
         classBuilder.addMethod(buildImperativeRecursiveLoader().build());
 
+        classBuilder.addMethod(buildImperativeBatchLoader(
+                entityType,
+                entityType.getQualifiedName().toString(),
+                types,
+                listType).build());
+
+        classBuilder.addMethod(buildImperativeBatchRecursion().build());
+
         try {
             JavaFile.builder(packageName, classBuilder.build())
                     .build()
@@ -59,7 +78,8 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
         }
     }
 
-    private TypeSpec.Builder buildImperativeClassBase(String loaderClassName, String qualifiedName) {
+    private TypeSpec.Builder buildImperativeClassBase(String loaderClassName, String qualifiedName,
+            CodeBlock fetchableFields) {
         ClassName repositoryRegistryClass = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.repository",
                 "RepositoryRegistry");
         ClassName relationVisitorClass = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.repository",
@@ -70,6 +90,10 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
                 .addAnnotation(ClassName.get("jakarta.enterprise.context", "ApplicationScoped"))
                 .addSuperinterface(ParameterizedTypeName.get(
                         ClassName.get(RelationLoader.class), ClassName.bestGuess(qualifiedName)))
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(Set.class, String.class), FETCHABLE_FIELDS,
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(fetchableFields)
+                        .build())
                 .addField(repositoryRegistryClass, "registry", Modifier.PRIVATE, Modifier.FINAL)
                 .addField(relationVisitorClass, "relationVisitor", Modifier.PRIVATE, Modifier.FINAL)
                 .addMethod(MethodSpec.constructorBuilder()
@@ -106,15 +130,26 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
                 .returns(void.class)
                 .addParameter(ClassName.bestGuess(qualifiedName), "entity")
                 .addParameter(int.class, "currentDepth")
+                .addParameter(FetchPlan.class, "plan")
+                .beginControlFlow("if (plan != null)")
+                .addStatement("plan.validate($T.class, $L)", ClassName.bestGuess(qualifiedName), FETCHABLE_FIELDS)
+                .endControlFlow()
                 .addStatement("Object id = getNodeId(entity)")
                 .beginControlFlow("if (id == null)")
                 .addStatement("return")
                 .endControlFlow()
+                .addComment("Instances completed earlier in the same transaction already carry their relations")
+                .beginControlFlow("if (registry.getRepository($T.class).isManaged(entity))",
+                        ClassName.bestGuess(qualifiedName))
+                .addStatement("return")
+                .endControlFlow()
                 .beginControlFlow("if (!relationVisitor.shouldVisit(entity, currentDepth))")
                 .addStatement("return")
                 .endControlFlow()
-                .addStatement("relationVisitor.markVisited(entity)");
-        ;
+                .addStatement("relationVisitor.markVisited(entity)")
+                .addStatement("$T<String, Object> ownerParams = $T.ownerParameters(entity, id)", Map.class,
+                        ElementIds.class)
+                .addStatement("boolean byElementId = ownerParams.containsKey($T.PARAMETER)", ElementIds.class);
 
         for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
             Relationship rel = field.getAnnotation(Relationship.class);
@@ -133,10 +168,29 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
                     ? relatedType.substring(relatedType.lastIndexOf('.') + 1)
                     : relatedType;
 
-            String query = buildQuery(sourceLabel, rel.direction(), rel.type(), relatedSimple);
+            CodeBlock query = relationQuery(
+                    buildQuery(sourceLabel, rel.direction(), rel.type(), relatedSimple),
+                    buildElementIdQuery(sourceLabel, rel.direction(), rel.type(), relatedSimple));
+
+            CodeBlock planned = plannedValue(isList, ClassName.bestGuess(relatedType), query, fieldName);
+
+            if (isLazy(rel)) {
+                builder.addComment("Lazy relation $L, queried on first access unless planned", fieldName);
+                builder.beginControlFlow("if (plan != null && plan.includes($S))", fieldName);
+                builder.addStatement("entity.$L($L)", setter, planned);
+                builder.nextControlFlow("else");
+                builder.addStatement("entity.$L($L)", setter,
+                        lazyValue(isList, ClassName.bestGuess(relatedType), query));
+                builder.endControlFlow();
+                continue;
+            }
 
             builder.addComment("Loading relation $L (max depth: $L)", fieldName, rel.maxDepth());
-            builder.beginControlFlow("if (!relationVisitor.shouldLoadRelationship(currentDepth, $L))", rel.maxDepth());
+            builder.beginControlFlow("if (plan != null)");
+            builder.beginControlFlow("if (plan.includes($S))", fieldName);
+            builder.addStatement("entity.$L($L)", setter, planned);
+            builder.endControlFlow();
+            builder.nextControlFlow("else if (!relationVisitor.shouldLoadRelationship(currentDepth, $L))", rel.maxDepth());
             if (isList) {
                 builder.addStatement("entity.$L(new $T<>())", setter, ArrayList.class);
             } else {
@@ -146,19 +200,17 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
 
             builder.beginControlFlow("try");
             builder.addStatement("var repository = registry.getRepository($T.class)", ClassName.bestGuess(relatedType));
-            builder.addStatement("String query = $S", query);
+            builder.addStatement("String query = $L", query);
 
             if (isList) {
-                builder.addStatement("var results = repository.query(query, $T.of($S, id.toString()))", Map.class, "id");
+                builder.addStatement("var results = repository.query(query, ownerParams)");
                 builder.addStatement("if (entity.$L() == null) entity.$L(new $T<>())", getter, setter, ArrayList.class);
                 builder.addStatement("entity.$L().addAll(results)", getter);
                 builder.beginControlFlow("for (var item : entity.$L())", getter);
                 builder.addStatement("loadRelationRecursively(item, currentDepth + 1)");
                 builder.endControlFlow();
             } else {
-                builder.addStatement(
-                        "var result = repository.query(query, $T.of($S, id.toString())).stream().findFirst().orElse(null)",
-                        Map.class, "id");
+                builder.addStatement("var result = repository.query(query, ownerParams).stream().findFirst().orElse(null)");
                 builder.addStatement("entity.$L(result)", setter);
                 builder.beginControlFlow("if (result != null)");
                 builder.addStatement("loadRelationRecursively(result, currentDepth + 1)");
@@ -174,6 +226,192 @@ public class ImperativeRelationLoaderGenerator extends AbstractRelationLoaderGen
         return builder;
     }
 
+    /**
+     * Builds {@code loadRelationsBatch(List, int)}: one {@code UNWIND} query per relationship field for
+     * all owners of the current level, spread back onto the owners via {@code EntityMapper.setRelation},
+     * followed by a single recursive call per field for the next level.
+     */
+    private MethodSpec.Builder buildImperativeBatchLoader(TypeElement entityType, String qualifiedName,
+            Types types, TypeMirror listType) {
+        NodeEntity nodeAnnotation = entityType.getAnnotation(NodeEntity.class);
+
+        String sourceLabel;
+        if (nodeAnnotation != null && !nodeAnnotation.label().isEmpty()) {
+            sourceLabel = nodeAnnotation.label();
+        } else {
+            sourceLabel = entityType.getSimpleName().toString();
+        }
+
+        ClassName entityClass = ClassName.bestGuess(qualifiedName);
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("loadRelationsBatch")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(void.class)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), entityClass), "entities")
+                .addParameter(int.class, "currentDepth")
+                .addParameter(FetchPlan.class, "plan")
+                .beginControlFlow("if (plan != null)")
+                .addStatement("plan.validate($T.class, $L)", entityClass, FETCHABLE_FIELDS)
+                .endControlFlow()
+                .addStatement("var ownerRepository = registry.getRepository($T.class)", entityClass)
+                .addStatement("$T<String, $T> owners = new $T<>()", Map.class, entityClass, LinkedHashMap.class)
+                .beginControlFlow("for ($T entity : entities)", entityClass)
+                .addStatement("Object id = entity != null ? getNodeId(entity) : null")
+                .beginControlFlow("if (id == null || ownerRepository.isManaged(entity)"
+                        + " || !relationVisitor.shouldVisit(entity, currentDepth))")
+                .addStatement("continue")
+                .endControlFlow()
+                .addStatement("relationVisitor.markVisited(entity)")
+                .addStatement("owners.put(id.toString(), entity)")
+                .endControlFlow()
+                .beginControlFlow("if (owners.isEmpty())")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("var ownerMapper = ownerRepository.getEntityMapper()");
+
+        for (VariableElement field : ElementFilter.fieldsIn(entityType.getEnclosedElements())) {
+            Relationship rel = field.getAnnotation(Relationship.class);
+            if (rel == null || !shouldFetchRelationship(rel))
+                continue;
+
+            String fieldName = field.getSimpleName().toString();
+            String setter = resolveSetterName(field);
+            String fieldType = MapperUtil.stripAnnotations(field.asType().toString());
+            boolean isList = types.isAssignable(field.asType(), types.erasure(listType));
+            String relatedType = isList
+                    ? fieldType.substring(fieldType.indexOf('<') + 1, fieldType.lastIndexOf('>'))
+                    : fieldType;
+            String relatedSimple = relatedType.contains(".")
+                    ? relatedType.substring(relatedType.lastIndexOf('.') + 1)
+                    : relatedType;
+            ClassName relatedClass = ClassName.bestGuess(relatedType);
+
+            String query = buildBatchQuery(sourceLabel, rel.direction(), rel.type(), relatedSimple);
+
+            if (isLazy(rel)) {
+                CodeBlock lazyQuery = relationQuery(
+                        buildQuery(sourceLabel, rel.direction(), rel.type(), relatedSimple),
+                        buildElementIdQuery(sourceLabel, rel.direction(), rel.type(), relatedSimple));
+                builder.addComment("Lazy relation $L, queried on first access unless planned", fieldName);
+                builder.beginControlFlow("if (plan != null && plan.includes($S))", fieldName);
+                addBatchLoad(builder, rel, fieldName, setter, isList, relatedClass, query);
+                builder.nextControlFlow("else");
+                builder.beginControlFlow("for (var owner : owners.entrySet())");
+                builder.addStatement("var ownerParams = $T.ownerParameters(owner.getValue(), owner.getKey())",
+                        ElementIds.class);
+                builder.addStatement("boolean byElementId = ownerParams.containsKey($T.PARAMETER)", ElementIds.class);
+                builder.addStatement("owner.getValue().$L($L)", setter, lazyValue(isList, relatedClass, lazyQuery));
+                builder.endControlFlow();
+                builder.endControlFlow();
+                continue;
+            }
+
+            builder.addComment("Loading relation $L (max depth: $L)", fieldName, rel.maxDepth());
+            builder.beginControlFlow("if (plan == null && !relationVisitor.shouldLoadRelationship(currentDepth, $L))",
+                    rel.maxDepth());
+            builder.beginControlFlow("for ($T owner : owners.values())", entityClass);
+            if (isList) {
+                builder.addStatement("owner.$L(new $T<>())", setter, ArrayList.class);
+            } else {
+                builder.addStatement("owner.$L(null)", setter);
+            }
+            builder.endControlFlow();
+            builder.nextControlFlow("else if (plan == null || plan.includes($S))", fieldName);
+            addBatchLoad(builder, rel, fieldName, setter, isList, relatedClass, query);
+            builder.endControlFlow();
+        }
+
+        return builder;
+    }
+
+    /**
+     * Emits the batched query of one relationship field for all owners of the current level, followed by
+     * a single recursive call for the next level with the part of the fetch plan below the field.
+     */
+    private void addBatchLoad(MethodSpec.Builder builder, Relationship rel, String fieldName, String setter,
+            boolean isList, ClassName relatedClass, String query) {
+        builder.beginControlFlow("try");
+        builder.addStatement("var repository = registry.getRepository($T.class)", relatedClass);
+        builder.addStatement("var related = repository.findRelatedByOwnerIds($S, owners.keySet())", query);
+        builder.addStatement("$T<$T> loaded = $T.newSetFromMap(new $T<>())",
+                Set.class, relatedClass, Collections.class, IdentityHashMap.class);
+        builder.beginControlFlow("for (var owner : owners.entrySet())");
+        builder.addStatement("$T<$T> items = related.getOrDefault(owner.getKey(), $T.of())",
+                List.class, relatedClass, List.class);
+        if (isList) {
+            builder.addStatement("owner.getValue().$L(new $T<>())", setter, ArrayList.class);
+            builder.beginControlFlow("for ($T item : items)", relatedClass);
+            builder.addStatement("ownerMapper.setRelation(owner.getValue(), $S, $T.$L, item)", rel.type(),
+                    Direction.class, rel.direction().name());
+            builder.addStatement("loaded.add(item)");
+            builder.endControlFlow();
+        } else {
+            builder.addStatement("owner.getValue().$L(null)", setter);
+            builder.beginControlFlow("if (!items.isEmpty())");
+            builder.addStatement("ownerMapper.setRelation(owner.getValue(), $S, $T.$L, items.getFirst())", rel.type(),
+                    Direction.class, rel.direction().name());
+            builder.addStatement("loaded.add(items.getFirst())");
+            builder.endControlFlow();
+        }
+        builder.endControlFlow();
+        builder.addStatement("loadRelatedBatch(repository, new $T<>(loaded), currentDepth + 1, "
+                + "plan != null ? plan.get($S) : null)", ArrayList.class, fieldName);
+        builder.nextControlFlow("catch (Exception e)")
+                .addStatement("throw new RuntimeException($S, e)", "Failed to load relation: " + rel.type())
+                .endControlFlow();
+    }
+
+    /**
+     * The value of a planned relationship field: the related entities read by the repository of the target,
+     * which completes them with the part of the fetch plan below the field.
+     */
+    private CodeBlock plannedValue(boolean isList, ClassName relatedClass, CodeBlock query, String fieldName) {
+        CodeBlock load = CodeBlock.of("registry.getRepository($T.class).query($L, ownerParams, plan.get($S))",
+                relatedClass, query, fieldName);
+        return isList
+                ? CodeBlock.of("new $T<>($L)", ArrayList.class, load)
+                : CodeBlock.of("$L.stream().findFirst().orElse(null)", load);
+    }
+
+    /**
+     * The value of a lazy relationship field: a {@link LazyList} or the generated
+     * {@code <Target>LazyProxy}, both running the relation query through the repository of the target on
+     * first access.
+     */
+    private CodeBlock lazyValue(boolean isList, ClassName relatedClass, CodeBlock query) {
+        CodeBlock load = CodeBlock.of("registry.getRepository($T.class).query($L, ownerParams)", relatedClass, query);
+        if (isList) {
+            return CodeBlock.of("new $T<$T>(() -> $L)", LazyList.class, relatedClass, load);
+        }
+        ClassName proxyClass = ClassName.get(relatedClass.packageName(),
+                relatedClass.simpleName() + LazyProxyGenerator.SUFFIX);
+        return CodeBlock.of("new $T(() -> $L.stream().findFirst().orElse(null))", proxyClass, load);
+    }
+
+    private MethodSpec.Builder buildImperativeBatchRecursion() {
+        TypeVariableName r = TypeVariableName.get("R");
+        return MethodSpec.methodBuilder("loadRelatedBatch")
+                .addModifiers(Modifier.PRIVATE)
+                .addTypeVariable(r)
+                .returns(void.class)
+                .addParameter(ParameterizedTypeName.get(
+                        ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.repository", "Repository"), r), "repository")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), r), "related")
+                .addParameter(int.class, "currentDepth")
+                .addParameter(FetchPlan.class, "plan")
+                .beginControlFlow("if (related.isEmpty())")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("$T loader = repository.getRelationLoader()",
+                        ParameterizedTypeName.get(ClassName.get(RelationLoader.class), r))
+                .beginControlFlow("if (loader != null)")
+                .addStatement("loader.loadRelationsBatch(related, currentDepth, plan)")
+                .endControlFlow()
+                .addStatement("related.stream().filter(r -> !repository.isManaged(r))"
+                        + ".forEach(repository.getEntityMapper()::applyPostLoadConverters)");
+    }
+
     private MethodSpec.Builder buildImperativeRecursiveLoader() {
         return MethodSpec.methodBuilder("loadRelationRecursively")
                 .addModifiers(Modifier.PRIVATE)
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Modifier;
@@ -16,10 +17,12 @@ import javax.tools.Diagnostic;
 
 import com.palantir.javapoet.*;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.ElementIds;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.NodeEntity;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.ReactiveRelationLoader;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Relationship;
 import de.prgrm.quarkus.neo4j.ogm.runtime.processor.util.MapperUtil;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
 
 public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGenerator {
     @Override
@@ -32,7 +35,8 @@ public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGener
         TypeMirror listType = processingEnv.getElementUtils()
                 .getTypeElement("java.util.List").asType();
 
-        TypeSpec.Builder classBuilder = buildReactiveClassBase(loaderClassName, entityType.getQualifiedName().toString());
+        TypeSpec.Builder classBuilder = buildReactiveClassBase(loaderClassName, entityType.getQualifiedName().toString(),
+                fetchableFieldNames(entityType));
 
         classBuilder.addMethod(buildReactiveLoaderWithDepth(
                 entityType,
@@ -54,7 +58,8 @@ public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGener
         }
     }
 
-    private TypeSpec.Builder buildReactiveClassBase(String loaderClassName, String qualifiedName) {
+    private TypeSpec.Builder buildReactiveClassBase(String loaderClassName, String qualifiedName,
+            CodeBlock fetchableFields) {
         ClassName reactiveRegistryClass = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.repository",
                 "ReactiveRepositoryRegistry");
         ClassName relationVisitorClass = ClassName.get("de.prgrm.quarkus.neo4j.ogm.runtime.repository",
@@ -65,6 +70,10 @@ public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGener
                 .addAnnotation(ClassName.get("jakarta.enterprise.context", "ApplicationScoped"))
                 .addSuperinterface(ParameterizedTypeName.get(
                         ClassName.get(ReactiveRelationLoader.class), ClassName.bestGuess(qualifiedName)))
+                .addField(FieldSpec.builder(ParameterizedTypeName.get(Set.class, String.class), FETCHABLE_FIELDS,
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(fetchableFields)
+                        .build())
                 .addField(reactiveRegistryClass, "reactiveRegistry", Modifier.PRIVATE, Modifier.FINAL)
                 .addField(relationVisitorClass, "relationVisitor", Modifier.PRIVATE, Modifier.FINAL)
                 .addMethod(MethodSpec.constructorBuilder()
@@ -107,10 +116,17 @@ public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGener
                 .addParameter(ClassName.bestGuess(qualifiedName), "entity")
                 .addParameter(int.class, "currentDepth")
                 .addParameter(visitorContextClass, "ctx")
+                .addParameter(FetchPlan.class, "plan")
+                .beginControlFlow("if (plan != null)")
+                .addStatement("plan.validate($T.class, $L)", ClassName.bestGuess(qualifiedName), FETCHABLE_FIELDS)
+                .endControlFlow()
                 .addStatement("Object id = getNodeId(entity)")
                 .beginControlFlow("if (id == null)")
                 .addStatement("return $T.createFrom().item(entity)", ClassName.get("io.smallrye.mutiny", "Uni"))
-                .endControlFlow();
+                .endControlFlow()
+                .addStatement("$T<String, Object> ownerParams = $T.ownerParameters(entity, id)", Map.class,
+                        ElementIds.class)
+                .addStatement("boolean byElementId = ownerParams.containsKey($T.PARAMETER)", ElementIds.class);
 
         builder.addCode("return relationVisitor.shouldVisit(entity, currentDepth, ctx)"
                 + ".flatMap(shouldVisit -> {"
@@ -156,36 +172,56 @@ public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGener
                     : relatedType;
 
             final Relationship relAnn = field.getAnnotation(Relationship.class);
-            final String query = buildQuery(sourceLabel, relAnn.direction(), relAnn.type(), relatedSimple);
+            final CodeBlock query = relationQuery(
+                    buildQuery(sourceLabel, relAnn.direction(), relAnn.type(), relatedSimple),
+                    buildElementIdQuery(sourceLabel, relAnn.direction(), relAnn.type(), relatedSimple));
 
             final String uniVar = "u" + (idx++);
             uniVars.add(uniVar);
 
-            if (isList) {
+            final String fieldName = field.getSimpleName().toString();
+            final CodeBlock planned = CodeBlock.of(
+                    "reactiveRegistry.getReactiveRepository($T.class).query($L, ownerParams, plan.get($S))$L",
+                    ClassName.bestGuess(relatedType), query, fieldName,
+                    isList ? ".collect().asList()" : ".toUni()");
+            final CodeBlock unplanned = CodeBlock.of("plan != null ? (plan.includes($S) ? $L : $T.createFrom().nullItem()) : ",
+                    fieldName, planned, ClassName.get("io.smallrye.mutiny", "Uni"));
+
+            if (isLazy(relAnn)) {
+                // Lazy proxies would block on first access, so reactive loading leaves lazy fields unset
+                // unless a fetch plan names them
+                block.addStatement("$T $L = $L$T.createFrom().nullItem()",
+                        ParameterizedTypeName.get(ClassName.get("io.smallrye.mutiny", "Uni"), isList
+                                ? ParameterizedTypeName.get(ClassName.get(List.class), ClassName.bestGuess(relatedType))
+                                : ClassName.bestGuess(relatedType)),
+                        uniVar,
+                        unplanned,
+                        ClassName.get("io.smallrye.mutiny", "Uni"));
+            } else if (isList) {
                 block.addStatement(
-                        "$T $L = relationVisitor.shouldLoadRelationship(currentDepth, $L, ctx)"
+                        "$T $L = $LrelationVisitor.shouldLoadRelationship(currentDepth, $L, ctx)"
                                 + ".flatMap(shouldLoad -> shouldLoad"
-                                + " ? reactiveRegistry.getReactiveRepository($T.class).query($S, $T.of($S, id))"
+                                + " ? reactiveRegistry.getReactiveRepository($T.class).query($L, ownerParams)"
                                 + "     .onItem().transformToUniAndMerge(item -> loadRelationRecursively(item, currentDepth + 1, ctx).map(loaded -> ($T) loaded))"
                                 + "     .collect().asList()"
                                 + " : $T.createFrom().item(new $T<$T>()))",
                         ParameterizedTypeName.get(ClassName.get("io.smallrye.mutiny", "Uni"),
                                 ParameterizedTypeName.get(ClassName.get(List.class), ClassName.bestGuess(relatedType))),
                         uniVar,
+                        unplanned,
                         relAnn.maxDepth(),
                         ClassName.bestGuess(relatedType),
                         query,
-                        ClassName.get(Map.class), "id",
                         ClassName.bestGuess(relatedType),
                         ClassName.get("io.smallrye.mutiny", "Uni"),
                         ArrayList.class,
                         ClassName.bestGuess(relatedType));
             } else {
                 block.addStatement(
-                        "$T $L = relationVisitor.shouldLoadRelationship(currentDepth, $L, ctx)"
+                        "$T $L = $LrelationVisitor.shouldLoadRelationship(currentDepth, $L, ctx)"
                                 + ".flatMap(shouldLoad -> {"
                                 + " if (!shouldLoad) return $T.createFrom().nullItem();"
-                                + " return reactiveRegistry.getReactiveRepository($T.class).querySingle($S, $T.of($S, id))"
+                                + " return reactiveRegistry.getReactiveRepository($T.class).querySingle($L, ownerParams)"
                                 + "   .flatMap(item -> item != null"
                                 + "       ? loadRelationRecursively(item, currentDepth + 1, ctx).map(loaded -> ($T) loaded)"
                                 + "       : $T.createFrom().nullItem());"
@@ -193,11 +229,11 @@ public class ReactiveRelationLoaderGenerator extends AbstractRelationLoaderGener
                         ParameterizedTypeName.get(ClassName.get("io.smallrye.mutiny", "Uni"),
                                 ClassName.bestGuess(relatedType)),
                         uniVar,
+                        unplanned,
                         relAnn.maxDepth(),
                         ClassName.get("io.smallrye.mutiny", "Uni"),
                         ClassName.bestGuess(relatedType),
                         query,
-                        ClassName.get(Map.class), "id",
                         ClassName.bestGuess(relatedType),
                         ClassName.get("io.smallrye.mutiny", "Uni"));
             }
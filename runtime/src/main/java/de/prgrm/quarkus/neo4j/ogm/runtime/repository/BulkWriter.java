@@ -0,0 +1,131 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.BulkWriteMode;
+
+/**
+ * Writes an unbounded sequence of entities in chunks, holding at most one chunk in memory.
+ * Obtained from {@link Repository#bulkWriter()}.
+ *
+ * <pre>
+ * long written = repository.bulkWriter()
+ *         .chunkSize(5_000)
+ *         .merge()
+ *         .write(entityStream);
+ * </pre>
+ *
+ * Chunks are converted with {@code EntityMapper.toDb} and written with a single {@code UNWIND}
+ * statement each. Relationships are only persisted when enabled via {@link #withRelationships()},
+ * which requires {@link BulkWriteMode#TRANSACTION_PER_CHUNK}.
+ */
+public final class BulkWriter<T> {
+
+    private final Repository<T> repository;
+    private int chunkSize;
+    private int rowsPerTransaction;
+    private boolean merge;
+    private boolean relationships;
+    private BulkWriteMode mode = BulkWriteMode.TRANSACTION_PER_CHUNK;
+
+    BulkWriter(Repository<T> repository, int chunkSize, int rowsPerTransaction) {
+        this.repository = repository;
+        this.chunkSize = chunkSize;
+        this.rowsPerTransaction = rowsPerTransaction;
+    }
+
+    /**
+     * Number of entities converted and written per statement.
+     */
+    public BulkWriter<T> chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Rows committed per inner transaction in {@link BulkWriteMode#IN_TRANSACTIONS} mode.
+     */
+    public BulkWriter<T> rowsPerTransaction(int rowsPerTransaction) {
+        if (rowsPerTransaction <= 0) {
+            throw new IllegalArgumentException("Rows per transaction must be positive");
+        }
+        this.rowsPerTransaction = rowsPerTransaction;
+        return this;
+    }
+
+    /**
+     * Create new nodes (default).
+     */
+    public BulkWriter<T> create() {
+        this.merge = false;
+        return this;
+    }
+
+    /**
+     * Merge nodes on their {@code @NodeId}.
+     */
+    public BulkWriter<T> merge() {
+        this.merge = true;
+        return this;
+    }
+
+    public BulkWriter<T> mode(BulkWriteMode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * Also persist the relationships of every chunk, grouped as in {@link Repository#createAll(List)}.
+     */
+    public BulkWriter<T> withRelationships() {
+        this.relationships = true;
+        return this;
+    }
+
+    /**
+     * @return the number of written entities
+     */
+    public long write(Iterator<? extends T> entities) {
+        if (relationships && mode == BulkWriteMode.IN_TRANSACTIONS) {
+            throw new IllegalStateException("Relationships can only be written in TRANSACTION_PER_CHUNK mode");
+        }
+
+        long written = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        while (entities.hasNext()) {
+            chunk.add(entities.next());
+            if (chunk.size() == chunkSize) {
+                written += repository.writeBulkChunk(chunk, merge, mode, rowsPerTransaction, relationships);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            written += repository.writeBulkChunk(chunk, merge, mode, rowsPerTransaction, relationships);
+        }
+        return written;
+    }
+
+    /**
+     * Writes and closes the stream.
+     *
+     * @return the number of written entities
+     */
+    public long write(Stream<? extends T> entities) {
+        try (entities) {
+            return write(entities.iterator());
+        }
+    }
+
+    /**
+     * @return the number of written entities
+     */
+    public long write(Iterable<? extends T> entities) {
+        return write(entities.iterator());
+    }
+}
@@ -0,0 +1,80 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityWithRelations;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationshipData;
+
+/**
+ * The persisted state of an entity instance: the properties of its node and, per declared relationship
+ * key ({@code type|DIRECTION|targetLabel}), the ids of the related nodes.
+ *
+ * @param properties the node properties
+ * @param relatedIds the related node ids of every relationship that was set on the instance
+ */
+record EntitySnapshot(Map<String, Value> properties, Map<String, Set<String>> relatedIds) {
+
+    /**
+     * @param data the instance as converted by its generated mapper
+     * @param nodeProperties the properties of the node the instance was loaded from, {@code null} to take
+     *        the converted properties, e.g. after a write
+     */
+    static EntitySnapshot of(EntityWithRelations data, Map<String, Value> nodeProperties,
+            Function<Class<?>, RelationshipWritePlan.Target> targets) {
+        Map<String, Set<String>> relatedIds = new HashMap<>();
+        for (String key : data.getPersistableRelationshipKeys()) {
+            relatedIds.put(key, new LinkedHashSet<>());
+        }
+        if (data.getRelationships() != null) {
+            for (RelationshipData rel : data.getRelationships()) {
+                if (rel.getMode() == RelationshipMode.FETCH_ONLY || rel.getTarget() == null) {
+                    continue;
+                }
+                RelationshipWritePlan.Target target = targets.apply(rel.getTarget().getEntityType());
+                if (target == null) {
+                    continue;
+                }
+                Object toId = rel.getTarget().getProperties().get(target.idProperty());
+                Set<String> ids = relatedIds.get(key(rel, target));
+                if (ids != null && toId != null) {
+                    ids.add(toId.toString());
+                }
+            }
+        }
+        if (nodeProperties != null) {
+            return new EntitySnapshot(nodeProperties, relatedIds);
+        }
+        Map<String, Value> properties = new HashMap<>();
+        data.getProperties().forEach((name, value) -> properties.put(name, Values.value(value)));
+        return new EntitySnapshot(properties, relatedIds);
+    }
+
+    static String key(RelationshipData rel, RelationshipWritePlan.Target target) {
+        return rel.getType() + "|" + rel.getDirection() + "|" + target.label();
+    }
+
+    /**
+     * Compares driver values, so that e.g. an {@code int} field equals the integer the node stores. A
+     * property the node lacks equals {@code null}, as Neo4j does not store nulls.
+     *
+     * @return the properties whose value differs from this snapshot, including ones the node lacks
+     */
+    Map<String, Object> changedProperties(Map<String, Object> current) {
+        Map<String, Object> changed = new LinkedHashMap<>();
+        current.forEach((name, value) -> {
+            if (!properties.getOrDefault(name, Values.NULL).equals(Values.value(value))) {
+                changed.put(name, value);
+            }
+        });
+        return changed;
+    }
+}
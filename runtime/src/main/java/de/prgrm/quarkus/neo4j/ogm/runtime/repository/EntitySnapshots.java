@@ -0,0 +1,123 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityWithRelations;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationshipData;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.WeakIdentityMap;
+
+/**
+ * Snapshots of loaded entity instances, held as long as the application references the instance.
+ * Instances are told apart by identity, independent of their {@code equals}.
+ * <p>
+ * A snapshot only describes committed state: it is taken when an entity is loaded or saved outside a
+ * managed transaction, and dropped when an entity is saved inside one, since that may still roll back.
+ * The properties of a loaded entity are those of its node, staged when the node is mapped, so that
+ * properties the mapper would write but the node lacks are written on the next save.
+ */
+final class EntitySnapshots {
+
+    /**
+     * Shared by all repositories, since nested entities are converted and saved by the repository of
+     * the root entity.
+     */
+    static final EntitySnapshots SHARED = new EntitySnapshots();
+
+    private final WeakIdentityMap<EntitySnapshot> snapshots = new WeakIdentityMap<>();
+    private final WeakIdentityMap<Map<String, Value>> nodeProperties = new WeakIdentityMap<>();
+
+    /**
+     * @return the snapshot of the instance, {@code null} if it has none
+     */
+    EntitySnapshot get(Object entity) {
+        return snapshots.get(entity);
+    }
+
+    /**
+     * Stages the properties of the node an instance was mapped from, until {@link #rememberLoaded} takes
+     * its snapshot.
+     */
+    void staged(Object entity, Value node) {
+        nodeProperties.put(entity, node.asMap(Values.ofValue()));
+    }
+
+    /**
+     * Takes snapshots of a loaded instance and all nested instances it references, from the staged node
+     * properties where there are some.
+     */
+    void rememberLoaded(EntityWithRelations data, Function<Class<?>, RelationshipWritePlan.Target> targets) {
+        visit(data, nested -> {
+            if (nested.getEntity() != null) {
+                Map<String, Value> properties = nodeProperties.remove(nested.getEntity());
+                snapshots.put(nested.getEntity(), EntitySnapshot.of(nested, properties, targets));
+            }
+        });
+    }
+
+    /**
+     * Takes snapshots of the converted instance and all nested instances it references.
+     */
+    void remember(EntityWithRelations data, Function<Class<?>, RelationshipWritePlan.Target> targets) {
+        visit(data, nested -> {
+            if (nested.getEntity() != null) {
+                snapshots.put(nested.getEntity(), EntitySnapshot.of(nested, null, targets));
+            }
+        });
+    }
+
+    /**
+     * Takes a snapshot of an instance mapped from a node that was just written, with the relationships
+     * of the saved instance.
+     */
+    void remember(Object entity, EntityWithRelations saved, Value node,
+            Function<Class<?>, RelationshipWritePlan.Target> targets) {
+        snapshots.put(entity, EntitySnapshot.of(saved, node.asMap(Values.ofValue()), targets));
+    }
+
+    /**
+     * Drops the snapshots of the converted instance and all nested instances it references.
+     */
+    void forget(EntityWithRelations data) {
+        visit(data, nested -> {
+            if (nested.getEntity() != null) {
+                snapshots.remove(nested.getEntity());
+            }
+        });
+    }
+
+    /**
+     * Drops the snapshot of a deleted instance.
+     */
+    void discard(Object entity) {
+        if (entity != null) {
+            snapshots.remove(entity);
+            nodeProperties.remove(entity);
+        }
+    }
+
+    private static void visit(EntityWithRelations data, Consumer<EntityWithRelations> action) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visit(data, action, visited);
+    }
+
+    private static void visit(EntityWithRelations data, Consumer<EntityWithRelations> action,
+            Set<Object> visited) {
+        if (data == null || !visited.add(data)) {
+            return;
+        }
+        action.accept(data);
+        if (data.getRelationships() != null) {
+            for (RelationshipData rel : data.getRelationships()) {
+                visit(rel.getTarget(), action, visited);
+            }
+        }
+    }
+}
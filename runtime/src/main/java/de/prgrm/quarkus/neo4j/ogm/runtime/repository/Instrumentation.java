@@ -0,0 +1,44 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.metrics.OgmMetrics;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing;
+
+/**
+ * What a repository reports about its operations, assembled by its CDI initializers.
+ *
+ * @param nPlusOneThreshold number of structurally identical statements one call may send before it is
+ *        reported as a likely N+1 query, {@code 0} to not check
+ */
+record Instrumentation(OgmMetrics metrics, OgmTracing tracing, int nPlusOneThreshold, SlowQueryLog slowQueries) {
+
+    static final Instrumentation NONE = new Instrumentation(OgmMetrics.NOOP, OgmTracing.NOOP, 0, SlowQueryLog.DISABLED);
+
+    /**
+     * @return {@code false} if operations need not be observed at all
+     */
+    boolean active() {
+        return metrics != OgmMetrics.NOOP || tracing != OgmTracing.NOOP || nPlusOneThreshold > 0
+                || slowQueries.enabled();
+    }
+
+    /**
+     * @return {@code true} if statements need to be timed and their results wrapped
+     */
+    boolean tracesStatements() {
+        return tracing != OgmTracing.NOOP || slowQueries.enabled();
+    }
+
+    Instrumentation withMetrics(OgmMetrics metrics) {
+        return new Instrumentation(metrics.enabled() ? metrics : OgmMetrics.NOOP, tracing, nPlusOneThreshold,
+                slowQueries);
+    }
+
+    Instrumentation withTracing(OgmTracing tracing) {
+        return new Instrumentation(metrics, tracing.enabled() ? tracing : OgmTracing.NOOP, nPlusOneThreshold,
+                slowQueries);
+    }
+
+    Instrumentation withDiagnostics(int nPlusOneThreshold, SlowQueryLog slowQueries) {
+        return new Instrumentation(metrics, tracing, Math.max(0, nPlusOneThreshold), slowQueries);
+    }
+}
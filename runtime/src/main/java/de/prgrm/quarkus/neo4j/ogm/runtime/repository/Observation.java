@@ -0,0 +1,284 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.ResultSummary;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.metrics.OgmMetrics;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing.TraceSpan;
+
+/**
+ * Observes one repository operation for {@link OgmMetrics}, {@link OgmTracing}, the N+1 check and the
+ * slow-query log. Blocking operations are bound to the calling thread, reactive ones travel in the
+ * Mutiny subscription context under {@link #CONTEXT_KEY}.
+ * <p>
+ * A repository call made while another operation is observed, typically by a relation loader, is not
+ * measured on its own: its statements and records count for the outer operation, which also counts it
+ * as a relation query. Blocking nested calls still get a span of their own below the outer one.
+ */
+final class Observation {
+
+    static final String CONTEXT_KEY = "neo4j-ogm.observation";
+
+    static final String N_PLUS_ONE_EVENT = "neo4j.ogm.n_plus_one";
+
+    private static final Logger LOG = Logger.getLogger(Observation.class);
+
+    private static final ThreadLocal<Observation> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Returned for calls that are not observed on their own.
+     */
+    private static final Observation NONE = new Observation(Instrumentation.NONE, null, null, false, null,
+            TraceSpan.NOOP);
+
+    private final Instrumentation instrumentation;
+    private final String label;
+    private final String operation;
+    private final boolean reactive;
+    private final long start = System.nanoTime();
+
+    /**
+     * The observation of a nested call, restored as current when it closes; {@code null} for the operation
+     * called by the application.
+     */
+    private final Observation parent;
+    private final Observation root;
+    private final TraceSpan span;
+    // Synchronized for statements run by parallel relation loading, see callWith()
+    private final List<TracedResult> openResults = Collections.synchronizedList(new ArrayList<>(0));
+
+    // Counted on the root observation only
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger records = new AtomicInteger();
+    private final AtomicInteger relationQueries = new AtomicInteger();
+    private final AtomicInteger depthLimitHits = new AtomicInteger();
+    private final AtomicInteger circularReferences = new AtomicInteger();
+    private final Map<String, AtomicInteger> statementsByCypher;
+    private volatile boolean failed;
+
+    private Observation(Instrumentation instrumentation, String label, String operation, boolean reactive,
+            Observation parent, TraceSpan span) {
+        this.instrumentation = instrumentation;
+        this.label = label;
+        this.operation = operation;
+        this.reactive = reactive;
+        this.parent = parent;
+        this.root = parent != null ? parent.root : this;
+        this.span = span;
+        this.statementsByCypher = parent == null && instrumentation.nPlusOneThreshold() > 0
+                ? new ConcurrentHashMap<>()
+                : null;
+    }
+
+    /**
+     * Starts observing a blocking operation on the current thread, see {@link #close()}.
+     */
+    static Observation start(Instrumentation instrumentation, String label, String operation) {
+        if (!instrumentation.active()) {
+            return NONE;
+        }
+        Observation outer = CURRENT.get();
+        if (outer != null) {
+            outer.relationQuery();
+            if (instrumentation.tracing() == OgmTracing.NOOP) {
+                return NONE;
+            }
+            TraceSpan span = instrumentation.tracing().operationSpan(outer.span, label, operation, false);
+            Observation nested = new Observation(instrumentation, label, operation, false, outer, span);
+            CURRENT.set(nested);
+            return nested;
+        }
+        TraceSpan span = instrumentation.tracing().operationSpan(null, label, operation, false);
+        Observation observation = new Observation(instrumentation, label, operation, false, null, span);
+        CURRENT.set(observation);
+        return observation;
+    }
+
+    /**
+     * Starts observing a reactive operation; the caller puts it into the subscription context.
+     */
+    static Observation startReactive(Instrumentation instrumentation, String label, String operation) {
+        TraceSpan span = instrumentation.tracing().operationSpan(null, label, operation, true);
+        return new Observation(instrumentation, label, operation, true, null, span);
+    }
+
+    /**
+     * @return the blocking operation observed on the current thread, {@code null} if there is none
+     */
+    static Observation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs blocking work on another thread as part of an observed operation, so that its statements and
+     * nested calls count for it. The operation must not close before the work is done.
+     *
+     * @param observation the operation, {@code null} if none is observed
+     */
+    static <R> R callWith(Observation observation, Supplier<R> work) {
+        Observation previous = CURRENT.get();
+        CURRENT.set(observation);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Runs a statement of the blocking operation observed on the current thread.
+     *
+     * @param parameters the statement parameters, {@code null} if it has none
+     */
+    static Result statement(String cypher, Value parameters, Supplier<Result> run) {
+        Observation observation = CURRENT.get();
+        return observation != null ? observation.traced(cypher, parameters, run) : run.get();
+    }
+
+    static void countRecord() {
+        Observation observation = CURRENT.get();
+        if (observation != null) {
+            observation.record();
+        }
+    }
+
+    static void countDepthLimitHit() {
+        Observation observation = CURRENT.get();
+        if (observation != null) {
+            observation.root.depthLimitHits.incrementAndGet();
+        }
+    }
+
+    static void countCircularReference() {
+        Observation observation = CURRENT.get();
+        if (observation != null) {
+            observation.root.circularReferences.incrementAndGet();
+        }
+    }
+
+    private Result traced(String cypher, Value parameters, Supplier<Result> run) {
+        TraceSpan statementSpan = statement(cypher);
+        if (!instrumentation.tracesStatements()) {
+            return run.get();
+        }
+        long statementStart = System.nanoTime();
+        Result result;
+        try {
+            result = run.get();
+        } catch (RuntimeException e) {
+            statementSpan.failed(e);
+            statementSpan.end();
+            throw e;
+        }
+        TracedResult traced = new TracedResult(result, statementSpan, this, cypher, parameters, statementStart);
+        openResults.add(traced);
+        return traced;
+    }
+
+    /**
+     * Counts a statement and starts its span, which the caller ends.
+     */
+    TraceSpan statement(String cypher) {
+        root.statements.incrementAndGet();
+        if (root.statementsByCypher != null) {
+            root.statementsByCypher.computeIfAbsent(cypher, c -> new AtomicInteger()).incrementAndGet();
+        }
+        return instrumentation.tracing().statementSpan(span, label, operation, statementHash(cypher));
+    }
+
+    /**
+     * Called when a statement completed, reports it if it was slow.
+     *
+     * @param summary supplies the summary of its result, asked for slow statements only; may supply
+     *        {@code null} if there is none
+     * @param readOnly whether the statement only reads, {@code null} to decide by the summary
+     */
+    void statementEnded(String cypher, Value parameters, long nanos, Supplier<ResultSummary> summary,
+            Boolean readOnly) {
+        SlowQueryLog slowQueries = instrumentation.slowQueries();
+        if (slowQueries.isSlow(nanos)) {
+            slowQueries.report(label, operation, cypher, parameters, nanos, summary.get(), readOnly);
+        }
+    }
+
+    void record() {
+        root.records.incrementAndGet();
+    }
+
+    void relationQuery() {
+        root.relationQueries.incrementAndGet();
+    }
+
+    void failed(Throwable failure) {
+        if (this == NONE) {
+            return;
+        }
+        failed = true;
+        span.failed(failure);
+    }
+
+    /**
+     * Ends the operation and reports it. Does nothing for calls that are not observed on their own.
+     */
+    void close() {
+        if (this == NONE) {
+            return;
+        }
+        // Results the operation did not read to the end
+        openResults.forEach(TracedResult::end);
+        if (parent != null) {
+            CURRENT.set(parent);
+            span.end();
+            return;
+        }
+        if (!reactive) {
+            CURRENT.remove();
+        }
+        if (statementsByCypher != null) {
+            reportNPlusOne();
+        }
+        span.end();
+        OgmMetrics metrics = instrumentation.metrics();
+        if (metrics != OgmMetrics.NOOP) {
+            metrics.record(new OgmMetrics.OperationStats(label, operation, reactive, System.nanoTime() - start, failed,
+                    statements.get(), records.get(), relationQueries.get(), depthLimitHits.get(),
+                    circularReferences.get()));
+        }
+    }
+
+    private void reportNPlusOne() {
+        int threshold = instrumentation.nPlusOneThreshold();
+        statementsByCypher.forEach((cypher, count) -> {
+            if (count.get() > threshold) {
+                String hash = statementHash(cypher);
+                LOG.warnf("%s.%s sent %d identical statements, likely an N+1 query (statement %s): %s",
+                        label, operation, count.get(), hash, cypher);
+                span.event(N_PLUS_ONE_EVENT, Map.of(
+                        "neo4j.ogm.statement.hash", hash,
+                        "neo4j.ogm.statement.count", Integer.toString(count.get())));
+            }
+        });
+    }
+
+    /**
+     * Values are passed as parameters, so structurally identical statements have the same text.
+     */
+    static String statementHash(String cypher) {
+        return Integer.toHexString(cypher.hashCode());
+    }
+}
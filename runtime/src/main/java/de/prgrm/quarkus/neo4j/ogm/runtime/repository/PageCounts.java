@@ -0,0 +1,82 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.BoundedCache;
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.CountStrategy;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Pageable;
+
+/**
+ * Page size and total calculation of offset pagination according to a {@link CountStrategy}, shared
+ * by the blocking and the reactive repository.
+ */
+final class PageCounts {
+
+    /**
+     * Name of the query cache holding memoized totals of a label.
+     */
+    static final String CACHE_NAME = "count()";
+
+    private PageCounts() {
+    }
+
+    static CountStrategy strategy(Pageable pageable, Neo4jOgmConfig config) {
+        if (pageable.countStrategy() != null) {
+            return pageable.countStrategy();
+        }
+        return config != null ? config.paging().countStrategy() : CountStrategy.EXACT;
+    }
+
+    static BoundedCache.Settings cacheSettings(Neo4jOgmConfig config) {
+        if (config == null) {
+            return new BoundedCache.Settings(1000, Duration.ofSeconds(30));
+        }
+        return new BoundedCache.Settings(config.paging().countCacheMaxEntries(), config.paging().countCacheTtl());
+    }
+
+    /**
+     * @return the cache key of a count query, its Cypher and parameters
+     */
+    static Map<String, Object> cacheKey(String countCypher, Map<String, Object> parameters) {
+        return Map.of("cypher", countCypher, "parameters", new HashMap<>(parameters));
+    }
+
+    /**
+     * @return the number of rows to fetch for a page; one more than the page size when estimating, to
+     *         detect a following page
+     */
+    static int fetchSize(Pageable pageable, CountStrategy strategy) {
+        return strategy == CountStrategy.ESTIMATED ? pageable.size() + 1 : pageable.size();
+    }
+
+    static long skip(Pageable pageable) {
+        return (long) pageable.page() * pageable.size();
+    }
+
+    /**
+     * @return whether an estimated page fetched a row beyond the page size
+     */
+    static boolean hasMore(Pageable pageable, List<?> fetched) {
+        return fetched.size() > pageable.size();
+    }
+
+    /**
+     * @return the rows of the page without the extra row fetched when estimating
+     */
+    static <E> List<E> trim(Pageable pageable, List<E> fetched) {
+        return hasMore(pageable, fetched) ? fetched.subList(0, pageable.size()) : fetched;
+    }
+
+    /**
+     * Estimated total of a page: exact if it is the last page, otherwise at least one row beyond this
+     * page and at least the node count of the label.
+     */
+    static long estimatedTotal(Pageable pageable, int fetched, long labelCount) {
+        long seen = skip(pageable) + fetched;
+        return fetched > pageable.size() ? Math.max(seen, labelCount) : seen;
+    }
+}
@@ -0,0 +1,119 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.BulkWriteMode;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Reactive counterpart of {@link BulkWriter}: groups a {@link Multi} into chunks and writes them
+ * with back-pressure, so only {@code concurrency} chunks are in memory at a time.
+ * Obtained from {@link ReactiveRepository#bulkWriter()}.
+ *
+ * <pre>
+ * Uni&lt;Long&gt; written = repository.bulkWriter()
+ *         .chunkSize(5_000)
+ *         .concurrency(2)
+ *         .write(entities);
+ * </pre>
+ */
+public final class ReactiveBulkWriter<T> {
+
+    private final ReactiveRepository<T> repository;
+    private int chunkSize;
+    private int rowsPerTransaction;
+    private int concurrency = 1;
+    private boolean merge;
+    private boolean relationships;
+    private BulkWriteMode mode = BulkWriteMode.TRANSACTION_PER_CHUNK;
+
+    ReactiveBulkWriter(ReactiveRepository<T> repository, int chunkSize, int rowsPerTransaction) {
+        this.repository = repository;
+        this.chunkSize = chunkSize;
+        this.rowsPerTransaction = rowsPerTransaction;
+    }
+
+    /**
+     * Number of entities converted and written per statement.
+     */
+    public ReactiveBulkWriter<T> chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Rows committed per inner transaction in {@link BulkWriteMode#IN_TRANSACTIONS} mode.
+     */
+    public ReactiveBulkWriter<T> rowsPerTransaction(int rowsPerTransaction) {
+        if (rowsPerTransaction <= 0) {
+            throw new IllegalArgumentException("Rows per transaction must be positive");
+        }
+        this.rowsPerTransaction = rowsPerTransaction;
+        return this;
+    }
+
+    /**
+     * Number of chunks written in parallel (default 1). Chunks are written in order when 1.
+     */
+    public ReactiveBulkWriter<T> concurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Create new nodes (default).
+     */
+    public ReactiveBulkWriter<T> create() {
+        this.merge = false;
+        return this;
+    }
+
+    /**
+     * Merge nodes on their {@code @NodeId}.
+     */
+    public ReactiveBulkWriter<T> merge() {
+        this.merge = true;
+        return this;
+    }
+
+    public ReactiveBulkWriter<T> mode(BulkWriteMode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * Also persist the relationships of every chunk, grouped as in {@link ReactiveRepository#createAll(List)}.
+     */
+    public ReactiveBulkWriter<T> withRelationships() {
+        this.relationships = true;
+        return this;
+    }
+
+    /**
+     * @return the number of written entities
+     */
+    public Uni<Long> write(Multi<T> entities) {
+        if (relationships && mode == BulkWriteMode.IN_TRANSACTIONS) {
+            return Uni.createFrom().failure(
+                    new IllegalStateException("Relationships can only be written in TRANSACTION_PER_CHUNK mode"));
+        }
+
+        Multi<List<T>> chunks = entities.group().intoLists().of(chunkSize);
+        Multi<Integer> written = concurrency == 1
+                ? chunks.onItem().transformToUniAndConcatenate(this::writeChunk)
+                : chunks.onItem().transformToUni(this::writeChunk).merge(concurrency);
+        return written.collect().with(Collectors.summingLong(Integer::longValue));
+    }
+
+    private Uni<Integer> writeChunk(List<T> chunk) {
+        return repository.writeBulkChunk(chunk, merge, mode, rowsPerTransaction, relationships);
+    }
+}
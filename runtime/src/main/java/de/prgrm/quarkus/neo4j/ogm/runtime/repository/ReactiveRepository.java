@@ -1,32 +1,54 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
 
 import org.jboss.logging.Logger;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.reactive.ReactiveResult;
 import org.neo4j.driver.reactive.ReactiveSession;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.BoundedCache;
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.EntityCacheManager;
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.BulkWriteMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.CountStrategy;
 import de.prgrm.quarkus.neo4j.ogm.runtime.exception.RepositoryException;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.*;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapper;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityWithRelations;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.ReactiveRelationLoader;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationshipData;
+import de.prgrm.quarkus.neo4j.ogm.runtime.metrics.OgmMetrics;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.CypherIdentifier;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Filter;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetCursor;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetPageable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetPaged;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Pageable;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Paged;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Sortable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing.TraceSpan;
 import de.prgrm.quarkus.neo4j.ogm.runtime.tx.ReactiveTransactionManager;
 import de.prgrm.quarkus.neo4j.ogm.runtime.tx.ReactiveTransactionManager.ReactiveTxContext;
+import io.smallrye.mutiny.Context;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -37,6 +59,10 @@ public abstract class ReactiveRepository<T> {
 
     private static final Logger LOG = Logger.getLogger(ReactiveRepository.class);
 
+    private static final SessionConfig READ_SESSION = SessionConfig.builder()
+            .withDefaultAccessMode(AccessMode.READ)
+            .build();
+
     protected final Driver driver;
     protected final String label;
     protected final EntityMapper<T> entityMapper;
@@ -44,6 +70,9 @@ public abstract class ReactiveRepository<T> {
     protected final ReactiveRelationLoader<T> relationLoader;
     protected final ReactiveRelationVisitor relationVisitor;
     protected final ReactiveTransactionManager txManager;
+    protected Neo4jOgmConfig config;
+    private EntityCacheManager cacheManager;
+    private Instrumentation instrumentation = Instrumentation.NONE;
 
     /** Shared visitor context across traversal */
     protected ReactiveRelationVisitor.VisitorContext visitorContext;
@@ -90,6 +119,168 @@ public abstract class ReactiveRepository<T> {
 
     protected abstract Class<T> getEntityType();
 
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setConfig(Neo4jOgmConfig config) {
+        this.config = config;
+        this.instrumentation = instrumentation.withDiagnostics(config.diagnostics().nPlusOneThreshold(),
+                SlowQueryLog.of(config, driver));
+    }
+
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setCacheManager(EntityCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setMetrics(Instance<OgmMetrics> metrics) {
+        this.instrumentation = instrumentation.withMetrics(metrics.isResolvable() ? metrics.get() : OgmMetrics.NOOP);
+    }
+
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setTracing(Instance<OgmTracing> tracing) {
+        this.instrumentation = instrumentation.withTracing(tracing.isResolvable() ? tracing.get() : OgmTracing.NOOP);
+    }
+
+    // ----------------------------------------------------------
+    // Metrics and tracing
+    // ----------------------------------------------------------
+
+    /**
+     * Observes an operation, see {@link Observation}. The work is deferred to subscription so that
+     * nested repository calls find the observation in the subscription context. Their statements are
+     * traced below the span of the outer operation, nested calls get no span of their own.
+     */
+    private <R> Uni<R> observe(String operation, Supplier<Uni<R>> work) {
+        if (!instrumentation.active()) {
+            return work.get();
+        }
+        return Uni.createFrom().context(context -> {
+            Observation outer = observation(context);
+            if (outer != null) {
+                outer.relationQuery();
+                return work.get();
+            }
+            Observation observation = Observation.startReactive(instrumentation, label, operation);
+            context.put(Observation.CONTEXT_KEY, observation);
+            return work.get()
+                    .onFailure().invoke(observation::failed)
+                    .onTermination().invoke(() -> {
+                        context.delete(Observation.CONTEXT_KEY);
+                        observation.close();
+                    });
+        });
+    }
+
+    private <R> Multi<R> observeMulti(String operation, Supplier<Multi<R>> work) {
+        if (!instrumentation.active()) {
+            return work.get();
+        }
+        return Multi.createFrom().context(context -> {
+            Observation outer = observation(context);
+            if (outer != null) {
+                outer.relationQuery();
+                return work.get();
+            }
+            Observation observation = Observation.startReactive(instrumentation, label, operation);
+            context.put(Observation.CONTEXT_KEY, observation);
+            return work.get()
+                    .onFailure().invoke(observation::failed)
+                    .onTermination().invoke(() -> {
+                        context.delete(Observation.CONTEXT_KEY);
+                        observation.close();
+                    });
+        });
+    }
+
+    private static Observation observation(Context context) {
+        return context.getOrElse(Observation.CONTEXT_KEY, () -> null);
+    }
+
+    /**
+     * Counts a statement for the observed operation, traces it from subscription to termination and
+     * reports it if it was slow. Timings of the result summary are not available here.
+     */
+    private Multi<Record> traceStatement(String cypher, Map<String, Object> params, boolean readOnly,
+            Multi<Record> statement) {
+        if (!instrumentation.active()) {
+            return statement;
+        }
+        return statement.withContext((multi, context) -> {
+            Observation observation = observation(context);
+            if (observation == null) {
+                return multi;
+            }
+            TraceSpan span = observation.statement(cypher);
+            if (!instrumentation.tracesStatements()) {
+                return multi;
+            }
+            long start = System.nanoTime();
+            AtomicLong rows = new AtomicLong();
+            return multi.onItem().invoke(rows::incrementAndGet)
+                    .onFailure().invoke(span::failed)
+                    .onTermination().invoke(() -> {
+                        span.rows(rows.get());
+                        span.end();
+                        statementEnded(observation, cypher, params, readOnly, start);
+                    });
+        });
+    }
+
+    private <R> Uni<R> traceStatement(String cypher, Map<String, Object> params, boolean readOnly,
+            Uni<R> statement) {
+        if (!instrumentation.active()) {
+            return statement;
+        }
+        return statement.withContext((uni, context) -> {
+            Observation observation = observation(context);
+            if (observation == null) {
+                return uni;
+            }
+            TraceSpan span = observation.statement(cypher);
+            if (!instrumentation.tracesStatements()) {
+                return uni;
+            }
+            long start = System.nanoTime();
+            return uni.onItem().invoke(item -> span.rows(item != null ? 1 : 0))
+                    .onFailure().invoke(span::failed)
+                    .onTermination().invoke(() -> {
+                        span.end();
+                        statementEnded(observation, cypher, params, readOnly, start);
+                    });
+        });
+    }
+
+    private static void statementEnded(Observation observation, String cypher, Map<String, Object> params,
+            boolean readOnly, long start) {
+        observation.statementEnded(cypher, params != null ? Values.value(params) : null, System.nanoTime() - start,
+                () -> null, readOnly);
+    }
+
+    /**
+     * Counts the records mapped to entities for the observed operation.
+     */
+    private <R> Multi<R> countRecords(Multi<R> records) {
+        if (!instrumentation.active()) {
+            return records;
+        }
+        return records.withContext((multi, context) -> {
+            Observation observation = observation(context);
+            return observation != null ? multi.invoke(observation::record) : multi;
+        });
+    }
+
     // ----------------------------------------------------------
     // Visitor context handling
     // ----------------------------------------------------------
@@ -136,89 +327,138 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Uni<T> findById(Object id) {
-        resetVisitor();
-        return runReadQuerySingle(null, "MATCH (n:" + label + " {id: $id}) RETURN n", Map.of("id", convertIdToString(id)))
-                .flatMap(this::loadRelations);
+        return observe("findById", () -> {
+            resetVisitor();
+            return findByIdCached(id);
+        });
     }
 
     public Uni<Optional<T>> findByIdOptional(Object id) {
-        resetVisitor();
-        return runReadQuerySingle(null, "MATCH (n:" + label + " {id: $id}) RETURN n", Map.of("id", convertIdToString(id)))
-                .flatMap(this::loadRelations)
+        return observe("findByIdOptional", () -> {
+            resetVisitor();
+            return findByIdCached(id)
+                    .map(Optional::ofNullable)
+                    .onItem().ifNull().continueWith(Optional.empty());
+        });
+    }
+
+    public Multi<T> findAll() {
+        return observeMulti("findAll", () -> {
+            resetVisitor();
+            return runFindQuery("MATCH (n:" + label + ")", "", Map.of());
+        });
+    }
+
+    /**
+     * Loads an entity with the relationships named by the plan instead of those up to their declared
+     * {@code maxDepth}, bypassing the second-level cache.
+     *
+     * @param plan the relationships to load, {@code null} for {@link #findById(Object)}
+     */
+    public Uni<T> findById(Object id, FetchPlan plan) {
+        if (plan == null) {
+            return findById(id);
+        }
+        return observe("findById", () -> {
+            resetVisitor();
+            return runPlannedQuery("MATCH (n:" + label + " {id: $id}) RETURN n",
+                    Map.of("id", convertIdToString(id)), plan).toUni();
+        });
+    }
+
+    /**
+     * @param plan the relationships to load, {@code null} for {@link #findByIdOptional(Object)}
+     * @see #findById(Object, FetchPlan)
+     */
+    public Uni<Optional<T>> findByIdOptional(Object id, FetchPlan plan) {
+        if (plan == null) {
+            return findByIdOptional(id);
+        }
+        return findById(id, plan)
                 .map(Optional::ofNullable)
                 .onItem().ifNull().continueWith(Optional.empty());
     }
 
-    public Multi<T> findAll() {
-        resetVisitor();
-        return runReadQuery(null, "MATCH (n:" + label + ") RETURN n", Map.of())
-                .onItem().transformToUniAndMerge(this::loadRelations);
+    /**
+     * @param plan the relationships to load, {@code null} for {@link #findAll()}
+     * @see #findById(Object, FetchPlan)
+     */
+    public Multi<T> findAll(FetchPlan plan) {
+        if (plan == null) {
+            return findAll();
+        }
+        return observeMulti("findAll", () -> {
+            resetVisitor();
+            return runPlannedQuery("MATCH (n:" + label + ") RETURN n", Map.of(), plan);
+        });
     }
 
     public Multi<T> findAll(Pageable pageable, Sortable sortable) {
-        resetVisitor();
-        String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
-        String cypher = String.format("MATCH (n:%s) RETURN n %s SKIP $skip LIMIT $limit", label, sortClause);
-        Map<String, Object> params = Map.of(
-                "skip", pageable.page() * pageable.size(),
-                "limit", pageable.size());
-        return runReadQuery(null, cypher, params)
-                .onItem().transformToUniAndMerge(this::loadRelations);
+        return observeMulti("findAll", () -> {
+            resetVisitor();
+            String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
+            Map<String, Object> params = Map.of(
+                    "skip", pageable.page() * pageable.size(),
+                    "limit", pageable.size());
+            return runFindQuery("MATCH (n:" + label + ")", " " + sortClause + " SKIP $skip LIMIT $limit", params);
+        });
     }
 
     public Uni<Paged<T>> findAllPaged(Pageable pageable, Sortable sortable) {
-        resetVisitor();
-        String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
-        String cypher = String.format("MATCH (n:%s) RETURN n %s SKIP $skip LIMIT $limit", label, sortClause);
-        Map<String, Object> params = Map.of(
-                "skip", pageable.page() * pageable.size(),
-                "limit", pageable.size());
-
-        Uni<Long> countUni = count();
-        Uni<List<T>> contentUni = runReadQuery(null, cypher, params)
-                .onItem().transformToUniAndMerge(this::loadRelations)
-                .collect().asList();
+        return observe("findAllPaged", () -> {
+            resetVisitor();
+            String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
+            CountStrategy strategy = PageCounts.strategy(pageable, config);
+            Map<String, Object> params = Map.of(
+                    "skip", pageable.page() * pageable.size(),
+                    "limit", PageCounts.fetchSize(pageable, strategy));
 
-        return Uni.combine().all().unis(contentUni, countUni)
-                .asTuple()
-                .map(tuple -> new Paged<>(
-                        tuple.getItem1(),
-                        tuple.getItem2(),
-                        pageable.page(),
-                        pageable.size()));
+            Uni<List<T>> contentUni = runFindQuery(
+                    "MATCH (n:" + label + ")", " " + sortClause + " SKIP $skip LIMIT $limit", params)
+                    .collect().asList();
+
+            return toPaged(contentUni, pageable, strategy, "MATCH (n:" + label + ") RETURN count(n) AS count", Map.of());
+        });
     }
 
     public Uni<Void> execute(String cypher, Map<String, Object> parameters) {
-        return runWriteQueryVoid(null, cypher, parameters);
+        return observe("execute", () -> runWriteQueryVoid(null, cypher, parameters));
     }
 
     public Uni<T> executeReturning(String cypher, Map<String, Object> parameters) {
-        resetVisitor();
-        return runWriteQuerySingle(null, cypher, parameters)
-                .flatMap(this::loadRelations);
+        return observe("executeReturning", () -> {
+            resetVisitor();
+            return runWriteQuerySingle(null, cypher, parameters)
+                    .flatMap(this::loadRelations);
+        });
     }
 
     public Multi<T> executeQuery(String cypher, Map<String, Object> parameters) {
-        resetVisitor();
-        return runQueryInternal(null, cypher, parameters, false)
-                .map(r -> entityMapper.map(r, resolveAlias(r)))
-                .onItem().transformToUniAndMerge(this::loadRelations);
+        return observeMulti("executeQuery", () -> {
+            resetVisitor();
+            return runQueryInternal(null, cypher, parameters, false)
+                    .plug(this::countRecords)
+                    .map(r -> entityMapper.map(r, resolveAlias(r)))
+                    .onItem().transformToUniAndMerge(this::loadRelations);
+        });
     }
 
     public Uni<Long> count() {
-        return runScalarReadQuery(null, "MATCH (n:" + label + ") RETURN count(n) AS count", Map.of(),
-                r -> r.get("count").asLong());
+        return observe("count", () -> runScalarReadQuery(null, "MATCH (n:" + label + ") RETURN count(n) AS count",
+                Map.of(), r -> r.get("count").asLong()));
     }
 
     public Uni<T> create(T entity) {
-        resetVisitor();
-        EntityWithRelations data = entityMapper.toDb(entity);
-        Object id = entityMapper.getNodeId(entity);
+        return observe("create", () -> {
+            resetVisitor();
+            EntityWithRelations data = toDb(entity);
+            Object id = entityMapper.getNodeId(entity);
 
-        return runWriteQuerySingle(null, "CREATE (n:" + label + " $props) RETURN n",
-                Map.of("props", data.getProperties()))
-                .flatMap(saved -> persistRelationships(null, label, id, data.getRelationships(),
-                        data.getPersistableRelationshipKeys()).replaceWith(saved));
+            return runWriteQuerySingle(null, "CREATE (n:" + label + " $props) RETURN n",
+                    Map.of("props", data.getProperties()))
+                    .flatMap(saved -> persistRelationships(null, label, id, data.getRelationships(),
+                            data.getPersistableRelationshipKeys()).replaceWith(saved));
+        });
     }
 
     /**
@@ -229,39 +469,180 @@ public abstract class ReactiveRepository<T> {
      * @return Uni with list of created entities
      */
     public Uni<List<T>> createAllBatch(List<T> entities) {
-        if (entities == null || entities.isEmpty()) {
-            return Uni.createFrom().item(List.of());
-        }
-
-        resetVisitor();
-        List<Map<String, Object>> propsList = new java.util.ArrayList<>();
-        for (T entity : entities) {
-            EntityWithRelations data = entityMapper.toDb(entity);
-            propsList.add(data.getProperties());
-        }
-
-        String cypher = "UNWIND $batch AS props CREATE (n:" + label + ") SET n = props RETURN n AS node";
-        return runQueryInternal(null, cypher, Map.of("batch", propsList), false)
-                .map(r -> entityMapper.map(r, resolveAlias(r)))
-                .collect().asList();
+        return observe("createAllBatch", () -> {
+            if (entities == null || entities.isEmpty()) {
+                return Uni.createFrom().item(List.of());
+            }
+
+            resetVisitor();
+            List<Map<String, Object>> propsList = new java.util.ArrayList<>();
+            for (T entity : entities) {
+                EntityWithRelations data = toDb(entity);
+                propsList.add(data.getProperties());
+            }
+
+            String cypher = "UNWIND $batch AS props CREATE (n:" + label + ") SET n = props RETURN n AS node";
+            return runQueryInternal(null, cypher, Map.of("batch", propsList), false)
+                    .plug(this::countRecords)
+                    .map(r -> entityMapper.map(r, resolveAlias(r)))
+                    .collect().asList();
+        });
     }
 
     /**
-     * Create multiple entities with relationship persistence.
-     * Uses a single transaction but creates entities sequentially.
+     * Create multiple entities with relationship persistence in bulk.
+     * The entities are created with one {@code UNWIND} statement, followed by the grouped relationship
+     * statements of the whole batch (see {@link Repository#createAll(List)}).
      *
      * @param entities the entities to create
      * @return Uni with list of created entities
      */
     public Uni<List<T>> createAll(List<T> entities) {
-        if (entities == null || entities.isEmpty()) {
-            return Uni.createFrom().item(List.of());
+        return observe("createAll", () -> {
+            if (entities == null || entities.isEmpty()) {
+                return Uni.createFrom().item(List.of());
+            }
+
+            resetVisitor();
+            List<EntityWithRelations> data = new java.util.ArrayList<>(entities.size());
+            for (T entity : entities) {
+                data.add(toDb(entity));
+            }
+
+            String cypher = "UNWIND $batch AS props CREATE (n:" + label + ") SET n = props RETURN n AS node";
+            return writeAllWithRelationships(cypher, entities, data);
+        });
+    }
+
+    /**
+     * Merge multiple entities with relationship persistence in bulk, see {@link #createAll(List)}.
+     * Entities are matched on their {@code @NodeId}, which must be set or generated.
+     *
+     * @param entities the entities to merge
+     * @return Uni with list of merged entities
+     */
+    public Uni<List<T>> mergeAll(List<T> entities) {
+        return observe("mergeAll", () -> {
+            if (entities == null || entities.isEmpty()) {
+                return Uni.createFrom().item(List.of());
+            }
+
+            resetVisitor();
+            // toDb() assigns generated ids, so the id check runs after the conversion
+            List<EntityWithRelations> data = new java.util.ArrayList<>(entities.size());
+            for (T entity : entities) {
+                data.add(toDb(entity));
+                if (entityMapper.getNodeId(entity) == null) {
+                    return Uni.createFrom().failure(new IllegalArgumentException("Entity ID cannot be null"));
+                }
+            }
+
+            String idProp = entityMapper.getNodeIdPropertyName();
+            String cypher = "UNWIND $batch AS props " +
+                    "MERGE (n:" + label + " {" + idProp + ": props." + idProp + "}) " +
+                    "SET n += props " +
+                    "RETURN n AS node";
+            return writeAllWithRelationships(cypher, entities, data);
+        });
+    }
+
+    private Uni<List<T>> writeAllWithRelationships(String cypher, List<T> entities, List<EntityWithRelations> data) {
+        List<Map<String, Object>> propsList = data.stream().map(EntityWithRelations::getProperties).toList();
+
+        RelationshipWritePlan plan = new RelationshipWritePlan(null, this::relationshipTarget);
+        try {
+            for (int i = 0; i < entities.size(); i++) {
+                EntityWithRelations d = data.get(i);
+                plan.collect(label, entityMapper.getNodeId(entities.get(i)), d.getRelationships(),
+                        d.getPersistableRelationshipKeys());
+            }
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(e);
         }
 
-        resetVisitor();
-        return Multi.createFrom().iterable(entities)
-                .onItem().transformToUniAndConcatenate(this::create)
-                .collect().asList();
+        // Nodes and edges are committed together
+        return inOwnTransaction(ctx -> runQueryInternal(ctx, cypher, Map.of("batch", propsList), false)
+                .plug(this::countRecords)
+                .map(r -> entityMapper.map(r, resolveAlias(r)))
+                .collect().asList()
+                .flatMap(saved -> executePlan(ctx, plan).replaceWith(saved)));
+    }
+
+    /**
+     * Returns a writer that consumes a {@link Multi} chunk by chunk, see {@link ReactiveBulkWriter}.
+     * Chunk size and rows per inner transaction default to {@code quarkus.neo4j-ogm.bulk.*}.
+     */
+    public ReactiveBulkWriter<T> bulkWriter() {
+        return config != null
+                ? new ReactiveBulkWriter<>(this, config.bulk().chunkSize(), config.bulk().rowsPerTransaction())
+                : new ReactiveBulkWriter<>(this, 1000, 500);
+    }
+
+    Uni<Integer> writeBulkChunk(List<T> chunk, boolean merge, BulkWriteMode mode, int rowsPerTransaction,
+            boolean relationships) {
+        return observe("bulkWrite", () -> bulkChunk(chunk, merge, mode, rowsPerTransaction, relationships));
+    }
+
+    private Uni<Integer> bulkChunk(List<T> chunk, boolean merge, BulkWriteMode mode, int rowsPerTransaction,
+            boolean relationships) {
+        List<EntityWithRelations> data = new java.util.ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            data.add(toDb(entity));
+        }
+        List<Map<String, Object>> propsList = data.stream().map(EntityWithRelations::getProperties).toList();
+
+        String idProp = entityMapper.getNodeIdPropertyName();
+        String write = merge
+                ? "MERGE (n:" + label + " {" + idProp + ": props." + idProp + "}) SET n += props"
+                : "CREATE (n:" + label + ") SET n = props";
+
+        if (mode == BulkWriteMode.IN_TRANSACTIONS) {
+            // CALL { } IN TRANSACTIONS only runs in an auto-commit transaction
+            String cypher = "UNWIND $batch AS props CALL { WITH props " + write + " } " +
+                    "IN TRANSACTIONS OF " + rowsPerTransaction + " ROWS";
+            return traceStatement(cypher, Map.of("batch", propsList), false, Multi.createFrom().resource(
+                    () -> driver.session(ReactiveSession.class),
+                    session -> Multi.createFrom().publisher(session.run(cypher, Values.parameters("batch", propsList)))
+                            .flatMap(ReactiveResult::consume))
+                    .withFinalizer(closeSession())
+                    .toUni()
+                    .replaceWithVoid())
+                    .onFailure().transform(t -> new RepositoryException("Failed to execute bulk write", t))
+                    .onTermination().invoke(this::invalidateCaches)
+                    .replaceWith(chunk.size());
+        }
+
+        if (!relationships) {
+            return runWriteQueryVoid(null, "UNWIND $batch AS props " + write, Map.of("batch", propsList))
+                    .replaceWith(chunk.size());
+        }
+
+        RelationshipWritePlan plan = new RelationshipWritePlan(null, this::relationshipTarget);
+        try {
+            for (int i = 0; i < chunk.size(); i++) {
+                EntityWithRelations d = data.get(i);
+                plan.collect(label, entityMapper.getNodeId(chunk.get(i)), d.getRelationships(),
+                        d.getPersistableRelationshipKeys());
+            }
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(e);
+        }
+        // Nodes and edges of a chunk are committed together
+        return inOwnTransaction(ctx -> runWriteQueryVoid(ctx, "UNWIND $batch AS props " + write,
+                Map.of("batch", propsList))
+                .flatMap(ignore -> executePlan(ctx, plan)))
+                .replaceWith(chunk.size());
+    }
+
+    /**
+     * Runs the work in a transaction of its own, committed once the work completes and rolled back if
+     * it fails.
+     */
+    private <R> Uni<R> inOwnTransaction(Function<ReactiveTxContext, Uni<R>> work) {
+        ReactiveTransactionManager transactions = txManager != null ? txManager : new ReactiveTransactionManager(driver);
+        return transactions.begin().flatMap(ctx -> work.apply(ctx)
+                .onFailure().call(() -> transactions.rollback(ctx))
+                .call(() -> transactions.commit(ctx)));
     }
 
     /**
@@ -271,74 +652,80 @@ public abstract class ReactiveRepository<T> {
      * @return Uni<Void>
      */
     public Uni<Void> deleteAllByIds(List<Object> ids) {
-        if (ids == null || ids.isEmpty()) {
-            return Uni.createFrom().voidItem();
-        }
+        return observe("deleteAllByIds", () -> {
+            if (ids == null || ids.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
 
-        List<String> idStrings = ids.stream()
-                .filter(id -> id != null)
-                .map(this::convertIdToString)
-                .toList();
+            List<String> idStrings = ids.stream()
+                    .filter(id -> id != null)
+                    .map(this::convertIdToString)
+                    .toList();
 
-        return runWriteQueryVoid(null,
-                "MATCH (n:" + label + ") WHERE n.id IN $ids DETACH DELETE n",
-                Map.of("ids", idStrings));
+            return runWriteQueryVoid(null,
+                    "MATCH (n:" + label + ") WHERE n.id IN $ids DETACH DELETE n",
+                    Map.of("ids", idStrings));
+        });
     }
 
     /**
      * Batch merge multiple entities using UNWIND for optimal performance.
+     * Relationships are NOT persisted in batch mode - use mergeAll() if you need relationship persistence.
      *
      * @param entities the entities to merge
      * @return Uni with list of merged entities
      */
     public Uni<List<T>> mergeAllBatch(List<T> entities) {
-        if (entities == null || entities.isEmpty()) {
-            return Uni.createFrom().item(List.of());
-        }
-
-        resetVisitor();
-        String idProp = entityMapper.getNodeIdPropertyName();
-        List<Map<String, Object>> propsList = new java.util.ArrayList<>();
+        return observe("mergeAllBatch", () -> {
+            if (entities == null || entities.isEmpty()) {
+                return Uni.createFrom().item(List.of());
+            }
 
-        for (T entity : entities) {
-            EntityWithRelations data = entityMapper.toDb(entity);
-            propsList.add(data.getProperties());
-        }
+            resetVisitor();
+            String idProp = entityMapper.getNodeIdPropertyName();
+            List<Map<String, Object>> propsList = new java.util.ArrayList<>();
 
-        String cypher = "UNWIND $batch AS props " +
-                "MERGE (n:" + label + " {" + idProp + ": props." + idProp + "}) " +
-                "SET n += props " +
-                "RETURN n AS node";
+            for (T entity : entities) {
+                EntityWithRelations data = toDb(entity);
+                propsList.add(data.getProperties());
+            }
 
-        return runQueryInternal(null, cypher, Map.of("batch", propsList), false)
-                .map(r -> entityMapper.map(r, resolveAlias(r)))
-                .collect().asList();
-    }
+            String cypher = "UNWIND $batch AS props " +
+                    "MERGE (n:" + label + " {" + idProp + ": props." + idProp + "}) " +
+                    "SET n += props " +
+                    "RETURN n AS node";
 
-    private Uni<T> createInternal(EntityWithRelations entity) {
-        return createInternal(null, entity);
+            return runQueryInternal(null, cypher, Map.of("batch", propsList), false)
+                    .plug(this::countRecords)
+                    .map(r -> entityMapper.map(r, resolveAlias(r)))
+                    .collect().asList();
+        });
     }
 
     public Uni<T> update(T entity) {
-        resetVisitor();
-        Object id = entityMapper.getNodeId(entity);
-        EntityWithRelations data = entityMapper.toDb(entity);
+        return observe("update", () -> {
+            resetVisitor();
+            Object id = entityMapper.getNodeId(entity);
+            EntityWithRelations data = toDb(entity);
 
-        return runWriteQuerySingle(null, "MATCH (n:" + label + " {id: $id}) SET n += $props RETURN n",
-                Map.of("id", id, "props", data.getProperties()))
-                .flatMap(updated -> persistRelationships(null, label, id, data.getRelationships(),
-                        data.getPersistableRelationshipKeys()).replaceWith(updated));
+            return runWriteQuerySingle(null, "MATCH (n:" + label + " {id: $id}) SET n += $props RETURN n",
+                    Map.of("id", id, "props", data.getProperties()))
+                    .flatMap(updated -> persistRelationships(null, label, id, data.getRelationships(),
+                            data.getPersistableRelationshipKeys()).replaceWith(updated));
+        });
     }
 
     public Uni<T> merge(T entity) {
-        resetVisitor();
-        Object id = entityMapper.getNodeId(entity);
-        EntityWithRelations data = entityMapper.toDb(entity);
+        return observe("merge", () -> {
+            resetVisitor();
+            Object id = entityMapper.getNodeId(entity);
+            EntityWithRelations data = toDb(entity);
 
-        return runWriteQuerySingle(null, "MERGE (n:" + label + " {id: $id}) SET n += $props RETURN n",
-                Map.of("id", id, "props", data.getProperties()))
-                .flatMap(merged -> persistRelationships(null, label, id, data.getRelationships(),
-                        data.getPersistableRelationshipKeys()).replaceWith(merged));
+            return runWriteQuerySingle(null, "MERGE (n:" + label + " {id: $id}) SET n += $props RETURN n",
+                    Map.of("id", id, "props", data.getProperties()))
+                    .flatMap(merged -> persistRelationships(null, label, id, data.getRelationships(),
+                            data.getPersistableRelationshipKeys()).replaceWith(merged));
+        });
     }
 
     public Uni<Void> delete(T entity) {
@@ -346,13 +733,16 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Uni<Void> deleteById(Object id) {
-        resetVisitor();
-        return runWriteQueryVoid(null, "MATCH (n:" + label + " {id: $id}) DETACH DELETE n", Map.of("id", id));
+        return observe("deleteById", () -> {
+            resetVisitor();
+            return runWriteQueryVoid(null, "MATCH (n:" + label + " {id: $id}) DETACH DELETE n", Map.of("id", id));
+        });
     }
 
     public Uni<Boolean> existsById(Object id) {
-        return runScalarReadQuery(null, "MATCH (n:" + label + " {id: $id}) RETURN count(n) > 0 AS exists",
-                Map.of("id", id), r -> r.get("exists").asBoolean());
+        return observe("existsById", () -> runScalarReadQuery(null,
+                "MATCH (n:" + label + " {id: $id}) RETURN count(n) > 0 AS exists",
+                Map.of("id", id), r -> r.get("exists").asBoolean()));
     }
 
     public Uni<Boolean> exists(T entity) {
@@ -360,15 +750,35 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Multi<T> query(String cypher) {
-        resetVisitor();
-        return runReadQuery(null, cypher, Map.of())
-                .onItem().transformToUniAndMerge(this::loadRelations);
+        return observeMulti("query", () -> {
+            resetVisitor();
+            return runReadQuery(null, cypher, Map.of())
+                    .onItem().transformToUniAndMerge(this::loadRelations);
+        });
     }
 
     public Multi<T> query(String cypher, Map<String, Object> params) {
-        resetVisitor();
-        return runReadQuery(null, cypher, params)
-                .onItem().transformToUniAndMerge(this::loadRelations);
+        return observeMulti("query", () -> {
+            resetVisitor();
+            return runReadQuery(null, cypher, params)
+                    .onItem().transformToUniAndMerge(this::loadRelations);
+        });
+    }
+
+    /**
+     * Runs a custom query and loads the relationships named by the plan, see
+     * {@link #findById(Object, FetchPlan)}.
+     *
+     * @param plan the relationships to load, {@code null} for {@link #query(String, Map)}
+     */
+    public Multi<T> query(String cypher, Map<String, Object> params, FetchPlan plan) {
+        if (plan == null) {
+            return query(cypher, params);
+        }
+        return observeMulti("query", () -> {
+            resetVisitor();
+            return runPlannedQuery(cypher, params, plan);
+        });
     }
 
     public Uni<T> querySingle(String cypher) {
@@ -376,9 +786,11 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Uni<T> querySingle(String cypher, Map<String, Object> params) {
-        resetVisitor();
-        return runReadQuerySingle(null, cypher, params)
-                .flatMap(this::loadRelations);
+        return observe("querySingle", () -> {
+            resetVisitor();
+            return runReadQuerySingle(null, cypher, params)
+                    .flatMap(this::loadRelations);
+        });
     }
 
     public Uni<Optional<T>> querySingleOptional(String cypher) {
@@ -386,11 +798,13 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Uni<Optional<T>> querySingleOptional(String cypher, Map<String, Object> params) {
-        resetVisitor();
-        return runReadQuerySingle(null, cypher, params)
-                .flatMap(this::loadRelations)
-                .map(Optional::ofNullable)
-                .onItem().ifNull().continueWith(Optional.empty());
+        return observe("querySingleOptional", () -> {
+            resetVisitor();
+            return runReadQuerySingle(null, cypher, params)
+                    .flatMap(this::loadRelations)
+                    .map(Optional::ofNullable)
+                    .onItem().ifNull().continueWith(Optional.empty());
+        });
     }
 
     public Multi<T> query(String cypher, Pageable pageable, Sortable sortable) {
@@ -398,14 +812,16 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Multi<T> query(String cypher, Map<String, Object> parameters, Pageable pageable, Sortable sortable) {
-        resetVisitor();
-        String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
-        String pagedCypher = String.format("%s %s SKIP $skip LIMIT $limit", cypher, sortClause);
-        Map<String, Object> params = new HashMap<>(parameters);
-        params.put("skip", pageable.page() * pageable.size());
-        params.put("limit", pageable.size());
-        return runReadQuery(null, pagedCypher, params)
-                .onItem().transformToUniAndMerge(this::loadRelations);
+        return observeMulti("query", () -> {
+            resetVisitor();
+            String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
+            String pagedCypher = String.format("%s %s SKIP $skip LIMIT $limit", cypher, sortClause);
+            Map<String, Object> params = new HashMap<>(parameters);
+            params.put("skip", pageable.page() * pageable.size());
+            params.put("limit", pageable.size());
+            return runReadQuery(null, pagedCypher, params)
+                    .onItem().transformToUniAndMerge(this::loadRelations);
+        });
     }
 
     public Uni<Paged<T>> queryPaged(String baseCypher, Filter filter, Pageable pageable, Sortable sortable) {
@@ -414,48 +830,110 @@ public abstract class ReactiveRepository<T> {
 
     public Uni<Paged<T>> queryPaged(String baseCypher, Filter filter, Map<String, Object> parameters,
             Pageable pageable, Sortable sortable) {
-        resetVisitor();
-        Filter.CypherFragment frag = (filter != null) ? filter.toCypher("n") : new Filter.CypherFragment("", Map.of());
-        String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
-
-        Map<String, Object> allParams = new HashMap<>(parameters);
-        allParams.putAll(frag.params());
-        allParams.put("skip", pageable.page() * pageable.size());
-        allParams.put("limit", pageable.size());
-
-        // Single combined query for both count and content
-        String countCypher = String.format("%s %s RETURN count(n) AS count", baseCypher, frag.clause());
-        String pagedCypher = String.format("%s %s RETURN n AS node %s SKIP $skip LIMIT $limit",
-                baseCypher, frag.clause(), sortClause);
-
-        Uni<Long> countUni = runScalarReadQuery(null, countCypher, allParams, r -> r.get("count").asLong());
-        Uni<List<T>> contentUni = runReadQuery(null, pagedCypher, allParams)
-                .onItem().transformToUniAndMerge(this::loadRelations)
-                .collect().asList();
+        return observe("queryPaged", () -> {
+            resetVisitor();
+            Filter.CypherFragment frag = (filter != null)
+                    ? filter.toCypher("n", entityMapper.getNormalizedProperties())
+                    : new Filter.CypherFragment("", Map.of());
+            String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
 
-        return Uni.combine().all().unis(contentUni, countUni)
-                .asTuple()
-                .map(tuple -> new Paged<>(
-                        tuple.getItem1(),
-                        tuple.getItem2(),
-                        pageable.page(),
-                        pageable.size()));
+            CountStrategy strategy = PageCounts.strategy(pageable, config);
+
+            Map<String, Object> countParams = new HashMap<>(parameters);
+            countParams.putAll(frag.params());
+            Map<String, Object> allParams = new HashMap<>(countParams);
+            allParams.put("skip", pageable.page() * pageable.size());
+            allParams.put("limit", PageCounts.fetchSize(pageable, strategy));
+
+            String countCypher = String.format("%s %s RETURN count(n) AS count", baseCypher, frag.clause());
+            String pagedCypher = String.format("%s %s RETURN n AS node %s SKIP $skip LIMIT $limit",
+                    baseCypher, frag.clause(), sortClause);
+
+            Uni<List<T>> contentUni = runReadQuery(null, pagedCypher, allParams)
+                    .onItem().transformToUniAndMerge(this::loadRelations)
+                    .collect().asList();
+
+            return toPaged(contentUni, pageable, strategy, countCypher, countParams);
+        });
+    }
+
+    /**
+     * Keyset (seek) pagination over all entities, see {@link Repository#findAllKeyset}.
+     */
+    public Uni<KeysetPaged<T>> findAllKeyset(KeysetPageable pageable, Sortable sortable) {
+        return queryKeyset("MATCH (n:" + label + ")", null, Map.of(), pageable, sortable);
+    }
+
+    public Uni<KeysetPaged<T>> queryKeyset(String baseCypher, Filter filter, KeysetPageable pageable, Sortable sortable) {
+        return queryKeyset(baseCypher, filter, Map.of(), pageable, sortable);
+    }
+
+    public Uni<KeysetPaged<T>> queryKeyset(String baseCypher, Filter filter, Map<String, Object> parameters,
+            KeysetPageable pageable, Sortable sortable) {
+        return observe("queryKeyset", () -> {
+            resetVisitor();
+            Filter.CypherFragment frag = (filter != null) ? filter.toCypher("n", entityMapper.getNormalizedProperties()) : null;
+            Filter.CypherFragment page = KeysetCursor.query(baseCypher, frag, pageable, sortable);
+            Map<String, Object> allParams = new HashMap<>(parameters);
+            allParams.putAll(page.params());
+
+            return runQueryInternal(null, page.clause(), allParams, true)
+                    .collect().asList()
+                    .flatMap(rows -> {
+                        KeysetPaged<T> result = KeysetCursor.page(rows, pageable.size(),
+                                rec -> rec.get(KeysetCursor.KEYS_COLUMN).asList(),
+                                rec -> entityMapper.map(rec, resolveAlias(rec)));
+                        // Concatenate keeps the seek order of the page
+                        return Multi.createFrom().iterable(result.content())
+                                .onItem().transformToUniAndConcatenate(this::loadRelations)
+                                .collect().asList()
+                                .map(content -> new KeysetPaged<>(content, result.nextCursor(), result.hasNext()));
+                    });
+        });
     }
 
     public Uni<Paged<T>> queryPaged(String baseCypher, Map<String, Object> parameters, Pageable pageable, Sortable sortable) {
-        resetVisitor();
-        String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
-        Map<String, Object> allParams = new HashMap<>(parameters);
-        allParams.put("skip", pageable.page() * pageable.size());
-        allParams.put("limit", pageable.size());
-
-        String countCypher = baseCypher + " RETURN count(n) AS count";
-        String pagedCypher = baseCypher + " RETURN n AS node " + sortClause + " SKIP $skip LIMIT $limit";
-
-        Uni<Long> countUni = runScalarReadQuery(null, countCypher, parameters, r -> r.get("count").asLong());
-        Uni<List<T>> contentUni = runReadQuery(null, pagedCypher, allParams)
-                .onItem().transformToUniAndMerge(this::loadRelations)
-                .collect().asList();
+        return observe("queryPaged", () -> {
+            resetVisitor();
+            String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
+            CountStrategy strategy = PageCounts.strategy(pageable, config);
+            Map<String, Object> allParams = new HashMap<>(parameters);
+            allParams.put("skip", pageable.page() * pageable.size());
+            allParams.put("limit", PageCounts.fetchSize(pageable, strategy));
+
+            String countCypher = baseCypher + " RETURN count(n) AS count";
+            String pagedCypher = baseCypher + " RETURN n AS node " + sortClause + " SKIP $skip LIMIT $limit";
+
+            Uni<List<T>> contentUni = runReadQuery(null, pagedCypher, allParams)
+                    .onItem().transformToUniAndMerge(this::loadRelations)
+                    .collect().asList();
+
+            return toPaged(contentUni, pageable, strategy, countCypher, parameters);
+        });
+    }
+
+    /**
+     * Combines the content of a page with its total according to the count strategy. EXACT and CACHED
+     * counts run concurrently with the content query; ESTIMATED only reads the label count if the page
+     * fetched a row beyond its size.
+     */
+    private Uni<Paged<T>> toPaged(Uni<List<T>> contentUni, Pageable pageable, CountStrategy strategy,
+            String countCypher, Map<String, Object> countParams) {
+        if (strategy == CountStrategy.ESTIMATED) {
+            return contentUni.flatMap(rows -> {
+                List<T> content = PageCounts.trim(pageable, rows);
+                Uni<Long> labelCount = PageCounts.hasMore(pageable, rows)
+                        ? exactCount("MATCH (n:" + label + ") RETURN count(n) AS count", Map.of())
+                        : Uni.createFrom().item(0L);
+                return labelCount.map(n -> new Paged<>(content, PageCounts.estimatedTotal(pageable, rows.size(), n),
+                        pageable.page(), pageable.size()));
+            });
+        }
+
+        Uni<Long> countUni = strategy == CountStrategy.CACHED
+                ? cachedQuery(PageCounts.CACHE_NAME, PageCounts.cacheKey(countCypher, countParams),
+                        PageCounts.cacheSettings(config), () -> exactCount(countCypher, countParams))
+                : exactCount(countCypher, countParams);
 
         return Uni.combine().all().unis(contentUni, countUni)
                 .asTuple()
@@ -466,6 +944,10 @@ public abstract class ReactiveRepository<T> {
                         pageable.size()));
     }
 
+    private Uni<Long> exactCount(String countCypher, Map<String, Object> parameters) {
+        return runScalarReadQuery(null, countCypher, parameters, r -> r.get("count").asLong());
+    }
+
     public <R> Uni<R> queryScalar(String cypher, Function<Record, R> mapper) {
         return queryScalar(null, cypher, Map.of(), mapper);
     }
@@ -473,34 +955,34 @@ public abstract class ReactiveRepository<T> {
     public <R> Uni<R> queryScalar(String cypher,
             Map<String, Object> parameters,
             Function<Record, R> mapper) {
-        return runScalarReadQuery(null, cypher, parameters, mapper);
+        return observe("queryScalar", () -> runScalarReadQuery(null, cypher, parameters, mapper));
     }
 
     public <R> Uni<List<R>> queryScalarList(String cypher,
             Map<String, Object> parameters,
             Function<Record, R> mapper) {
-        return runQueryInternal(null, cypher, parameters, true)
+        return observe("queryScalarList", () -> runQueryInternal(null, cypher, parameters, true)
                 .map(mapper)
                 .collect().asList()
-                .onFailure().transform(t -> new RepositoryException("Failed to execute scalar list query", t));
+                .onFailure().transform(t -> new RepositoryException("Failed to execute scalar list query", t)));
     }
 
     public <R> Uni<R> executeScalar(String cypher,
             Map<String, Object> parameters,
             Function<Record, R> mapper) {
-        return runQueryInternal(null, cypher, parameters, false)
+        return observe("executeScalar", () -> runQueryInternal(null, cypher, parameters, false)
                 .map(mapper)
                 .toUni()
-                .onFailure().transform(t -> new RepositoryException("Failed to execute write scalar query", t));
+                .onFailure().transform(t -> new RepositoryException("Failed to execute write scalar query", t)));
     }
 
     public <R> Uni<List<R>> executeScalarList(String cypher,
             Map<String, Object> parameters,
             Function<Record, R> mapper) {
-        return runQueryInternal(null, cypher, parameters, false)
+        return observe("executeScalarList", () -> runQueryInternal(null, cypher, parameters, false)
                 .map(mapper)
                 .collect().asList()
-                .onFailure().transform(t -> new RepositoryException("Failed to execute write scalar list query", t));
+                .onFailure().transform(t -> new RepositoryException("Failed to execute write scalar list query", t)));
     }
 
     // ----------------------------------------------------------
@@ -508,48 +990,58 @@ public abstract class ReactiveRepository<T> {
     // ----------------------------------------------------------
 
     public Uni<T> findById(ReactiveTxContext ctx, Object id) {
-        resetVisitor();
-        return runReadQuerySingle(ctx, "MATCH (n:" + label + " {id: $id}) RETURN n", Map.of("id", id))
-                .flatMap(e -> loadRelations(ctx, e));
+        return observe("findById", () -> {
+            resetVisitor();
+            return runReadQuerySingle(ctx, "MATCH (n:" + label + " {id: $id}) RETURN n", Map.of("id", id))
+                    .flatMap(e -> loadRelations(ctx, e));
+        });
     }
 
     public Multi<T> findAll(ReactiveTxContext ctx) {
-        resetVisitor();
-        return runReadQuery(ctx, "MATCH (n:" + label + ") RETURN n", Map.of())
-                .onItem().transformToUniAndMerge(e -> loadRelations(ctx, e));
+        return observeMulti("findAll", () -> {
+            resetVisitor();
+            return runReadQuery(ctx, "MATCH (n:" + label + ") RETURN n", Map.of())
+                    .onItem().transformToUniAndMerge(e -> loadRelations(ctx, e));
+        });
     }
 
     public Uni<T> create(ReactiveTxContext ctx, T entity) {
-        resetVisitor();
-        EntityWithRelations data = entityMapper.toDb(entity);
-        Object id = entityMapper.getNodeId(entity);
+        return observe("create", () -> {
+            resetVisitor();
+            EntityWithRelations data = toDb(entity);
+            Object id = entityMapper.getNodeId(entity);
 
-        return runWriteQuerySingle(ctx, "CREATE (n:" + label + " $props) RETURN n",
-                Map.of("props", data.getProperties()))
-                .flatMap(saved -> persistRelationships(ctx, label, id, data.getRelationships(),
-                        data.getPersistableRelationshipKeys()).replaceWith(saved));
+            return runWriteQuerySingle(ctx, "CREATE (n:" + label + " $props) RETURN n",
+                    Map.of("props", data.getProperties()))
+                    .flatMap(saved -> persistRelationships(ctx, label, id, data.getRelationships(),
+                            data.getPersistableRelationshipKeys()).replaceWith(saved));
+        });
     }
 
     public Uni<T> update(ReactiveTxContext ctx, T entity) {
-        resetVisitor();
-        Object id = entityMapper.getNodeId(entity);
-        EntityWithRelations data = entityMapper.toDb(entity);
+        return observe("update", () -> {
+            resetVisitor();
+            Object id = entityMapper.getNodeId(entity);
+            EntityWithRelations data = toDb(entity);
 
-        return runWriteQuerySingle(ctx, "MATCH (n:" + label + " {id: $id}) SET n += $props RETURN n",
-                Map.of("id", id, "props", data.getProperties()))
-                .flatMap(updated -> persistRelationships(ctx, label, id, data.getRelationships(),
-                        data.getPersistableRelationshipKeys()).replaceWith(updated));
+            return runWriteQuerySingle(ctx, "MATCH (n:" + label + " {id: $id}) SET n += $props RETURN n",
+                    Map.of("id", id, "props", data.getProperties()))
+                    .flatMap(updated -> persistRelationships(ctx, label, id, data.getRelationships(),
+                            data.getPersistableRelationshipKeys()).replaceWith(updated));
+        });
     }
 
     public Uni<T> merge(ReactiveTxContext ctx, T entity) {
-        resetVisitor();
-        Object id = entityMapper.getNodeId(entity);
-        EntityWithRelations data = entityMapper.toDb(entity);
+        return observe("merge", () -> {
+            resetVisitor();
+            Object id = entityMapper.getNodeId(entity);
+            EntityWithRelations data = toDb(entity);
 
-        return runWriteQuerySingle(ctx, "MERGE (n:" + label + " {id: $id}) SET n += $props RETURN n",
-                Map.of("id", id, "props", data.getProperties()))
-                .flatMap(merged -> persistRelationships(ctx, label, id, data.getRelationships(),
-                        data.getPersistableRelationshipKeys()).replaceWith(merged));
+            return runWriteQuerySingle(ctx, "MERGE (n:" + label + " {id: $id}) SET n += $props RETURN n",
+                    Map.of("id", id, "props", data.getProperties()))
+                    .flatMap(merged -> persistRelationships(ctx, label, id, data.getRelationships(),
+                            data.getPersistableRelationshipKeys()).replaceWith(merged));
+        });
     }
 
     public Uni<Void> delete(ReactiveTxContext ctx, T entity) {
@@ -557,40 +1049,50 @@ public abstract class ReactiveRepository<T> {
     }
 
     public Uni<Void> deleteById(ReactiveTxContext ctx, Object id) {
-        resetVisitor();
-        return runWriteQueryVoid(ctx, "MATCH (n:" + label + " {id: $id}) DETACH DELETE n", Map.of("id", convertIdToString(id)));
+        return observe("deleteById", () -> {
+            resetVisitor();
+            return runWriteQueryVoid(ctx, "MATCH (n:" + label + " {id: $id}) DETACH DELETE n",
+                    Map.of("id", convertIdToString(id)));
+        });
     }
 
     public Uni<Boolean> existsById(ReactiveTxContext ctx, Object id) {
-        return runScalarReadQuery(ctx, "MATCH (n:" + label + " {id: $id}) RETURN count(n) > 0 AS exists",
-                Map.of("id", convertIdToString(id)), r -> r.get("exists").asBoolean());
+        return observe("existsById", () -> runScalarReadQuery(ctx,
+                "MATCH (n:" + label + " {id: $id}) RETURN count(n) > 0 AS exists",
+                Map.of("id", convertIdToString(id)), r -> r.get("exists").asBoolean()));
     }
 
     public Multi<T> query(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
-        resetVisitor();
-        return runReadQuery(ctx, cypher, params)
-                .onItem().transformToUniAndMerge(e -> loadRelations(ctx, e));
+        return observeMulti("query", () -> {
+            resetVisitor();
+            return runReadQuery(ctx, cypher, params)
+                    .onItem().transformToUniAndMerge(e -> loadRelations(ctx, e));
+        });
     }
 
     public Uni<T> querySingle(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
-        resetVisitor();
-        return runReadQuerySingle(ctx, cypher, params)
-                .flatMap(e -> loadRelations(ctx, e));
+        return observe("querySingle", () -> {
+            resetVisitor();
+            return runReadQuerySingle(ctx, cypher, params)
+                    .flatMap(e -> loadRelations(ctx, e));
+        });
     }
 
     public Uni<T> executeReturning(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
-        resetVisitor();
-        return runWriteQuerySingle(ctx, cypher, params)
-                .flatMap(e -> loadRelations(ctx, e));
+        return observe("executeReturning", () -> {
+            resetVisitor();
+            return runWriteQuerySingle(ctx, cypher, params)
+                    .flatMap(e -> loadRelations(ctx, e));
+        });
     }
 
     public Uni<Void> execute(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
-        return runWriteQueryVoid(ctx, cypher, params);
+        return observe("execute", () -> runWriteQueryVoid(ctx, cypher, params));
     }
 
     public <R> Uni<R> queryScalar(ReactiveTxContext ctx, String cypher, Map<String, Object> parameters,
             Function<Record, R> mapper) {
-        return runScalarReadQuery(ctx, cypher, parameters, mapper);
+        return observe("queryScalar", () -> runScalarReadQuery(ctx, cypher, parameters, mapper));
     }
 
     // ----------------------------------------------------------
@@ -598,6 +1100,13 @@ public abstract class ReactiveRepository<T> {
     // ----------------------------------------------------------
 
     protected Uni<T> loadRelations(T entity, int currentDepth) {
+        return loadRelations(entity, currentDepth, null);
+    }
+
+    /**
+     * @param plan the relationships to load, {@code null} to load them up to their declared max depth
+     */
+    protected Uni<T> loadRelations(T entity, int currentDepth, FetchPlan plan) {
         if (entity == null || relationLoader == null || relationVisitor == null) {
             return Uni.createFrom().item(entity);
         }
@@ -607,7 +1116,7 @@ public abstract class ReactiveRepository<T> {
                     if (!shouldVisit) {
                         return Uni.createFrom().item(entity);
                     }
-                    return relationLoader.loadRelations(entity, currentDepth, visitorContext);
+                    return relationLoader.loadRelations(entity, currentDepth, visitorContext, plan);
                 })
                 .invoke(e -> entityMapper.applyPostLoadConverters(e));
     }
@@ -665,9 +1174,45 @@ public abstract class ReactiveRepository<T> {
     // -------- Read (list) --------
     private Multi<T> runReadQuery(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
         return runQueryInternal(ctx, cypher, params, true)
+                .plug(this::countRecords)
                 .map(r -> entityMapper.map(r, resolveAlias(r)));
     }
 
+    // -------- Read (entity with relations) --------
+
+    /**
+     * Nested projection that fetches the entity together with its relationships in one record.
+     * Overridden by generated repositories of entities whose relationships are shallow enough
+     * ({@code maxDepth <= 2}); {@code null} means relationships are resolved by the relation loader.
+     */
+    protected String graphProjection() {
+        return null;
+    }
+
+    private Multi<T> runFindQuery(String match, String tail, Map<String, Object> params) {
+        String projection = graphProjection();
+        if (projection == null) {
+            return runReadQuery(null, match + " RETURN n" + tail, params)
+                    .onItem().transformToUniAndMerge(this::loadRelations);
+        }
+        return runQueryInternal(null, match + " RETURN " + projection + " AS node" + tail, params, true)
+                .plug(this::countRecords)
+                .map(r -> {
+                    T entity = entityMapper.mapFromGraph(r.get("node"));
+                    entityMapper.applyPostLoadConverters(entity);
+                    return entity;
+                });
+    }
+
+    /**
+     * Runs a query returning plain nodes and loads the relationships of the plan, never as a graph
+     * projection, which would load the relationships up to their declared max depth.
+     */
+    private Multi<T> runPlannedQuery(String cypher, Map<String, Object> params, FetchPlan plan) {
+        return runReadQuery(null, cypher, params)
+                .onItem().transformToUniAndMerge(entity -> loadRelations(entity, 0, plan));
+    }
+
     // -------- Read (single) --------
     private Uni<T> runReadQuerySingle(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
         return runReadQuery(ctx, cypher, params).toUni();
@@ -676,6 +1221,7 @@ public abstract class ReactiveRepository<T> {
     // -------- Write (single returning) --------
     private Uni<T> runWriteQuerySingle(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
         return runQueryInternal(ctx, cypher, params, false)
+                .plug(this::countRecords)
                 .collect().asList()
                 .map(records -> records.isEmpty()
                         ? null
@@ -684,15 +1230,20 @@ public abstract class ReactiveRepository<T> {
 
     // -------- Write (void) --------
     private Uni<Void> runWriteQueryVoid(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
+        return traceStatement(cypher, params, false, writeQueryVoid(ctx, cypher, params));
+    }
+
+    private Uni<Void> writeQueryVoid(ReactiveTxContext ctx, String cypher, Map<String, Object> params) {
         if (ctx != null) {
             var result = ctx.getTx().run(cypher, Values.value(params));
             return Multi.createFrom().publisher(result)
                     .flatMap(ReactiveResult::consume)
                     .toUni()
                     .replaceWithVoid()
-                    .onFailure().transform(t -> new RepositoryException("Failed to execute write query", t));
+                    .onFailure().transform(t -> new RepositoryException("Failed to execute write query", t))
+                    .onTermination().invoke(() -> invalidateCaches(ctx, List.of(label)));
         }
-        // fallback: open/close per call
+        // fallback: open/close per call, the driver retries the managed transaction on transient errors
         return Multi.createFrom().resource(
                 () -> driver.session(ReactiveSession.class),
                 session -> session.executeWrite(tx -> {
@@ -703,12 +1254,18 @@ public abstract class ReactiveRepository<T> {
                 }))
                 .withFinalizer(closeSession())
                 .toUni()
-                .onFailure().transform(t -> new RepositoryException("Failed to execute write query", t));
+                .onFailure().transform(t -> new RepositoryException("Failed to execute write query", t))
+                .onTermination().invoke(this::invalidateCaches);
     }
 
     // -------- Scalar --------
     private <R> Uni<R> runScalarReadQuery(ReactiveTxContext ctx, String cypher, Map<String, Object> params,
             Function<Record, R> mapper) {
+        return traceStatement(cypher, params, true, scalarReadQuery(ctx, cypher, params, mapper));
+    }
+
+    private <R> Uni<R> scalarReadQuery(ReactiveTxContext ctx, String cypher, Map<String, Object> params,
+            Function<Record, R> mapper) {
         if (ctx != null) {
             var result = ctx.getTx().run(cypher, Values.value(params));
             return Multi.createFrom().publisher(result)
@@ -719,7 +1276,7 @@ public abstract class ReactiveRepository<T> {
         }
         // fallback: open/close per call
         return Multi.createFrom().resource(
-                () -> driver.session(ReactiveSession.class),
+                () -> driver.session(ReactiveSession.class, READ_SESSION),
                 session -> session.executeRead(tx -> {
                     var result = tx.run(cypher, Values.value(params));
                     return Multi.createFrom().publisher(result)
@@ -733,26 +1290,30 @@ public abstract class ReactiveRepository<T> {
 
     // -------- Internal main runner --------
     private Multi<Record> runQueryInternal(ReactiveTxContext ctx, String cypher, Map<String, Object> params, boolean readOnly) {
+        Multi<Record> records;
         if (ctx != null) {
             var result = ctx.getTx().run(cypher, Values.value(params));
-            return Multi.createFrom().publisher(result)
+            records = Multi.createFrom().publisher(result)
                     .flatMap(ReactiveResult::records)
                     .onFailure().transform(t -> new RepositoryException("Failed to execute query", t));
+        } else {
+            // fallback: open/close per call, the driver retries the managed transaction on transient errors
+            records = Multi.createFrom().resource(
+                    () -> driver.session(ReactiveSession.class, readOnly ? READ_SESSION : SessionConfig.defaultConfig()),
+                    session -> {
+                        if (readOnly) {
+                            return session.executeRead(tx -> Multi.createFrom().publisher(tx.run(cypher, Values.value(params)))
+                                    .flatMap(ReactiveResult::records));
+                        } else {
+                            return session.executeWrite(tx -> Multi.createFrom().publisher(tx.run(cypher, Values.value(params)))
+                                    .flatMap(ReactiveResult::records));
+                        }
+                    })
+                    .withFinalizer(closeSession())
+                    .onFailure().transform(t -> new RepositoryException("Failed to execute query", t));
         }
-        // fallback: open/close per call
-        return Multi.createFrom().resource(
-                () -> driver.session(ReactiveSession.class),
-                session -> {
-                    if (readOnly) {
-                        return session.executeRead(tx -> Multi.createFrom().publisher(tx.run(cypher, Values.value(params)))
-                                .flatMap(ReactiveResult::records));
-                    } else {
-                        return session.executeWrite(tx -> Multi.createFrom().publisher(tx.run(cypher, Values.value(params)))
-                                .flatMap(ReactiveResult::records));
-                    }
-                })
-                .withFinalizer(closeSession())
-                .onFailure().transform(t -> new RepositoryException("Failed to execute query", t));
+        return traceStatement(cypher, params, readOnly,
+                readOnly ? records : records.onTermination().invoke(() -> invalidateCaches(ctx, List.of(label))));
     }
 
     // ----------------------------------------------------------
@@ -761,185 +1322,204 @@ public abstract class ReactiveRepository<T> {
 
     private Uni<Void> persistRelationships(ReactiveTxContext ctx, String sourceLabel, Object fromId,
             List<RelationshipData> relationships, Set<String> declaredKeys) {
-        final List<RelationshipData> rels = (relationships != null) ? relationships : List.of();
-        final Set<String> relationshipTypes = (declaredKeys != null) ? declaredKeys : Set.of();
-
-        // Proceed when there is anything to persist OR any declared relationship type to clear, so
-        // that emptied relations are detached from the DB (issue #69).
-        if (fromId == null || (rels.isEmpty() && relationshipTypes.isEmpty())) {
-            return Uni.createFrom().voidItem();
+        // Nested targets, deletes and edges of the whole tree are grouped into UNWIND statements.
+        // Persisted nodes are tracked per plan, which also protects against cycles.
+        RelationshipWritePlan plan = new RelationshipWritePlan(null, this::relationshipTarget);
+        try {
+            plan.collect(sourceLabel, fromId, relationships, declaredKeys);
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(e);
         }
+        return executePlan(ctx, plan);
+    }
 
-        if (relationVisitor == null) {
-            return Uni.createFrom().failure(
-                    new IllegalStateException("RelationVisitor is required but not available"));
+    private Uni<Void> executePlan(ReactiveTxContext ctx, RelationshipWritePlan plan) {
+        // Statements depend on each other (nodes before edges), so they run strictly in order
+        return Multi.createFrom().iterable(plan.statements())
+                .onItem().transformToUniAndConcatenate(st -> runWriteQueryVoid(ctx, st.cypher(), st.parameters()))
+                .collect().last()
+                .replaceWithVoid()
+                .onTermination().invoke(() -> invalidateCaches(ctx, plan.labels()));
+    }
+
+    /**
+     * Converts an entity for a write. Reactive writes are not tracked, so a snapshot the blocking
+     * repository took of the instance is dropped instead of going stale.
+     */
+    private EntityWithRelations toDb(T entity) {
+        EntityWithRelations data = entityMapper.toDb(entity);
+        EntitySnapshots.SHARED.forget(data);
+        return data;
+    }
+
+    private RelationshipWritePlan.Target relationshipTarget(Class<?> entityType) {
+        ReactiveRepository<?> targetRepo = reactiveRegistry.getReactiveRepository(entityType);
+        if (targetRepo == null) {
+            return null;
         }
+        return new RelationshipWritePlan.Target(targetRepo.label, targetRepo.getEntityMapper().getNodeIdPropertyName());
+    }
 
-        return relationVisitor.markPersisted(sourceLabel, fromId, visitorContext)
-                .flatMap(wasMarked -> {
-                    if (!wasMarked) {
-                        return Uni.createFrom().voidItem();
-                    }
+    // ----------------------------------------------------------
+    // Second-level cache
+    // ----------------------------------------------------------
 
-                    // First, delete all existing edges of every declared persistable relationship
-                    // type so that both updated and removed relationships are detached.
-                    return Multi.createFrom().iterable(relationshipTypes)
-                            .onItem().transformToUniAndMerge(typeKey -> {
-                                // Key format: type|DIRECTION|targetLabel. Scoping the delete to the
-                                // target label lets relationships sharing a type but pointing to
-                                // different node types be cleared independently (issue #60).
-                                String[] parts = typeKey.split("\\|", 3);
-                                String relType = CypherIdentifier.requireValidIdentifier(parts[0]);
-                                String direction = parts[1];
-                                String targetLabel = CypherIdentifier.requireValidIdentifier(parts[2]);
-
-                                String deleteQuery = switch (direction) {
-                                    case "OUTGOING" ->
-                                        "MATCH (n:" + sourceLabel + " {id: $id})-[r:" + relType + "]->(:" + targetLabel
-                                                + ") DELETE r";
-                                    case "INCOMING" ->
-                                        "MATCH (n:" + sourceLabel + " {id: $id})<-[r:" + relType + "]-(:" + targetLabel
-                                                + ") DELETE r";
-                                    case "UNDIRECTED" ->
-                                        "MATCH (n:" + sourceLabel + " {id: $id})-[r:" + relType + "]-(:" + targetLabel
-                                                + ") DELETE r";
-                                    case "BOTH" ->
-                                        // For BOTH direction, delete both outgoing and incoming relationships
-                                        "MATCH (n:" + sourceLabel + " {id: $id})-[r:" + relType + "]-(:" + targetLabel
-                                                + ") DELETE r";
-                                    default -> null;
-                                };
-
-                                if (deleteQuery != null) {
-                                    return runWriteQueryVoid(ctx, deleteQuery, Map.of("id", convertIdToString(fromId)));
-                                } else {
-                                    return Uni.createFrom().voidItem();
-                                }
-                            })
-                            .collect().asList()
-                            .flatMap(ignore -> Multi.createFrom().iterable(rels)
-                                    .onItem().transformToUniAndMerge(rel -> {
-                                        if (rel.getMode() == de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode.FETCH_ONLY) {
-                                            return Uni.createFrom().voidItem();
-                                        }
-
-                                        EntityWithRelations target = rel.getTarget();
-                                        if (target == null) {
-                                            return Uni.createFrom().voidItem();
-                                        }
-
-                                        @SuppressWarnings("unchecked")
-                                        ReactiveRepository<Object> targetRepo = (ReactiveRepository<Object>) reactiveRegistry
-                                                .getReactiveRepository(target.getEntityType());
-
-                                        if (targetRepo == null) {
-                                            return Uni.createFrom().voidItem();
-                                        }
-
-                                        targetRepo.setVisitorContext(visitorContext); // share visitor context
-
-                                        String idPropertyName = targetRepo.getEntityMapper().getNodeIdPropertyName();
-                                        Object targetEntityId = target.getProperties().get(idPropertyName);
-
-                                        if (targetEntityId != null) {
-                                            return relationVisitor
-                                                    .wasPersisted(targetRepo.label, targetEntityId, visitorContext)
-                                                    .flatMap(wasPersisted -> {
-                                                        if (!wasPersisted) {
-                                                            return targetRepo.createInternal(ctx, target)
-                                                                    .invoke(saved -> {
-                                                                        Object id = targetRepo.getEntityMapper()
-                                                                                .getNodeId(saved);
-                                                                        rel.setTargetId(id);
-                                                                    })
-                                                                    .replaceWithVoid();
-                                                        } else {
-                                                            // Entity bereits persistiert -> verwende nur die ID
-                                                            rel.setTargetId(targetEntityId);
-                                                            return Uni.createFrom().voidItem();
-                                                        }
-                                                    });
-                                        } else {
-                                            return targetRepo.createInternal(ctx, target)
-                                                    .invoke(saved -> {
-                                                        Object id = targetRepo.getEntityMapper().getNodeId(saved);
-                                                        rel.setTargetId(id);
-                                                    })
-                                                    .replaceWithVoid();
-                                        }
-                                    })
-                                    .collect().asList()
-                                    .flatMap(ignored -> Multi.createFrom().iterable(rels)
-                                            .onItem().transformToUniAndMerge(rel -> {
-                                                Object toId = rel.getTargetId();
-                                                if (toId == null) {
-                                                    return Uni.createFrom().voidItem();
-                                                }
-
-                                                EntityWithRelations target = rel.getTarget();
-                                                if (target == null) {
-                                                    return Uni.createFrom().voidItem();
-                                                }
-
-                                                @SuppressWarnings("unchecked")
-                                                ReactiveRepository<Object> targetRepo = (ReactiveRepository<Object>) reactiveRegistry
-                                                        .getReactiveRepository(target.getEntityType());
-
-                                                if (targetRepo == null) {
-                                                    return Uni.createFrom().voidItem();
-                                                }
-
-                                                String targetLabel = targetRepo.label;
-
-                                                Map<String, Object> params = Map.of(
-                                                        "from", fromId.toString(),
-                                                        "to", toId.toString());
-
-                                                // Relationship type is concatenated into the query.
-                                                CypherIdentifier.requireValidIdentifier(rel.getType());
-
-                                                String query = switch (rel.getDirection()) {
-                                                    case OUTGOING ->
-                                                        "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                                                "      (b:" + targetLabel + " {id: $to}) " +
-                                                                "MERGE (a)-[:" + rel.getType() + "]->(b)";
-                                                    case INCOMING ->
-                                                        "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                                                "      (b:" + targetLabel + " {id: $to}) " +
-                                                                "MERGE (a)<-[:" + rel.getType() + "]-(b)";
-                                                    case UNDIRECTED ->
-                                                        "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                                                "      (b:" + targetLabel + " {id: $to}) " +
-                                                                "MERGE (a)-[:" + rel.getType() + "]-(b)";
-                                                    case BOTH ->
-                                                        throw new UnsupportedOperationException(
-                                                                "BOTH direction not yet implemented for reactive");
-                                                    default ->
-                                                        throw new UnsupportedOperationException(
-                                                                "Unsupported direction: " + rel.getDirection());
-                                                };
-
-                                                return runWriteQueryVoid(ctx, query, params);
-                                            })
-                                            .collect().asList()
-                                            .replaceWithVoid()));
+    /**
+     * Second-level cache settings of this entity, {@code null} if it is not cached. Overridden by
+     * generated repositories of {@link Cacheable} entities.
+     */
+    protected BoundedCache.Settings cacheSettings() {
+        return null;
+    }
+
+    /**
+     * The cache of this label, {@code null} if the entity is not cached. Only calls without a
+     * {@link ReactiveTxContext} read it, and those always run in a transaction of their own.
+     */
+    private BoundedCache<String, Value> entityCache() {
+        BoundedCache.Settings settings = cacheSettings();
+        return settings != null && cacheManager != null ? cacheManager.entityCache(label, settings) : null;
+    }
+
+    /**
+     * Loads an entity by id, or maps a new instance from its cached node so that changes a caller makes
+     * to its instance are not seen by others, see {@link Repository#findById(Object)}.
+     */
+    private Uni<T> findByIdCached(Object id) {
+        BoundedCache<String, Value> cache = id != null ? entityCache() : null;
+        String key = convertIdToString(id);
+        Value cached = cache != null ? cache.get(key) : null;
+        if (cached != null) {
+            return mapNode(cached);
+        }
+        long generation = cache != null ? cache.generation() : 0L;
+        String projection = graphProjection();
+        return runQueryInternal(null, "MATCH (n:" + label + " {id: $id}) RETURN "
+                + (projection != null ? projection : "n") + " AS node", Map.of("id", key), true)
+                .plug(this::countRecords)
+                .toUni()
+                .onItem().ifNotNull().transformToUni(rec -> {
+                    if (cache != null) {
+                        cache.putIfGeneration(key, rec.get("node"), generation);
+                    }
+                    return mapNode(rec.get("node"));
                 });
     }
 
-    private Uni<T> createInternal(ReactiveTxContext ctx, EntityWithRelations entity) {
-        resetVisitor();
+    private Uni<T> mapNode(Value node) {
+        if (graphProjection() == null) {
+            return loadRelations(entityMapper.mapFromValue(node));
+        }
+        T entity = entityMapper.mapFromGraph(node);
+        entityMapper.applyPostLoadConverters(entity);
+        return Uni.createFrom().item(entity);
+    }
 
-        String idProp = entityMapper.getNodeIdPropertyName();
-        String cypher = "MERGE (n:" + label + " {" + idProp + ": $props." + idProp + "}) " +
-                "SET n += $props RETURN n";
-
-        return runWriteQuerySingle(ctx, cypher, Map.of("props", entity.getProperties()))
-                .flatMap(saved -> persistRelationships(ctx,
-                        label,
-                        entityMapper.getNodeId(saved),
-                        entity.getRelationships(),
-                        entity.getPersistableRelationshipKeys())
-                        .replaceWith(saved));
+    /**
+     * Returns the result of a cacheable {@code @Query} method. The cache holds the records of the query
+     * and every call maps them again, so subscribers never share entity or DTO instances. Called by
+     * generated query methods.
+     *
+     * @param queryName name of the query method
+     * @param parameters query parameters, the cache key
+     * @param settings size bound and time-to-live of the query cache
+     * @param cypher the read query
+     * @param mapper maps the records to the result, e.g. {@link #mapEntities(List)}
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> Uni<R> cachedQuery(String queryName, Map<String, Object> parameters, BoundedCache.Settings settings,
+            String cypher, Function<List<Record>, Uni<R>> mapper) {
+        return observe("query", () -> {
+            resetVisitor();
+            BoundedCache<Object, Object> cache = cacheManager != null
+                    ? cacheManager.queryCache(label, queryName, settings)
+                    : null;
+            Object cached = cache != null ? cache.get(parameters) : null;
+            if (cached != null) {
+                return mapper.apply((List<Record>) cached);
+            }
+            long generation = cache != null ? cache.generation() : 0L;
+            return runQueryInternal(null, cypher, parameters, true)
+                    .collect().asList()
+                    .invoke(records -> {
+                        if (cache != null) {
+                            cache.putIfGeneration(parameters, records, generation);
+                        }
+                    })
+                    .flatMap(records -> mapper.apply(records));
+        });
+    }
+
+    /**
+     * Maps the records of an entity query and loads their relationships.
+     */
+    protected Uni<List<T>> mapEntities(List<Record> records) {
+        return Multi.createFrom().iterable(records)
+                .map(r -> entityMapper.map(r, resolveAlias(r)))
+                .onItem().transformToUniAndConcatenate(this::loadRelations)
+                .collect().asList();
+    }
+
+    /**
+     * Maps the first record of an entity query, see {@link #querySingle(String, Map)}.
+     */
+    protected Uni<T> mapEntity(List<Record> records) {
+        if (records.isEmpty()) {
+            return Uni.createFrom().nullItem();
+        }
+        Record rec = records.getFirst();
+        return loadRelations(entityMapper.map(rec, resolveAlias(rec)));
+    }
+
+    protected static <R> Uni<R> mapFirst(List<Record> records, Function<Record, R> mapper) {
+        return Uni.createFrom().item(records.isEmpty() ? null : mapper.apply(records.getFirst()));
+    }
+
+    protected static <R> Uni<List<R>> mapAll(List<Record> records, Function<Record, R> mapper) {
+        return Uni.createFrom().item(records.stream().map(mapper).toList());
+    }
+
+    /**
+     * Returns a cached immutable result, such as a count, loading and caching it on a miss.
+     *
+     * @param queryName name of the cache
+     * @param parameters the cache key
+     * @param settings size bound and time-to-live of the cache
+     * @param loader loads the result
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> Uni<R> cachedQuery(String queryName, Map<String, Object> parameters, BoundedCache.Settings settings,
+            Supplier<Uni<R>> loader) {
+        if (cacheManager == null) {
+            return loader.get();
+        }
+        return Uni.createFrom().deferred(() -> {
+            BoundedCache<Object, Object> cache = cacheManager.queryCache(label, queryName, settings);
+            Object cached = cache.get(parameters);
+            if (cached != null) {
+                return Uni.createFrom().item((R) cached);
+            }
+            long generation = cache.generation();
+            return loader.get().invoke(result -> cache.putIfGeneration(parameters, result, generation));
+        });
+    }
+
+    private void invalidateCaches() {
+        invalidateCaches(null, List.of(label));
+    }
+
+    /**
+     * Drops the second-level caches of the labels. A write in a context is invalidated again once the
+     * context commits, since readers may have cached the state it replaces in the meantime.
+     */
+    private void invalidateCaches(ReactiveTxContext ctx, Collection<String> labels) {
+        if (cacheManager == null) {
+            return;
+        }
+        cacheManager.invalidate(labels);
+        if (ctx != null) {
+            ctx.afterCommit(() -> cacheManager.invalidate(labels));
+        }
     }
 
     // ----------------------------------------------------------
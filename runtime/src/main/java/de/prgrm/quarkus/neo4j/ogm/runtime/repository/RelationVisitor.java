@@ -14,6 +14,9 @@ import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapperRegistry;
 /**
  * Application-scoped visitor that manages entity relationship traversal using ThreadLocal.
  * Prevents infinite recursion via depth limit and circular reference detection.
+ * <p>
+ * A context is only used by its thread. Relation loading spread over several threads gives each of
+ * them a context of its own via {@link #traverseDetached} and adds up their statistics.
  */
 @ApplicationScoped
 public class RelationVisitor {
@@ -23,7 +26,7 @@ public class RelationVisitor {
     /**
      * ThreadLocal context for each traversal operation (thread-safe)
      */
-    private static final ThreadLocal<VisitorContext> CONTEXT = ThreadLocal.withInitial(VisitorContext::new);
+    private static final ThreadLocal<VisitorContext> CONTEXT = ThreadLocal.withInitial(() -> new VisitorContext(false));
 
     /**
      * Default max depth (can be overridden per relation via @Relationship)
@@ -57,6 +60,7 @@ public class RelationVisitor {
         // Depth limit
         if (currentDepth > context.maxDepth) {
             context.stats.depthLimitHits++;
+            Observation.countDepthLimitHit();
             if (context.debug) {
                 LOG.debugf("Skip visiting %s at depth %d (depth limit=%d)",
                         entity.getClass().getSimpleName(), currentDepth, context.maxDepth);
@@ -67,6 +71,7 @@ public class RelationVisitor {
         // Circular reference by ID
         if (entityId != null && context.visitedIds.contains(entityId)) {
             context.stats.circularReferencesPrevented++;
+            Observation.countCircularReference();
             if (context.debug) {
                 LOG.debugf("Skip circular visit of %s[id=%s]",
                         entity.getClass().getSimpleName(), entityId);
@@ -79,6 +84,7 @@ public class RelationVisitor {
             IdentityWrapper wrapper = new IdentityWrapper(entity);
             if (context.visitedObjects.contains(wrapper)) {
                 context.stats.circularReferencesPrevented++;
+                Observation.countCircularReference();
                 if (context.debug) {
                     LOG.debugf("Skip circular visit of %s (object identity)",
                             entity.getClass().getSimpleName());
@@ -98,6 +104,7 @@ public class RelationVisitor {
     public boolean shouldLoadRelationship(int currentDepth, int maxDepth) {
         if (currentDepth >= maxDepth) {
             CONTEXT.get().stats.depthLimitHits++;
+            Observation.countDepthLimitHit();
             return false;
         }
         return true;
@@ -197,6 +204,67 @@ public class RelationVisitor {
         context.maxDepth = DEFAULT_MAX_DEPTH;
     }
 
+    /**
+     * Captures the state of the current context, so that work replayed after a transient error can
+     * start over from it, see {@link #restore}.
+     */
+    public Checkpoint checkpoint() {
+        VisitorContext context = CONTEXT.get();
+        return new Checkpoint(Set.copyOf(context.visitedIds), Set.copyOf(context.visitedObjects),
+                List.copyOf(context.traversalPath), context.stats.copy(), Set.copyOf(context.persistedEntities),
+                context.maxDepth);
+    }
+
+    /**
+     * Puts the current context back into the state of the checkpoint.
+     */
+    public void restore(Checkpoint checkpoint) {
+        VisitorContext context = CONTEXT.get();
+        context.visitedIds.clear();
+        context.visitedIds.addAll(checkpoint.visitedIds);
+        context.visitedObjects.clear();
+        context.visitedObjects.addAll(checkpoint.visitedObjects);
+        context.traversalPath.clear();
+        context.traversalPath.addAll(checkpoint.traversalPath);
+        context.stats.reset();
+        context.stats.add(checkpoint.stats);
+        context.persistedEntities.clear();
+        context.persistedEntities.addAll(checkpoint.persistedEntities);
+        context.maxDepth = checkpoint.maxDepth;
+    }
+
+    /**
+     * Runs a traversal with a fresh context instead of the one of the current thread, which is restored
+     * afterwards.
+     *
+     * @return the statistics of the traversal, see {@link #addStats}
+     */
+    public VisitorStats traverseDetached(Runnable traversal) {
+        VisitorContext previous = CONTEXT.get();
+        VisitorContext detached = new VisitorContext(true);
+        CONTEXT.set(detached);
+        try {
+            traversal.run();
+            return detached.stats.copy();
+        } finally {
+            CONTEXT.set(previous);
+        }
+    }
+
+    /**
+     * @return whether the current thread runs a traversal started by {@link #traverseDetached}
+     */
+    public boolean isDetached() {
+        return CONTEXT.get().detached;
+    }
+
+    /**
+     * Adds the statistics of a detached traversal to the context of the current thread.
+     */
+    public void addStats(VisitorStats stats) {
+        CONTEXT.get().stats.add(stats);
+    }
+
     /**
      * Enable or disable debug logging.
      */
@@ -234,8 +302,35 @@ public class RelationVisitor {
         final List<TraversalStep> traversalPath = new ArrayList<>();
         final VisitorStats stats = new VisitorStats();
         final Set<String> persistedEntities = ConcurrentHashMap.newKeySet();
+        final boolean detached;
         int maxDepth = DEFAULT_MAX_DEPTH;
         boolean debug = false;
+
+        VisitorContext(boolean detached) {
+            this.detached = detached;
+        }
+    }
+
+    /**
+     * The state of a context, see {@link #checkpoint()}.
+     */
+    public static final class Checkpoint {
+        private final Set<Object> visitedIds;
+        private final Set<IdentityWrapper> visitedObjects;
+        private final List<TraversalStep> traversalPath;
+        private final VisitorStats stats;
+        private final Set<String> persistedEntities;
+        private final int maxDepth;
+
+        private Checkpoint(Set<Object> visitedIds, Set<IdentityWrapper> visitedObjects,
+                List<TraversalStep> traversalPath, VisitorStats stats, Set<String> persistedEntities, int maxDepth) {
+            this.visitedIds = visitedIds;
+            this.visitedObjects = visitedObjects;
+            this.traversalPath = traversalPath;
+            this.stats = stats;
+            this.persistedEntities = persistedEntities;
+            this.maxDepth = maxDepth;
+        }
     }
 
     private static class IdentityWrapper {
@@ -307,6 +402,12 @@ public class RelationVisitor {
             depthLimitHits = 0;
         }
 
+        void add(VisitorStats other) {
+            entitiesVisited += other.entitiesVisited;
+            circularReferencesPrevented += other.circularReferencesPrevented;
+            depthLimitHits += other.depthLimitHits;
+        }
+
         VisitorStats copy() {
             VisitorStats copy = new VisitorStats();
             copy.entitiesVisited = this.entitiesVisited;
@@ -0,0 +1,314 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.Direction;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityWithRelations;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationshipData;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.CypherIdentifier;
+
+/**
+ * Collects the writes needed to persist the relationships of an entity tree and emits them as a
+ * constant number of {@code UNWIND} statements instead of one statement per relationship.
+ *
+ * <p>
+ * Writes are grouped as follows and emitted in this order:
+ * <ol>
+ * <li>node upserts of nested targets, one statement per label</li>
+ * <li>edge deletes of every declared persistable relationship, one statement per
+ * (source label, type, direction, target label)</li>
+ * <li>deletes of single removed edges, one statement per (source label, type, direction, target label)</li>
+ * <li>edge merges, one statement per (source label, type, direction, target label)</li>
+ * </ol>
+ * Each node is expanded at most once, which also protects against cycles in the entity graph.
+ * <p>
+ * Entities with an {@link EntitySnapshot} are written as a delta: nested targets only with their changed
+ * properties, and relationships the snapshot knows by deleting removed and merging added edges instead of
+ * replacing all edges of their type.
+ */
+final class RelationshipWritePlan {
+
+    /**
+     * Label and id property of the repository responsible for a target entity type.
+     */
+    record Target(String label, String idProperty) {
+    }
+
+    /**
+     * A single Cypher statement of the plan.
+     */
+    record Statement(String cypher, Map<String, Object> parameters) {
+    }
+
+    private final BiPredicate<String, Object> markPersisted;
+    private final Function<Class<?>, Target> targets;
+    private final Function<Object, EntitySnapshot> snapshots;
+
+    private final Map<Target, Map<String, Map<String, Object>>> upserts = new LinkedHashMap<>();
+    private final Map<String, Set<String>> deletes = new LinkedHashMap<>();
+    private final Map<String, Map<String, Map<String, Object>>> removedEdges = new LinkedHashMap<>();
+    private final Map<String, Map<String, Map<String, Object>>> edges = new LinkedHashMap<>();
+
+    /**
+     * @param markPersisted marks a node as persisted and returns {@code false} if it already was,
+     *        or {@code null} to track persisted nodes within this plan only
+     * @param targets resolves the target repository of an entity type, {@code null} if there is none
+     */
+    RelationshipWritePlan(BiPredicate<String, Object> markPersisted, Function<Class<?>, Target> targets) {
+        this(markPersisted, targets, entity -> null);
+    }
+
+    /**
+     * @param snapshots returns the snapshot of an entity instance, {@code null} to write it completely
+     */
+    RelationshipWritePlan(BiPredicate<String, Object> markPersisted, Function<Class<?>, Target> targets,
+            Function<Object, EntitySnapshot> snapshots) {
+        if (markPersisted == null) {
+            Set<String> persisted = new HashSet<>();
+            markPersisted = (label, id) -> persisted.add(label + ":" + id);
+        }
+        this.markPersisted = markPersisted;
+        this.targets = targets;
+        this.snapshots = snapshots;
+    }
+
+    /**
+     * Adds the relationships of an already written node and, recursively, all nested targets that
+     * were not persisted yet.
+     */
+    void collect(String sourceLabel, Object fromId, List<RelationshipData> relationships, Set<String> declaredKeys) {
+        collect(sourceLabel, fromId, relationships, declaredKeys, null);
+    }
+
+    /**
+     * Adds the relationships of an already written node, written as a delta to its snapshot if it has one.
+     */
+    void collect(String sourceLabel, Object fromId, EntityWithRelations data) {
+        collect(sourceLabel, fromId, data.getRelationships(), data.getPersistableRelationshipKeys(),
+                snapshots.apply(data.getEntity()));
+    }
+
+    private void collect(String sourceLabel, Object fromId, List<RelationshipData> relationships,
+            Set<String> declaredKeys, EntitySnapshot snapshot) {
+        // Proceed when there is anything to persist OR any declared relationship type to clear.
+        // Clearing must run even when no relationships are present so that emptied relations are
+        // detached from the DB (issue #69).
+        if (fromId == null || (isEmpty(relationships) && (declaredKeys == null || declaredKeys.isEmpty()))) {
+            return;
+        }
+        if (markPersisted.test(sourceLabel, fromId)) {
+            expand(sourceLabel, fromId, relationships, declaredKeys, snapshot);
+        }
+    }
+
+    private void expand(String sourceLabel, Object fromId, List<RelationshipData> relationships,
+            Set<String> declaredKeys, EntitySnapshot snapshot) {
+        String from = fromId.toString();
+        // Ids of the current targets per relationship key the snapshot knows
+        Map<String, Set<String>> current = new HashMap<>();
+
+        if (relationships != null) {
+            expandTargets(sourceLabel, from, relationships, declaredKeys, snapshot, current);
+        }
+
+        // Delete all existing edges of every declared persistable relationship type so that both
+        // updated and removed relationships are detached before the current ones are merged. Key
+        // format: type|DIRECTION|targetLabel, scoped to the target label (issue #60). Relationships
+        // known from the snapshot only lose the edges whose target is gone.
+        if (declaredKeys != null) {
+            for (String typeKey : declaredKeys) {
+                String[] parts = typeKey.split("\\|", 3);
+                CypherIdentifier.requireValidIdentifier(parts[0]);
+                CypherIdentifier.requireValidIdentifier(parts[2]);
+                Set<String> loaded = snapshot != null ? snapshot.relatedIds().get(typeKey) : null;
+                if (loaded == null) {
+                    deletes.computeIfAbsent(sourceLabel + "|" + typeKey, k -> new LinkedHashSet<>()).add(from);
+                    continue;
+                }
+                Set<String> kept = current.getOrDefault(typeKey, Set.of());
+                for (String to : loaded) {
+                    if (!kept.contains(to)) {
+                        removedEdges.computeIfAbsent(sourceLabel + "|" + typeKey, k -> new LinkedHashMap<>())
+                                .putIfAbsent(from + "\u0000" + to, Map.of("from", from, "to", to));
+                    }
+                }
+            }
+        }
+    }
+
+    private void expandTargets(String sourceLabel, String from, List<RelationshipData> relationships,
+            Set<String> declaredKeys, EntitySnapshot snapshot, Map<String, Set<String>> current) {
+        for (RelationshipData rel : relationships) {
+            if (rel.getMode() == RelationshipMode.FETCH_ONLY || rel.getTarget() == null) {
+                continue;
+            }
+
+            // Relationship types are concatenated into the query, validate them defensively.
+            CypherIdentifier.requireValidIdentifier(rel.getType());
+
+            EntityWithRelations target = rel.getTarget();
+            Target targetRepo = targets.apply(target.getEntityType());
+            if (targetRepo == null) {
+                continue;
+            }
+
+            Object toId = target.getProperties().get(targetRepo.idProperty());
+            if (toId == null) {
+                throw new IllegalStateException("No @NodeId value present");
+            }
+            rel.setTargetId(toId);
+
+            // Targets are written and expanded only once per operation
+            if (markPersisted.test(targetRepo.label(), toId)) {
+                EntitySnapshot targetSnapshot = snapshots.apply(target.getEntity());
+                upsert(targetRepo, toId.toString(), target.getProperties(), targetSnapshot);
+                expand(targetRepo.label(), toId, target.getRelationships(), target.getPersistableRelationshipKeys(),
+                        targetSnapshot);
+            }
+
+            String typeKey = EntitySnapshot.key(rel, targetRepo);
+            String to = toId.toString();
+            Set<String> loaded = snapshot != null && declaredKeys != null && declaredKeys.contains(typeKey)
+                    ? snapshot.relatedIds().get(typeKey)
+                    : null;
+            if (loaded != null) {
+                current.computeIfAbsent(typeKey, k -> new HashSet<>()).add(to);
+                if (loaded.contains(to)) {
+                    // The edge exists since the entity was loaded
+                    continue;
+                }
+            }
+            edges.computeIfAbsent(sourceLabel + "|" + typeKey, k -> new LinkedHashMap<>())
+                    .putIfAbsent(from + "\u0000" + to, Map.of("from", from, "to", to));
+        }
+    }
+
+    /**
+     * Adds a target node, with the properties changed since its snapshot only, or not at all if none did.
+     * The node is still created completely if it does not exist.
+     */
+    private void upsert(Target target, String id, Map<String, Object> properties, EntitySnapshot snapshot) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("props", properties);
+        if (snapshot != null) {
+            Map<String, Object> changed = snapshot.changedProperties(properties);
+            if (changed.isEmpty()) {
+                return;
+            }
+            row.put("changed", changed);
+        }
+        upserts.computeIfAbsent(target, k -> new LinkedHashMap<>()).put(id, row);
+    }
+
+    private static boolean isEmpty(List<RelationshipData> relationships) {
+        return relationships == null || relationships.isEmpty();
+    }
+
+    boolean isEmpty() {
+        return upserts.isEmpty() && deletes.isEmpty() && removedEdges.isEmpty() && edges.isEmpty();
+    }
+
+    /**
+     * @return the labels of all nodes whose properties or relationships this plan writes
+     */
+    Set<String> labels() {
+        Set<String> labels = new LinkedHashSet<>();
+        upserts.keySet().forEach(target -> labels.add(target.label()));
+        for (String key : deletes.keySet()) {
+            String[] parts = key.split("\\|", 4);
+            labels.add(parts[0]);
+            labels.add(parts[3]);
+        }
+        for (String key : removedEdges.keySet()) {
+            String[] parts = key.split("\\|", 4);
+            labels.add(parts[0]);
+            labels.add(parts[3]);
+        }
+        for (String key : edges.keySet()) {
+            String[] parts = key.split("\\|", 4);
+            labels.add(parts[0]);
+            labels.add(parts[3]);
+        }
+        return labels;
+    }
+
+    /**
+     * @return the statements of this plan in execution order
+     */
+    List<Statement> statements() {
+        List<Statement> statements = new ArrayList<>();
+
+        upserts.forEach((target, rows) -> {
+            if (rows.isEmpty()) {
+                return;
+            }
+            String idProp = target.idProperty();
+            statements.add(new Statement(
+                    "UNWIND $rows AS row " +
+                            "MERGE (n:" + target.label() + " {" + idProp + ": row.props." + idProp + "}) " +
+                            "ON CREATE SET n += row.props " +
+                            "ON MATCH SET n += coalesce(row.changed, row.props)",
+                    Map.of("rows", List.copyOf(rows.values()))));
+        });
+
+        deletes.forEach((key, ids) -> {
+            String[] parts = key.split("\\|", 4);
+            String sourceLabel = parts[0];
+            String relType = parts[1];
+            String targetLabel = parts[3];
+            String pattern = deletePattern(parts[2], relType);
+            if (pattern != null) {
+                statements.add(new Statement(
+                        "UNWIND $ids AS id " +
+                                "MATCH (n:" + sourceLabel + " {id: id})" + pattern + "(:" + targetLabel + ") " +
+                                "DELETE r",
+                        Map.of("ids", List.copyOf(ids))));
+            }
+        });
+
+        removedEdges.forEach((key, pairs) -> {
+            String[] parts = key.split("\\|", 4);
+            String pattern = deletePattern(parts[2], parts[1]);
+            if (pattern != null) {
+                statements.add(new Statement(
+                        "UNWIND $pairs AS p " +
+                                "MATCH (a:" + parts[0] + " {id: p.from})" + pattern + "(:" + parts[3] + " {id: p.to}) " +
+                                "DELETE r",
+                        Map.of("pairs", List.copyOf(pairs.values()))));
+            }
+        });
+
+        edges.forEach((key, pairs) -> {
+            String[] parts = key.split("\\|", 4);
+            String sourceLabel = parts[0];
+            String relType = parts[1];
+            String targetLabel = parts[3];
+            String merge = switch (Direction.valueOf(parts[2])) {
+                case OUTGOING -> "MERGE (a)-[:" + relType + "]->(b)";
+                case INCOMING -> "MERGE (a)<-[:" + relType + "]-(b)";
+                case UNDIRECTED -> "MERGE (a)-[:" + relType + "]-(b)";
+                case BOTH -> "MERGE (a)-[:" + relType + "]->(b) MERGE (a)<-[:" + relType + "]-(b)";
+            };
+            statements.add(new Statement(
+                    "UNWIND $pairs AS p " +
+                            "MATCH (a:" + sourceLabel + " {id: p.from}), (b:" + targetLabel + " {id: p.to}) " +
+                            merge,
+                    Map.of("pairs", List.copyOf(pairs.values()))));
+        });
+
+        return statements;
+    }
+
+    private static String deletePattern(String direction, String relType) {
+        return switch (direction) {
+            case "OUTGOING" -> "-[r:" + relType + "]->";
+            case "INCOMING" -> "<-[r:" + relType + "]-";
+            // BOTH and UNDIRECTED clear edges of either direction
+            case "UNDIRECTED", "BOTH" -> "-[r:" + relType + "]-";
+            default -> null;
+        };
+    }
+}
@@ -1,28 +1,63 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
 
 import org.neo4j.driver.*;
 import org.neo4j.driver.Record;
-
-import de.prgrm.quarkus.neo4j.ogm.runtime.enums.RelationshipMode;
+import org.neo4j.driver.types.TypeSystem;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.BoundedCache;
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.EntityCacheManager;
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.RelationLoadingMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.BulkWriteMode;
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.CountStrategy;
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Cacheable;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityMapper;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.EntityWithRelations;
 import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationLoader;
-import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.RelationshipData;
+import de.prgrm.quarkus.neo4j.ogm.runtime.metrics.OgmMetrics;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.Neo4jExceptionTranslator;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.NotFoundRepositoryException;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.RepositoryException;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.CypherIdentifier;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.FetchPlan;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Filter;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetCursor;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetPageable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.KeysetPaged;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Pageable;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Paged;
 import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.Sortable;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing;
+import de.prgrm.quarkus.neo4j.ogm.runtime.tx.IdentityMap;
 import de.prgrm.quarkus.neo4j.ogm.runtime.tx.TransactionManager;
 
 public abstract class Repository<T> {
 
+    private static final SessionConfig READ_SESSION = SessionConfig.builder()
+            .withDefaultAccessMode(AccessMode.READ)
+            .build();
+
+    /**
+     * Whether a self-owned read runs on this thread, so that only the outermost one checkpoints the
+     * relation visitor.
+     */
+    private static final ThreadLocal<Boolean> IN_READ = ThreadLocal.withInitial(() -> false);
+
     protected final Driver driver;
     protected final String label;
     protected final EntityMapper<T> entityMapper;
@@ -30,6 +65,10 @@ public abstract class Repository<T> {
     protected final RelationLoader<T> relationLoader;
     protected final RelationVisitor relationVisitor;
     protected final TransactionManager txManager;
+    protected Neo4jOgmConfig config;
+    private RetryPolicy retryPolicy = RetryPolicy.NONE;
+    private EntityCacheManager cacheManager;
+    private Instrumentation instrumentation = Instrumentation.NONE;
 
     /**
      * No-args constructor for CDI proxy generation only.
@@ -80,56 +119,155 @@ public abstract class Repository<T> {
 
     protected abstract Class<T> getEntityType();
 
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setConfig(Neo4jOgmConfig config) {
+        this.config = config;
+        this.retryPolicy = RetryPolicy.of(config);
+        this.instrumentation = instrumentation.withDiagnostics(config.diagnostics().nPlusOneThreshold(),
+                SlowQueryLog.of(config, driver));
+    }
+
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setCacheManager(EntityCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setMetrics(Instance<OgmMetrics> metrics) {
+        this.instrumentation = instrumentation.withMetrics(metrics.isResolvable() ? metrics.get() : OgmMetrics.NOOP);
+    }
+
+    /**
+     * Initializer method, called by CDI on the generated repository beans.
+     */
+    @Inject
+    public void setTracing(Instance<OgmTracing> tracing) {
+        this.instrumentation = instrumentation.withTracing(tracing.isResolvable() ? tracing.get() : OgmTracing.NOOP);
+    }
+
     public RelationLoader<T> getRelationLoader() {
         return relationLoader;
     }
 
     // ========================= Transaction Helpers (mit Übersetzung) =========================
 
-    private <R> R inWriteTx(Function<Transaction, R> work) {
+    /**
+     * Runs write work in the active managed transaction or in a transaction of its own. Only the
+     * latter is replayed on transient errors when {@code quarkus.neo4j-ogm.retry.enabled} is set.
+     *
+     * @param operation the repository method, reported to {@link OgmMetrics} and {@link OgmTracing}
+     */
+    private <R> R inWriteTx(String operation, Function<Transaction, R> work) {
+        Observation observation = Observation.start(instrumentation, label, operation);
         try {
             if (txManager != null && txManager.isTransactionActive()) {
                 return work.apply(txManager.getOrCreateTransaction());
             }
-            try (Session session = driver.session();
-                    Transaction tx = session.beginTransaction()) {
-                R result = work.apply(tx);
-                tx.commit();
-                return result;
-            }
+            return retryPolicy.execute(() -> {
+                try (Session session = driver.session();
+                        Transaction tx = session.beginTransaction()) {
+                    R result = work.apply(tx);
+                    tx.commit();
+                    return result;
+                }
+            }, this::resetVisitor);
         } catch (Exception e) {
+            observation.failed(e);
             throw Neo4jExceptionTranslator.translate(e, "write-tx");
+        } finally {
+            observation.close();
+            afterWrite();
         }
     }
 
-    private void inWriteTxVoid(Consumer<Transaction> work) {
+    private void inWriteTxVoid(String operation, Consumer<Transaction> work) {
+        Observation observation = Observation.start(instrumentation, label, operation);
         try {
             if (txManager != null && txManager.isTransactionActive()) {
                 work.accept(txManager.getOrCreateTransaction());
                 return;
             }
-            try (Session session = driver.session();
-                    Transaction tx = session.beginTransaction()) {
-                work.accept(tx);
-                tx.commit();
-            }
+            retryPolicy.execute(() -> {
+                try (Session session = driver.session();
+                        Transaction tx = session.beginTransaction()) {
+                    work.accept(tx);
+                    tx.commit();
+                    return null;
+                }
+            }, this::resetVisitor);
         } catch (Exception e) {
+            observation.failed(e);
             throw Neo4jExceptionTranslator.translate(e, "write-tx");
+        } finally {
+            observation.close();
+            afterWrite();
         }
     }
 
-    private <R> R inReadTx(Function<Transaction, R> work) {
+    /**
+     * Runs read work in the active managed transaction or, without one, as a managed read
+     * transaction on a READ session so that cluster routing sends it to followers and read replicas.
+     * The driver retries the work on transient errors, so it must consume its results before returning;
+     * a replay of the outermost read starts from the relation visitor state its first attempt started
+     * from. Nested reads of relation loaders are replayed as part of it.
+     */
+    private <R> R inReadTx(String operation, Function<SimpleQueryRunner, R> work) {
+        Observation observation = Observation.start(instrumentation, label, operation);
+        boolean outermost = !IN_READ.get();
         try {
             if (txManager != null && txManager.isTransactionActive()) {
                 return work.apply(txManager.getOrCreateTransaction());
             }
-            try (Session session = driver.session();
-                    Transaction tx = session.beginTransaction()) {
-                return work.apply(tx);
+            RelationVisitor.Checkpoint checkpoint = outermost && relationVisitor != null
+                    ? relationVisitor.checkpoint()
+                    : null;
+            int[] attempts = { 0 };
+            IN_READ.set(true);
+            try (Session session = driver.session(READ_SESSION)) {
+                return session.executeRead(tx -> {
+                    if (attempts[0]++ > 0 && checkpoint != null) {
+                        relationVisitor.restore(checkpoint);
+                    }
+                    return work.apply(tx);
+                });
             }
         } catch (Exception e) {
+            observation.failed(e);
             throw Neo4jExceptionTranslator.translate(e, "read-tx");
+        } finally {
+            if (outermost) {
+                IN_READ.remove();
+            }
+            observation.close();
+        }
+    }
+
+    /**
+     * Runs a statement as part of the observed operation, which counts and traces it.
+     */
+    private static Result run(SimpleQueryRunner runner, String cypher) {
+        return Observation.statement(cypher, null, () -> runner.run(cypher));
+    }
+
+    private static Result run(SimpleQueryRunner runner, String cypher, Map<String, Object> parameters) {
+        if (parameters == null) {
+            return run(runner, cypher);
         }
+        // Converted here instead of by the driver to keep the parameters for the slow-query log
+        return run(runner, cypher, Values.value(parameters));
+    }
+
+    private static Result run(SimpleQueryRunner runner, String cypher, Value parameters) {
+        return Observation.statement(cypher, parameters, () -> runner.run(cypher, parameters));
     }
 
     // ========================= Helper Methods =========================
@@ -151,10 +289,19 @@ public abstract class Repository<T> {
     // ========================= Core Repository Methods =========================
 
     public T findById(Object id) {
+        T managed = findManaged(id);
+        if (managed != null) {
+            return managed;
+        }
+        T cached = findCached(id);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cacheGeneration();
         try {
-            return inReadTx(tx -> {
-                var result = tx.run(
-                        "MATCH (n:" + label + " {id: $id}) RETURN n AS node",
+            return inReadTx("findById", tx -> {
+                var result = run(tx,
+                        "MATCH (n:" + label + " {id: $id}) RETURN " + returnExpression(),
                         Values.parameters("id", convertIdToString(id)));
 
                 if (!result.hasNext()) {
@@ -163,9 +310,9 @@ public abstract class Repository<T> {
                 }
 
                 Record rec = result.next();
-                T entity = entityMapper.map(rec, resolveAlias(rec));
-                loadRelations(entity, 0);
-                entityMapper.applyPostLoadConverters(entity);
+                T entity = mapManaged(rec, this::mapRecord);
+                completeManaged(List.of(entity), this::resolveRelations);
+                cacheLoaded(id, rec, generation);
                 return entity;
             });
         } finally {
@@ -174,21 +321,80 @@ public abstract class Repository<T> {
     }
 
     public Optional<T> findByIdOptional(Object id) {
+        T managed = findManaged(id);
+        if (managed != null) {
+            return Optional.of(managed);
+        }
+        T cached = findCached(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = cacheGeneration();
         try {
-            return inReadTx(tx -> {
-                var result = tx.run(
-                        "MATCH (n:" + label + " {id: $id}) RETURN n AS node",
+            return Optional.ofNullable(inReadTx("findByIdOptional", tx -> {
+                var result = run(tx,
+                        "MATCH (n:" + label + " {id: $id}) RETURN " + returnExpression(),
                         Values.parameters("id", convertIdToString(id)));
 
                 if (!result.hasNext()) {
-                    return Optional.empty();
+                    return null;
                 }
 
                 Record rec = result.next();
-                T entity = entityMapper.map(rec, resolveAlias(rec));
-                loadRelations(entity, 0);
-                entityMapper.applyPostLoadConverters(entity);
-                return Optional.of(entity);
+                T entity = mapManaged(rec, this::mapRecord);
+                completeManaged(List.of(entity), this::resolveRelations);
+                cacheLoaded(id, rec, generation);
+                return entity;
+            }));
+        } finally {
+            resetVisitor();
+        }
+    }
+
+    /**
+     * Loads an entity with the relationships named by the plan instead of those up to their declared
+     * {@code maxDepth}. Entities loaded with a plan bypass the second-level cache, and inside a managed
+     * transaction they are not added to its identity map, since they may lack relationships.
+     *
+     * @param plan the relationships to load, {@code null} for {@link #findById(Object)}
+     */
+    public T findById(Object id, FetchPlan plan) {
+        if (plan == null) {
+            return findById(id);
+        }
+        T entity = findPlanned("findById", id, plan);
+        if (entity == null) {
+            throw new NotFoundRepositoryException(getEntityType().getSimpleName() + " not found for id=" + id);
+        }
+        return entity;
+    }
+
+    /**
+     * @param plan the relationships to load, {@code null} for {@link #findByIdOptional(Object)}
+     * @see #findById(Object, FetchPlan)
+     */
+    public Optional<T> findByIdOptional(Object id, FetchPlan plan) {
+        if (plan == null) {
+            return findByIdOptional(id);
+        }
+        return Optional.ofNullable(findPlanned("findByIdOptional", id, plan));
+    }
+
+    private T findPlanned(String operation, Object id, FetchPlan plan) {
+        T managed = findManaged(id);
+        if (managed != null) {
+            return managed;
+        }
+        try {
+            return inReadTx(operation, tx -> {
+                var result = run(tx, "MATCH (n:" + label + " {id: $id}) RETURN n AS node",
+                        Values.parameters("id", convertIdToString(id)));
+                if (!result.hasNext()) {
+                    return null;
+                }
+                T entity = map(result.next(), "node");
+                completePlanned(List.of(entity), plan);
+                return entity;
             });
         } finally {
             resetVisitor();
@@ -197,16 +403,10 @@ public abstract class Repository<T> {
 
     public List<T> findAll() {
         try {
-            return inReadTx(tx -> {
-                var result = tx.run("MATCH (n:" + label + ") RETURN n AS node");
-                List<T> entities = result.list(rec -> {
-                    String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
-                });
+            return inReadTx("findAll", tx -> {
+                var result = run(tx, "MATCH (n:" + label + ") RETURN " + returnExpression());
+                List<T> entities = result.list(rec -> mapManaged(rec, this::mapRecord));
+                completeManaged(entities, this::resolveRelations);
                 return entities;
             });
         } finally {
@@ -215,21 +415,36 @@ public abstract class Repository<T> {
         }
     }
 
+    /**
+     * @param plan the relationships to load, {@code null} for {@link #findAll()}
+     * @see #findById(Object, FetchPlan)
+     */
+    public List<T> findAll(FetchPlan plan) {
+        if (plan == null) {
+            return findAll();
+        }
+        try {
+            return inReadTx("findAll", tx -> {
+                var result = run(tx, "MATCH (n:" + label + ") RETURN n AS node");
+                List<T> entities = result.list(rec -> mapManaged(rec, r -> map(r, "node")));
+                completePlanned(entities, plan);
+                return entities;
+            });
+        } finally {
+            resetVisitor();
+        }
+    }
+
     public List<T> findAll(Pageable pageable, Sortable sortable) {
         try {
-            return inReadTx(tx -> {
+            return inReadTx("findAll", tx -> {
                 String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
-                String cypher = String.format("MATCH (n:%s) RETURN n AS node %s SKIP $skip LIMIT $limit", label, sortClause);
+                String cypher = String.format("MATCH (n:%s) RETURN %s %s SKIP $skip LIMIT $limit", label,
+                        returnExpression(), sortClause);
                 Map<String, Object> params = Map.of("skip", pageable.page() * pageable.size(), "limit", pageable.size());
-                var result = tx.run(cypher, params);
-                List<T> entities = result.list(rec -> {
-                    String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
-                });
+                var result = run(tx, cypher, params);
+                List<T> entities = result.list(rec -> mapManaged(rec, this::mapRecord));
+                completeManaged(entities, this::resolveRelations);
                 return entities;
             });
         } finally {
@@ -241,26 +456,24 @@ public abstract class Repository<T> {
     public Paged<T> findAllPaged(Pageable pageable, Sortable sortable) {
         try {
             String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
+            CountStrategy strategy = PageCounts.strategy(pageable, config);
 
             // Single transaction for both content and count - avoids N+1 and ensures consistency
-            return inReadTx(tx -> {
+            return inReadTx("findAllPaged", tx -> {
+                // Content query
+                String contentCypher = String.format("MATCH (n:%s) RETURN %s %s SKIP $skip LIMIT $limit", label,
+                        returnExpression(), sortClause);
+                Map<String, Object> params = Map.of("skip", pageable.page() * pageable.size(),
+                        "limit", PageCounts.fetchSize(pageable, strategy));
+                List<Record> records = run(tx, contentCypher, params).list();
+                List<T> entities = PageCounts.trim(pageable, records).stream()
+                        .map(rec -> mapManaged(rec, this::mapRecord))
+                        .toList();
+                completeManaged(entities, this::resolveRelations);
+
                 // Count query
                 String countCypher = String.format("MATCH (n:%s) RETURN count(n) AS count", label);
-                long total = tx.run(countCypher).single().get("count").asLong();
-
-                // Content query
-                String contentCypher = String.format("MATCH (n:%s) RETURN n AS node %s SKIP $skip LIMIT $limit", label,
-                        sortClause);
-                Map<String, Object> params = Map.of("skip", pageable.page() * pageable.size(), "limit", pageable.size());
-                var result = tx.run(contentCypher, params);
-                List<T> entities = result.list(rec -> {
-                    String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
-                });
+                long total = countTotal(tx, strategy, countCypher, Map.of(), pageable, records.size());
 
                 return new Paged<>(entities, total, pageable.page(), pageable.size());
             });
@@ -272,8 +485,8 @@ public abstract class Repository<T> {
 
     public long count() {
         try {
-            return inReadTx(tx -> {
-                var result = tx.run("MATCH (n:" + label + ") RETURN count(n) AS count");
+            return inReadTx("count", tx -> {
+                var result = run(tx, "MATCH (n:" + label + ") RETURN count(n) AS count");
                 return result.hasNext() ? result.next().get("count").asLong() : 0L;
             });
         } finally {
@@ -284,20 +497,21 @@ public abstract class Repository<T> {
 
     public T create(T entity) {
         try {
-            return inWriteTx(tx -> {
-                EntityWithRelations data = entityMapper.toDb(entity);
-                Object id = entityMapper.getNodeId(entity);
-
-                var result = tx.run("CREATE (n:" + label + " $props) RETURN n AS node",
+            // toDb() assigns generated ids, so the id is read after the conversion
+            EntityWithRelations data = entityMapper.toDb(entity);
+            Object id = entityMapper.getNodeId(entity);
+            T created = inWriteTx("create", tx -> {
+                var result = run(tx, "CREATE (n:" + label + " $props) RETURN n AS node",
                         Values.parameters("props", data.getProperties()));
                 Record rec = result.single();
                 String alias = resolveAlias(rec);
-                T saved = entityMapper.map(rec, alias);
+                T saved = map(rec, alias);
 
-                persistRelationships(tx, label, id, data.getRelationships(), data.getPersistableRelationshipKeys(),
-                        new HashSet<>());
+                persistRelationships(tx, id, data);
                 return saved;
             });
+            snapshotSaved(List.of(data));
+            return created;
         } finally {
             if (relationVisitor != null)
                 relationVisitor.reset();
@@ -317,7 +531,7 @@ public abstract class Repository<T> {
         }
 
         try {
-            return inWriteTx(tx -> {
+            return inWriteTx("createAllBatch", tx -> {
                 List<Map<String, Object>> propsList = new ArrayList<>();
                 for (T entity : entities) {
                     EntityWithRelations data = entityMapper.toDb(entity);
@@ -325,22 +539,25 @@ public abstract class Repository<T> {
                 }
 
                 String cypher = "UNWIND $batch AS props CREATE (n:" + label + ") SET n = props RETURN n AS node";
-                var result = tx.run(cypher, Values.parameters("batch", propsList));
+                var result = run(tx, cypher, Values.parameters("batch", propsList));
 
                 return result.list(rec -> {
                     String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
+                    return map(rec, alias);
                 });
             });
         } finally {
+            discardSnapshots(entities);
             if (relationVisitor != null)
                 relationVisitor.reset();
         }
     }
 
     /**
-     * Create multiple entities with relationship persistence.
-     * Uses a single transaction but creates entities individually to support relationships.
+     * Create multiple entities with relationship persistence in bulk.
+     * The entities are created with one {@code UNWIND} statement; the relationship trees of the whole
+     * batch are flattened into per-label node upserts and per-type edge statements, so the number of
+     * statements does not depend on the number of entities.
      *
      * @param entities the entities to create
      * @return list of created entities
@@ -350,31 +567,142 @@ public abstract class Repository<T> {
             return List.of();
         }
 
-        try {
-            return inWriteTx(tx -> {
-                List<T> results = new ArrayList<>();
-                for (T entity : entities) {
-                    EntityWithRelations data = entityMapper.toDb(entity);
-                    Object id = entityMapper.getNodeId(entity);
+        List<EntityWithRelations> data = new ArrayList<>(entities.size());
+        List<Map<String, Object>> propsList = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            EntityWithRelations d = entityMapper.toDb(entity);
+            data.add(d);
+            propsList.add(d.getProperties());
+        }
 
-                    var result = tx.run("CREATE (n:" + label + " $props) RETURN n AS node",
-                            Values.parameters("props", data.getProperties()));
-                    Record rec = result.single();
-                    String alias = resolveAlias(rec);
-                    T saved = entityMapper.map(rec, alias);
+        try {
+            List<T> created = inWriteTx("createAll", tx -> {
+                String cypher = "UNWIND $batch AS props CREATE (n:" + label + ") SET n = props RETURN n AS node";
+                List<T> results = run(tx, cypher, Values.parameters("batch", propsList))
+                        .list(rec -> map(rec, resolveAlias(rec)));
 
-                    persistRelationships(tx, label, id, data.getRelationships(), data.getPersistableRelationshipKeys(),
-                            new HashSet<>());
-                    results.add(saved);
-                }
+                persistRelationships(tx, entities, data);
                 return results;
             });
+            snapshotSaved(data);
+            return created;
         } finally {
             if (relationVisitor != null)
                 relationVisitor.reset();
         }
     }
 
+    /**
+     * Merge multiple entities with relationship persistence in bulk, see {@link #createAll(List)}.
+     * Entities are matched on their {@code @NodeId}, which must be set or generated.
+     *
+     * @param entities the entities to merge
+     * @return list of merged entities
+     */
+    public List<T> mergeAll(List<T> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return List.of();
+        }
+
+        // toDb() assigns generated ids, so the id check runs after the conversion
+        List<EntityWithRelations> data = new ArrayList<>(entities.size());
+        List<Map<String, Object>> propsList = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            EntityWithRelations d = entityMapper.toDb(entity);
+            if (entityMapper.getNodeId(entity) == null) {
+                throw new IllegalArgumentException("Entity ID cannot be null");
+            }
+            data.add(d);
+            propsList.add(d.getProperties());
+        }
+
+        resetVisitor(); // Reset visitor context before merge to allow relationship updates
+        try {
+            List<T> merged = inWriteTx("mergeAll", tx -> {
+                String idProp = entityMapper.getNodeIdPropertyName();
+                String cypher = "UNWIND $batch AS props " +
+                        "MERGE (n:" + label + " {" + idProp + ": props." + idProp + "}) " +
+                        "SET n += props " +
+                        "RETURN n AS node";
+                List<T> results = run(tx, cypher, Values.parameters("batch", propsList))
+                        .list(rec -> map(rec, resolveAlias(rec)));
+
+                persistRelationships(tx, entities, data);
+                return results;
+            });
+            snapshotSaved(data);
+            return merged;
+        } finally {
+            resetVisitor();
+        }
+    }
+
+    /**
+     * Returns a writer for unbounded entity sequences that are written chunk by chunk, see {@link BulkWriter}.
+     * Chunk size and rows per inner transaction default to {@code quarkus.neo4j-ogm.bulk.*}.
+     */
+    public BulkWriter<T> bulkWriter() {
+        return config != null
+                ? new BulkWriter<>(this, config.bulk().chunkSize(), config.bulk().rowsPerTransaction())
+                : new BulkWriter<>(this, 1000, 500);
+    }
+
+    int writeBulkChunk(List<T> chunk, boolean merge, BulkWriteMode mode, int rowsPerTransaction,
+            boolean relationships) {
+        List<EntityWithRelations> data = new ArrayList<>(chunk.size());
+        List<Map<String, Object>> propsList = new ArrayList<>(chunk.size());
+        for (T entity : chunk) {
+            EntityWithRelations d = entityMapper.toDb(entity);
+            data.add(d);
+            propsList.add(d.getProperties());
+        }
+
+        String idProp = entityMapper.getNodeIdPropertyName();
+        String write = merge
+                ? "MERGE (n:" + label + " {" + idProp + ": props." + idProp + "}) SET n += props"
+                : "CREATE (n:" + label + ") SET n = props";
+        Value params = Values.parameters("batch", propsList);
+
+        try {
+            if (mode == BulkWriteMode.IN_TRANSACTIONS) {
+                // CALL { } IN TRANSACTIONS only runs in an auto-commit transaction
+                if (identityMap() != null) {
+                    throw new IllegalStateException(
+                            "IN_TRANSACTIONS bulk writes commit on their own and cannot join a managed transaction");
+                }
+                String cypher = "UNWIND $batch AS props CALL { WITH props " + write + " } " +
+                        "IN TRANSACTIONS OF " + rowsPerTransaction + " ROWS";
+                Observation observation = Observation.start(instrumentation, label, "bulkWrite");
+                try (Session session = driver.session()) {
+                    run(session, cypher, params).consume();
+                } catch (Exception e) {
+                    observation.failed(e);
+                    throw Neo4jExceptionTranslator.translate(e, "bulk-write");
+                } finally {
+                    observation.close();
+                    afterWrite();
+                }
+                discardSnapshots(chunk);
+            } else {
+                inWriteTxVoid("bulkWrite", tx -> {
+                    run(tx, "UNWIND $batch AS props " + write, params).consume();
+                    if (relationships) {
+                        persistRelationships(tx, chunk, data);
+                    }
+                });
+                if (relationships) {
+                    snapshotSaved(data);
+                } else {
+                    discardSnapshots(chunk);
+                }
+            }
+            return chunk.size();
+        } finally {
+            // Persisted nodes are tracked per chunk to keep memory bounded
+            resetVisitor();
+        }
+    }
+
     /**
      * Batch delete multiple entities by their IDs in a single query.
      *
@@ -391,7 +719,7 @@ public abstract class Repository<T> {
                     .map(this::convertIdToString)
                     .toList();
 
-            inWriteTxVoid(tx -> tx.run(
+            inWriteTxVoid("deleteAllByIds", tx -> run(tx,
                     "MATCH (n:" + label + ") WHERE n.id IN $ids DETACH DELETE n",
                     Values.parameters("ids", idStrings)).consume());
         } finally {
@@ -402,6 +730,7 @@ public abstract class Repository<T> {
 
     /**
      * Batch merge multiple entities using UNWIND for optimal performance.
+     * Relationships are NOT persisted in batch mode - use mergeAll() if you need relationship persistence.
      *
      * @param entities the entities to merge
      * @return list of merged entities
@@ -412,7 +741,7 @@ public abstract class Repository<T> {
         }
 
         try {
-            return inWriteTx(tx -> {
+            return inWriteTx("mergeAllBatch", tx -> {
                 String idProp = entityMapper.getNodeIdPropertyName();
                 List<Map<String, Object>> propsList = new ArrayList<>();
 
@@ -426,53 +755,20 @@ public abstract class Repository<T> {
                         "SET n += props " +
                         "RETURN n AS node";
 
-                var result = tx.run(cypher, Values.parameters("batch", propsList));
+                var result = run(tx, cypher, Values.parameters("batch", propsList));
 
                 return result.list(rec -> {
                     String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
+                    return map(rec, alias);
                 });
             });
         } finally {
+            discardSnapshots(entities);
             if (relationVisitor != null)
                 relationVisitor.reset();
         }
     }
 
-    private T createInternal(Transaction tx, EntityWithRelations entity) {
-        Map<String, Object> props = entity.getProperties();
-        String idProp = entityMapper.getNodeIdPropertyName();
-        Object id = props.get(idProp);
-
-        if (id == null) {
-            throw new IllegalStateException("No @NodeId value present");
-        }
-
-        String cypher = "MERGE (n:" + label + " {" + idProp + ": $" + idProp + "}) " +
-                "SET n += $props " +
-                "RETURN n AS node";
-
-        Map<String, Object> params = new HashMap<>();
-        params.put(idProp, id);
-        params.put("props", props);
-
-        var result = tx.run(cypher, params);
-
-        if (!result.hasNext()) {
-            throw new IllegalStateException(
-                    "MERGE did not return a node for "
-                            + getEntityType().getSimpleName()
-                            + " with id=" + id);
-        }
-
-        Record rec = result.next();
-        T saved = entityMapper.map(rec, resolveAlias(rec));
-
-        persistRelationships(tx, label, id, entity.getRelationships(), entity.getPersistableRelationshipKeys(),
-                new HashSet<>());
-        return saved;
-    }
-
     public T update(T entity) {
         Object id = entityMapper.getNodeId(entity);
         if (id == null) {
@@ -481,24 +777,28 @@ public abstract class Repository<T> {
 
         resetVisitor(); // Reset visitor context before update to allow relationship updates
         try {
-            return inWriteTx(tx -> {
-                EntityWithRelations data = entityMapper.toDb(entity);
-
-                var result = tx.run(
+            EntityWithRelations data = entityMapper.toDb(entity);
+            EntitySnapshot snapshot = snapshot(entity);
+            // Only properties changed since the entity was loaded are sent
+            Map<String, Object> props = snapshot != null
+                    ? snapshot.changedProperties(data.getProperties())
+                    : data.getProperties();
+            Record rec = inWriteTx("update", tx -> {
+                var result = run(tx,
                         "MATCH (n:" + label + " {id: $id}) SET n += $props RETURN n AS node",
-                        Values.parameters("id", convertIdToString(id), "props", data.getProperties()));
+                        Values.parameters("id", convertIdToString(id), "props", props));
 
                 if (!result.hasNext()) {
                     throw new NotFoundRepositoryException(
                             getEntityType().getSimpleName() + " not found for id=" + id);
                 }
 
-                Record rec = result.next();
-                T updated = entityMapper.map(rec, resolveAlias(rec));
-                persistRelationships(tx, label, id, data.getRelationships(), data.getPersistableRelationshipKeys(),
-                        new HashSet<>());
+                Record updated = result.next();
+                persistRelationships(tx, id, data);
                 return updated;
             });
+            snapshotSaved(List.of(data));
+            return mapSaved(rec, data);
         } finally {
             resetVisitor();
         }
@@ -512,16 +812,27 @@ public abstract class Repository<T> {
 
         resetVisitor(); // Reset visitor context before merge to allow relationship updates
         try {
-            return inWriteTx(tx -> {
-                EntityWithRelations data = entityMapper.toDb(entity);
-
-                var result = tx.run(
-                        "MERGE (n:" + label + " {id: $id}) " +
-                                "SET n += $props " +
-                                "RETURN n AS node",
-                        Values.parameters(
-                                "id", convertIdToString(id),
-                                "props", data.getProperties()));
+            EntityWithRelations data = entityMapper.toDb(entity);
+            EntitySnapshot snapshot = snapshot(entity);
+            Record rec = inWriteTx("merge", tx -> {
+                // A node deleted since the entity was loaded is still created with all properties
+                var result = snapshot != null
+                        ? run(tx,
+                                "MERGE (n:" + label + " {id: $id}) " +
+                                        "ON CREATE SET n += $props " +
+                                        "ON MATCH SET n += $changed " +
+                                        "RETURN n AS node",
+                                Values.parameters(
+                                        "id", convertIdToString(id),
+                                        "props", data.getProperties(),
+                                        "changed", snapshot.changedProperties(data.getProperties())))
+                        : run(tx,
+                                "MERGE (n:" + label + " {id: $id}) " +
+                                        "SET n += $props " +
+                                        "RETURN n AS node",
+                                Values.parameters(
+                                        "id", convertIdToString(id),
+                                        "props", data.getProperties()));
 
                 if (!result.hasNext()) {
                     throw new IllegalStateException(
@@ -530,13 +841,12 @@ public abstract class Repository<T> {
                                     + " with id=" + id);
                 }
 
-                Record rec = result.next();
-                T merged = entityMapper.map(rec, resolveAlias(rec));
-
-                persistRelationships(tx, label, id, data.getRelationships(), data.getPersistableRelationshipKeys(),
-                        new HashSet<>());
+                Record merged = result.next();
+                persistRelationships(tx, id, data);
                 return merged;
             });
+            snapshotSaved(List.of(data));
+            return mapSaved(rec, data);
         } finally {
             resetVisitor();
         }
@@ -544,14 +854,15 @@ public abstract class Repository<T> {
 
     public void delete(T entity) {
         deleteById(entityMapper.getNodeId(entity));
+        EntitySnapshots.SHARED.discard(entity);
     }
 
     public void deleteById(Object id) {
         try {
             if (id == null)
                 throw new IllegalArgumentException("ID cannot be null");
-            inWriteTxVoid(
-                    tx -> tx.run("MATCH (n:" + label + " {id: $id}) DETACH DELETE n",
+            inWriteTxVoid("deleteById",
+                    tx -> run(tx, "MATCH (n:" + label + " {id: $id}) DETACH DELETE n",
                             Values.parameters("id", convertIdToString(id)))
                             .consume());
         } finally {
@@ -562,8 +873,8 @@ public abstract class Repository<T> {
 
     public boolean existsById(Object id) {
         try {
-            return inReadTx(tx -> {
-                var result = tx.run("MATCH (n:" + label + " {id: $id}) RETURN count(n) > 0 AS exists",
+            return inReadTx("existsById", tx -> {
+                var result = run(tx, "MATCH (n:" + label + " {id: $id}) RETURN count(n) > 0 AS exists",
                         Values.parameters("id", convertIdToString(id)));
                 return result.single().get("exists").asBoolean();
             });
@@ -589,16 +900,31 @@ public abstract class Repository<T> {
 
     public List<T> query(String cypher, Map<String, Object> parameters) {
         try {
-            return inReadTx(tx -> {
-                List<T> results = tx.run(cypher, Values.value(parameters))
+            return inReadTx("query", tx -> mapEntities(run(tx, cypher, Values.value(parameters)).list()));
+        } finally {
+            if (relationVisitor != null)
+                relationVisitor.reset();
+        }
+    }
+
+    /**
+     * Runs a custom query and loads the relationships named by the plan, see
+     * {@link #findById(Object, FetchPlan)}.
+     *
+     * @param plan the relationships to load, {@code null} for {@link #query(String, Map)}
+     */
+    public List<T> query(String cypher, Map<String, Object> parameters, FetchPlan plan) {
+        if (plan == null) {
+            return query(cypher, parameters);
+        }
+        try {
+            return inReadTx("query", tx -> {
+                List<T> results = run(tx, cypher, Values.value(parameters))
                         .list(rec -> {
                             String alias = resolveAlias(rec);
-                            return entityMapper.map(rec, alias);
+                            return mapManaged(rec, r -> map(r, alias));
                         });
-                results.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
-                });
+                completePlanned(results, plan);
                 return results;
             });
         } finally {
@@ -607,23 +933,42 @@ public abstract class Repository<T> {
         }
     }
 
+    /**
+     * Streams all entities of this type. Records are mapped lazily and relationships are loaded per
+     * chunk of {@code quarkus.neo4j-ogm.stream.chunk-size} entities, so memory stays constant
+     * regardless of the result size.
+     * <p>
+     * The stream holds an open session and transaction and must be closed, e.g. with try-with-resources.
+     * Inside a managed transaction the transaction is left open; note that relation queries on the same
+     * transaction make the driver buffer the remaining records.
+     */
+    public Stream<T> streamAll() {
+        return stream("streamAll", "MATCH (n:" + label + ") RETURN " + returnExpression(), Map.of(),
+                this::mapRecord, this::resolveRelations);
+    }
+
+    /**
+     * Streams the entities returned by a custom query, see {@link #streamAll()}.
+     */
+    public Stream<T> streamQuery(String cypher, Map<String, Object> parameters) {
+        return stream("streamQuery", cypher, parameters, rec -> map(rec, resolveAlias(rec)),
+                this::loadRelationsAndConvert);
+    }
+
     public List<T> query(String cypher, Map<String, Object> parameters, Pageable pageable, Sortable sortable) {
         try {
-            return inReadTx(tx -> {
+            return inReadTx("query", tx -> {
                 String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
                 String pagedCypher = String.format("%s %s SKIP $skip LIMIT $limit", cypher, sortClause);
                 Map<String, Object> params = new HashMap<>(parameters);
                 params.put("skip", pageable.page() * pageable.size());
                 params.put("limit", pageable.size());
-                var result = tx.run(pagedCypher, params);
+                var result = run(tx, pagedCypher, params);
                 List<T> entities = result.list(rec -> {
                     String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
+                    return mapManaged(rec, r -> map(r, alias));
                 });
+                completeManaged(entities, this::loadRelationsAndConvert);
                 return entities;
             });
         } finally {
@@ -639,32 +984,31 @@ public abstract class Repository<T> {
     public Paged<T> queryPaged(String baseCypher, Filter filter, Map<String, Object> parameters,
             Pageable pageable, Sortable sortable) {
         try {
-            Filter.CypherFragment frag = (filter != null) ? filter.toCypher("n") : new Filter.CypherFragment("", Map.of());
+            Filter.CypherFragment frag = (filter != null)
+                    ? filter.toCypher("n", entityMapper.getNormalizedProperties())
+                    : new Filter.CypherFragment("", Map.of());
             String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
 
-            Map<String, Object> allParams = new HashMap<>(parameters);
-            allParams.putAll(frag.params());
+            CountStrategy strategy = PageCounts.strategy(pageable, config);
+
+            Map<String, Object> countParams = new HashMap<>(parameters);
+            countParams.putAll(frag.params());
+            Map<String, Object> allParams = new HashMap<>(countParams);
             allParams.put("skip", pageable.page() * pageable.size());
-            allParams.put("limit", pageable.size());
+            allParams.put("limit", PageCounts.fetchSize(pageable, strategy));
 
             // Single transaction for both count and content - avoids inconsistency and extra roundtrip
-            return inReadTx(tx -> {
-                // Count query first
-                String countCypher = String.format("%s %s RETURN count(n) AS count", baseCypher, frag.clause());
-                long total = tx.run(countCypher, allParams).single().get("count").asLong();
-
+            return inReadTx("queryPaged", tx -> {
                 // Content query
                 String pagedCypher = String.format("%s %s RETURN n AS node %s SKIP $skip LIMIT $limit",
                         baseCypher, frag.clause(), sortClause);
-                var result = tx.run(pagedCypher, allParams);
-                List<T> entities = result.list(rec -> {
-                    String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
-                });
+                List<Record> records = run(tx, pagedCypher, allParams).list();
+                List<T> entities = mapPagedRecords(PageCounts.trim(pageable, records));
+                completeManaged(entities, this::loadRelationsAndConvert);
+
+                // Count query
+                String countCypher = String.format("%s %s RETURN count(n) AS count", baseCypher, frag.clause());
+                long total = countTotal(tx, strategy, countCypher, countParams, pageable, records.size());
 
                 return new Paged<>(entities, total, pageable.page(), pageable.size());
             });
@@ -677,27 +1021,22 @@ public abstract class Repository<T> {
     public Paged<T> queryPaged(String baseCypher, Map<String, Object> parameters, Pageable pageable, Sortable sortable) {
         try {
             String sortClause = (sortable != null) ? sortable.toCypher("n") : "";
+            CountStrategy strategy = PageCounts.strategy(pageable, config);
             Map<String, Object> allParams = new HashMap<>(parameters);
             allParams.put("skip", pageable.page() * pageable.size());
-            allParams.put("limit", pageable.size());
+            allParams.put("limit", PageCounts.fetchSize(pageable, strategy));
 
             // Single transaction for both count and content - avoids inconsistency and extra roundtrip
-            return inReadTx(tx -> {
-                // Count query first
-                String countCypher = baseCypher + " RETURN count(n) AS count";
-                long total = tx.run(countCypher, parameters).single().get("count").asLong();
-
+            return inReadTx("queryPaged", tx -> {
                 // Content query
                 String pagedCypher = baseCypher + " RETURN n AS node " + sortClause + " SKIP $skip LIMIT $limit";
-                var result = tx.run(pagedCypher, allParams);
-                List<T> entities = result.list(rec -> {
-                    String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
-                });
+                List<Record> records = run(tx, pagedCypher, allParams).list();
+                List<T> entities = mapPagedRecords(PageCounts.trim(pageable, records));
+                completeManaged(entities, this::loadRelationsAndConvert);
+
+                // Count query
+                String countCypher = baseCypher + " RETURN count(n) AS count";
+                long total = countTotal(tx, strategy, countCypher, parameters, pageable, records.size());
 
                 return new Paged<>(entities, total, pageable.page(), pageable.size());
             });
@@ -707,21 +1046,83 @@ public abstract class Repository<T> {
         }
     }
 
+    private List<T> mapPagedRecords(List<Record> records) {
+        return records.stream()
+                .map(rec -> {
+                    String alias = resolveAlias(rec);
+                    return mapManaged(rec, r -> map(r, alias));
+                })
+                .toList();
+    }
+
+    /**
+     * Total of a page according to the count strategy.
+     *
+     * @param fetched number of rows the content query returned, including the extra row when estimating
+     */
+    private long countTotal(SimpleQueryRunner tx, CountStrategy strategy, String countCypher,
+            Map<String, Object> parameters, Pageable pageable, int fetched) {
+        return switch (strategy) {
+            case EXACT -> run(tx, countCypher, parameters).single().get("count").asLong();
+            case CACHED -> cachedQuery(PageCounts.CACHE_NAME, PageCounts.cacheKey(countCypher, parameters),
+                    PageCounts.cacheSettings(config),
+                    () -> run(tx, countCypher, parameters).single().get("count").asLong());
+            case ESTIMATED -> PageCounts.estimatedTotal(pageable, fetched, fetched > pageable.size()
+                    ? run(tx, "MATCH (n:" + label + ") RETURN count(n) AS count").single().get("count").asLong()
+                    : 0L);
+        };
+    }
+
+    /**
+     * Keyset (seek) pagination over all entities: the page resumes after the sort key of the previous
+     * page instead of skipping rows, so latency does not grow with the page depth.
+     */
+    public KeysetPaged<T> findAllKeyset(KeysetPageable pageable, Sortable sortable) {
+        return queryKeyset("MATCH (n:" + label + ")", null, Map.of(), pageable, sortable);
+    }
+
+    public KeysetPaged<T> queryKeyset(String baseCypher, Filter filter, KeysetPageable pageable, Sortable sortable) {
+        return queryKeyset(baseCypher, filter, Map.of(), pageable, sortable);
+    }
+
+    /**
+     * Keyset (seek) pagination over a base query binding the entity to {@code n}, see {@link KeysetCursor}.
+     */
+    public KeysetPaged<T> queryKeyset(String baseCypher, Filter filter, Map<String, Object> parameters,
+            KeysetPageable pageable, Sortable sortable) {
+        try {
+            Filter.CypherFragment frag = (filter != null) ? filter.toCypher("n", entityMapper.getNormalizedProperties()) : null;
+            Filter.CypherFragment page = KeysetCursor.query(baseCypher, frag, pageable, sortable);
+            Map<String, Object> allParams = new HashMap<>(parameters);
+            allParams.putAll(page.params());
+
+            return inReadTx("queryKeyset", tx -> {
+                List<Record> rows = run(tx, page.clause(), allParams).list();
+                KeysetPaged<T> result = KeysetCursor.page(rows, pageable.size(),
+                        rec -> rec.get(KeysetCursor.KEYS_COLUMN).asList(),
+                        rec -> mapManaged(rec, r -> map(r, resolveAlias(r))));
+                completeManaged(result.content(), this::loadRelationsAndConvert);
+                return result;
+            });
+        } finally {
+            resetVisitor();
+        }
+    }
+
     public T querySingle(String cypher) {
         return querySingle(cypher, Map.of());
     }
 
     public T querySingle(String cypher, Map<String, Object> parameters) {
         try {
-            return inReadTx(tx -> {
-                var result = tx.run(cypher, Values.value(parameters));
+            return inReadTx("querySingle", tx -> {
+                var result = run(tx, cypher, Values.value(parameters));
                 if (!result.hasNext())
                     return null;
                 Record rec = result.next();
                 String alias = resolveAlias(rec);
-                T entity = entityMapper.map(rec, alias);
-                loadRelations(entity, 0);
-                entityMapper.applyPostLoadConverters(entity);
+                T entity = mapManaged(rec, r -> map(r, alias));
+                completeManaged(List.of(entity), this::loadRelationsAndConvertEach);
                 return entity;
             });
         } finally {
@@ -736,15 +1137,14 @@ public abstract class Repository<T> {
 
     public Optional<T> querySingleOptional(String cypher, Map<String, Object> parameters) {
         try {
-            return inReadTx(tx -> {
-                var result = tx.run(cypher, Values.value(parameters));
+            return inReadTx("querySingleOptional", tx -> {
+                var result = run(tx, cypher, Values.value(parameters));
                 if (!result.hasNext())
                     return Optional.empty();
                 Record rec = result.next();
                 String alias = resolveAlias(rec);
-                T entity = entityMapper.map(rec, alias);
-                loadRelations(entity, 0);
-                entityMapper.applyPostLoadConverters(entity);
+                T entity = mapManaged(rec, r -> map(r, alias));
+                completeManaged(List.of(entity), this::loadRelationsAndConvertEach);
                 return Optional.of(entity);
             });
         } finally {
@@ -754,18 +1154,18 @@ public abstract class Repository<T> {
     }
 
     public void execute(String cypher, Map<String, Object> parameters) {
-        inWriteTxVoid(tx -> tx.run(cypher, Values.value(parameters)).consume());
+        inWriteTxVoid("execute", tx -> run(tx, cypher, Values.value(parameters)).consume());
     }
 
     public T executeReturning(String cypher, Map<String, Object> parameters) {
         try {
-            return inWriteTx(tx -> {
-                var result = tx.run(cypher, Values.value(parameters));
+            return inWriteTx("executeReturning", tx -> {
+                var result = run(tx, cypher, Values.value(parameters));
                 if (!result.hasNext())
                     return null;
                 Record rec = result.next();
                 String alias = resolveAlias(rec);
-                T entity = entityMapper.map(rec, alias);
+                T entity = map(rec, alias);
                 loadRelations(entity, 0);
                 entityMapper.applyPostLoadConverters(entity);
                 return entity;
@@ -778,16 +1178,13 @@ public abstract class Repository<T> {
 
     public List<T> executeQuery(String cypher, Map<String, Object> parameters) {
         try {
-            return inWriteTx(tx -> {
-                var result = tx.run(cypher, Values.value(parameters));
+            return inWriteTx("executeQuery", tx -> {
+                var result = run(tx, cypher, Values.value(parameters));
                 List<T> entities = result.list(rec -> {
                     String alias = resolveAlias(rec);
-                    return entityMapper.map(rec, alias);
-                });
-                entities.forEach(e -> {
-                    loadRelations(e, 0);
-                    entityMapper.applyPostLoadConverters(e);
+                    return map(rec, alias);
                 });
+                loadRelationsAndConvert(entities);
                 return entities;
             });
         } finally {
@@ -801,8 +1198,8 @@ public abstract class Repository<T> {
     }
 
     public <R> R queryScalar(String cypher, Map<String, Object> parameters, Function<Record, R> mapper) {
-        return inReadTx(tx -> {
-            var result = tx.run(cypher, Values.value(parameters));
+        return inReadTx("queryScalar", tx -> {
+            var result = run(tx, cypher, Values.value(parameters));
             if (!result.hasNext()) {
                 return null;
             }
@@ -811,12 +1208,12 @@ public abstract class Repository<T> {
     }
 
     public <R> List<R> queryScalarList(String cypher, Map<String, Object> parameters, Function<Record, R> mapper) {
-        return inReadTx(tx -> tx.run(cypher, Values.value(parameters)).list(mapper::apply));
+        return inReadTx("queryScalarList", tx -> run(tx, cypher, Values.value(parameters)).list(mapper::apply));
     }
 
     public <R> R executeScalar(String cypher, Map<String, Object> parameters, Function<Record, R> mapper) {
-        return inWriteTx(tx -> {
-            var result = tx.run(cypher, Values.value(parameters));
+        return inWriteTx("executeScalar", tx -> {
+            var result = run(tx, cypher, Values.value(parameters));
             if (!result.hasNext()) {
                 return null;
             }
@@ -825,17 +1222,278 @@ public abstract class Repository<T> {
     }
 
     public <R> List<R> executeScalarList(String cypher, Map<String, Object> parameters, Function<Record, R> mapper) {
-        return inWriteTx(tx -> tx.run(cypher, Values.value(parameters)).list(mapper::apply));
+        return inWriteTx("executeScalarList", tx -> run(tx, cypher, Values.value(parameters)).list(mapper::apply));
+    }
+
+    // ========================= Streaming =========================
+
+    /**
+     * @param operation the repository method, observed until the stream is closed
+     */
+    private Stream<T> stream(String operation, String cypher, Map<String, Object> parameters,
+            Function<Record, T> mapper, Consumer<List<T>> completer) {
+        Observation observation = Observation.start(instrumentation, label, operation);
+        // An active managed transaction is owned by the TransactionManager and stays open on close
+        boolean managed = txManager != null && txManager.isTransactionActive();
+        Session session = null;
+        Transaction tx = null;
+        try {
+            if (managed) {
+                tx = txManager.getOrCreateTransaction();
+            } else {
+                session = driver.session(READ_SESSION);
+                tx = session.beginTransaction();
+            }
+            Result result = run(tx, cypher, Values.value(parameters));
+            Iterator<T> chunks = new ChunkIterator(result, mapper, completer, streamChunkSize(), observation);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                    .onClose(closer(managed ? null : tx, session, observation));
+        } catch (Exception e) {
+            observation.failed(e);
+            closer(managed ? null : tx, session, observation).run();
+            throw Neo4jExceptionTranslator.translate(e, "stream");
+        }
+    }
+
+    private static Runnable closer(Transaction tx, Session session, Observation observation) {
+        return () -> {
+            try {
+                if (tx != null) {
+                    tx.close();
+                }
+            } finally {
+                try {
+                    if (session != null) {
+                        session.close();
+                    }
+                } finally {
+                    observation.close();
+                }
+            }
+        };
+    }
+
+    protected int streamChunkSize() {
+        return config != null ? Math.max(1, config.stream().chunkSize()) : 100;
+    }
+
+    /**
+     * Pulls records from an open result one chunk at a time: each chunk is mapped, completed
+     * (relations and post-load converters) and handed out before the next one is fetched.
+     */
+    private final class ChunkIterator implements Iterator<T> {
+
+        private final Result result;
+        private final Function<Record, T> mapper;
+        private final Consumer<List<T>> completer;
+        private final int chunkSize;
+        private final Observation observation;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private ChunkIterator(Result result, Function<Record, T> mapper, Consumer<List<T>> completer, int chunkSize,
+                Observation observation) {
+            this.result = result;
+            this.mapper = mapper;
+            this.completer = completer;
+            this.chunkSize = chunkSize;
+            this.observation = observation;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current.hasNext()) {
+                return true;
+            }
+            try {
+                List<T> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && result.hasNext()) {
+                    chunk.add(mapper.apply(result.next()));
+                }
+                completer.accept(chunk);
+                current = chunk.iterator();
+                return current.hasNext();
+            } catch (RepositoryException e) {
+                observation.failed(e);
+                throw e;
+            } catch (Exception e) {
+                observation.failed(e);
+                throw Neo4jExceptionTranslator.translate(e, "stream");
+            } finally {
+                // Visited entities are only tracked per chunk to keep memory bounded
+                resetVisitor();
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
     }
 
     // ========================= Relation Loading mit CDI Visitor =========================
 
     protected void loadRelations(T entity, int depth) {
+        loadRelations(entity, depth, null);
+    }
+
+    /**
+     * @param plan the relationships to load, {@code null} to load them up to their declared max depth
+     */
+    protected void loadRelations(T entity, int depth, FetchPlan plan) {
         if (entity == null || relationLoader == null || relationVisitor == null)
             return;
         if (!relationVisitor.shouldVisit(entity, depth))
             return;
-        relationLoader.loadRelations(entity, depth);
+        relationLoader.loadRelations(entity, depth, plan);
+    }
+
+    /**
+     * Loads the relationships of a list result and applies the post-load converters afterwards.
+     * In {@link RelationLoadingMode#BATCHED} mode the whole list is handed to the generated loader,
+     * which issues one query per relationship field and traversal level instead of one per entity.
+     */
+    protected void loadRelationsAndConvert(List<T> entities) {
+        loadRelationsAndConvert(entities, null);
+    }
+
+    /**
+     * @param plan the relationships to load, {@code null} to load them up to their declared max depth
+     */
+    protected void loadRelationsAndConvert(List<T> entities, FetchPlan plan) {
+        if (relationLoader != null && relationVisitor != null && relationLoadingMode() == RelationLoadingMode.BATCHED) {
+            relationLoader.loadRelationsBatch(entities, 0, plan);
+        } else if (loadsInParallel(entities)) {
+            loadRelationsInParallel(entities, plan);
+        } else {
+            entities.forEach(e -> loadRelations(e, 0, plan));
+        }
+        entities.forEach(entityMapper::applyPostLoadConverters);
+    }
+
+    /**
+     * A managed transaction is bound to its thread, so inside one the relationships are loaded in turn.
+     * So are the relationships of related entities, within the task that reached them: it still holds its
+     * read session, and fanning out again could leave the tasks waiting for the driver's connection pool.
+     */
+    private boolean loadsInParallel(List<T> entities) {
+        return entities.size() > 1 && relationLoader != null && relationVisitor != null
+                && relationLoadingMode() == RelationLoadingMode.PARALLEL
+                && (txManager == null || !txManager.isTransactionActive())
+                && !relationVisitor.isDetached();
+    }
+
+    /**
+     * Loads the relationships of each entity on a virtual thread of its own, at most
+     * {@code relation-loading.parallelism} at a time. The relation queries of a task run in read sessions
+     * of their own, and its traversal uses a visitor context of its own whose statistics are added to the
+     * caller's. The statements still count for the observed operation.
+     */
+    private void loadRelationsInParallel(List<T> entities, FetchPlan plan) {
+        Observation observation = Observation.current();
+        Semaphore permits = new Semaphore(Math.max(1, config.relationLoading().parallelism()));
+        List<Future<RelationVisitor.VisitorStats>> tasks = new ArrayList<>(entities.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T entity : entities) {
+                tasks.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return Observation.callWith(observation,
+                                () -> relationVisitor.traverseDetached(() -> loadRelations(entity, 0, plan)));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<RelationVisitor.VisitorStats> task : tasks) {
+                relationVisitor.addStats(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RepositoryException("Interrupted while loading relationships", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            throw new RepositoryException("Failed to load relationships", e.getCause());
+        }
+    }
+
+    /**
+     * Nested projection that fetches the entity together with its relationships in one record.
+     * Overridden by generated repositories of entities whose relationships are shallow enough
+     * ({@code maxDepth <= 2}); {@code null} means relationships are resolved by the relation loader.
+     */
+    protected String graphProjection() {
+        return null;
+    }
+
+    private String returnExpression() {
+        String projection = graphProjection();
+        return (projection != null ? projection : "n") + " AS node";
+    }
+
+    private T mapRecord(Record rec) {
+        if (graphProjection() != null) {
+            Observation.countRecord();
+            return entityMapper.mapFromGraph(rec.get("node"));
+        }
+        return map(rec, resolveAlias(rec));
+    }
+
+    private T map(Record rec, String alias) {
+        Observation.countRecord();
+        return entityMapper.map(rec, alias);
+    }
+
+    /**
+     * Completes entities read via {@link #returnExpression()}: projected graphs already carry
+     * their relationships, everything else goes through the relation loader.
+     */
+    private void resolveRelations(List<T> entities) {
+        if (graphProjection() != null) {
+            entities.forEach(entityMapper::applyPostLoadConverters);
+        } else {
+            loadRelationsAndConvert(entities);
+        }
+    }
+
+    protected RelationLoadingMode relationLoadingMode() {
+        return config != null ? config.relationLoading().mode() : RelationLoadingMode.PER_ENTITY;
+    }
+
+    /**
+     * Runs a batched relationship query on behalf of a generated relation loader. The query receives
+     * the owner ids as {@code $ids} and must return one row per owner as {@code id} and the collected
+     * related nodes as {@code nodes}. Nodes reached from several owners are mapped only once.
+     * Relations of the returned entities are not loaded; the calling loader does that per level.
+     *
+     * @param cypher the batched relationship query
+     * @param ownerIds the ids of the owning entities
+     * @return the related entities per owner id
+     */
+    public Map<String, List<T>> findRelatedByOwnerIds(String cypher, Collection<String> ownerIds) {
+        if (ownerIds == null || ownerIds.isEmpty()) {
+            return Map.of();
+        }
+        return inReadTx("findRelatedByOwnerIds", tx -> {
+            Map<String, List<T>> byOwner = new HashMap<>();
+            Map<String, T> mapped = new HashMap<>();
+            run(tx, cypher, Values.parameters("ids", List.copyOf(ownerIds))).forEachRemaining(rec -> {
+                List<T> related = new ArrayList<>();
+                for (Value node : rec.get("nodes").values()) {
+                    related.add(mapped.computeIfAbsent(node.asNode().elementId(),
+                            k -> managedOr(node, () -> {
+                                Observation.countRecord();
+                                return entityMapper.mapFromValue(node);
+                            })));
+                }
+                byOwner.put(rec.get("id").asString(), related);
+            });
+            return byOwner;
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -859,150 +1517,373 @@ public abstract class Repository<T> {
         }
     }
 
-    // ========================= Relationship Persistence =========================
+    // ========================= Identity Map =========================
+
+    private IdentityMap identityMap() {
+        return txManager != null ? txManager.currentIdentityMap() : null;
+    }
+
+    /**
+     * @return {@code true} if this instance was completely loaded by the current transaction, in
+     *         which case its relationships are in place and must not be loaded again
+     */
+    public boolean isManaged(T entity) {
+        IdentityMap identityMap = identityMap();
+        return identityMap != null && identityMap.contains(label, entityMapper.getNodeId(entity), entity);
+    }
+
+    private T findManaged(Object id) {
+        IdentityMap identityMap = identityMap();
+        return identityMap != null ? identityMap.get(label, id) : null;
+    }
 
-    private void persistRelationships(
-            Transaction tx,
-            String sourceLabel,
-            Object fromId,
-            List<RelationshipData> relationships,
-            Set<String> declaredKeys,
-            Set<String> visited) {
-
-        List<RelationshipData> rels = (relationships != null) ? relationships : List.of();
-        Set<String> relationshipTypes = (declaredKeys != null) ? declaredKeys : Set.of();
-
-        // Proceed when there is anything to persist OR any declared relationship type to clear.
-        // Clearing must run even when no relationships are present so that emptied relations are
-        // detached from the DB (issue #69).
-        if (fromId == null || (rels.isEmpty() && relationshipTypes.isEmpty())) {
+    /**
+     * Returns the instance the current transaction already loaded for the record's node, mapping
+     * the record only if there is none.
+     */
+    private T mapManaged(Record rec, Function<Record, T> mapper) {
+        return managedOr(rec.get(resolveAlias(rec)), () -> mapper.apply(rec));
+    }
+
+    private T managedOr(Value node, Supplier<T> mapper) {
+        IdentityMap identityMap = identityMap();
+        boolean entityNode = node.hasType(TypeSystem.getDefault().NODE())
+                || node.hasType(TypeSystem.getDefault().MAP());
+        if (identityMap != null && entityNode) {
+            Value id = node.get(entityMapper.getNodeIdPropertyName());
+            T managed = id.isNull() ? null : identityMap.get(label, id.asObject());
+            if (managed != null) {
+                return managed;
+            }
+        }
+        T entity = mapper.get();
+        if (identityMap == null && entityNode && entity != null && tracksChanges()) {
+            EntitySnapshots.SHARED.staged(entity, node);
+        }
+        return entity;
+    }
+
+    /**
+     * Completes the entities the current transaction has not loaded yet and registers them in its
+     * identity map; outside a transaction all entities are completed.
+     */
+    private void completeManaged(List<T> entities, Consumer<List<T>> completer) {
+        IdentityMap identityMap = identityMap();
+        if (identityMap == null) {
+            completer.accept(entities);
+            snapshotLoaded(entities);
             return;
         }
+        List<T> pending = entities.stream().filter(e -> !isManaged(e)).toList();
+        completer.accept(pending);
+        pending.forEach(e -> identityMap.put(label, entityMapper.getNodeId(e), e));
+    }
 
-        if (relationVisitor == null) {
-            throw new IllegalStateException("RelationVisitor is required but not available");
+    /**
+     * Completes entities with the relationships named by a fetch plan. Unlike {@link #completeManaged}
+     * the entities are not registered in the identity map, so a later complete load in the same
+     * transaction does not return an instance that lacks relationships.
+     */
+    private void completePlanned(List<T> entities, FetchPlan plan) {
+        IdentityMap identityMap = identityMap();
+        List<T> pending = identityMap != null ? entities.stream().filter(e -> !isManaged(e)).toList() : entities;
+        loadRelationsAndConvert(pending, plan);
+        if (identityMap == null) {
+            snapshotLoaded(pending);
+        }
+    }
+
+    private void loadRelationsAndConvertEach(List<T> entities) {
+        for (T entity : entities) {
+            loadRelations(entity, 0);
+            entityMapper.applyPostLoadConverters(entity);
+        }
+    }
+
+    /**
+     * Drops state a write may have made stale: the identity map of the current transaction and the
+     * second-level cache of this label.
+     */
+    private void afterWrite() {
+        IdentityMap identityMap = identityMap();
+        if (identityMap != null) {
+            identityMap.clear();
         }
+        invalidateCaches(List.of(label));
+    }
 
-        if (!relationVisitor.markPersisted(sourceLabel, fromId)) {
+    /**
+     * Drops the second-level caches of the labels once a write is visible to other transactions: right
+     * away for a self-owned transaction, after the commit for a managed one. Invalidating earlier would
+     * let concurrent readers cache the state the managed transaction is about to replace.
+     */
+    private void invalidateCaches(Collection<String> labels) {
+        if (cacheManager == null) {
             return;
         }
+        if (txManager != null) {
+            txManager.afterCommit(() -> cacheManager.invalidate(labels));
+        } else {
+            cacheManager.invalidate(labels);
+        }
+    }
 
-        // First, delete all existing edges of every declared persistable relationship type so that
-        // both updated and removed relationships are detached before we re-create the current ones.
-        // The delete is scoped to the target label so that relationships sharing a type but pointing
-        // to different node types (issue #60) are cleared independently.
-        for (String typeKey : relationshipTypes) {
-            String[] parts = typeKey.split("\\|", 3);
-            String relType = CypherIdentifier.requireValidIdentifier(parts[0]);
-            String direction = parts[1];
-            String targetLabel = CypherIdentifier.requireValidIdentifier(parts[2]);
-
-            String deleteQuery = switch (direction) {
-                case "OUTGOING" ->
-                    "MATCH (n:" + sourceLabel + " {id: $id})-[r:" + relType + "]->(:" + targetLabel + ") DELETE r";
-                case "INCOMING" ->
-                    "MATCH (n:" + sourceLabel + " {id: $id})<-[r:" + relType + "]-(:" + targetLabel + ") DELETE r";
-                case "UNDIRECTED" ->
-                    "MATCH (n:" + sourceLabel + " {id: $id})-[r:" + relType + "]-(:" + targetLabel + ") DELETE r";
-                case "BOTH" -> {
-                    // Delete both directions
-                    tx.run("MATCH (n:" + sourceLabel + " {id: $id})-[r:" + relType + "]->(:" + targetLabel + ") DELETE r",
-                            Values.parameters("id", convertIdToString(fromId)));
-                    yield "MATCH (n:" + sourceLabel + " {id: $id})<-[r:" + relType + "]-(:" + targetLabel + ") DELETE r";
-                }
-                default -> null;
-            };
+    // ========================= Dirty Tracking =========================
 
-            if (deleteQuery != null) {
-                tx.run(deleteQuery, Values.parameters("id", convertIdToString(fromId)));
+    private boolean tracksChanges() {
+        return config != null && config.dirtyTracking().enabled();
+    }
+
+    private EntitySnapshot snapshot(Object entity) {
+        return tracksChanges() ? EntitySnapshots.SHARED.get(entity) : null;
+    }
+
+    /**
+     * Remembers the persisted state of completely loaded entities, with the properties of the nodes they
+     * were mapped from. Entities read inside a managed transaction are not tracked, since they may reflect
+     * uncommitted writes.
+     */
+    private void snapshotLoaded(List<T> entities) {
+        if (!tracksChanges()) {
+            return;
+        }
+        for (T entity : entities) {
+            EntitySnapshots.SHARED.rememberLoaded(entityMapper.toDb(entity), this::relationshipTarget);
+        }
+    }
+
+    /**
+     * Remembers the state a write persisted, or forgets the previous state if the write belongs to a
+     * managed transaction that may still roll back.
+     */
+    private void snapshotSaved(List<EntityWithRelations> data) {
+        if (!tracksChanges()) {
+            return;
+        }
+        boolean committed = identityMap() == null;
+        for (EntityWithRelations d : data) {
+            if (committed) {
+                EntitySnapshots.SHARED.remember(d, this::relationshipTarget);
+            } else {
+                EntitySnapshots.SHARED.forget(d);
             }
         }
+    }
 
-        for (RelationshipData rel : rels) {
+    /**
+     * Maps the node a write returned to a new instance. Like the saved instance it remembers the
+     * persisted state: the node's properties and the relationships the write left.
+     */
+    private T mapSaved(Record rec, EntityWithRelations saved) {
+        String alias = resolveAlias(rec);
+        T entity = map(rec, alias);
+        if (tracksChanges() && identityMap() == null) {
+            EntitySnapshots.SHARED.remember(entity, saved, rec.get(alias), this::relationshipTarget);
+        }
+        return entity;
+    }
 
-            if (rel.getMode() == RelationshipMode.FETCH_ONLY) {
-                continue;
-            }
+    /**
+     * Forgets the state of entities written without their relationships.
+     */
+    private void discardSnapshots(List<T> entities) {
+        entities.forEach(EntitySnapshots.SHARED::discard);
+    }
 
-            // Relationship types are concatenated into the query, validate them defensively.
-            CypherIdentifier.requireValidIdentifier(rel.getType());
+    // ========================= Second-Level Cache =========================
 
-            Object toId = rel.getTargetId();
-            EntityWithRelations target = rel.getTarget();
-            Repository<Object> targetRepo = null;
+    /**
+     * Second-level cache settings of this entity, {@code null} if it is not cached. Overridden by
+     * generated repositories of {@link Cacheable} entities.
+     */
+    protected BoundedCache.Settings cacheSettings() {
+        return null;
+    }
 
-            if (target != null) {
-                targetRepo = (Repository<Object>) registry.getRepository(target.getEntityType());
+    /**
+     * The cache of this label, {@code null} if the entity is not cached or a managed transaction is
+     * active: its reads must see its own writes and the cache must not see them before the commit.
+     */
+    private BoundedCache<String, Value> entityCache() {
+        BoundedCache.Settings settings = cacheSettings();
+        return settings != null && cacheManager != null && identityMap() == null
+                ? cacheManager.entityCache(label, settings)
+                : null;
+    }
 
-                String idPropertyName = targetRepo.entityMapper.getNodeIdPropertyName();
-                Object targetEntityId = target.getProperties().get(idPropertyName);
+    /**
+     * Returns a new instance mapped from the cached node, so that changes a caller makes to its
+     * instance are not seen by others. Relationships not part of the graph projection are loaded again.
+     */
+    private T findCached(Object id) {
+        BoundedCache<String, Value> cache = entityCache();
+        Value node = cache != null && id != null ? cache.get(convertIdToString(id)) : null;
+        if (node == null) {
+            return null;
+        }
+        try {
+            T entity = managedOr(node,
+                    () -> graphProjection() != null ? entityMapper.mapFromGraph(node) : entityMapper.mapFromValue(node));
+            resolveRelations(List.of(entity));
+            snapshotLoaded(List.of(entity));
+            return entity;
+        } finally {
+            resetVisitor();
+        }
+    }
 
-                if (targetEntityId != null) {
-                    if (!relationVisitor.wasPersisted(targetRepo.label, targetEntityId)) {
-                        Object merged = targetRepo.createInternal(tx, target); // ← TX übergeben!
-                        toId = targetRepo.entityMapper.getNodeId(merged);
-                        rel.setTargetId(toId);
-                    } else {
-                        toId = targetEntityId;
-                    }
-                } else {
-                    Object merged = targetRepo.createInternal(tx, target); // ← TX übergeben!
-                    toId = targetRepo.entityMapper.getNodeId(merged);
-                    rel.setTargetId(toId);
-                }
-            }
+    private long cacheGeneration() {
+        BoundedCache<String, Value> cache = entityCache();
+        return cache != null ? cache.generation() : 0L;
+    }
 
-            if (toId == null) {
-                continue;
-            }
+    /**
+     * Caches the node an entity was loaded from, unless the cache was invalidated since the read began.
+     */
+    private void cacheLoaded(Object id, Record rec, long generation) {
+        BoundedCache<String, Value> cache = entityCache();
+        if (cache != null) {
+            cache.putIfGeneration(convertIdToString(id), rec.get("node"), generation);
+        }
+    }
 
-            if (targetRepo == null) {
-                targetRepo = (Repository<Object>) registry.getRepository(
-                        target != null ? target.getEntityType() : null);
-                if (targetRepo == null) {
-                    continue;
-                }
+    /**
+     * Returns the result of a cacheable {@code @Query} method. The cache holds the records of the query
+     * and every call maps them again, so callers never share entity or DTO instances. Called by generated
+     * query methods. Inside a managed transaction the cache is bypassed.
+     *
+     * @param queryName name of the query method
+     * @param parameters query parameters, the cache key
+     * @param settings size bound and time-to-live of the query cache
+     * @param cypher the read query
+     * @param mapper maps the records to the result, e.g. {@link #mapEntities(List)}
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> R cachedQuery(String queryName, Map<String, Object> parameters, BoundedCache.Settings settings,
+            String cypher, Function<List<Record>, R> mapper) {
+        BoundedCache<Object, Object> cache = cacheManager != null && identityMap() == null
+                ? cacheManager.queryCache(label, queryName, settings)
+                : null;
+        try {
+            Object cached = cache != null ? cache.get(parameters) : null;
+            if (cached != null) {
+                return mapper.apply((List<Record>) cached);
             }
-
-            String targetLabel = targetRepo.label;
-
-            Map<String, Object> params = Map.of(
-                    "from", fromId.toString(),
-                    "to", toId.toString());
-
-            switch (rel.getDirection()) {
-                case OUTGOING -> tx.run(
-                        "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                "      (b:" + targetLabel + " {id: $to}) " +
-                                "MERGE (a)-[:" + rel.getType() + "]->(b)",
-                        params);
-
-                case INCOMING -> tx.run(
-                        "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                "      (b:" + targetLabel + " {id: $to}) " +
-                                "MERGE (a)<-[:" + rel.getType() + "]-(b)",
-                        params);
-
-                case UNDIRECTED -> tx.run(
-                        "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                "      (b:" + targetLabel + " {id: $to}) " +
-                                "MERGE (a)-[:" + rel.getType() + "]-(b)",
-                        params);
-
-                case BOTH -> {
-                    tx.run(
-                            "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                    "      (b:" + targetLabel + " {id: $to}) " +
-                                    "MERGE (a)-[:" + rel.getType() + "]->(b)",
-                            params);
-                    tx.run(
-                            "MATCH (a:" + sourceLabel + " {id: $from}), " +
-                                    "      (b:" + targetLabel + " {id: $to}) " +
-                                    "MERGE (a)<-[:" + rel.getType() + "]-(b)",
-                            params);
+            long generation = cache != null ? cache.generation() : 0L;
+            return inReadTx("query", tx -> {
+                List<Record> records = run(tx, cypher, Values.value(parameters)).list();
+                if (cache != null) {
+                    cache.putIfGeneration(parameters, records, generation);
                 }
-            }
+                return mapper.apply(records);
+            });
+        } finally {
+            resetVisitor();
+        }
+    }
+
+    /**
+     * Returns a cached immutable result, such as a count, loading and caching it on a miss. Inside a
+     * managed transaction the cache is bypassed.
+     *
+     * @param queryName name of the cache
+     * @param parameters the cache key
+     * @param settings size bound and time-to-live of the cache
+     * @param loader loads the result
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> R cachedQuery(String queryName, Map<String, Object> parameters, BoundedCache.Settings settings,
+            Supplier<R> loader) {
+        if (cacheManager == null || identityMap() != null) {
+            return loader.get();
+        }
+        BoundedCache<Object, Object> cache = cacheManager.queryCache(label, queryName, settings);
+        Object cached = cache.get(parameters);
+        if (cached != null) {
+            return (R) cached;
+        }
+        long generation = cache.generation();
+        R result = loader.get();
+        cache.putIfGeneration(parameters, result, generation);
+        return result;
+    }
+
+    /**
+     * Maps the records of an entity query and completes the entities, see {@link #query(String, Map)}.
+     */
+    protected List<T> mapEntities(List<Record> records) {
+        List<T> results = new ArrayList<>(records.size());
+        for (Record rec : records) {
+            String alias = resolveAlias(rec);
+            results.add(mapManaged(rec, r -> map(r, alias)));
+        }
+        completeManaged(results, this::loadRelationsAndConvert);
+        return results;
+    }
+
+    /**
+     * Maps the first record of an entity query, see {@link #querySingle(String, Map)}.
+     */
+    protected T mapEntity(List<Record> records) {
+        if (records.isEmpty()) {
+            return null;
+        }
+        Record rec = records.getFirst();
+        String alias = resolveAlias(rec);
+        T entity = mapManaged(rec, r -> map(r, alias));
+        completeManaged(List.of(entity), this::loadRelationsAndConvertEach);
+        return entity;
+    }
+
+    protected static <R> R mapFirst(List<Record> records, Function<Record, R> mapper) {
+        return records.isEmpty() ? null : mapper.apply(records.getFirst());
+    }
+
+    protected static <R> List<R> mapAll(List<Record> records, Function<Record, R> mapper) {
+        return records.stream().map(mapper).toList();
+    }
+
+    // ========================= Relationship Persistence =========================
+
+    private void persistRelationships(Transaction tx, Object fromId, EntityWithRelations data) {
+        RelationshipWritePlan plan = relationshipPlan();
+        plan.collect(label, fromId, data);
+        executePlan(tx, plan);
+    }
+
+    /**
+     * Persists the relationships of a whole batch with a single plan.
+     */
+    private void persistRelationships(Transaction tx, List<T> entities, List<EntityWithRelations> data) {
+        RelationshipWritePlan plan = relationshipPlan();
+        for (int i = 0; i < entities.size(); i++) {
+            EntityWithRelations d = data.get(i);
+            plan.collect(label, entityMapper.getNodeId(entities.get(i)), d);
+        }
+        executePlan(tx, plan);
+    }
+
+    private RelationshipWritePlan relationshipPlan() {
+        if (relationVisitor == null) {
+            throw new IllegalStateException("RelationVisitor is required but not available");
+        }
+        // Nested targets, deletes and edges of the whole tree are grouped into UNWIND statements
+        return new RelationshipWritePlan(relationVisitor::markPersisted, this::relationshipTarget, this::snapshot);
+    }
+
+    private void executePlan(Transaction tx, RelationshipWritePlan plan) {
+        for (RelationshipWritePlan.Statement statement : plan.statements()) {
+            run(tx, statement.cypher(), statement.parameters()).consume();
+        }
+        invalidateCaches(plan.labels());
+    }
+
+    private RelationshipWritePlan.Target relationshipTarget(Class<?> entityType) {
+        Repository<?> targetRepo = registry.getRepository(entityType);
+        if (targetRepo == null) {
+            return null;
         }
+        return new RelationshipWritePlan.Target(targetRepo.label, targetRepo.entityMapper.getNodeIdPropertyName());
     }
 
     public EntityMapper<T> getEntityMapper() {
@@ -0,0 +1,109 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+import org.neo4j.driver.exceptions.RetryableException;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.TransientRepositoryException;
+
+/**
+ * Replays a unit of work that owns its transaction when it fails with a transient error, waiting
+ * an exponentially growing, jittered backoff between attempts.
+ *
+ * <p>
+ * Only work that opens and commits its own transaction may be retried; work joining a managed
+ * transaction must surface the failure to the owner of the transaction boundary. Used by the blocking
+ * repository only: the reactive one runs its own transactions as driver-managed transactions, which
+ * the driver already retries.
+ */
+final class RetryPolicy {
+
+    private static final Logger LOG = Logger.getLogger(RetryPolicy.class);
+
+    static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    private static final double JITTER = 0.5;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration timeout;
+
+    RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration timeout) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.timeout = timeout;
+    }
+
+    static RetryPolicy of(Neo4jOgmConfig config) {
+        if (config == null || !config.retry().enabled()) {
+            return NONE;
+        }
+        Neo4jOgmConfig.RetryConfig retry = config.retry();
+        return new RetryPolicy(retry.maxAttempts(), retry.initialBackoff(), retry.maxBackoff(), retry.timeout());
+    }
+
+    /**
+     * A failure is transient if it was translated into a {@link TransientRepositoryException} or the
+     * driver marks it (or one of its causes) as {@link RetryableException}.
+     */
+    static boolean isTransient(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof TransientRepositoryException || t instanceof RetryableException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs {@code work}, replaying it on transient failures.
+     *
+     * @param beforeRetry invoked before every replay, e.g. to reset per-operation state
+     */
+    <R> R execute(Supplier<R> work, Runnable beforeRetry) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (int attempt = 1;; attempt++) {
+            try {
+                return work.get();
+            } catch (RuntimeException e) {
+                long backoff = backoffMillis(attempt);
+                if (attempt >= maxAttempts || !isTransient(e)
+                        || System.nanoTime() + backoff * 1_000_000 > deadline) {
+                    throw e;
+                }
+                LOG.debugf("Transient failure on attempt %d/%d, retrying in %d ms: %s",
+                        attempt, maxAttempts, backoff, e.getMessage());
+                sleep(backoff, e);
+                if (beforeRetry != null) {
+                    beforeRetry.run();
+                }
+            }
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jitter = (long) (capped * JITTER * ThreadLocalRandom.current().nextDouble());
+        return capped - jitter;
+    }
+
+    private static void sleep(long millis, RuntimeException failure) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(ie);
+            throw failure;
+        }
+    }
+}
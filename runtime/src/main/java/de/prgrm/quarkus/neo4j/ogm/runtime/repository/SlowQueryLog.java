@@ -0,0 +1,174 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Transaction;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.ProfiledPlan;
+import org.neo4j.driver.summary.QueryType;
+import org.neo4j.driver.summary.ResultSummary;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.cache.BoundedCache;
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Logs statements exceeding {@code quarkus.neo4j-ogm.diagnostics.slow-query-threshold}. Like
+ * {@link de.prgrm.quarkus.neo4j.ogm.runtime.repository.errors.Neo4jExceptionTranslator} it never logs
+ * parameter values, only their names. Optionally profiles slow read-only statements in the background,
+ * each statement at most once per {@link #PROFILE_INTERVAL} and only a few at a time, so that a slow
+ * database is not loaded further by profiles of the same statements.
+ */
+final class SlowQueryLog {
+
+    private static final Logger LOG = Logger.getLogger(SlowQueryLog.class);
+
+    static final SlowQueryLog DISABLED = new SlowQueryLog(null, 0, false);
+
+    private static final SessionConfig PROFILE_SESSION = SessionConfig.builder()
+            .withDefaultAccessMode(AccessMode.READ)
+            .build();
+
+    static final Duration PROFILE_INTERVAL = Duration.ofMinutes(5);
+
+    private static final int MAX_PROFILES_IN_FLIGHT = 2;
+
+    /**
+     * Statements profiled within the interval, shared by all repositories.
+     */
+    private static final BoundedCache<String, Boolean> PROFILED = new BoundedCache<>(
+            new BoundedCache.Settings(1000, PROFILE_INTERVAL));
+
+    private static final Semaphore PROFILES_IN_FLIGHT = new Semaphore(MAX_PROFILES_IN_FLIGHT);
+
+    private final Driver driver;
+    private final long thresholdNanos;
+    private final boolean profile;
+
+    private SlowQueryLog(Driver driver, long thresholdNanos, boolean profile) {
+        this.driver = driver;
+        this.thresholdNanos = thresholdNanos;
+        this.profile = profile;
+    }
+
+    static SlowQueryLog of(Neo4jOgmConfig config, Driver driver) {
+        if (config == null || config.diagnostics().slowQueryThreshold().isEmpty()) {
+            return DISABLED;
+        }
+        Duration threshold = config.diagnostics().slowQueryThreshold().get();
+        return new SlowQueryLog(driver, threshold.toNanos(), config.diagnostics().profileSlowQueries());
+    }
+
+    boolean enabled() {
+        return this != DISABLED;
+    }
+
+    boolean isSlow(long nanos) {
+        return enabled() && nanos > thresholdNanos;
+    }
+
+    /**
+     * Logs a slow statement.
+     *
+     * @param parameters the statement parameters, {@code null} if it has none
+     * @param summary the summary of the consumed result, {@code null} if it is not available
+     * @param readOnly whether the statement may be profiled, {@code null} to decide by the summary
+     */
+    void report(String label, String operation, String cypher, Value parameters, long nanos, ResultSummary summary,
+            Boolean readOnly) {
+        List<String> parameterNames = new ArrayList<>();
+        if (parameters != null) {
+            parameters.keys().forEach(parameterNames::add);
+        }
+        if (summary != null) {
+            LOG.warnf("Slow query in %s.%s took %d ms (result available after %d ms, consumed after %d ms), "
+                    + "parameters %s: %s", label, operation, TimeUnit.NANOSECONDS.toMillis(nanos),
+                    summary.resultAvailableAfter(TimeUnit.MILLISECONDS),
+                    summary.resultConsumedAfter(TimeUnit.MILLISECONDS), parameterNames, cypher);
+        } else {
+            LOG.warnf("Slow query in %s.%s took %d ms, parameters %s: %s", label, operation,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), parameterNames, cypher);
+        }
+
+        boolean profilable = readOnly != null ? readOnly : summary != null && summary.queryType() == QueryType.READ_ONLY;
+        if (profile && profilable && PROFILES_IN_FLIGHT.tryAcquire()) {
+            if (!firstInInterval(cypher)) {
+                PROFILES_IN_FLIGHT.release();
+                return;
+            }
+            try {
+                Infrastructure.getDefaultWorkerPool().execute(() -> {
+                    try {
+                        profile(label, operation, cypher, parameters);
+                    } finally {
+                        PROFILES_IN_FLIGHT.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                PROFILES_IN_FLIGHT.release();
+                LOG.debugf(e, "Could not schedule the profile of a slow query in %s.%s", label, operation);
+            }
+        }
+    }
+
+    /**
+     * @return whether the statement was not profiled within the interval, marking it as profiled
+     */
+    private static boolean firstInInterval(String cypher) {
+        synchronized (PROFILED) {
+            if (PROFILED.get(cypher) != null) {
+                return false;
+            }
+            PROFILED.put(cypher, Boolean.TRUE);
+            return true;
+        }
+    }
+
+    private void profile(String label, String operation, String cypher, Value parameters) {
+        String profiled = "PROFILE " + cypher;
+        // Never committed, the transaction is rolled back on close
+        try (Session session = driver.session(PROFILE_SESSION);
+                Transaction tx = session.beginTransaction()) {
+            ResultSummary summary = parameters != null
+                    ? tx.run(profiled, parameters).consume()
+                    : tx.run(profiled).consume();
+            if (!summary.hasProfile()) {
+                return;
+            }
+            ProfiledPlan plan = summary.profile();
+            StringBuilder rendered = new StringBuilder();
+            render(plan, 1, rendered);
+            LOG.warnf("Profile of slow query in %s.%s: %d db hits, %d rows%s", label, operation, dbHits(plan),
+                    plan.records(), rendered);
+        } catch (Exception e) {
+            LOG.debugf(e, "Could not profile slow query in %s.%s", label, operation);
+        }
+    }
+
+    private static long dbHits(ProfiledPlan plan) {
+        long hits = plan.dbHits();
+        for (ProfiledPlan child : plan.children()) {
+            hits += dbHits(child);
+        }
+        return hits;
+    }
+
+    private static void render(ProfiledPlan plan, int depth, StringBuilder out) {
+        out.append('\n').append("  ".repeat(depth))
+                .append(plan.operatorType())
+                .append(" db hits ").append(plan.dbHits())
+                .append(", rows ").append(plan.records());
+        for (ProfiledPlan child : plan.children()) {
+            render(child, depth + 1, out);
+        }
+    }
+}
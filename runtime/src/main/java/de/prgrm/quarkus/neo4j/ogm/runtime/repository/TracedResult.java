@@ -0,0 +1,174 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.ResultSummary;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.tracing.OgmTracing.TraceSpan;
+
+/**
+ * A statement result that counts the records read from it and ends the span of the statement once it
+ * is exhausted or consumed, reporting the statement to its {@link Observation}. Results that are left
+ * open are ended by the observation.
+ */
+final class TracedResult implements Result {
+
+    private final Result delegate;
+    private final TraceSpan span;
+    private final Observation observation;
+    private final String cypher;
+    private final Value parameters;
+    private final long start;
+    private ResultSummary summary;
+    private long rows;
+    private boolean ended;
+
+    TracedResult(Result delegate, TraceSpan span, Observation observation, String cypher, Value parameters,
+            long start) {
+        this.delegate = delegate;
+        this.span = span;
+        this.observation = observation;
+        this.cypher = cypher;
+        this.parameters = parameters;
+        this.start = start;
+    }
+
+    @Override
+    public List<String> keys() {
+        return delegate.keys();
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            boolean hasNext = delegate.hasNext();
+            if (!hasNext) {
+                end();
+            }
+            return hasNext;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public Record next() {
+        try {
+            Record next = delegate.next();
+            rows++;
+            return next;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public Record single() {
+        try {
+            Record single = delegate.single();
+            rows++;
+            return single;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public Record peek() {
+        try {
+            return delegate.peek();
+        } catch (RuntimeException e) {
+            throw failed(e);
+        }
+    }
+
+    @Override
+    public Stream<Record> stream() {
+        return delegate.stream()
+                .peek(record -> rows++)
+                .onClose(this::end);
+    }
+
+    @Override
+    public List<Record> list() {
+        try {
+            List<Record> list = delegate.list();
+            rows += list.size();
+            return list;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public <T> List<T> list(Function<Record, T> mapFunction) {
+        try {
+            List<T> list = delegate.list(mapFunction);
+            rows += list.size();
+            return list;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public ResultSummary consume() {
+        try {
+            summary = delegate.consume();
+            return summary;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        } finally {
+            end();
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate.isOpen();
+    }
+
+    private RuntimeException failed(RuntimeException e) {
+        if (!ended) {
+            span.failed(e);
+            end();
+        }
+        return e;
+    }
+
+    void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        long nanos = System.nanoTime() - start;
+        span.rows(rows);
+        span.end();
+        observation.statementEnded(cypher, parameters, nanos, this::summary, null);
+    }
+
+    /**
+     * @return the summary if the result was consumed or still can be, {@code null} otherwise
+     */
+    private ResultSummary summary() {
+        if (summary == null && delegate.isOpen()) {
+            try {
+                summary = delegate.consume();
+            } catch (RuntimeException e) {
+                // The transaction already ended, report without timings
+            }
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,122 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The relationships to load for one repository call, as dot-separated paths of relationship field names,
+ * e.g. {@code FetchPlan.of("books", "books.publisher")}. A path implies its prefixes, so
+ * {@code "books.publisher"} alone loads the books as well.
+ * <p>
+ * The generated relation loaders query exactly the planned relationships instead of following
+ * {@code @Relationship(maxDepth)}: relationships outside the plan stay {@code null}, so saving the entity
+ * leaves them untouched, while planned {@code fetch = LAZY} relationships are loaded right away.
+ */
+public final class FetchPlan {
+
+    private static final FetchPlan NONE = new FetchPlan(Map.of());
+
+    private final Map<String, FetchPlan> relationships;
+
+    private FetchPlan(Map<String, FetchPlan> relationships) {
+        this.relationships = relationships;
+    }
+
+    /**
+     * @param paths dot-separated paths of relationship field names
+     * @throws IllegalArgumentException if a path is null or has an empty segment
+     */
+    public static FetchPlan of(String... paths) {
+        List<List<String>> segments = new ArrayList<>();
+        for (String path : paths) {
+            if (path == null || path.isBlank()) {
+                throw new IllegalArgumentException("Fetch plan paths must not be null or blank");
+            }
+            List<String> names = List.of(path.strip().split("\\.", -1));
+            if (names.stream().anyMatch(String::isBlank)) {
+                throw new IllegalArgumentException("Illegal fetch plan path '" + path + "'");
+            }
+            segments.add(names);
+        }
+        return build(segments);
+    }
+
+    /**
+     * @return a plan that loads no relationships
+     */
+    public static FetchPlan none() {
+        return NONE;
+    }
+
+    /**
+     * @return whether the plan loads the relationship field
+     */
+    public boolean includes(String relationship) {
+        return relationships.containsKey(relationship);
+    }
+
+    /**
+     * @return the plan for the entities the relationship field refers to, {@link #none()} if it is not planned
+     */
+    public FetchPlan get(String relationship) {
+        return relationships.getOrDefault(relationship, NONE);
+    }
+
+    /**
+     * @return the planned relationship fields of the root entity
+     */
+    public Set<String> relationships() {
+        return relationships.keySet();
+    }
+
+    /**
+     * Called by the generated relation loaders, so a misspelled path fails instead of loading nothing.
+     *
+     * @param entityType the entity the plan applies to
+     * @param fetchable its relationship fields that can be fetched
+     * @throws IllegalArgumentException if the plan names another field
+     */
+    public void validate(Class<?> entityType, Set<String> fetchable) {
+        for (String relationship : relationships.keySet()) {
+            if (!fetchable.contains(relationship)) {
+                throw new IllegalArgumentException("Fetch plan names '" + relationship + "', which is no fetchable "
+                        + "relationship of " + entityType.getSimpleName() + " " + fetchable);
+            }
+        }
+    }
+
+    private static FetchPlan build(List<List<String>> paths) {
+        Map<String, List<List<String>>> byRelationship = new LinkedHashMap<>();
+        for (List<String> path : paths) {
+            if (!path.isEmpty()) {
+                byRelationship.computeIfAbsent(path.getFirst().strip(), r -> new ArrayList<>())
+                        .add(path.subList(1, path.size()));
+            }
+        }
+        if (byRelationship.isEmpty()) {
+            return NONE;
+        }
+        Map<String, FetchPlan> relationships = new LinkedHashMap<>();
+        byRelationship.forEach((relationship, rest) -> relationships.put(relationship, build(rest)));
+        return new FetchPlan(Collections.unmodifiableMap(relationships));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FetchPlan plan && relationships.equals(plan.relationships);
+    }
+
+    @Override
+    public int hashCode() {
+        return relationships.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FetchPlan" + relationships;
+    }
+}
@@ -3,13 +3,18 @@ package de.prgrm.quarkus.neo4j.ogm.runtime.repository.util;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import de.prgrm.quarkus.neo4j.ogm.runtime.mapping.Property;
+
 /**
  * Represents a composable Cypher WHERE filter.
  *
  * Supports AND, OR, nested filters, and operators like:
  * =, <>, <, <=, >, >=, CONTAINS, STARTS WITH, ENDS WITH, IN, BETWEEN, IS NULL, IS NOT NULL
  *
- * String operators (EQ, NE, CONTAINS, STARTS_WITH, ENDS_WITH) are case-insensitive.
+ * String operators (EQ, NE, CONTAINS, STARTS_WITH, ENDS_WITH) are case-insensitive. They wrap the
+ * property in {@code toLower(...)}, which prevents Neo4j from using an index on it, unless the property
+ * is declared with {@code @Property(normalized = true)}: then they compare the lower-cased shadow
+ * property. The {@code *_CASE_SENSITIVE} variants compare the property as is and can use its index.
  */
 public class Filter {
 
@@ -49,22 +54,33 @@ public class Filter {
      * Converts this filter to a Cypher WHERE clause and parameter map.
      */
     public CypherFragment toCypher(String alias) {
+        return toCypher(alias, Set.of());
+    }
+
+    /**
+     * Converts this filter to a Cypher WHERE clause and parameter map.
+     *
+     * @param normalizedProperties properties with a lower-cased shadow property, which case-insensitive
+     *        operators compare instead
+     */
+    public CypherFragment toCypher(String alias, Set<String> normalizedProperties) {
         AtomicInteger paramCounter = new AtomicInteger(0);
         Map<String, Object> params = new LinkedHashMap<>();
-        String cypher = buildClause(alias, paramCounter, params);
+        String cypher = buildClause(alias, normalizedProperties, paramCounter, params);
         if (!cypher.isBlank()) {
             cypher = "WHERE " + cypher;
         }
         return new CypherFragment(cypher, params);
     }
 
-    private String buildClause(String alias, AtomicInteger paramCounter, Map<String, Object> params) {
+    private String buildClause(String alias, Set<String> normalizedProperties, AtomicInteger paramCounter,
+            Map<String, Object> params) {
         List<String> parts = new ArrayList<>();
         for (Condition c : conditions) {
-            parts.add(c.toCypher(alias, paramCounter, params));
+            parts.add(c.toCypher(alias, normalizedProperties, paramCounter, params));
         }
         for (Filter group : orGroups) {
-            parts.add("(" + group.buildClause(alias, paramCounter, params) + ")");
+            parts.add("(" + group.buildClause(alias, normalizedProperties, paramCounter, params) + ")");
         }
         return String.join(" " + logicalOperator + " ", parts);
     }
@@ -74,7 +90,8 @@ public class Filter {
      */
     public record Condition(String property, Operator op, Object... values) {
 
-        String toCypher(String alias, AtomicInteger counter, Map<String, Object> params) {
+        String toCypher(String alias, Set<String> normalizedProperties, AtomicInteger counter,
+                Map<String, Object> params) {
             // Property names cannot be parameterized in Cypher and may originate from request input,
             // so validate them against a strict allow-list to prevent Cypher injection.
             String safeProperty = CypherIdentifier.requireValidProperty(property);
@@ -89,6 +106,11 @@ public class Filter {
 
             if (caseInsensitive) {
                 String paramName = generateParamName(counter);
+                if (normalizedProperties.contains(safeProperty) && values[0] instanceof String value) {
+                    // Same lower-casing as the generated mappers use for the shadow property
+                    params.put(paramName, value.toLowerCase(Locale.ROOT));
+                    return nodeProp + Property.NORMALIZED_SUFFIX + " " + op.symbol + " $" + paramName;
+                }
                 params.put(paramName, values[0]);
                 return "toLower(" + nodeProp + ") "
                         + op.symbol + " toLower($" + paramName + ")";
@@ -136,6 +158,11 @@ public class Filter {
         CONTAINS("CONTAINS"),
         STARTS_WITH("STARTS WITH"),
         ENDS_WITH("ENDS WITH"),
+        EQ_CASE_SENSITIVE("="),
+        NE_CASE_SENSITIVE("<>"),
+        CONTAINS_CASE_SENSITIVE("CONTAINS"),
+        STARTS_WITH_CASE_SENSITIVE("STARTS WITH"),
+        ENDS_WITH_CASE_SENSITIVE("ENDS WITH"),
         IN("IN"),
         BETWEEN("BETWEEN"),
         IS_NULL("IS NULL"),
@@ -0,0 +1,190 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Builds keyset (seek) pagination queries and encodes their continuation tokens.
+ *
+ * <p>
+ * Instead of {@code SKIP $skip} the query resumes after the sort key of the last row of the previous
+ * page. Cypher has no row-value comparison, so {@code (n.a, n.id) > ($a, $id)} is expanded
+ * lexicographically, honouring the direction of every sort order:
+ *
+ * <pre>
+ * n.a > $keyset_0 OR (n.a = $keyset_0 AND n.id > $keyset_1)
+ * </pre>
+ *
+ * {@code n.id} is always appended as the last sort key so that the order is total. Sort properties
+ * should not be null, as null values never match the seek predicate.
+ *
+ * <p>
+ * The token is an opaque, URL-safe Base64 string holding the type-tagged sort key values.
+ */
+public final class KeysetCursor {
+
+    /** Result column holding the sort key values of a row. */
+    public static final String KEYS_COLUMN = "keyset";
+
+    private static final String ID_PROPERTY = "id";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Builds the page query for a base query that binds the entity to {@code n}.
+     *
+     * @param baseCypher the MATCH part, e.g. {@code MATCH (n:Person)}
+     * @param filter optional WHERE fragment of the base query
+     * @param pageable the requested page
+     * @param sortable the sort orders, {@code n.id} is appended as tie-breaker
+     * @return the cypher and parameters; one row more than the page size is requested to detect a next page
+     */
+    public static Filter.CypherFragment query(String baseCypher, Filter.CypherFragment filter,
+            KeysetPageable pageable, Sortable sortable) {
+        if (pageable.size() <= 0) {
+            throw new IllegalArgumentException("Keyset page size must be positive");
+        }
+        List<Sort> orders = orders(sortable);
+        Map<String, Object> params = new HashMap<>();
+        if (filter != null) {
+            params.putAll(filter.params());
+        }
+
+        StringBuilder cypher = new StringBuilder(baseCypher);
+        if (filter != null && !filter.clause().isBlank()) {
+            cypher.append(' ').append(filter.clause());
+        }
+
+        if (pageable.cursor() != null) {
+            List<Object> values = decode(pageable.cursor());
+            if (values.size() != orders.size()) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort orders");
+            }
+            cypher.append(" WITH n WHERE ").append(seek(orders, values, params));
+        }
+
+        StringJoiner keys = new StringJoiner(", ", "[", "]");
+        orders.forEach(o -> keys.add("n." + CypherIdentifier.requireValidProperty(o.property())));
+        cypher.append(" RETURN n AS node, ").append(keys).append(" AS ").append(KEYS_COLUMN)
+                .append(' ').append(new Sortable(orders).toCypher("n"))
+                .append(" LIMIT $keyset_limit");
+        params.put("keyset_limit", pageable.size() + 1);
+
+        return new Filter.CypherFragment(cypher.toString(), params);
+    }
+
+    /**
+     * Assembles the page from the rows of a {@link #query} result.
+     *
+     * @param rows the fetched rows, at most {@code size + 1}
+     * @param size the requested page size
+     * @param keys extracts the {@link #KEYS_COLUMN} values of a row
+     * @param entity extracts the entity of a row
+     */
+    public static <R, T> KeysetPaged<T> page(List<R> rows, int size, Function<R, List<Object>> keys,
+            Function<R, T> entity) {
+        boolean hasNext = rows.size() > size;
+        List<R> content = hasNext ? rows.subList(0, size) : rows;
+        List<T> entities = new ArrayList<>(content.size());
+        content.forEach(r -> entities.add(entity.apply(r)));
+        String next = hasNext ? encode(keys.apply(content.getLast())) : null;
+        return new KeysetPaged<>(entities, next, hasNext);
+    }
+
+    static List<Sort> orders(Sortable sortable) {
+        List<Sort> orders = new ArrayList<>();
+        if (sortable != null && sortable.orders() != null) {
+            orders.addAll(sortable.orders());
+        }
+        if (orders.stream().noneMatch(o -> ID_PROPERTY.equals(o.property()))) {
+            orders.add(Sort.asc(ID_PROPERTY));
+        }
+        return orders;
+    }
+
+    private static String seek(List<Sort> orders, List<Object> values, Map<String, Object> params) {
+        List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            List<String> terms = new ArrayList<>();
+            for (int j = 0; j <= i; j++) {
+                Sort order = orders.get(j);
+                String property = "n." + CypherIdentifier.requireValidProperty(order.property());
+                String operator = j < i ? " = " : (order.ascending() ? " > " : " < ");
+                terms.add(property + operator + "$keyset_" + j);
+            }
+            alternatives.add(terms.size() == 1 ? terms.getFirst() : "(" + String.join(" AND ", terms) + ")");
+        }
+        for (int i = 0; i < values.size(); i++) {
+            params.put("keyset_" + i, values.get(i));
+        }
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    // ========================= Token encoding =========================
+
+    static String encode(List<Object> values) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Object value : values) {
+            byte[] text = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+            joiner.add(tag(value) + ":" + ENCODER.encodeToString(text));
+        }
+        return ENCODER.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static List<Object> decode(String cursor) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            List<Object> values = new ArrayList<>();
+            for (String part : raw.split(",")) {
+                int colon = part.indexOf(':');
+                String text = new String(DECODER.decode(part.substring(colon + 1)), StandardCharsets.UTF_8);
+                values.add(parse(part.substring(0, colon), text));
+            }
+            return values;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid keyset cursor", e);
+        }
+    }
+
+    private static String tag(Object value) {
+        return switch (value) {
+            case String s -> "s";
+            case Long l -> "l";
+            case Integer i -> "l";
+            case Double d -> "d";
+            case Boolean b -> "b";
+            case LocalDate d -> "ld";
+            case LocalDateTime d -> "ldt";
+            case ZonedDateTime d -> "zdt";
+            case LocalTime t -> "lt";
+            case OffsetTime t -> "ot";
+            case null -> throw new IllegalArgumentException("Keyset sort properties must not be null");
+            default -> throw new IllegalArgumentException(
+                    "Unsupported keyset sort value type: " + value.getClass().getName());
+        };
+    }
+
+    private static Object parse(String tag, String text) {
+        return switch (tag) {
+            case "s" -> text;
+            case "l" -> Long.parseLong(text);
+            case "d" -> Double.parseDouble(text);
+            case "b" -> Boolean.parseBoolean(text);
+            case "ld" -> LocalDate.parse(text);
+            case "ldt" -> LocalDateTime.parse(text);
+            case "zdt" -> ZonedDateTime.parse(text);
+            case "lt" -> LocalTime.parse(text);
+            case "ot" -> OffsetTime.parse(text);
+            default -> throw new IllegalArgumentException("Unknown keyset value tag: " + tag);
+        };
+    }
+}
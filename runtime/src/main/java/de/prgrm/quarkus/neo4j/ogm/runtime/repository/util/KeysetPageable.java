@@ -0,0 +1,15 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository.util;
+
+/**
+ * Page request for keyset (seek) pagination. {@code cursor} is the opaque continuation token of the
+ * previous page ({@link KeysetPaged#nextCursor()}) or {@code null} for the first page.
+ */
+public record KeysetPageable(int size, String cursor) {
+    public static KeysetPageable first(int size) {
+        return new KeysetPageable(size, null);
+    }
+
+    public static KeysetPageable after(String cursor, int size) {
+        return new KeysetPageable(size, cursor);
+    }
+}
@@ -0,0 +1,13 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.repository.util;
+
+import java.util.List;
+
+/**
+ * A page of a keyset pagination. Pass {@code nextCursor} to {@link KeysetPageable#after} to fetch the
+ * following page; it is {@code null} when {@code hasNext} is false.
+ */
+public record KeysetPaged<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext) {
+}
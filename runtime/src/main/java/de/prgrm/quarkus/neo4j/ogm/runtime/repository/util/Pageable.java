@@ -1,7 +1,22 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.repository.util;
 
-public record Pageable(int page, int size) {
+import de.prgrm.quarkus.neo4j.ogm.runtime.enums.CountStrategy;
+
+/**
+ * Page request for offset pagination. {@code countStrategy} overrides the configured
+ * {@code quarkus.neo4j-ogm.paging.count-strategy} if set.
+ */
+public record Pageable(int page, int size, CountStrategy countStrategy) {
+
+    public Pageable(int page, int size) {
+        this(page, size, null);
+    }
+
     public static Pageable of(int page, int size) {
         return new Pageable(page, size);
     }
-}
\ No newline at end of file
+
+    public Pageable withCountStrategy(CountStrategy countStrategy) {
+        return new Pageable(page, size, countStrategy);
+    }
+}
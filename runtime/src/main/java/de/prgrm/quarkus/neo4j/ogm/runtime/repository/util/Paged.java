@@ -10,4 +10,8 @@ public record Paged<T>(
     public int totalPages() {
         return (int) Math.ceil((double) totalElements / size);
     }
-}
\ No newline at end of file
+
+    public boolean hasNext() {
+        return (long) (page + 1) * size < totalElements;
+    }
+}
@@ -0,0 +1,14 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.schema;
+
+import java.util.List;
+
+/**
+ * The indexes and constraints a {@code @NodeEntity} requires, generated by the annotation processor
+ * as {@code <Entity>Schema} and applied by {@link SchemaSynchronizer}.
+ */
+public interface EntitySchema {
+
+    String label();
+
+    List<SchemaIndex> indexes();
+}
@@ -0,0 +1,38 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.schema;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.repository.util.CypherIdentifier;
+
+/**
+ * A single-property range index or uniqueness constraint on a node label.
+ */
+public record SchemaIndex(String label, String property, boolean unique) {
+
+    public SchemaIndex {
+        CypherIdentifier.requireValidIdentifier(label);
+        CypherIdentifier.requireValidProperty(property);
+    }
+
+    public static SchemaIndex unique(String label, String property) {
+        return new SchemaIndex(label, property, true);
+    }
+
+    public static SchemaIndex index(String label, String property) {
+        return new SchemaIndex(label, property, false);
+    }
+
+    public String name() {
+        return label + "_" + property + (unique ? "_unique" : "_index");
+    }
+
+    public String createStatement() {
+        return unique
+                ? "CREATE CONSTRAINT " + name() + " IF NOT EXISTS FOR (n:" + label + ") REQUIRE n." + property
+                        + " IS UNIQUE"
+                : "CREATE INDEX " + name() + " IF NOT EXISTS FOR (n:" + label + ") ON (n." + property + ")";
+    }
+
+    @Override
+    public String toString() {
+        return (unique ? "uniqueness constraint" : "index") + " on (:" + label + ")." + property;
+    }
+}
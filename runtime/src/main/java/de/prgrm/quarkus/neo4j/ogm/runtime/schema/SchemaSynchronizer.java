@@ -0,0 +1,151 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.schema;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.SchemaAction;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Compares the indexes and constraints the entities require with those in the database at startup
+ * and, depending on {@code quarkus.neo4j-ogm.schema.action}, warns about missing ones, fails or
+ * creates them.
+ *
+ * <p>
+ * An element counts as present if the database has an equivalent one under any name: a uniqueness or
+ * node key constraint on the label and property for {@code @NodeId} and {@code @Unique}, additionally
+ * any single-property index for {@code @Indexed}.
+ */
+@ApplicationScoped
+public class SchemaSynchronizer {
+
+    private static final Logger LOG = Logger.getLogger(SchemaSynchronizer.class);
+
+    private final Driver driver;
+    private final Neo4jOgmConfig config;
+    private final Instance<EntitySchema> schemas;
+
+    @Inject
+    public SchemaSynchronizer(Driver driver, Neo4jOgmConfig config, @Any Instance<EntitySchema> schemas) {
+        this.driver = driver;
+        this.config = config;
+        this.schemas = schemas;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        SchemaAction action = config.schema().action();
+        if (action == SchemaAction.NONE) {
+            return;
+        }
+        if (action == SchemaAction.WARN) {
+            // Checking is best effort, an unreachable database must not prevent the startup
+            try {
+                missing().forEach(index -> LOG.warnf("Missing %s, lookups scan all %s nodes. Create it with: %s",
+                        index, index.label(), index.createStatement()));
+            } catch (RuntimeException e) {
+                LOG.warnf("Could not check the Neo4j schema: %s", e.getMessage());
+            }
+        } else if (action == SchemaAction.VALIDATE) {
+            List<SchemaIndex> missing = missing();
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Neo4j schema is missing " + missing
+                        + "; create them or set quarkus.neo4j-ogm.schema.action=update");
+            }
+        } else {
+            synchronize();
+        }
+    }
+
+    /**
+     * @return the indexes and constraints required by all entities
+     */
+    public Set<SchemaIndex> required() {
+        Set<SchemaIndex> required = new LinkedHashSet<>();
+        for (EntitySchema schema : schemas) {
+            required.addAll(schema.indexes());
+        }
+        return required;
+    }
+
+    /**
+     * @return the required indexes and constraints the database does not have
+     */
+    public List<SchemaIndex> missing() {
+        Set<String> uniques = new HashSet<>();
+        Set<String> indexes = new HashSet<>();
+        try (Session session = driver.session()) {
+            for (Record record : session.run("SHOW CONSTRAINTS YIELD labelsOrTypes, properties, type").list()) {
+                String type = record.get("type").asString();
+                if (type.contains("UNIQUENESS") || type.contains("NODE_KEY")) {
+                    uniques.add(key(record));
+                }
+            }
+            for (Record record : session.run("SHOW INDEXES YIELD labelsOrTypes, properties, type, entityType").list()) {
+                String type = record.get("type").asString();
+                if ("NODE".equals(record.get("entityType").asString()) && !"LOOKUP".equals(type)
+                        && !"FULLTEXT".equals(type)) {
+                    indexes.add(key(record));
+                }
+            }
+        }
+
+        List<SchemaIndex> missing = new ArrayList<>();
+        for (SchemaIndex index : required()) {
+            String key = index.label() + "." + index.property();
+            boolean present = index.unique() ? uniques.contains(key) : uniques.contains(key) || indexes.contains(key);
+            if (!present) {
+                missing.add(index);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Creates the missing indexes and constraints. One that cannot be created, typically a constraint
+     * violated by existing data, is logged and skipped.
+     *
+     * @return the indexes and constraints created
+     */
+    public List<SchemaIndex> synchronize() {
+        List<SchemaIndex> created = new ArrayList<>();
+        for (SchemaIndex index : missing()) {
+            // Schema statements cannot share a transaction with other statements
+            try (Session session = driver.session()) {
+                session.run(index.createStatement()).consume();
+                created.add(index);
+                LOG.infof("Created %s", index);
+            } catch (RuntimeException e) {
+                LOG.errorf("Could not create %s: %s", index, e.getMessage());
+            }
+        }
+        return created;
+    }
+
+    private static String key(Record record) {
+        if (record.get("labelsOrTypes").isNull() || record.get("properties").isNull()) {
+            return "";
+        }
+        List<Object> labels = record.get("labelsOrTypes").asList();
+        List<Object> properties = record.get("properties").asList();
+        if (labels.size() != 1 || properties.size() != 1) {
+            // Composite and multi-label elements are not generated, so never match
+            return "";
+        }
+        return labels.get(0) + "." + properties.get(0);
+    }
+}
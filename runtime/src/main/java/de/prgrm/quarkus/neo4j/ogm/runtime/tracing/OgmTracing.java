@@ -0,0 +1,79 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.tracing;
+
+import java.util.Map;
+
+/**
+ * Creates the spans of repository operations and of the Cypher statements they send. With Quarkus
+ * OpenTelemetry on the classpath {@link OpenTelemetryOgmTracing} is registered; applications may
+ * provide their own bean instead.
+ */
+public interface OgmTracing {
+
+    /**
+     * Creates no spans.
+     */
+    OgmTracing NOOP = new OgmTracing() {
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public TraceSpan operationSpan(TraceSpan parent, String label, String operation, boolean reactive) {
+            return TraceSpan.NOOP;
+        }
+
+        @Override
+        public TraceSpan statementSpan(TraceSpan parent, String label, String operation, String statementHash) {
+            return TraceSpan.NOOP;
+        }
+    };
+
+    /**
+     * A started span.
+     */
+    interface TraceSpan {
+
+        TraceSpan NOOP = new TraceSpan() {
+        };
+
+        /**
+         * Records the number of rows a statement returned.
+         */
+        default void rows(long rows) {
+        }
+
+        default void event(String name, Map<String, String> attributes) {
+        }
+
+        default void failed(Throwable failure) {
+        }
+
+        default void end() {
+        }
+    }
+
+    /**
+     * @return {@code false} to create no spans, checked once when a repository is created
+     */
+    default boolean enabled() {
+        return true;
+    }
+
+    /**
+     * Starts the span of a repository call.
+     *
+     * @param parent the span of the repository call this one runs within, {@code null} for a call
+     *        made by the application, whose span becomes a child of the current context
+     */
+    TraceSpan operationSpan(TraceSpan parent, String label, String operation, boolean reactive);
+
+    /**
+     * Starts the span of a Cypher statement sent by a repository call.
+     *
+     * @param parent the span of the repository call
+     * @param statementHash hash of the Cypher text; values are passed as parameters, so structurally
+     *        identical statements share it
+     */
+    TraceSpan statementSpan(TraceSpan parent, String label, String operation, String statementHash);
+}
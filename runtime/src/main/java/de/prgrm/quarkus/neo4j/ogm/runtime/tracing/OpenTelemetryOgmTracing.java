@@ -0,0 +1,103 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.tracing;
+
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import de.prgrm.quarkus.neo4j.ogm.runtime.config.Neo4jOgmConfig;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.quarkus.arc.DefaultBean;
+
+/**
+ * Traces repository calls as internal spans and their statements as client spans below them, with the
+ * database attributes of the OpenTelemetry semantic conventions plus {@code neo4j.ogm.statement.hash}.
+ * Registered by the extension only if Quarkus OpenTelemetry is present, so no bean-defining annotation.
+ * An application bean implementing {@link OgmTracing} replaces it.
+ */
+@DefaultBean
+public class OpenTelemetryOgmTracing implements OgmTracing {
+
+    static final AttributeKey<String> DB_SYSTEM = AttributeKey.stringKey("db.system.name");
+    static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation.name");
+    static final AttributeKey<String> DB_COLLECTION = AttributeKey.stringKey("db.collection.name");
+    static final AttributeKey<Long> DB_ROWS = AttributeKey.longKey("db.response.returned_rows");
+    static final AttributeKey<String> STATEMENT_HASH = AttributeKey.stringKey("neo4j.ogm.statement.hash");
+    static final AttributeKey<String> REPOSITORY = AttributeKey.stringKey("neo4j.ogm.repository");
+
+    private final Tracer tracer;
+    private final boolean enabled;
+
+    @Inject
+    public OpenTelemetryOgmTracing(Tracer tracer, Neo4jOgmConfig config) {
+        this.tracer = tracer;
+        this.enabled = config.tracing().enabled();
+    }
+
+    @Override
+    public boolean enabled() {
+        return enabled;
+    }
+
+    @Override
+    public TraceSpan operationSpan(TraceSpan parent, String label, String operation, boolean reactive) {
+        SpanBuilder builder = tracer.spanBuilder(operation + " " + label)
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute(DB_SYSTEM, "neo4j")
+                .setAttribute(DB_OPERATION, operation)
+                .setAttribute(DB_COLLECTION, label)
+                .setAttribute(REPOSITORY, reactive ? "reactive" : "blocking");
+        return start(builder, parent);
+    }
+
+    @Override
+    public TraceSpan statementSpan(TraceSpan parent, String label, String operation, String statementHash) {
+        SpanBuilder builder = tracer.spanBuilder("statement " + label)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(DB_SYSTEM, "neo4j")
+                .setAttribute(DB_OPERATION, operation)
+                .setAttribute(DB_COLLECTION, label)
+                .setAttribute(STATEMENT_HASH, statementHash);
+        return start(builder, parent);
+    }
+
+    private static TraceSpan start(SpanBuilder builder, TraceSpan parent) {
+        if (parent instanceof OtelSpan otel) {
+            builder.setParent(Context.current().with(otel.span()));
+        }
+        return new OtelSpan(builder.startSpan());
+    }
+
+    private record OtelSpan(Span span) implements TraceSpan {
+
+        @Override
+        public void rows(long rows) {
+            span.setAttribute(DB_ROWS, rows);
+        }
+
+        @Override
+        public void event(String name, Map<String, String> attributes) {
+            AttributesBuilder builder = Attributes.builder();
+            attributes.forEach(builder::put);
+            span.addEvent(name, builder.build());
+        }
+
+        @Override
+        public void failed(Throwable failure) {
+            span.recordException(failure);
+            span.setStatus(StatusCode.ERROR);
+        }
+
+        @Override
+        public void end() {
+            span.end();
+        }
+    }
+}
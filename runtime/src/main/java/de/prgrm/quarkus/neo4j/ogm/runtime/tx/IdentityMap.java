@@ -0,0 +1,52 @@
+package de.prgrm.quarkus.neo4j.ogm.runtime.tx;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * First-level cache of one {@link TransactionManager} transaction: maps {@code (label, id)} to the
+ * entity instance loaded for it, so that repeated reads inside the transaction return the same
+ * instance without another round trip.
+ *
+ * <p>
+ * Only completely loaded entities (relationships resolved and post-load converters applied) are
+ * registered. The map is cleared whenever the transaction writes, since a write may change
+ * properties or relationships of any registered entity.
+ */
+public final class IdentityMap {
+
+    private final Map<String, Object> entities = new HashMap<>();
+
+    IdentityMap() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <E> E get(String label, Object id) {
+        return id == null ? null : (E) entities.get(key(label, id));
+    }
+
+    public void put(String label, Object id, Object entity) {
+        if (id != null && entity != null) {
+            entities.put(key(label, id), entity);
+        }
+    }
+
+    /**
+     * @return {@code true} if exactly this instance is registered for its id
+     */
+    public boolean contains(String label, Object id, Object entity) {
+        return entity != null && get(label, id) == entity;
+    }
+
+    public void clear() {
+        entities.clear();
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    private static String key(String label, Object id) {
+        return label + ":" + id;
+    }
+}
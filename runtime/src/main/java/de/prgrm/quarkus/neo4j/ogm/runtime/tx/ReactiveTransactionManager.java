@@ -1,10 +1,14 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.tx;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.reactive.ReactiveSession;
 import org.neo4j.driver.reactive.ReactiveTransaction;
 
@@ -19,8 +23,21 @@ public class ReactiveTransactionManager {
         this.driver = driver;
     }
 
+    /**
+     * Begins a transaction in WRITE mode.
+     */
     public Uni<ReactiveTxContext> begin() {
-        ReactiveSession session = driver.session(ReactiveSession.class);
+        return begin(AccessMode.WRITE);
+    }
+
+    /**
+     * Begins a transaction with the given access mode; READ transactions are routed to followers and
+     * read replicas.
+     */
+    public Uni<ReactiveTxContext> begin(AccessMode mode) {
+        ReactiveSession session = driver.session(ReactiveSession.class, SessionConfig.builder()
+                .withDefaultAccessMode(mode)
+                .build());
         return Uni.createFrom().publisher(session.beginTransaction())
                 .map(tx -> new ReactiveTxContext(UUID.randomUUID(), session, tx, true))
                 // close the session reactively on failure; a bare session.close() returns an
@@ -35,6 +52,7 @@ public class ReactiveTransactionManager {
         return Uni.createFrom().publisher(ctx.tx.commit())
                 .call(() -> Uni.createFrom().publisher(ctx.tx.close()))
                 .call(() -> Uni.createFrom().publisher(ctx.session.close()))
+                .invoke(() -> ctx.afterCommit.forEach(Runnable::run))
                 .replaceWithVoid();
     }
 
@@ -62,6 +80,7 @@ public class ReactiveTransactionManager {
         final ReactiveSession session;
         final ReactiveTransaction tx;
         private final boolean owner;
+        private final List<Runnable> afterCommit = new CopyOnWriteArrayList<>();
 
         public ReactiveTxContext(UUID id, ReactiveSession session, ReactiveTransaction tx, boolean owner) {
             this.id = id;
@@ -78,6 +97,14 @@ public class ReactiveTransactionManager {
             return owner;
         }
 
+        /**
+         * Runs an action once this context has been committed through {@link ReactiveTransactionManager#commit}.
+         * Actions of a context that rolls back are dropped.
+         */
+        public void afterCommit(Runnable action) {
+            afterCommit.add(action);
+        }
+
         public ReactiveTransaction getTx() {
             return tx;
         }
@@ -8,6 +8,7 @@ import java.lang.annotation.Inherited;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
 
 /**
@@ -40,4 +41,10 @@ import jakarta.interceptor.InterceptorBinding;
 @Target({ METHOD, TYPE })
 @Retention(RUNTIME)
 public @interface ReactiveTransactional {
+
+    /**
+     * Begins the transaction on a READ session so that it is routed to followers and read replicas.
+     */
+    @Nonbinding
+    boolean readOnly() default false;
 }
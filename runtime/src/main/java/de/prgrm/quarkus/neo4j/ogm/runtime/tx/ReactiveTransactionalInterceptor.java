@@ -6,6 +6,8 @@ import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 
+import org.neo4j.driver.AccessMode;
+
 import io.smallrye.mutiny.Uni;
 
 @Interceptor
@@ -31,7 +33,12 @@ public class ReactiveTransactionalInterceptor {
         }
 
         Uni<?> uni = (Uni<?>) result;
-        return txManager.begin()
+        ReactiveTransactional binding = ctx.getMethod().getAnnotation(ReactiveTransactional.class);
+        if (binding == null) {
+            binding = ctx.getMethod().getDeclaringClass().getAnnotation(ReactiveTransactional.class);
+        }
+        AccessMode mode = binding != null && binding.readOnly() ? AccessMode.READ : AccessMode.WRITE;
+        return txManager.begin(mode)
                 .flatMap(txCtx -> uni
                         .onItem().transformToUni(item -> txManager.commit(txCtx).replaceWith(item))
                         .onFailure().call(err -> txManager.rollback(txCtx)));
@@ -1,5 +1,8 @@
 package de.prgrm.quarkus.neo4j.ogm.runtime.tx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.enterprise.context.ApplicationScoped;
 
 import org.jboss.logging.Logger;
@@ -11,6 +14,8 @@ public class TransactionManager {
     private static final Logger LOG = Logger.getLogger(TransactionManager.class);
     private static final ThreadLocal<Transaction> CURRENT_TX = new ThreadLocal<>();
     private static final ThreadLocal<Session> CURRENT_SESSION = new ThreadLocal<>();
+    private static final ThreadLocal<IdentityMap> CURRENT_IDENTITY_MAP = new ThreadLocal<>();
+    private static final ThreadLocal<List<Runnable>> CURRENT_AFTER_COMMIT = new ThreadLocal<>();
 
     private final Driver driver;
 
@@ -37,6 +42,8 @@ public class TransactionManager {
             tx = session.beginTransaction();
             CURRENT_SESSION.set(session);
             CURRENT_TX.set(tx);
+            CURRENT_IDENTITY_MAP.set(new IdentityMap());
+            CURRENT_AFTER_COMMIT.set(new ArrayList<>());
             log("BEGIN (" + mode + ")");
         }
         return tx;
@@ -47,9 +54,30 @@ public class TransactionManager {
         return tx != null && tx.isOpen();
     }
 
+    /**
+     * Returns the identity map of the current transaction, or {@code null} if none is active.
+     */
+    public IdentityMap currentIdentityMap() {
+        return isTransactionActive() ? CURRENT_IDENTITY_MAP.get() : null;
+    }
+
+    /**
+     * Runs an action once the current transaction has committed, or right away if none is active.
+     * Actions of a transaction that rolls back are dropped.
+     */
+    public void afterCommit(Runnable action) {
+        List<Runnable> actions = isTransactionActive() ? CURRENT_AFTER_COMMIT.get() : null;
+        if (actions != null) {
+            actions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
     public void commitAndClose() {
         Transaction tx = CURRENT_TX.get();
         Session session = CURRENT_SESSION.get();
+        List<Runnable> afterCommit = CURRENT_AFTER_COMMIT.get();
 
         try {
             if (tx != null && tx.isOpen()) {
@@ -63,6 +91,20 @@ public class TransactionManager {
         } finally {
             cleanup(session);
         }
+        runAfterCommit(afterCommit);
+    }
+
+    private void runAfterCommit(List<Runnable> actions) {
+        if (actions == null) {
+            return;
+        }
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                LOG.warnf(e, "[TX] After-commit action failed (Thread: %s)", Thread.currentThread().getName());
+            }
+        }
     }
 
     public void rollbackAndClose() {
@@ -94,6 +136,8 @@ public class TransactionManager {
             // Always remove ThreadLocal first to prevent memory leaks
             CURRENT_TX.remove();
             CURRENT_SESSION.remove();
+            CURRENT_IDENTITY_MAP.remove();
+            CURRENT_AFTER_COMMIT.remove();
 
             try {
                 if (tx != null && tx.isOpen()) {
@@ -117,6 +161,8 @@ public class TransactionManager {
             try {
                 CURRENT_TX.remove();
                 CURRENT_SESSION.remove();
+                CURRENT_IDENTITY_MAP.remove();
+                CURRENT_AFTER_COMMIT.remove();
             } catch (Exception ignored) {
             }
             throw e;
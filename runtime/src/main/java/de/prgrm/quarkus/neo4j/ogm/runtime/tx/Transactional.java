@@ -5,11 +5,22 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import java.lang.annotation.*;
 
+import jakarta.enterprise.util.Nonbinding;
 import jakarta.interceptor.InterceptorBinding;
 
+/**
+ * Runs the annotated method in a thread-bound Neo4j transaction managed by {@link TransactionManager}.
+ */
 @Inherited
 @InterceptorBinding
 @Target({ METHOD, TYPE })
 @Retention(RUNTIME)
 public @interface Transactional {
+
+    /**
+     * Opens the transaction on a READ session so that it is routed to followers and read replicas.
+     * Writes inside a read-only transaction are rejected by the server.
+     */
+    @Nonbinding
+    boolean readOnly() default false;
 }
@@ -5,6 +5,7 @@ import jakarta.inject.Inject;
 import jakarta.interceptor.*;
 
 import org.jboss.logging.Logger;
+import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.exceptions.Neo4jException;
 
 @Interceptor
@@ -22,7 +23,7 @@ public class TransactionalInterceptor {
     public Object manageTransaction(InvocationContext ctx) throws Exception {
         boolean newTx = !txManager.isTransactionActive();
         if (newTx) {
-            txManager.getOrCreateTransaction();
+            txManager.getOrCreateTransaction(isReadOnly(ctx) ? AccessMode.READ : AccessMode.WRITE);
         }
 
         try {
@@ -43,4 +44,16 @@ public class TransactionalInterceptor {
             throw e;
         }
     }
+
+    /**
+     * Method-level {@code readOnly} wins over the class-level annotation. {@code jakarta.transaction.Transactional}
+     * has no such attribute and always opens a WRITE transaction.
+     */
+    private static boolean isReadOnly(InvocationContext ctx) {
+        Transactional tx = ctx.getMethod().getAnnotation(Transactional.class);
+        if (tx == null) {
+            tx = ctx.getMethod().getDeclaringClass().getAnnotation(Transactional.class);
+        }
+        return tx != null && tx.readOnly();
+    }
 }